@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+
+/**
+ * Decodes a message from the memory of a {@link ByteBuf}, e.g. with a JSON library, without copying it first into
+ * a {@link String} or a {@literal byte[]}. The content can be read with a {@link ByteBufInputStream} or with the NIO
+ * views returned by {@link ByteBuf#nioBuffers()}, both of them read the components of a
+ * {@link io.netty.buffer.CompositeByteBuf} in place.
+ * <p>The content is valid only during {@link #decode(ByteBuf)}, it must not be retained or released by the decoder.
+ *
+ * @param <T> the type of the decoded messages
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ * @see ByteBufMono#decode(ByteBufDecoder)
+ * @see ByteBufFlux#decodeDelimited(byte, int, ByteBufDecoder)
+ */
+@FunctionalInterface
+public interface ByteBufDecoder<T> {
+
+	/**
+	 * Decodes a message from the readable bytes of the content.
+	 *
+	 * @param content the content of the message
+	 * @return the decoded message
+	 * @throws Exception if the message cannot be decoded
+	 */
+	T decode(ByteBuf content) throws Exception;
+}
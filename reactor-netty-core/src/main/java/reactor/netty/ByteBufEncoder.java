@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+
+/**
+ * Encodes a message, e.g. with a JSON library, directly into a {@link ByteBuf} provided by the
+ * {@link io.netty.buffer.ByteBufAllocator} of the connection, without an intermediate {@link String} or
+ * {@literal byte[]}. The buffer can be written with a {@link ByteBufOutputStream}, it grows as needed.
+ *
+ * @param <T> the type of the encoded messages
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ * @see NettyOutbound#sendEncoded(org.reactivestreams.Publisher, ByteBufEncoder)
+ */
+@FunctionalInterface
+public interface ByteBufEncoder<T> {
+
+	/**
+	 * Encodes a message into the buffer.
+	 *
+	 * @param message the message
+	 * @param out the buffer where the message is written, it must not be released by the encoder
+	 * @throws Exception if the message cannot be encoded
+	 */
+	void encode(T message, ByteBuf out) throws Exception;
+
+	/**
+	 * Returns an encoder that writes the delimiter after each message, e.g. {@code '\n'} for NDJSON.
+	 *
+	 * @param delimiter the delimiter written after each message
+	 * @return an encoder that writes the delimiter after each message
+	 */
+	default ByteBufEncoder<T> delimitedBy(byte delimiter) {
+		return (message, out) -> {
+			encode(message, out);
+			out.writeByte(delimiter);
+		};
+	}
+}
@@ -21,6 +21,9 @@ import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -29,7 +32,9 @@ import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.ByteBufHolder;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.TooLongFrameException;
 import io.netty.util.IllegalReferenceCountException;
+import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
 import reactor.core.CoreSubscriber;
 import reactor.core.Fuseable;
@@ -300,6 +305,96 @@ public class ByteBufFlux extends FluxOperator<ByteBuf, ByteBuf> {
 		           .as(ByteBufMono::maybeFuse);
 	}
 
+	/**
+	 * Aggregate subsequent byte buffers into a single buffer, fails with {@link TooLongFrameException}
+	 * and cancels the upstream as soon as the aggregated bytes exceed {@code maxBytes}.
+	 * <p>The byte buffers are retained in a {@link CompositeByteBuf} that is never consolidated.
+	 *
+	 * @param maxBytes the maximum number of the aggregated bytes
+	 * @return {@link ByteBufMono} of aggregated {@link ByteBuf}
+	 * @since 1.3.0
+	 */
+	public final ByteBufMono aggregate(int maxBytes) {
+		return aggregate(-1, maxBytes);
+	}
+
+	/**
+	 * Aggregate subsequent byte buffers into a single buffer, fails with {@link TooLongFrameException}
+	 * and cancels the upstream as soon as the aggregated bytes exceed {@code maxBytes}.
+	 * <p>When the number of the expected bytes is known, e.g. from {@code Content-Length}, and it is up to 8 MiB,
+	 * the byte buffers are copied into a buffer with that capacity and released immediately, so that only
+	 * the aggregated bytes are kept in memory. When it exceeds {@code maxBytes} this fails without subscribing
+	 * to the upstream. Otherwise, the byte buffers are retained in a {@link CompositeByteBuf} that is never
+	 * consolidated.
+	 *
+	 * @param expectedBytes the number of the expected bytes or {@code -1} when unknown
+	 * @param maxBytes the maximum number of the aggregated bytes
+	 * @return {@link ByteBufMono} of aggregated {@link ByteBuf}
+	 * @since 1.3.0
+	 */
+	public final ByteBufMono aggregate(long expectedBytes, int maxBytes) {
+		if (maxBytes < 0) {
+			throw new IllegalArgumentException("maxBytes must be positive, was: " + maxBytes);
+		}
+		return Mono.defer(() -> {
+		               if (expectedBytes > maxBytes) {
+		                   return Mono.error(tooLongFrame(maxBytes));
+		               }
+		               Aggregator aggregator = new Aggregator(alloc, expectedBytes, maxBytes);
+		               return this.<ByteBuf>handle((bb, sink) -> {
+		                              try {
+		                                  if (!aggregator.add(bb)) {
+		                                      sink.error(tooLongFrame(maxBytes));
+		                                  }
+		                              }
+		                              catch (IllegalReferenceCountException e) {
+		                                  if (log.isDebugEnabled()) {
+		                                      log.debug("", e);
+		                                  }
+		                              }
+		                          })
+		                          .then(Mono.fromSupplier(aggregator::output))
+		                          .doFinally(signalType -> aggregator.release());
+		           })
+		           .as(ByteBufMono::maybeFuse);
+	}
+
+	/**
+	 * Split the inbound byte buffers into messages separated by the delimiter, e.g. {@code '\n'} for NDJSON,
+	 * and decode each message with the {@link ByteBufDecoder}. A message within a byte buffer is decoded from
+	 * a slice of it, a message split between byte buffers is decoded from a {@link CompositeByteBuf} of their
+	 * slices, i.e. the bytes are not copied. The content after the last delimiter is decoded as the last message.
+	 * Empty messages are skipped.
+	 * <p>Fails with {@link TooLongFrameException} when a message is larger than {@code maxMessageBytes}.
+	 *
+	 * @param delimiter the delimiter between the messages
+	 * @param maxMessageBytes the maximum number of the bytes of a message
+	 * @param decoder the decoder of the messages
+	 * @param <T> the type of the decoded messages
+	 * @return a decoded inbound {@link Flux}
+	 * @since 1.3.0
+	 */
+	public final <T> Flux<T> decodeDelimited(byte delimiter, int maxMessageBytes, ByteBufDecoder<? extends T> decoder) {
+		Objects.requireNonNull(decoder, "decoder");
+		if (maxMessageBytes <= 0) {
+			throw new IllegalArgumentException("maxMessageBytes must be strictly positive, was: " + maxMessageBytes);
+		}
+		return Flux.defer(() -> {
+		               DelimitedDecoder<T> delimitedDecoder = new DelimitedDecoder<>(alloc, delimiter, maxMessageBytes, decoder);
+		               // No prefetch so that each byte buffer is decoded before it is released
+		               return concatMap(bb -> {
+		                          try {
+		                              return Flux.fromIterable(delimitedDecoder.decode(bb));
+		                          }
+		                          catch (Exception e) {
+		                              return Flux.<T>error(e);
+		                          }
+		                      }, 0)
+		                       .concatWith(Mono.fromCallable(delimitedDecoder::decodeLast))
+		                       .doFinally(signalType -> delimitedDecoder.release());
+		           });
+	}
+
 	/**
 	 * Allow multiple consumers downstream of the flux while also disabling auto memory
 	 * release on each buffer published (retaining in order to prevent premature recycling).
@@ -365,6 +460,149 @@ public class ByteBufFlux extends FluxOperator<ByteBuf, ByteBuf> {
 
 	static final int MAX_CHUNK_SIZE = 1024 * 512; //500k
 
+	/**
+	 * The maximum number of the expected bytes that are allocated upfront when aggregating,
+	 * so that the announced length of a larger content is not trusted.
+	 */
+	static final int MAX_PRESIZE = 8 * 1024 * 1024;
+
+	static TooLongFrameException tooLongFrame(int maxBytes) {
+		return new TooLongFrameException("The aggregated content is larger than " + maxBytes + " bytes");
+	}
+
+	static final class DelimitedDecoder<T> {
+
+		final ByteBufAllocator alloc;
+		final byte delimiter;
+		final int maxMessageBytes;
+		final ByteBufDecoder<? extends T> decoder;
+
+		@Nullable CompositeByteBuf pending;
+
+		DelimitedDecoder(ByteBufAllocator alloc, byte delimiter, int maxMessageBytes, ByteBufDecoder<? extends T> decoder) {
+			this.alloc = alloc;
+			this.delimiter = delimiter;
+			this.maxMessageBytes = maxMessageBytes;
+			this.decoder = decoder;
+		}
+
+		List<T> decode(ByteBuf bb) throws Exception {
+			List<T> messages = Collections.emptyList();
+			int index = bb.readerIndex();
+			int end = bb.writerIndex();
+			while (index < end) {
+				int delimiterIndex = bb.indexOf(index, end, delimiter);
+				int length = (delimiterIndex == -1 ? end : delimiterIndex) - index;
+				CompositeByteBuf pending = this.pending;
+				if ((pending != null ? pending.readableBytes() : 0) + length > maxMessageBytes) {
+					throw new TooLongFrameException("The message is larger than " + maxMessageBytes + " bytes");
+				}
+				if (delimiterIndex == -1) {
+					// The rest of the message is in the next byte buffers
+					if (pending == null) {
+						pending = alloc.compositeBuffer(Integer.MAX_VALUE);
+						this.pending = pending;
+					}
+					pending.addComponent(true, bb.retainedSlice(index, length));
+					break;
+				}
+				ByteBuf message = bb.slice(index, length);
+				if (pending != null) {
+					this.pending = null;
+					message = pending.addComponent(true, message.retain());
+				}
+				try {
+					if (message.isReadable()) {
+						if (messages.isEmpty()) {
+							messages = new ArrayList<>();
+						}
+						messages.add(decoder.decode(message));
+					}
+				}
+				finally {
+					if (pending != null) {
+						pending.release();
+					}
+				}
+				index = delimiterIndex + 1;
+			}
+			return messages;
+		}
+
+		@Nullable T decodeLast() throws Exception {
+			CompositeByteBuf pending = this.pending;
+			if (pending == null) {
+				return null;
+			}
+			this.pending = null;
+			try {
+				return pending.isReadable() ? decoder.decode(pending) : null;
+			}
+			finally {
+				pending.release();
+			}
+		}
+
+		void release() {
+			CompositeByteBuf pending = this.pending;
+			if (pending != null) {
+				this.pending = null;
+				safeRelease(pending);
+			}
+		}
+	}
+
+	static final class Aggregator {
+
+		final ByteBufAllocator alloc;
+		final long expectedBytes;
+		final int maxBytes;
+
+		@Nullable ByteBuf output;
+		int bytes;
+
+		Aggregator(ByteBufAllocator alloc, long expectedBytes, int maxBytes) {
+			this.alloc = alloc;
+			this.expectedBytes = expectedBytes;
+			this.maxBytes = maxBytes;
+		}
+
+		boolean add(ByteBuf bb) {
+			int readable = bb.readableBytes();
+			if (readable > maxBytes - bytes) {
+				return false;
+			}
+			bytes += readable;
+			ByteBuf output = this.output;
+			if (output == null) {
+				// Allocated with the first byte buffer so that empty content does not allocate
+				output = expectedBytes > 0 && expectedBytes <= MAX_PRESIZE ?
+						alloc.buffer((int) expectedBytes) :
+						alloc.compositeBuffer(Integer.MAX_VALUE);
+				this.output = output;
+			}
+			if (output instanceof CompositeByteBuf) {
+				((CompositeByteBuf) output).addComponent(true, bb.retain());
+			}
+			else {
+				output.writeBytes(bb);
+			}
+			return true;
+		}
+
+		@Nullable ByteBuf output() {
+			ByteBuf output = this.output;
+			return output != null && output.isReadable() ? output : null;
+		}
+
+		void release() {
+			ByteBuf output = this.output;
+			if (output != null) {
+				safeRelease(output);
+			}
+		}
+	}
+
 	static final Logger log = Loggers.getLogger(ByteBufFlux.class);
 
 	static void safeRelease(ByteBuf byteBuf) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2023 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2011-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,13 +17,18 @@ package reactor.netty;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.Buffer;
 import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.util.CharsetUtil;
 import io.netty.util.IllegalReferenceCountException;
 import org.reactivestreams.Publisher;
 import reactor.core.CoreSubscriber;
@@ -95,7 +100,7 @@ public class ByteBufMono extends MonoOperator<ByteBuf, ByteBuf> {
 		requireNonNull(charset, "charset");
 		return handle((bb, sink) -> {
 			try {
-				sink.next(bb.readCharSequence(bb.readableBytes(), charset).toString());
+				sink.next(decode(bb, charset));
 			}
 			catch (IllegalReferenceCountException e) {
 				sink.complete();
@@ -103,6 +108,31 @@ public class ByteBufMono extends MonoOperator<ByteBuf, ByteBuf> {
 		});
 	}
 
+	/**
+	 * Decode the inbound {@link ByteBuf} with the {@link ByteBufDecoder}, directly from its memory.
+	 * Combined with {@link ByteBufFlux#aggregate(int)}, the aggregated buffers are decoded in place
+	 * without consolidating them.
+	 *
+	 * @param decoder the decoder
+	 * @param <T> the type of the decoded message
+	 * @return a decoded inbound {@link Mono}
+	 * @since 1.3.0
+	 */
+	public final <T> Mono<T> decode(ByteBufDecoder<? extends T> decoder) {
+		requireNonNull(decoder, "decoder");
+		return handle((bb, sink) -> {
+			try {
+				sink.next(decoder.decode(bb));
+			}
+			catch (IllegalReferenceCountException e) {
+				sink.complete();
+			}
+			catch (Exception e) {
+				sink.error(e);
+			}
+		});
+	}
+
 	/**
 	 * Convert to an {@link InputStream} inbound {@link Mono}
 	 * <p>Note: Auto memory release is disabled. The underlying
@@ -180,6 +210,41 @@ public class ByteBufMono extends MonoOperator<ByteBuf, ByteBuf> {
 		super(source.map(ByteBufFlux.bytebufExtractor));
 	}
 
+	/**
+	 * Decodes the readable bytes. A buffer with several NIO buffers, e.g. an aggregated {@link CompositeByteBuf},
+	 * is decoded directly from its NIO buffers instead of copying them first into a single array, except for
+	 * {@code UTF-8}, {@code US-ASCII} and {@code ISO-8859-1}: the JDK creates a {@link String} from their bytes without
+	 * an intermediate {@link CharBuffer}, which is cheaper than the copy.
+	 */
+	static String decode(ByteBuf bb, Charset charset) {
+		int length = bb.readableBytes();
+		if (bb.nioBufferCount() <= 1 || CharsetUtil.UTF_8.equals(charset) || CharsetUtil.US_ASCII.equals(charset) ||
+				CharsetUtil.ISO_8859_1.equals(charset)) {
+			return bb.readCharSequence(length, charset).toString();
+		}
+		CharsetDecoder decoder = CharsetUtil.decoder(charset);
+		CharBuffer out = CharBuffer.allocate((int) Math.ceil(length * (double) decoder.maxCharsPerByte()));
+		// The bytes of a character that is split between two NIO buffers,
+		// the casts to Buffer keep the Java 8 method signatures
+		ByteBuffer split = ByteBuffer.allocate(16);
+		for (ByteBuffer in : bb.nioBuffers()) {
+			while (split.position() > 0 && in.hasRemaining()) {
+				split.put(in.get());
+				((Buffer) split).flip();
+				decoder.decode(split, out, false);
+				split.compact();
+			}
+			decoder.decode(in, out, false);
+			split.put(in);
+		}
+		((Buffer) split).flip();
+		decoder.decode(split, out, true);
+		decoder.flush(out);
+		bb.skipBytes(length);
+		((Buffer) out).flip();
+		return out.toString();
+	}
+
 	static ByteBufMono maybeFuse(Mono<?> source) {
 		if (source instanceof Fuseable) {
 			return new ByteBufMonoFuseable(source);
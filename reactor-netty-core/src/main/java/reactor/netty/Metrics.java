@@ -125,6 +125,11 @@ public class Metrics {
 	 */
 	public static final String TLS_HANDSHAKE_TIME = ".tls.handshake.time";
 
+	/**
+	 * Number of TLS handshakes that resumed a previously negotiated session.
+	 */
+	public static final String TLS_HANDSHAKE_RESUMED = ".tls.handshake.resumed";
+
 	/**
 	 * Time spent for connecting to the remote address.
 	 */
@@ -115,6 +115,37 @@ public interface NettyOutbound extends Publisher<Void> {
 		return send(ReactorNetty.publisherOrScalarMap(dataStream, Unpooled::wrappedBuffer));
 	}
 
+	/**
+	 * Sends the messages to the peer, each message is encoded by the {@link ByteBufEncoder} directly
+	 * into a buffer provided by {@link #alloc()}. Listens for any error on write and closes on terminal signal
+	 * (complete|error). If more than one publisher is attached (multiple calls to send())
+	 * completion occurs after all publishers complete.
+	 * <p>Note: Nesting any send* method is not supported.</p>
+	 *
+	 * @param messages the messages to encode and write on this channel
+	 * @param encoder the encoder of the messages
+	 * @param <T> the type of the messages
+	 *
+	 * @return A Publisher to signal successful sequence write (e.g. after "flush") or any
+	 * error during write
+	 * @since 1.3.0
+	 */
+	default <T> NettyOutbound sendEncoded(Publisher<? extends T> messages, ByteBufEncoder<? super T> encoder) {
+		Objects.requireNonNull(encoder, "encoder");
+		return send(ReactorNetty.publisherOrScalarMap(
+				messages, message -> {
+				    ByteBuf buffer = alloc().buffer();
+				    try {
+				        encoder.encode(message, buffer);
+				        return buffer;
+				    }
+				    catch (Throwable t) {
+				        buffer.release();
+				        throw Exceptions.propagate(t);
+				    }
+				}));
+	}
+
 	/**
 	 * Sends content from given {@link Path} using
 	 * {@link java.nio.channels.FileChannel#transferTo(long, long, WritableByteChannel)}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2011-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -57,7 +57,9 @@ import io.netty.channel.ChannelInboundHandler;
  * -> non ssl redirect detector ? [NonSslRedirectDetector]
  * -> ssl log ? [SslLoggingHandler]
  * -> ssl handler ? [SslHandler]
+ * -> inbound memory budget ? [InboundMemoryBudget]
  * -> log ? [LoggingHandler]
+ * -> tls handshake limiter ? [TlsHandshakeLimiter]
  * -> ssl reader ? [SslReader]
  * -> channel metrics ? [ChannelMetricsHandler]
  * -> h2c upgrade handler ? [H2CUpgradeHandler]
@@ -105,6 +107,7 @@ public interface NettyPipeline {
 	String HttpMetricsHandler    = LEFT + "httpMetricsHandler";
 	String HttpTrafficHandler    = LEFT + "httpTrafficHandler";
 	String IdleTimeoutHandler    = LEFT + "idleTimeoutHandler";
+	String InboundMemoryBudget   = LEFT + "inboundMemoryBudget";
 	String LoggingHandler        = LEFT + "loggingHandler";
 	String NonSslRedirectDetector = LEFT + "nonSslRedirectDetector";
 	String NonSslRedirectHandler = LEFT + "nonSslRedirectHandler";
@@ -128,6 +131,7 @@ public interface NettyPipeline {
 	String SslHandler            = LEFT + "sslHandler";
 	String SslLoggingHandler     = LEFT + "sslLoggingHandler";
 	String SslReader             = LEFT + "sslReader";
+	String TlsHandshakeLimiter   = LEFT + "tlsHandshakeLimiter";
 	String TlsMetricsHandler     = LEFT + "tlsMetricsHandler";
 	String WsCompressionHandler  = LEFT + "wsCompressionHandler";
 	String WsFrameAggregator     = LEFT + "wsFrameAggregator";
@@ -112,6 +112,26 @@ public enum ChannelMeters implements MeterDocumentation {
 			return ChannelMetersTags.values();
 		}
 
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.COUNTER;
+		}
+	},
+
+	/**
+	 * Number of TLS handshakes that resumed a previously negotiated session.
+	 */
+	TLS_HANDSHAKE_RESUMED {
+		@Override
+		public String getName() {
+			return "%s";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return TlsHandshakeResumedMeterTags.values();
+		}
+
 		@Override
 		public Meter.Type getType() {
 			return Meter.Type.COUNTER;
@@ -173,4 +193,27 @@ public enum ChannelMeters implements MeterDocumentation {
 			}
 		}
 	}
+
+	public enum TlsHandshakeResumedMeterTags implements KeyName {
+
+		/**
+		 * Proxy address, when there is a proxy configured.
+		 */
+		PROXY_ADDRESS {
+			@Override
+			public String asString() {
+				return "proxy.address";
+			}
+		},
+
+		/**
+		 * Remote address.
+		 */
+		REMOTE_ADDRESS {
+			@Override
+			public String asString() {
+				return "remote.address";
+			}
+		}
+	}
 }
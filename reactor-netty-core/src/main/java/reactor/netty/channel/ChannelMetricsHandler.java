@@ -139,6 +139,18 @@ public class ChannelMetricsHandler extends AbstractChannelMetricsHandler {
 			}
 		}
 
+		protected void incrementTlsHandshakeResumedCount(ChannelHandlerContext ctx) {
+			if (proxyAddress == null) {
+				recorder.incrementTlsHandshakeResumedCount(
+						remoteAddress != null ? remoteAddress : ctx.channel().remoteAddress());
+			}
+			else {
+				recorder.incrementTlsHandshakeResumedCount(
+						remoteAddress != null ? remoteAddress : ctx.channel().remoteAddress(),
+						proxyAddress);
+			}
+		}
+
 		private void addListener(ChannelHandlerContext ctx) {
 			if (!listenerAdded) {
 				SslHandler sslHandler = ctx.pipeline().get(SslHandler.class);
@@ -149,6 +161,9 @@ public class ChannelMetricsHandler extends AbstractChannelMetricsHandler {
 					          .addListener(f -> {
 					              ctx.pipeline().remove(this);
 					              recordTlsHandshakeTime(ctx, tlsHandshakeTimeStart, f.isSuccess() ? SUCCESS : ERROR);
+					              if (f.isSuccess() && TlsSessionResumption.isSessionResumed(sslHandler)) {
+					                  incrementTlsHandshakeResumedCount(ctx);
+					              }
 					          });
 				}
 			}
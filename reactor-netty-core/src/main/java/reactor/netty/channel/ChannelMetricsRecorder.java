@@ -105,6 +105,30 @@ public interface ChannelMetricsRecorder {
 		recordTlsHandshakeTime(remoteAddress, time, status);
 	}
 
+	/**
+	 * Increments the number of the TLS handshakes that resumed a previously negotiated session
+	 * instead of performing a full handshake.
+	 * <p>
+	 * This method has {@code NOOP} default implementation.
+	 *
+	 * @param remoteAddress The remote peer
+	 * @since 1.3.0
+	 */
+	default void incrementTlsHandshakeResumedCount(SocketAddress remoteAddress) {
+	}
+
+	/**
+	 * Increments the number of the TLS handshakes that resumed a previously negotiated session
+	 * instead of performing a full handshake.
+	 *
+	 * @param remoteAddress The remote peer
+	 * @param proxyAddress The proxy address
+	 * @since 1.3.0
+	 */
+	default void incrementTlsHandshakeResumedCount(SocketAddress remoteAddress, SocketAddress proxyAddress) {
+		incrementTlsHandshakeResumedCount(remoteAddress);
+	}
+
 	/**
 	 * Records the time that is spent for connecting to the remote address.
 	 * Relevant only when on the client
@@ -48,6 +48,7 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 
 	final ChannelOperations<?, ?> parent;
 	final EventLoop         eventLoop;
+	final InboundMemoryBudget.@Nullable ConnectionBudget memoryBudget;
 
 	@Nullable CoreSubscriber<? super Object> receiver;
 	boolean                                  receiverFastpath;
@@ -81,6 +82,7 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 
 		this.parent = parent;
 		this.eventLoop = parent.channel().eventLoop();
+		this.memoryBudget = InboundMemoryBudget.connectionBudget(parent.channel());
 		parent.channel().config()
 		       .setAutoRead(false);
 		CANCEL.lazySet(this, (state) -> {
@@ -218,6 +220,9 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 		if (q != null) {
 			Object o;
 			while ((o = q.poll()) != null) {
+				if (memoryBudget != null) {
+					memoryBudget.release(o);
+				}
 				if (log.isDebugEnabled()) {
 					log.debug(format(parent.channel(), "{}: dropping frame {}"), this, parent.asDebugLogMessage(o));
 				}
@@ -282,6 +287,10 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 					break;
 				}
 
+				if (memoryBudget != null) {
+					memoryBudget.release(v);
+				}
+
 				try {
 					if (logLeakDetection.isDebugEnabled()) {
 						if (v instanceof ByteBuf) {
@@ -403,6 +412,9 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 					((ByteBufHolder) msg).touch(format(parent.channel(), "Buffered ByteBufHolder in the inbound buffer queue"));
 				}
 			}
+			if (memoryBudget != null) {
+				memoryBudget.acquire(msg);
+			}
 			q.offer(msg);
 			drainReceiver();
 		}
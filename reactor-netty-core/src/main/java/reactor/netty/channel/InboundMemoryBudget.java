@@ -0,0 +1,403 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.channel;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufHolder;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelConfig;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
+import org.jspecify.annotations.Nullable;
+import reactor.netty.NettyPipeline;
+import reactor.netty.internal.util.Metrics;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static reactor.netty.ReactorNetty.format;
+
+/**
+ * Caps the inbound bytes that are buffered by Reactor Netty and not yet consumed, per connection and per server.
+ * The bytes are accounted when a message enters one of the inbound queues, i.e. the receive queue of the connection
+ * when there is no demand, the queue of the pipelined HTTP/1.1 requests and the receive queues of the HTTP/2 streams,
+ * and when it leaves the queue. When either budget is exceeded, the reads of the connection are paused,
+ * they are resumed when both the connection and the server are below half of their budget.
+ * <p>The bytes that are consumed without being queued, i.e. when there is demand, are not accounted.
+ * <p>The budget of the server is created per bound server, i.e. per server channel, so that the servers bound
+ * with the same configuration do not share it, and its meters are removed when the server is disposed.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+public final class InboundMemoryBudget {
+
+	/**
+	 * Creates a new {@link Spec} that is used to create the budget of each bound server.
+	 *
+	 * @param maxConnectionBytes the maximum number of the buffered inbound bytes per connection
+	 * @param maxBytes the maximum number of the buffered inbound bytes for all connections of a server
+	 * @return a new {@link Spec}
+	 */
+	public static Spec spec(long maxConnectionBytes, long maxBytes) {
+		if (maxConnectionBytes <= 0) {
+			throw new IllegalArgumentException("Max connection bytes must be strictly positive, was: " + maxConnectionBytes);
+		}
+		if (maxBytes < maxConnectionBytes) {
+			throw new IllegalArgumentException("Max bytes must be greater than or equal to the max connection bytes, was: " +
+					maxBytes);
+		}
+		return new Spec(maxConnectionBytes, maxBytes);
+	}
+
+	/**
+	 * Returns the budget of the server of the given channel, the budget is created when the first connection
+	 * of the server is initialized.
+	 *
+	 * @param spec the configuration of the budget
+	 * @param channel the channel of the connection
+	 * @param metricsEnabled whether the meters of the budget are registered
+	 * @return the budget of the server of the given channel
+	 */
+	public static InboundMemoryBudget of(Spec spec, Channel channel, boolean metricsEnabled) {
+		// The server channel is the root, e.g. connection -> server
+		Channel serverChannel = channel;
+		for (Channel parent = channel.parent(); parent != null; parent = parent.parent()) {
+			serverChannel = parent;
+		}
+		Attribute<InboundMemoryBudget> attr = serverChannel.attr(SERVER_BUDGET);
+		InboundMemoryBudget budget = attr.get();
+		if (budget == null) {
+			InboundMemoryBudget created = new InboundMemoryBudget(spec.maxConnectionBytes, spec.maxBytes);
+			budget = attr.setIfAbsent(created);
+			if (budget == null) {
+				budget = created;
+				if (metricsEnabled) {
+					created.bind(serverChannel);
+				}
+			}
+		}
+		return budget;
+	}
+
+	static InboundMemoryBudget create(long maxConnectionBytes, long maxBytes) {
+		Spec spec = spec(maxConnectionBytes, maxBytes);
+		return new InboundMemoryBudget(spec.maxConnectionBytes, spec.maxBytes);
+	}
+
+	/**
+	 * Returns the budget of the connection, the HTTP/2 streams share the budget of their parent connection.
+	 *
+	 * @param channel the channel of the connection or of the stream
+	 * @return the budget of the connection or {@code null} when the inbound memory is not budgeted
+	 */
+	public static @Nullable ConnectionBudget connectionBudget(Channel channel) {
+		ConnectionBudget connectionBudget = channel.attr(CONNECTION_BUDGET).get();
+		Channel parent = channel.parent();
+		if (connectionBudget == null && parent != null) {
+			connectionBudget = parent.attr(CONNECTION_BUDGET).get();
+		}
+		return connectionBudget;
+	}
+
+	final long maxBytes;
+	final long maxConnectionBytes;
+
+	final AtomicLong usedBytes = new AtomicLong();
+	final LongAdder pauses = new LongAdder();
+	final Set<ConnectionBudget> pausedConnections = ConcurrentHashMap.newKeySet();
+
+	InboundMemoryBudget(long maxConnectionBytes, long maxBytes) {
+		this.maxBytes = maxBytes;
+		this.maxConnectionBytes = maxConnectionBytes;
+	}
+
+	/**
+	 * Adds the budget of the connection at the front of the pipeline.
+	 *
+	 * @param channel the channel of the connection
+	 */
+	public void addHandler(Channel channel) {
+		ConnectionBudget connectionBudget = new ConnectionBudget(this);
+		channel.attr(CONNECTION_BUDGET).set(connectionBudget);
+		channel.pipeline().addFirst(NettyPipeline.InboundMemoryBudget, connectionBudget);
+	}
+
+	/**
+	 * Registers the meters of this budget in Micrometer's
+	 * {@link io.micrometer.core.instrument.Metrics#globalRegistry globalRegistry} and removes them
+	 * when the server channel is closed.
+	 *
+	 * @param serverChannel the server channel
+	 */
+	void bind(Channel serverChannel) {
+		if (Metrics.isMicrometerAvailable()) {
+			String id = serverChannel.id().asShortText();
+			MicrometerInboundMemoryBudgetMeterRegistrar.INSTANCE.registerMetrics(id, this);
+			serverChannel.closeFuture().addListener(f -> MicrometerInboundMemoryBudgetMeterRegistrar.INSTANCE.deRegisterMetrics(id));
+		}
+	}
+
+	/**
+	 * Returns the maximum number of the buffered inbound bytes for all connections.
+	 *
+	 * @return the maximum number of the buffered inbound bytes for all connections
+	 */
+	public long maxBytes() {
+		return maxBytes;
+	}
+
+	/**
+	 * Returns the maximum number of the buffered inbound bytes per connection.
+	 *
+	 * @return the maximum number of the buffered inbound bytes per connection
+	 */
+	public long maxConnectionBytes() {
+		return maxConnectionBytes;
+	}
+
+	/**
+	 * Returns the number of the buffered inbound bytes for all connections.
+	 *
+	 * @return the number of the buffered inbound bytes for all connections
+	 */
+	public long usedBytes() {
+		return usedBytes.get();
+	}
+
+	int pausedConnections() {
+		return pausedConnections.size();
+	}
+
+	long pauses() {
+		return pauses.sum();
+	}
+
+	/**
+	 * Resumes the paused connections, invoked when the server goes below half of its budget.
+	 */
+	void resumePausedConnections() {
+		for (ConnectionBudget connectionBudget : pausedConnections) {
+			ChannelHandlerContext ctx = connectionBudget.ctx;
+			if (ctx != null) {
+				ctx.executor().execute(connectionBudget::tryResume);
+			}
+		}
+	}
+
+	static int size(Object msg) {
+		if (msg instanceof ByteBuf) {
+			return ((ByteBuf) msg).readableBytes();
+		}
+		if (msg instanceof ByteBufHolder) {
+			return ((ByteBufHolder) msg).content().readableBytes();
+		}
+		return 0;
+	}
+
+	/**
+	 * The budget of a connection. It is accessed only from the event loop of the connection, the HTTP/2 streams
+	 * share the event loop of their parent connection. While the reads are paused, the {@code read} operations
+	 * are held back, so that a change of the auto-read configuration cannot resume them.
+	 */
+	public static final class ConnectionBudget extends ChannelDuplexHandler {
+
+		final InboundMemoryBudget budget;
+
+		@Nullable ChannelHandlerContext ctx;
+		boolean closed;
+		boolean paused;
+		boolean readPending;
+		boolean restoreAutoRead;
+		long usedBytes;
+
+		ConnectionBudget(InboundMemoryBudget budget) {
+			this.budget = budget;
+		}
+
+		/**
+		 * Accounts a message that enters an inbound queue.
+		 *
+		 * @param msg the message
+		 */
+		public void acquire(Object msg) {
+			int size = size(msg);
+			if (size == 0 || closed) {
+				return;
+			}
+			usedBytes += size;
+			long total = budget.usedBytes.addAndGet(size);
+			if (!paused && (usedBytes > budget.maxConnectionBytes || total > budget.maxBytes)) {
+				pause();
+			}
+		}
+
+		/**
+		 * Accounts a message that leaves an inbound queue.
+		 *
+		 * @param msg the message
+		 */
+		public void release(Object msg) {
+			int size = size(msg);
+			if (size == 0 || closed) {
+				return;
+			}
+			usedBytes -= size;
+			long total = budget.usedBytes.addAndGet(-size);
+			if (total <= budget.maxBytes >> 1 && total + size > budget.maxBytes >> 1 && !budget.pausedConnections.isEmpty()) {
+				budget.resumePausedConnections();
+			}
+			else if (paused) {
+				tryResume();
+			}
+		}
+
+		/**
+		 * Returns the number of the buffered inbound bytes of this connection.
+		 *
+		 * @return the number of the buffered inbound bytes of this connection
+		 */
+		public long usedBytes() {
+			return usedBytes;
+		}
+
+		@Override
+		public void handlerAdded(ChannelHandlerContext ctx) {
+			this.ctx = ctx;
+		}
+
+		@Override
+		public void handlerRemoved(ChannelHandlerContext ctx) {
+			close();
+		}
+
+		@Override
+		public void channelInactive(ChannelHandlerContext ctx) {
+			close();
+			ctx.fireChannelInactive();
+		}
+
+		@Override
+		public void read(ChannelHandlerContext ctx) {
+			if (paused) {
+				readPending = true;
+			}
+			else {
+				ctx.read();
+			}
+		}
+
+		void close() {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			paused = false;
+			budget.pausedConnections.remove(this);
+			if (usedBytes != 0) {
+				budget.usedBytes.addAndGet(-usedBytes);
+				usedBytes = 0;
+			}
+		}
+
+		void pause() {
+			ChannelHandlerContext ctx = this.ctx;
+			if (ctx == null) {
+				return;
+			}
+			paused = true;
+			budget.pauses.increment();
+			budget.pausedConnections.add(this);
+			ChannelConfig config = ctx.channel().config();
+			restoreAutoRead = config.isAutoRead();
+			if (restoreAutoRead) {
+				config.setAutoRead(false);
+			}
+			if (log.isDebugEnabled()) {
+				log.debug(format(ctx.channel(), "Inbound memory budget exceeded, pausing the reads " +
+						"(connection: {} bytes, server: {} bytes)"), usedBytes, budget.usedBytes.get());
+			}
+			// The server may have gone below half of its budget before this connection was added to the paused ones
+			tryResume();
+		}
+
+		void tryResume() {
+			ChannelHandlerContext ctx = this.ctx;
+			if (!paused || ctx == null ||
+					usedBytes > budget.maxConnectionBytes >> 1 || budget.usedBytes.get() > budget.maxBytes >> 1) {
+				return;
+			}
+			paused = false;
+			budget.pausedConnections.remove(this);
+			if (log.isDebugEnabled()) {
+				log.debug(format(ctx.channel(), "Inbound memory budget available, resuming the reads " +
+						"(connection: {} bytes, server: {} bytes)"), usedBytes, budget.usedBytes.get());
+			}
+			if (restoreAutoRead) {
+				restoreAutoRead = false;
+				ctx.channel().config().setAutoRead(true);
+			}
+			if (readPending) {
+				readPending = false;
+				ctx.read();
+			}
+		}
+	}
+
+	/**
+	 * The configuration of the budget, the budget itself is created per bound server.
+	 */
+	public static final class Spec {
+
+		final long maxBytes;
+		final long maxConnectionBytes;
+
+		Spec(long maxConnectionBytes, long maxBytes) {
+			this.maxBytes = maxBytes;
+			this.maxConnectionBytes = maxConnectionBytes;
+		}
+
+		/**
+		 * Returns the maximum number of the buffered inbound bytes for all connections of a server.
+		 *
+		 * @return the maximum number of the buffered inbound bytes for all connections of a server
+		 */
+		public long maxBytes() {
+			return maxBytes;
+		}
+
+		/**
+		 * Returns the maximum number of the buffered inbound bytes per connection.
+		 *
+		 * @return the maximum number of the buffered inbound bytes per connection
+		 */
+		public long maxConnectionBytes() {
+			return maxConnectionBytes;
+		}
+	}
+
+	static final AttributeKey<@Nullable ConnectionBudget> CONNECTION_BUDGET = AttributeKey.valueOf("$INBOUND_MEMORY_BUDGET");
+
+	static final AttributeKey<@Nullable InboundMemoryBudget> SERVER_BUDGET = AttributeKey.valueOf("$INBOUND_MEMORY_BUDGET_SERVER");
+
+	static final Logger log = Loggers.getLogger(InboundMemoryBudget.class);
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.channel;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.docs.MeterDocumentation;
+
+/**
+ * Meters for the budget of the inbound bytes buffered by the server.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+enum InboundMemoryBudgetMeters implements MeterDocumentation {
+
+	/**
+	 * The number of the connections with paused reads.
+	 */
+	PAUSED_CONNECTIONS {
+		@Override
+		public String getName() {
+			return "reactor.netty.server.inbound.memory.paused.connections";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return InboundMemoryBudgetMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.GAUGE;
+		}
+	},
+
+	/**
+	 * The number of times the reads of a connection were paused.
+	 */
+	PAUSES {
+		@Override
+		public String getName() {
+			return "reactor.netty.server.inbound.memory.pauses";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return InboundMemoryBudgetMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.COUNTER;
+		}
+	},
+
+	/**
+	 * The number of the inbound bytes buffered for all connections.
+	 */
+	USED_BYTES {
+		@Override
+		public String getName() {
+			return "reactor.netty.server.inbound.memory.used";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return InboundMemoryBudgetMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.GAUGE;
+		}
+	};
+
+	enum InboundMemoryBudgetMetersTags implements KeyName {
+
+		/**
+		 * ID.
+		 */
+		ID {
+			@Override
+			public String asString() {
+				return "id";
+			}
+		}
+	}
+}
@@ -16,6 +16,8 @@
 package reactor.netty.channel;
 
 import io.micrometer.common.KeyValues;
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.observation.Observation;
 import io.netty.channel.ChannelHandler;
@@ -39,6 +41,7 @@ import static reactor.netty.Metrics.ERROR;
 import static reactor.netty.Metrics.NA;
 import static reactor.netty.Metrics.OBSERVATION_REGISTRY;
 import static reactor.netty.Metrics.SUCCESS;
+import static reactor.netty.Metrics.TLS_HANDSHAKE_RESUMED;
 import static reactor.netty.Metrics.TLS_HANDSHAKE_TIME;
 import static reactor.netty.Metrics.UNKNOWN;
 import static reactor.netty.Metrics.formatSocketAddress;
@@ -246,6 +249,7 @@ public final class MicrometerChannelMetricsHandler extends AbstractChannelMetric
 		@Nullable String netPeerName;
 		@Nullable String netPeerPort;
 		String status = UNKNOWN;
+		boolean resumed;
 		@Nullable ContextView parentContextView;
 
 		TlsMetricsHandler(MicrometerChannelMetricsRecorder recorder, boolean onServer,
@@ -313,7 +317,8 @@ public final class MicrometerChannelMetricsHandler extends AbstractChannelMetric
 		public KeyValues getHighCardinalityKeyValues() {
 			return KeyValues.of(NET_PEER_NAME.asString(), netPeerName, NET_PEER_PORT.asString(), netPeerPort,
 					REACTOR_NETTY_PROTOCOL.asString(), recorder.protocol(),
-					REACTOR_NETTY_STATUS.asString(), status, REACTOR_NETTY_TYPE.asString(), type);
+					REACTOR_NETTY_STATUS.asString(), status, REACTOR_NETTY_TYPE.asString(), type,
+					TlsHandshakeHighCardinalityTags.REACTOR_NETTY_TLS_RESUMED.asString(), Boolean.toString(resumed));
 		}
 
 		@Override
@@ -372,8 +377,17 @@ public final class MicrometerChannelMetricsHandler extends AbstractChannelMetric
 					          .addListener(f -> {
 					               ctx.pipeline().remove(this);
 					               status = f.isSuccess() ? SUCCESS : ERROR;
+					               resumed = f.isSuccess() && TlsSessionResumption.isSessionResumed(sslHandler);
 					               observation.stop();
 
+					               if (resumed) {
+					                   Counter counter = recorder.getTlsHandshakeResumedCounter(recorder.name() + TLS_HANDSHAKE_RESUMED,
+					                           netPeerName + ':' + netPeerPort, proxyAddress == null ? NA : proxyAddress);
+					                   if (counter != null) {
+					                       counter.increment();
+					                   }
+					               }
+
 					               ReactorNetty.setChannelContext(ctx.channel(), parentContextView);
 					               parentContextView = null;
 					          });
@@ -381,4 +395,20 @@ public final class MicrometerChannelMetricsHandler extends AbstractChannelMetric
 			}
 		}
 	}
+
+	/**
+	 * TLS Handshake High Cardinality Tags that are not shared with the connect observation.
+	 */
+	enum TlsHandshakeHighCardinalityTags implements KeyName {
+
+		/**
+		 * Reactor Netty TLS session resumption (true when a previously negotiated session was resumed).
+		 */
+		REACTOR_NETTY_TLS_RESUMED {
+			@Override
+			public String asString() {
+				return "reactor.netty.tls.resumed";
+			}
+		}
+	}
 }
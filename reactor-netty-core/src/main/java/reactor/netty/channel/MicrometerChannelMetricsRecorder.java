@@ -41,6 +41,7 @@ import static reactor.netty.Metrics.PROXY_ADDRESS;
 import static reactor.netty.Metrics.REGISTRY;
 import static reactor.netty.Metrics.REMOTE_ADDRESS;
 import static reactor.netty.Metrics.STATUS;
+import static reactor.netty.Metrics.TLS_HANDSHAKE_RESUMED;
 import static reactor.netty.Metrics.TLS_HANDSHAKE_TIME;
 import static reactor.netty.Metrics.formatSocketAddress;
 
@@ -61,6 +62,8 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 
 	final ConcurrentMap<MeterKey, Timer> tlsHandshakeTimeCache = new ConcurrentHashMap<>();
 
+	final ConcurrentMap<MeterKey, Counter> tlsHandshakeResumedCache = new ConcurrentHashMap<>();
+
 	final ConcurrentMap<MeterKey, Timer> addressResolverTimeCache = new ConcurrentHashMap<>();
 
 	final ConcurrentMap<String, LongAdder> totalConnectionsCache = new ConcurrentHashMap<>();
@@ -219,6 +222,34 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 		});
 	}
 
+	@Override
+	public void incrementTlsHandshakeResumedCount(SocketAddress remoteAddress) {
+		Counter counter = getTlsHandshakeResumedCounter(name + TLS_HANDSHAKE_RESUMED, formatSocketAddress(remoteAddress), NA);
+		if (counter != null) {
+			counter.increment();
+		}
+	}
+
+	@Override
+	public void incrementTlsHandshakeResumedCount(SocketAddress remoteAddress, SocketAddress proxyAddress) {
+		Counter counter = getTlsHandshakeResumedCounter(name + TLS_HANDSHAKE_RESUMED, formatSocketAddress(remoteAddress), formatSocketAddress(proxyAddress));
+		if (counter != null) {
+			counter.increment();
+		}
+	}
+
+	final @Nullable Counter getTlsHandshakeResumedCounter(String name, @Nullable String remoteAddress, @Nullable String proxyAddress) {
+		MeterKey meterKey = new MeterKey(null, remoteAddress, proxyAddress, null, null);
+		return MapUtils.computeIfAbsent(tlsHandshakeResumedCache, meterKey, key -> {
+			Counter.Builder builder = Counter.builder(name)
+			                                 .tags(ChannelMeters.TlsHandshakeResumedMeterTags.REMOTE_ADDRESS.asString(), remoteAddress);
+			if (!onServer) {
+				builder.tag(ChannelMeters.TlsHandshakeResumedMeterTags.PROXY_ADDRESS.asString(), proxyAddress);
+			}
+			return filter(builder.register(REGISTRY));
+		});
+	}
+
 	@Override
 	public void recordConnectTime(SocketAddress remoteAddress, Duration time, String status) {
 		Timer timer = getConnectTimer(name + CONNECT_TIME, formatSocketAddress(remoteAddress), NA, status);
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.channel;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tags;
+
+import static reactor.netty.Metrics.REGISTRY;
+import static reactor.netty.channel.InboundMemoryBudgetMeters.InboundMemoryBudgetMetersTags.ID;
+import static reactor.netty.channel.InboundMemoryBudgetMeters.PAUSED_CONNECTIONS;
+import static reactor.netty.channel.InboundMemoryBudgetMeters.PAUSES;
+import static reactor.netty.channel.InboundMemoryBudgetMeters.USED_BYTES;
+
+/**
+ * Registers and removes gauges and counters for a given {@link InboundMemoryBudget}.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+final class MicrometerInboundMemoryBudgetMeterRegistrar {
+
+	static final MicrometerInboundMemoryBudgetMeterRegistrar INSTANCE = new MicrometerInboundMemoryBudgetMeterRegistrar();
+
+	private MicrometerInboundMemoryBudgetMeterRegistrar() {}
+
+	void registerMetrics(String id, InboundMemoryBudget budget) {
+		Gauge.builder(USED_BYTES.getName(), budget, InboundMemoryBudget::usedBytes)
+		     .tag(ID.asString(), id)
+		     .register(REGISTRY);
+
+		Gauge.builder(PAUSED_CONNECTIONS.getName(), budget, InboundMemoryBudget::pausedConnections)
+		     .tag(ID.asString(), id)
+		     .register(REGISTRY);
+
+		FunctionCounter.builder(PAUSES.getName(), budget, InboundMemoryBudget::pauses)
+		               .tag(ID.asString(), id)
+		               .register(REGISTRY);
+	}
+
+	void deRegisterMetrics(String id) {
+		Tags tags = Tags.of(ID.asString(), id);
+
+		REGISTRY.remove(new Meter.Id(USED_BYTES.getName(), tags, null, null, Meter.Type.GAUGE));
+		REGISTRY.remove(new Meter.Id(PAUSED_CONNECTIONS.getName(), tags, null, null, Meter.Type.GAUGE));
+		REGISTRY.remove(new Meter.Id(PAUSES.getName(), tags, null, null, Meter.Type.COUNTER));
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.channel;
+
+import io.netty.handler.ssl.SslHandler;
+
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSessionContext;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Detects the TLS handshakes that resumed a previously negotiated session.
+ * The ids of the sessions negotiated by the completed handshakes are remembered per {@link SSLSessionContext}:
+ * a handshake that completes with the id of a session that existed before the handshake resumed that session,
+ * a full handshake always negotiates a session with a new id.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+final class TlsSessionResumption {
+
+	/**
+	 * The default session cache size of the JDK and OpenSSL providers, used when the session cache is unbounded.
+	 */
+	static final int DEFAULT_MAX_SESSION_IDS = 20480;
+
+	static final Map<SSLSessionContext, SessionIds> SESSION_IDS = Collections.synchronizedMap(new WeakHashMap<>());
+
+	/**
+	 * Returns whether the completed handshake of the {@link SslHandler} resumed a previously negotiated session.
+	 * Must be invoked once per successful handshake.
+	 *
+	 * @param sslHandler the {@link SslHandler} with a successfully completed handshake
+	 * @return {@code true} when the handshake resumed a previously negotiated session
+	 */
+	static boolean isSessionResumed(SslHandler sslHandler) {
+		SSLSession session = sslHandler.engine().getSession();
+		if (session == null) {
+			return false;
+		}
+		SSLSessionContext sessionContext = session.getSessionContext();
+		byte[] id = session.getId();
+		if (sessionContext == null || id == null || id.length == 0) {
+			return false;
+		}
+		SessionIds sessionIds = SESSION_IDS.computeIfAbsent(sessionContext, ctx -> new SessionIds(ctx.getSessionCacheSize()));
+		synchronized (sessionIds) {
+			return sessionIds.put(ByteBuffer.wrap(id), Boolean.TRUE) != null;
+		}
+	}
+
+	TlsSessionResumption() {
+	}
+
+	/**
+	 * The ids of the sessions of a {@link SSLSessionContext}, bounded by the size of its session cache,
+	 * a session evicted from the cache cannot be resumed anymore.
+	 * The {@link SSLSessionContext} is not referenced, as it is the weak key of the map holding the ids.
+	 */
+	static final class SessionIds extends LinkedHashMap<ByteBuffer, Boolean> {
+
+		final int maxSessionIds;
+
+		SessionIds(int sessionCacheSize) {
+			super(16, 0.75f, true);
+			this.maxSessionIds = sessionCacheSize > 0 ? sessionCacheSize : DEFAULT_MAX_SESSION_IDS;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Boolean> eldest) {
+			return size() > maxSessionIds;
+		}
+
+		private static final long serialVersionUID = 1L;
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.tcp;
+
+import io.netty.channel.Channel;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the bound servers, i.e. the server channels, whose connections use the metrics of a {@link SslProvider}.
+ * The metrics are registered when the first server starts using them and are removed when the last server
+ * is disposed, so that a {@link SslProvider} shared by several servers, or bound several times,
+ * keeps a single set of meters while it is in use and none afterwards.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+final class BoundServers {
+
+	final Runnable onFirstBound;
+	final Runnable onLastDisposed;
+	final Set<Channel> serverChannels = ConcurrentHashMap.newKeySet();
+
+	BoundServers(Runnable onFirstBound, Runnable onLastDisposed) {
+		this.onFirstBound = onFirstBound;
+		this.onLastDisposed = onLastDisposed;
+	}
+
+	/**
+	 * Tracks the server of the connection, the server channel is the parent of the connection channel,
+	 * a channel without parent, e.g. a {@code UDP} server channel, is tracked itself.
+	 *
+	 * @param channel the channel of the connection
+	 */
+	void track(Channel channel) {
+		Channel parent = channel.parent();
+		Channel serverChannel = parent != null ? parent : channel;
+		if (serverChannels.contains(serverChannel)) {
+			return;
+		}
+		synchronized (this) {
+			if (!serverChannels.add(serverChannel)) {
+				return;
+			}
+			if (serverChannels.size() == 1) {
+				onFirstBound.run();
+			}
+		}
+		serverChannel.closeFuture().addListener(f -> untrack(serverChannel));
+	}
+
+	synchronized void untrack(Channel serverChannel) {
+		if (serverChannels.remove(serverChannel) && serverChannels.isEmpty()) {
+			onLastDisposed.run();
+		}
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.tcp;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+
+import static reactor.netty.Metrics.ERROR;
+import static reactor.netty.Metrics.REGISTRY;
+import static reactor.netty.Metrics.SUCCESS;
+import static reactor.netty.tcp.SniMappingsCacheMeters.CACHE_HITS;
+import static reactor.netty.tcp.SniMappingsCacheMeters.CACHE_MISSES;
+import static reactor.netty.tcp.SniMappingsCacheMeters.CACHE_SIZE;
+import static reactor.netty.tcp.SniMappingsCacheMeters.LOAD_TIME;
+import static reactor.netty.tcp.SniMappingsCacheMeters.LoadTimeMetersTags.STATUS;
+import static reactor.netty.tcp.SniMappingsCacheMeters.SniMappingsCacheMetersTags.ID;
+
+/**
+ * Records the metrics of the cache of the {@link SslProvider}s that are loaded on demand
+ * for the {@code SNI} domain names.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+final class MicrometerSniMappingsCacheMetricsRecorder implements SniProvider.CacheMetricsRecorder {
+
+	final Counter hits;
+	final Counter misses;
+	final Gauge size;
+	final Timer loadTimeSuccess;
+	final Timer loadTimeError;
+
+	MicrometerSniMappingsCacheMetricsRecorder(String id, SniProvider.CachingAsyncMapping mapping) {
+		this.hits = Counter.builder(CACHE_HITS.getName())
+		                   .tag(ID.asString(), id)
+		                   .register(REGISTRY);
+		this.misses = Counter.builder(CACHE_MISSES.getName())
+		                     .tag(ID.asString(), id)
+		                     .register(REGISTRY);
+		// The mapping is strongly referenced by the SslProvider for as long as the gauge is registered
+		this.size = Gauge.builder(CACHE_SIZE.getName(), mapping, SniProvider.CachingAsyncMapping::size)
+		                 .tag(ID.asString(), id)
+		                 .register(REGISTRY);
+		this.loadTimeSuccess = Timer.builder(LOAD_TIME.getName())
+		                            .tags(ID.asString(), id, STATUS.asString(), SUCCESS)
+		                            .register(REGISTRY);
+		this.loadTimeError = Timer.builder(LOAD_TIME.getName())
+		                          .tags(ID.asString(), id, STATUS.asString(), ERROR)
+		                          .register(REGISTRY);
+	}
+
+	@Override
+	public void dispose() {
+		REGISTRY.remove(hits);
+		REGISTRY.remove(misses);
+		REGISTRY.remove(size);
+		REGISTRY.remove(loadTimeSuccess);
+		REGISTRY.remove(loadTimeError);
+	}
+
+	@Override
+	public void incrementHits() {
+		hits.increment();
+	}
+
+	@Override
+	public void incrementMisses() {
+		misses.increment();
+	}
+
+	@Override
+	public void recordLoadTime(Duration time, boolean success) {
+		(success ? loadTimeSuccess : loadTimeError).record(time);
+	}
+}
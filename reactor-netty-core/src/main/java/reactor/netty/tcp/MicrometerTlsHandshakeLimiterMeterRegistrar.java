@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.tcp;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tags;
+
+import static reactor.netty.Metrics.REGISTRY;
+import static reactor.netty.tcp.TlsHandshakeLimiterMeters.ACTIVE_HANDSHAKES;
+import static reactor.netty.tcp.TlsHandshakeLimiterMeters.PENDING_HANDSHAKES;
+import static reactor.netty.tcp.TlsHandshakeLimiterMeters.REJECTED_HANDSHAKES;
+import static reactor.netty.tcp.TlsHandshakeLimiterMeters.TlsHandshakeLimiterMetersTags.ID;
+
+/**
+ * Registers gauges and counters for a given {@link TlsHandshakeLimiter}.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+final class MicrometerTlsHandshakeLimiterMeterRegistrar {
+
+	static final MicrometerTlsHandshakeLimiterMeterRegistrar INSTANCE = new MicrometerTlsHandshakeLimiterMeterRegistrar();
+
+	private MicrometerTlsHandshakeLimiterMeterRegistrar() {}
+
+	void registerMetrics(String id, TlsHandshakeLimiter limiter) {
+		Gauge.builder(ACTIVE_HANDSHAKES.getName(), limiter, TlsHandshakeLimiter::activeHandshakes)
+		     .tag(ID.asString(), id)
+		     .register(REGISTRY);
+
+		Gauge.builder(PENDING_HANDSHAKES.getName(), limiter, TlsHandshakeLimiter::pendingHandshakes)
+		     .tag(ID.asString(), id)
+		     .register(REGISTRY);
+
+		FunctionCounter.builder(REJECTED_HANDSHAKES.getName(), limiter, TlsHandshakeLimiter::rejectedHandshakes)
+		               .tag(ID.asString(), id)
+		               .register(REGISTRY);
+	}
+
+	void deRegisterMetrics(String id) {
+		Tags tags = Tags.of(ID.asString(), id);
+
+		REGISTRY.remove(new Meter.Id(ACTIVE_HANDSHAKES.getName(), tags, null, null, Meter.Type.GAUGE));
+		REGISTRY.remove(new Meter.Id(PENDING_HANDSHAKES.getName(), tags, null, null, Meter.Type.GAUGE));
+		REGISTRY.remove(new Meter.Id(REJECTED_HANDSHAKES.getName(), tags, null, null, Meter.Type.COUNTER));
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.tcp;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.docs.MeterDocumentation;
+
+/**
+ * Meters for the cache of the {@link SslProvider}s that are loaded on demand for the {@code SNI} domain names.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+enum SniMappingsCacheMeters implements MeterDocumentation {
+
+	/**
+	 * The number of the {@code SNI} lookups served from the cache.
+	 */
+	CACHE_HITS {
+		@Override
+		public String getName() {
+			return "reactor.netty.tcp.server.sni.cache.hits";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return SniMappingsCacheMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.COUNTER;
+		}
+	},
+
+	/**
+	 * The number of the {@code SNI} lookups that required loading the {@link SslProvider}.
+	 */
+	CACHE_MISSES {
+		@Override
+		public String getName() {
+			return "reactor.netty.tcp.server.sni.cache.misses";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return SniMappingsCacheMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.COUNTER;
+		}
+	},
+
+	/**
+	 * The number of the {@link SslProvider}s in the cache.
+	 */
+	CACHE_SIZE {
+		@Override
+		public String getName() {
+			return "reactor.netty.tcp.server.sni.cache.size";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return SniMappingsCacheMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.GAUGE;
+		}
+	},
+
+	/**
+	 * Time spent for loading the {@link SslProvider} for a domain name.
+	 */
+	LOAD_TIME {
+		@Override
+		public String getName() {
+			return "reactor.netty.tcp.server.sni.load.time";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return LoadTimeMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.TIMER;
+		}
+	};
+
+	enum SniMappingsCacheMetersTags implements KeyName {
+
+		/**
+		 * ID.
+		 */
+		ID {
+			@Override
+			public String asString() {
+				return "id";
+			}
+		}
+	}
+
+	enum LoadTimeMetersTags implements KeyName {
+
+		/**
+		 * ID.
+		 */
+		ID {
+			@Override
+			public String asString() {
+				return "id";
+			}
+		},
+
+		/**
+		 * STATUS.
+		 */
+		STATUS {
+			@Override
+			public String asString() {
+				return "status";
+			}
+		}
+	}
+}
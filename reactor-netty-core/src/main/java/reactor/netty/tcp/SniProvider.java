@@ -28,9 +28,20 @@ import io.netty.util.ReferenceCountUtil;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.Promise;
 import io.netty.util.internal.PlatformDependent;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
 import reactor.netty.NettyPipeline;
+import reactor.util.Logger;
+import reactor.util.Loggers;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 /**
  * An {@link SniProvider} to configure the channel pipeline in order to support server SNI.
@@ -58,11 +69,13 @@ final class SniProvider {
 	}
 
 	final long handshakeTimeoutMillis;
+	final @Nullable Executor handshakeExecutor;
 	final AsyncMapping<String, SslProvider> mappings;
 
-	SniProvider(AsyncMapping<String, SslProvider> mappings, long handshakeTimeoutMillis) {
+	SniProvider(AsyncMapping<String, SslProvider> mappings, long handshakeTimeoutMillis, @Nullable Executor handshakeExecutor) {
 		this.mappings = mappings;
 		this.handshakeTimeoutMillis = handshakeTimeoutMillis;
+		this.handshakeExecutor = handshakeExecutor;
 	}
 
 	SniProvider(Map<String, SslProvider> confPerDomainName, SslProvider defaultSslProvider) {
@@ -71,10 +84,17 @@ final class SniProvider {
 		confPerDomainName.forEach(mappingsSslProviderBuilder::add);
 		this.mappings = new AsyncMappingAdapter(mappingsSslProviderBuilder.build());
 		this.handshakeTimeoutMillis = defaultSslProvider.handshakeTimeoutMillis;
+		this.handshakeExecutor = defaultSslProvider.handshakeExecutor;
+	}
+
+	SniProvider(Function<String, Mono<SslProvider>> loader, CacheSpec cacheSpec, SslProvider defaultSslProvider) {
+		this.mappings = new CachingAsyncMapping(loader, cacheSpec, defaultSslProvider);
+		this.handshakeTimeoutMillis = defaultSslProvider.handshakeTimeoutMillis;
+		this.handshakeExecutor = defaultSslProvider.handshakeExecutor;
 	}
 
 	SniHandler newSniHandler() {
-		return new SniHandler(mappings, handshakeTimeoutMillis);
+		return new SniHandler(mappings, handshakeTimeoutMillis, handshakeExecutor);
 	}
 
 	static final class AsyncMappingAdapter implements AsyncMapping<String, SslProvider> {
@@ -96,13 +116,229 @@ final class SniProvider {
 		}
 	}
 
+	static final class CacheSpec implements SslProvider.SniMappingsCacheSpec {
+
+		static final int DEFAULT_MAX_SIZE = 1024;
+
+		int maxSize = DEFAULT_MAX_SIZE;
+		@Nullable Duration refreshAfter;
+		@Nullable Duration loadTimeout;
+		boolean metricsEnabled;
+
+		@Override
+		public SslProvider.SniMappingsCacheSpec maxSize(int maxSize) {
+			if (maxSize <= 0) {
+				throw new IllegalArgumentException("Max size must be strictly positive, was: " + maxSize);
+			}
+			this.maxSize = maxSize;
+			return this;
+		}
+
+		@Override
+		public SslProvider.SniMappingsCacheSpec refreshAfter(Duration refreshAfter) {
+			Objects.requireNonNull(refreshAfter, "refreshAfter");
+			if (refreshAfter.isNegative() || refreshAfter.isZero()) {
+				throw new IllegalArgumentException("Refresh after must be strictly positive, was: " + refreshAfter);
+			}
+			this.refreshAfter = refreshAfter;
+			return this;
+		}
+
+		@Override
+		public SslProvider.SniMappingsCacheSpec loadTimeout(Duration loadTimeout) {
+			Objects.requireNonNull(loadTimeout, "loadTimeout");
+			if (loadTimeout.isNegative() || loadTimeout.isZero()) {
+				throw new IllegalArgumentException("Load timeout must be strictly positive, was: " + loadTimeout);
+			}
+			this.loadTimeout = loadTimeout;
+			return this;
+		}
+
+		@Override
+		public SslProvider.SniMappingsCacheSpec metrics(boolean enable) {
+			this.metricsEnabled = enable;
+			return this;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof CacheSpec)) {
+				return false;
+			}
+			CacheSpec that = (CacheSpec) o;
+			return maxSize == that.maxSize &&
+					metricsEnabled == that.metricsEnabled &&
+					Objects.equals(refreshAfter, that.refreshAfter) &&
+					Objects.equals(loadTimeout, that.loadTimeout);
+		}
+
+		@Override
+		public int hashCode() {
+			int result = 1;
+			result = 31 * result + maxSize;
+			result = 31 * result + Objects.hashCode(refreshAfter);
+			result = 31 * result + Objects.hashCode(loadTimeout);
+			result = 31 * result + Boolean.hashCode(metricsEnabled);
+			return result;
+		}
+	}
+
+	interface CacheMetricsRecorder {
+
+		void dispose();
+
+		void incrementHits();
+
+		void incrementMisses();
+
+		void recordLoadTime(Duration time, boolean success);
+	}
+
+	/**
+	 * {@link AsyncMapping} that loads the {@link SslProvider} for a domain name on the first handshake
+	 * requesting it and keeps it in a size bounded LRU cache. Entries older than {@code refreshAfter} are
+	 * still served while they are reloaded in the background, so that a refresh never delays a handshake.
+	 * When there is no {@code SNI} or the loader provides no {@link SslProvider}, the default one is used.
+	 * A load that does not complete within the load timeout fails, so that the handshakes waiting for it fail too
+	 * and the next handshake for the same domain name starts a new load.
+	 */
+	static final class CachingAsyncMapping implements AsyncMapping<String, SslProvider> {
+
+		final Function<String, Mono<SslProvider>> loader;
+		final SslProvider defaultSslProvider;
+		final long refreshAfterNanos;
+		final Duration loadTimeout;
+		final Map<String, Entry> cache;
+		final ConcurrentMap<String, Mono<SslProvider>> inProgress = new ConcurrentHashMap<>();
+		final boolean metricsEnabled;
+		final String id;
+
+		volatile @Nullable CacheMetricsRecorder metricsRecorder;
+
+		CachingAsyncMapping(Function<String, Mono<SslProvider>> loader, CacheSpec cacheSpec, SslProvider defaultSslProvider) {
+			this.loader = loader;
+			this.defaultSslProvider = defaultSslProvider;
+			this.refreshAfterNanos = cacheSpec.refreshAfter != null ? cacheSpec.refreshAfter.toNanos() : -1;
+			this.loadTimeout = cacheSpec.loadTimeout != null ? cacheSpec.loadTimeout :
+					Duration.ofMillis(defaultSslProvider.handshakeTimeoutMillis > 0 ?
+							defaultSslProvider.handshakeTimeoutMillis : SslProvider.Build.DEFAULT_SSL_HANDSHAKE_TIMEOUT);
+			int maxSize = cacheSpec.maxSize;
+			this.cache = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+					return size() > maxSize;
+				}
+			};
+			this.metricsEnabled = cacheSpec.metricsEnabled;
+			this.id = Integer.toHexString(System.identityHashCode(this));
+		}
+
+		/**
+		 * Registers the meters of the cache, invoked when the first server that uses the cache is bound.
+		 */
+		void registerMetrics() {
+			this.metricsRecorder = new MicrometerSniMappingsCacheMetricsRecorder(id, this);
+		}
+
+		/**
+		 * Removes the meters of the cache, invoked when the last server that uses the cache is disposed.
+		 */
+		void deRegisterMetrics() {
+			CacheMetricsRecorder metricsRecorder = this.metricsRecorder;
+			this.metricsRecorder = null;
+			if (metricsRecorder != null) {
+				metricsRecorder.dispose();
+			}
+		}
+
+		@Override
+		public Future<SslProvider> map(@Nullable String input, Promise<SslProvider> promise) {
+			if (input == null) {
+				return promise.setSuccess(defaultSslProvider);
+			}
+
+			Entry entry;
+			synchronized (cache) {
+				entry = cache.get(input);
+			}
+			CacheMetricsRecorder metricsRecorder = this.metricsRecorder;
+			if (entry != null) {
+				if (metricsRecorder != null) {
+					metricsRecorder.incrementHits();
+				}
+				if (refreshAfterNanos > 0 && System.nanoTime() - entry.loadedAtNanos > refreshAfterNanos) {
+					load(input).subscribe(null, t -> {
+						if (log.isDebugEnabled()) {
+							log.debug("Failed to refresh the SslProvider for " + input + ", the cached one will be used", t);
+						}
+					});
+				}
+				return promise.setSuccess(entry.sslProvider);
+			}
+
+			if (metricsRecorder != null) {
+				metricsRecorder.incrementMisses();
+			}
+			load(input).subscribe(
+					sslProvider -> promise.trySuccess(sslProvider),
+					promise::tryFailure,
+					() -> promise.trySuccess(defaultSslProvider));
+			return promise;
+		}
+
+		int size() {
+			synchronized (cache) {
+				return cache.size();
+			}
+		}
+
+		Mono<SslProvider> load(String input) {
+			// Concurrent handshakes for the same domain name share a single load
+			return inProgress.computeIfAbsent(input, key -> {
+				long start = System.nanoTime();
+				return Mono.defer(() -> loader.apply(key))
+				           .timeout(loadTimeout)
+				           .doOnNext(sslProvider -> {
+				               synchronized (cache) {
+				                   cache.put(key, new Entry(sslProvider, System.nanoTime()));
+				               }
+				           })
+				           .doOnEach(signal -> {
+				               CacheMetricsRecorder metricsRecorder = this.metricsRecorder;
+				               if (metricsRecorder != null && !signal.isOnNext()) {
+				                   metricsRecorder.recordLoadTime(Duration.ofNanos(System.nanoTime() - start), !signal.isOnError());
+				               }
+				           })
+				           // Removed on completion, error (including the load timeout) and cancellation
+				           .doFinally(signalType -> inProgress.remove(key))
+				           .cache();
+			});
+		}
+
+		static final class Entry {
+
+			final SslProvider sslProvider;
+			final long loadedAtNanos;
+
+			Entry(SslProvider sslProvider, long loadedAtNanos) {
+				this.sslProvider = sslProvider;
+				this.loadedAtNanos = loadedAtNanos;
+			}
+		}
+	}
+
 	static final class SniHandler extends AbstractSniHandler<SslProvider> {
 
 		final AsyncMapping<String, SslProvider> mappings;
+		final @Nullable Executor handshakeExecutor;
 
-		SniHandler(AsyncMapping<String, SslProvider> mappings, long handshakeTimeoutMillis) {
+		SniHandler(AsyncMapping<String, SslProvider> mappings, long handshakeTimeoutMillis, @Nullable Executor handshakeExecutor) {
 			super(handshakeTimeoutMillis);
 			this.mappings = mappings;
+			this.handshakeExecutor = handshakeExecutor;
 		}
 
 		@Override
@@ -123,7 +359,10 @@ final class SniProvider {
 			SslProvider sslProvider = future.getNow();
 			SslHandler sslHandler = null;
 			try {
-				sslHandler = sslProvider.getSslContext().newHandler(ctx.alloc());
+				Executor executor = sslProvider.handshakeExecutor != null ? sslProvider.handshakeExecutor : handshakeExecutor;
+				sslHandler = executor != null ?
+						sslProvider.getSslContext().newHandler(ctx.alloc(), executor) :
+						sslProvider.getSslContext().newHandler(ctx.alloc());
 				sslProvider.configure(sslHandler);
 				ctx.pipeline().replace(this, SslHandler.class.getName(), sslHandler);
 				sslHandler = null;
@@ -138,4 +377,6 @@ final class SniProvider {
 			}
 		}
 	}
+
+	static final Logger log = Loggers.getLogger(SniProvider.class);
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017-2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2017-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,11 +24,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import javax.net.ssl.SNIServerName;
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLException;
 import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSessionContext;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
@@ -37,12 +40,14 @@ import io.netty.channel.ChannelPipeline;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
 import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.OpenSslSessionContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.ssl.SslHandshakeCompletionEvent;
 import io.netty.util.AsyncMapping;
 import org.jspecify.annotations.Nullable;
 import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
 import reactor.netty.NettyPipeline;
 import reactor.netty.ReactorNetty;
 import reactor.netty.transport.logging.AdvancedByteBufFormat;
@@ -206,6 +211,23 @@ public final class SslProvider {
 		 */
 		Builder setSniAsyncMappings(AsyncMapping<String, SslProvider> mappings);
 
+		/**
+		 * Sets a loader that provides the {@link SslProvider} for a domain name on the first handshake
+		 * that requests it, instead of building all {@link SslProvider}s up front.
+		 * The loaded {@link SslProvider}s are kept in a size bounded LRU cache.
+		 * When the loader completes without a value or there is no {@code SNI}, this {@link SslProvider} is used.
+		 * <p><strong>Note:</strong> This method is an alternative of {@link #addSniMapping(String, Consumer)},
+		 * {@link #addSniMappings(Map)}, {@link #setSniMappings(Map)} and {@link #setSniAsyncMappings(AsyncMapping)}.
+		 * <p><strong>Note:</strong> This configuration is applicable only when configuring the server.
+		 *
+		 * @param loader loads the {@link SslProvider} for a domain name
+		 * @param cacheSpec a callback for configuring the cache of the loaded {@link SslProvider}s
+		 * @return {@literal this}
+		 * @since 1.3.0
+		 */
+		Builder setSniMappingsLoader(Function<String, Mono<SslProvider>> loader,
+				Consumer<? super SniMappingsCacheSpec> cacheSpec);
+
 		/**
 		 * Sets the desired {@link SNIServerName}s.
 		 * Note: This configuration is applicable only when configuring the client.
@@ -215,6 +237,78 @@ public final class SslProvider {
 		 */
 		Builder serverNames(SNIServerName... serverNames);
 
+		/**
+		 * Sets the maximum number of SSL sessions kept in the session cache of the underlying {@link SslContext}.
+		 * The cache is shared by all connections created with this {@link SslProvider}, including connections
+		 * that belong to different connection pools. On the client, the sessions are keyed by the remote peer
+		 * host and port, so that a new connection to an already known peer resumes the session with an
+		 * abbreviated handshake instead of a full handshake.
+		 * By default, the session cache size of the underlying SSL implementation is used.
+		 * <p><strong>Note:</strong> This configuration is applicable only when the {@link SslContext} is built
+		 * from a {@link GenericSslContextSpec}, a {@link SslContext} provided with {@link #sslContext(SslContext)}
+		 * is not modified.
+		 *
+		 * @param sessionCacheSize the maximum number of cached sessions, {@code 0} means no limit
+		 * @return {@literal this}
+		 * @since 1.3.0
+		 */
+		Builder sessionCacheSize(int sessionCacheSize);
+
+		/**
+		 * Sets the timeout after which a cached SSL session cannot be resumed anymore.
+		 * By default, the session timeout of the underlying SSL implementation is used.
+		 * <p><strong>Note:</strong> This configuration is applicable only when the {@link SslContext} is built
+		 * from a {@link GenericSslContextSpec}, a {@link SslContext} provided with {@link #sslContext(SslContext)}
+		 * is not modified.
+		 *
+		 * @param sessionTimeout the session timeout, {@link Duration#ZERO} means no limit
+		 * @return {@literal this}
+		 * @since 1.3.0
+		 */
+		Builder sessionTimeout(Duration sessionTimeout);
+
+		/**
+		 * Enables stateless session resumption with TLS session tickets.
+		 * When the {@code OpenSSL} provider is used, the session ticket keys are generated and rotated by
+		 * the native library. When the {@code JDK} provider is used, the session tickets are controlled with
+		 * the {@code jdk.tls.server.enableSessionTicketExtension} system property.
+		 * Default to {@code false}.
+		 * <p><strong>Note:</strong> This configuration is applicable only when configuring the server and only when
+		 * the {@link SslContext} is built from a {@link GenericSslContextSpec}.
+		 *
+		 * @param sessionTickets {@code true} to enable the TLS session tickets
+		 * @return {@literal this}
+		 * @since 1.3.0
+		 */
+		Builder sessionTickets(boolean sessionTickets);
+
+		/**
+		 * Sets the {@link Executor} that runs the delegated tasks of the TLS handshake, i.e. the expensive
+		 * cryptographic operations, instead of the event loop of the channel.
+		 * Using a dedicated bounded {@link Executor} keeps the event loops responsive for the established
+		 * connections when many handshakes happen at the same time.
+		 * <p><strong>Note:</strong> When the {@code OpenSSL} provider is used, the handshake runs delegated tasks
+		 * only when {@code OpenSslContextOption.USE_TASKS} is enabled on the {@link SslContextBuilder}.
+		 *
+		 * @param handshakeExecutor the {@link Executor} that runs the delegated tasks of the TLS handshake
+		 * @return {@literal this}
+		 * @since 1.3.0
+		 */
+		Builder handshakeExecutor(Executor handshakeExecutor);
+
+		/**
+		 * Limits the number of the TLS handshakes that are in progress at the same time.
+		 * The excess handshakes wait in a bounded queue, the connections are not read until a handshake can start,
+		 * so the time spent in the queue counts towards the handshake timeout. When the queue is full,
+		 * the connection is closed.
+		 * <p><strong>Note:</strong> This configuration is applicable only when configuring the server.
+		 *
+		 * @param handshakeConcurrencySpec a callback for configuring the limit of the concurrent TLS handshakes
+		 * @return {@literal this}
+		 * @since 1.3.0
+		 */
+		Builder handshakeConcurrency(Consumer<? super HandshakeConcurrencySpec> handshakeConcurrencySpec);
+
 		/**
 		 * Builds new SslProvider.
 		 *
@@ -260,6 +354,97 @@ public final class SslProvider {
 		Builder sslContext(SslContext sslContext);
 	}
 
+	/**
+	 * Configures the limit of the TLS handshakes that are in progress at the same time on the server.
+	 *
+	 * @since 1.3.0
+	 */
+	public interface HandshakeConcurrencySpec {
+
+		/**
+		 * Sets the maximum number of the TLS handshakes that are in progress at the same time.
+		 * Default to no limit.
+		 *
+		 * @param maxConcurrentHandshakes the maximum number of the concurrent TLS handshakes
+		 * @return {@literal this}
+		 */
+		HandshakeConcurrencySpec maxConcurrentHandshakes(int maxConcurrentHandshakes);
+
+		/**
+		 * Sets the maximum number of the TLS handshakes that wait for starting,
+		 * when the maximum number of the concurrent TLS handshakes is reached.
+		 * Default to {@code 0}, the excess handshakes are rejected.
+		 *
+		 * @param maxPendingHandshakes the maximum number of the waiting TLS handshakes
+		 * @return {@literal this}
+		 */
+		HandshakeConcurrencySpec maxPendingHandshakes(int maxPendingHandshakes);
+
+		/**
+		 * Whether to enable metrics to be collected and registered in Micrometer's
+		 * {@link io.micrometer.core.instrument.Metrics#globalRegistry globalRegistry}
+		 * under the name {@link reactor.netty.Metrics#TCP_SERVER_PREFIX}{@code .tls.handshakes}.
+		 * The active, pending and rejected TLS handshakes are recorded. The meters are registered when
+		 * the first server that uses this {@link SslProvider} is bound and are removed when the last one is disposed.
+		 * Default to {@code false}.
+		 *
+		 * @param enable true enables metrics collection; false disables it
+		 * @return {@literal this}
+		 */
+		HandshakeConcurrencySpec metrics(boolean enable);
+	}
+
+	/**
+	 * Configures the cache of the {@link SslProvider}s that are loaded on demand for the {@code SNI} domain names.
+	 *
+	 * @since 1.3.0
+	 */
+	public interface SniMappingsCacheSpec {
+
+		/**
+		 * Sets the maximum number of {@link SslProvider}s kept in the cache.
+		 * When the limit is reached, the least recently used {@link SslProvider} is evicted.
+		 * Default to 1024.
+		 *
+		 * @param maxSize the maximum number of cached {@link SslProvider}s
+		 * @return {@literal this}
+		 */
+		SniMappingsCacheSpec maxSize(int maxSize);
+
+		/**
+		 * Sets the time after which a cached {@link SslProvider} is loaded again. The cached {@link SslProvider}
+		 * is still used while it is being loaded, so that the refresh does not delay the handshake.
+		 * By default, the cached {@link SslProvider}s are not refreshed.
+		 *
+		 * @param refreshAfter the time after which a cached {@link SslProvider} is loaded again
+		 * @return {@literal this}
+		 */
+		SniMappingsCacheSpec refreshAfter(Duration refreshAfter);
+
+		/**
+		 * Sets the time after which a load that has not completed fails, the handshakes waiting for it fail
+		 * and the next handshake for the same domain name starts a new load.
+		 * By default, the handshake timeout of the default {@link SslProvider}.
+		 *
+		 * @param loadTimeout the time after which a load that has not completed fails
+		 * @return {@literal this}
+		 */
+		SniMappingsCacheSpec loadTimeout(Duration loadTimeout);
+
+		/**
+		 * Whether to enable metrics to be collected and registered in Micrometer's
+		 * {@link io.micrometer.core.instrument.Metrics#globalRegistry globalRegistry}
+		 * under the name {@link reactor.netty.Metrics#TCP_SERVER_PREFIX}{@code .sni}.
+		 * Cache hits, cache misses, cache size and load time are recorded. The meters are registered when
+		 * the first server that uses this {@link SslProvider} is bound and are removed when the last one is disposed.
+		 * Default to {@code false}.
+		 *
+		 * @param enable true enables metrics collection; false disables it
+		 * @return {@literal this}
+		 */
+		SniMappingsCacheSpec metrics(boolean enable);
+	}
+
 	/**
 	 * Generic SslContext builder that provides, specific for the protocol, default configuration.
 	 * The default configuration is applied prior any other custom configuration.
@@ -330,6 +515,9 @@ public final class SslProvider {
 	final Map<String, SslProvider>                    confPerDomainName;
 	final @Nullable List<SNIServerName>               serverNames;
 	final @Nullable AsyncMapping<String, SslProvider> sniMappings;
+	final @Nullable Executor                          handshakeExecutor;
+	final @Nullable TlsHandshakeLimiter               handshakeLimiter;
+	final @Nullable BoundServers                      metricsServers;
 
 	SslProvider(SslProvider.Build builder) {
 		this.confPerDomainName = builder.confPerDomainName;
@@ -346,6 +534,8 @@ public final class SslProvider {
 				catch (SSLException e) {
 					throw Exceptions.propagate(e);
 				}
+				// Only the SslContext built by this SslProvider is configured, a provided SslContext is left as is
+				configureSessionContext(sslContext, builder);
 			}
 			else {
 				throw new IllegalArgumentException("Neither SslContextBuilder nor SslContext is specified");
@@ -373,16 +563,23 @@ public final class SslProvider {
 		this.closeNotifyFlushTimeoutMillis = builder.closeNotifyFlushTimeoutMillis;
 		this.closeNotifyReadTimeoutMillis = builder.closeNotifyReadTimeoutMillis;
 		this.builderHashCode = builder.hashCode();
+		this.handshakeExecutor = builder.handshakeExecutor;
+		this.handshakeLimiter = builder.handshakeConcurrencySpec != null ?
+				new TlsHandshakeLimiter(builder.handshakeConcurrencySpec) : null;
 		this.sniMappings = builder.sniMappings;
 		if (!confPerDomainName.isEmpty()) {
 			this.sniProvider = new SniProvider(confPerDomainName, this);
 		}
 		else if (sniMappings != null) {
-			this.sniProvider = new SniProvider(sniMappings, builder.handshakeTimeoutMillis);
+			this.sniProvider = new SniProvider(sniMappings, builder.handshakeTimeoutMillis, builder.handshakeExecutor);
+		}
+		else if (builder.sniMappingsLoader != null) {
+			this.sniProvider = new SniProvider(builder.sniMappingsLoader, builder.sniMappingsCacheSpec, this);
 		}
 		else {
 			this.sniProvider = null;
 		}
+		this.metricsServers = metricsServers(sniProvider, handshakeLimiter);
 	}
 
 	SslProvider(SslProvider from, Consumer<? super SslHandler> handlerConfigurator) {
@@ -404,6 +601,9 @@ public final class SslProvider {
 		this.serverNames = from.serverNames;
 		this.sniMappings = from.sniMappings;
 		this.sniProvider = from.sniProvider;
+		this.handshakeExecutor = from.handshakeExecutor;
+		this.handshakeLimiter = from.handshakeLimiter;
+		this.metricsServers = from.metricsServers;
 	}
 
 	/**
@@ -432,8 +632,12 @@ public final class SslProvider {
 
 	public void addSslHandler(Channel channel, @Nullable SocketAddress remoteAddress, boolean sslDebug) {
 		Objects.requireNonNull(channel, "channel");
+		if (metricsServers != null && sslContext.isServer()) {
+			metricsServers.track(channel);
+		}
 		if (sniProvider != null) {
 			sniProvider.addSniHandler(channel, sslDebug);
+			addHandshakeLimiter(channel.pipeline());
 			return;
 		}
 
@@ -441,15 +645,18 @@ public final class SslProvider {
 
 		if (remoteAddress instanceof InetSocketAddress) {
 			InetSocketAddress sniInfo = (InetSocketAddress) remoteAddress;
-			sslHandler = getSslContext()
-					.newHandler(channel.alloc(), sniInfo.getHostString(), sniInfo.getPort());
+			sslHandler = handshakeExecutor != null ?
+					getSslContext().newHandler(channel.alloc(), sniInfo.getHostString(), sniInfo.getPort(), handshakeExecutor) :
+					getSslContext().newHandler(channel.alloc(), sniInfo.getHostString(), sniInfo.getPort());
 
 			if (log.isDebugEnabled()) {
 				log.debug(format(channel, "SSL enabled using engine {} and SNI {}"), sslHandler.engine(), sniInfo);
 			}
 		}
 		else {
-			sslHandler = getSslContext().newHandler(channel.alloc());
+			sslHandler = handshakeExecutor != null ?
+					getSslContext().newHandler(channel.alloc(), handshakeExecutor) :
+					getSslContext().newHandler(channel.alloc());
 
 			if (log.isDebugEnabled()) {
 				log.debug(format(channel, "SSL enabled using engine {}"), sslHandler.engine());
@@ -470,6 +677,7 @@ public final class SslProvider {
 		}
 
 		addSslReadHandler(pipeline, sslDebug);
+		addHandshakeLimiter(pipeline);
 	}
 
 	@Override
@@ -498,6 +706,74 @@ public final class SslProvider {
 		return builderHashCode;
 	}
 
+	/**
+	 * Returns the tracker of the servers that use the meters of this {@link SslProvider},
+	 * or {@code null} when there are no meters to register.
+	 */
+	static @Nullable BoundServers metricsServers(@Nullable SniProvider sniProvider, @Nullable TlsHandshakeLimiter handshakeLimiter) {
+		if (!reactor.netty.internal.util.Metrics.isMicrometerAvailable()) {
+			return null;
+		}
+		SniProvider.CachingAsyncMapping sniMappingsCache =
+				sniProvider != null && sniProvider.mappings instanceof SniProvider.CachingAsyncMapping &&
+						((SniProvider.CachingAsyncMapping) sniProvider.mappings).metricsEnabled ?
+						(SniProvider.CachingAsyncMapping) sniProvider.mappings : null;
+		TlsHandshakeLimiter limiter = handshakeLimiter != null && handshakeLimiter.metricsEnabled ? handshakeLimiter : null;
+		if (sniMappingsCache == null && limiter == null) {
+			return null;
+		}
+		return new BoundServers(
+				() -> {
+					if (sniMappingsCache != null) {
+						sniMappingsCache.registerMetrics();
+					}
+					if (limiter != null) {
+						limiter.registerMetrics();
+					}
+				},
+				() -> {
+					if (sniMappingsCache != null) {
+						sniMappingsCache.deRegisterMetrics();
+					}
+					if (limiter != null) {
+						limiter.deRegisterMetrics();
+					}
+				});
+	}
+
+	/**
+	 * Adds the limiter right in front of the {@code SslReader}, the limiter must see {@code channelActive} first,
+	 * so that the first read issued by the {@code SslReader}, and thus the handshake, waits for a permit.
+	 */
+	void addHandshakeLimiter(ChannelPipeline pipeline) {
+		if (handshakeLimiter != null && sslContext.isServer()) {
+			pipeline.addBefore(NettyPipeline.SslReader, NettyPipeline.TlsHandshakeLimiter, handshakeLimiter.newHandler());
+		}
+	}
+
+	static void configureSessionContext(SslContext sslContext, SslProvider.Build builder) {
+		if (builder.sessionCacheSize < 0 && builder.sessionTimeoutSeconds < 0 && !builder.sessionTickets) {
+			return;
+		}
+		SSLSessionContext sessionContext = sslContext.sessionContext();
+		if (builder.sessionCacheSize >= 0) {
+			sessionContext.setSessionCacheSize(builder.sessionCacheSize);
+		}
+		if (builder.sessionTimeoutSeconds >= 0) {
+			sessionContext.setSessionTimeout(builder.sessionTimeoutSeconds);
+		}
+		if (builder.sessionTickets && sslContext.isServer()) {
+			if (sessionContext instanceof OpenSslSessionContext) {
+				// No keys provided, the native library generates and rotates the session ticket keys
+				((OpenSslSessionContext) sessionContext).setTicketKeys();
+			}
+			else if (log.isDebugEnabled()) {
+				log.debug("TLS session tickets for {} are controlled with the " +
+						"'jdk.tls.server.enableSessionTicketExtension' system property", sessionContext);
+			}
+		}
+	}
+
 	static void addSslReadHandler(ChannelPipeline pipeline, boolean sslDebug) {
 		if (pipeline.get(NettyPipeline.LoggingHandler) != null) {
 			pipeline.addAfter(NettyPipeline.LoggingHandler, NettyPipeline.SslReader, new SslReadHandler());
@@ -529,6 +805,13 @@ public final class SslProvider {
 		@Nullable List<SNIServerName> serverNames;
 		final Map<String, SslProvider> confPerDomainName = new HashMap<>();
 		@Nullable AsyncMapping<String, SslProvider> sniMappings;
+		int sessionCacheSize = -1;
+		int sessionTimeoutSeconds = -1;
+		boolean sessionTickets;
+		@Nullable Function<String, Mono<SslProvider>> sniMappingsLoader;
+		final SniProvider.CacheSpec sniMappingsCacheSpec = new SniProvider.CacheSpec();
+		@Nullable Executor handshakeExecutor;
+		TlsHandshakeLimiter.@Nullable Spec handshakeConcurrencySpec;
 
 		// SslContextSpec
 
@@ -611,6 +894,7 @@ public final class SslProvider {
 		public Builder addSniMapping(String domainName, Consumer<? super SslContextSpec> sslProviderBuilder) {
 			addInternal(domainName, sslProviderBuilder);
 			this.sniMappings = null;
+			this.sniMappingsLoader = null;
 			return this;
 		}
 
@@ -619,6 +903,7 @@ public final class SslProvider {
 			Objects.requireNonNull(confPerDomainName);
 			confPerDomainName.forEach(this::addInternal);
 			this.sniMappings = null;
+			this.sniMappingsLoader = null;
 			return this;
 		}
 
@@ -628,6 +913,7 @@ public final class SslProvider {
 			this.confPerDomainName.clear();
 			confPerDomainName.forEach(this::addInternal);
 			this.sniMappings = null;
+			this.sniMappingsLoader = null;
 			return this;
 		}
 
@@ -635,6 +921,34 @@ public final class SslProvider {
 		public Builder setSniAsyncMappings(AsyncMapping<String, SslProvider> mappings) {
 			this.sniMappings = Objects.requireNonNull(mappings);
 			this.confPerDomainName.clear();
+			this.sniMappingsLoader = null;
+			return this;
+		}
+
+		@Override
+		public Builder handshakeExecutor(Executor handshakeExecutor) {
+			this.handshakeExecutor = Objects.requireNonNull(handshakeExecutor, "handshakeExecutor");
+			return this;
+		}
+
+		@Override
+		public Builder handshakeConcurrency(Consumer<? super HandshakeConcurrencySpec> handshakeConcurrencySpec) {
+			Objects.requireNonNull(handshakeConcurrencySpec, "handshakeConcurrencySpec");
+			TlsHandshakeLimiter.Spec spec = new TlsHandshakeLimiter.Spec();
+			handshakeConcurrencySpec.accept(spec);
+			this.handshakeConcurrencySpec = spec;
+			return this;
+		}
+
+		@Override
+		public Builder setSniMappingsLoader(Function<String, Mono<SslProvider>> loader,
+				Consumer<? super SniMappingsCacheSpec> cacheSpec) {
+			Objects.requireNonNull(loader, "loader");
+			Objects.requireNonNull(cacheSpec, "cacheSpec");
+			cacheSpec.accept(sniMappingsCacheSpec);
+			this.sniMappingsLoader = loader;
+			this.confPerDomainName.clear();
+			this.sniMappings = null;
 			return this;
 		}
 
@@ -645,6 +959,33 @@ public final class SslProvider {
 			return this;
 		}
 
+		@Override
+		public Builder sessionCacheSize(int sessionCacheSize) {
+			if (sessionCacheSize < 0) {
+				throw new IllegalArgumentException("ssl session cache size must be positive or zero,"
+						+ " was: " + sessionCacheSize);
+			}
+			this.sessionCacheSize = sessionCacheSize;
+			return this;
+		}
+
+		@Override
+		public Builder sessionTimeout(Duration sessionTimeout) {
+			Objects.requireNonNull(sessionTimeout, "sessionTimeout");
+			if (sessionTimeout.isNegative()) {
+				throw new IllegalArgumentException("ssl session timeout must be positive or zero,"
+						+ " was: " + sessionTimeout);
+			}
+			this.sessionTimeoutSeconds = (int) Math.min(sessionTimeout.getSeconds(), Integer.MAX_VALUE);
+			return this;
+		}
+
+		@Override
+		public Builder sessionTickets(boolean sessionTickets) {
+			this.sessionTickets = sessionTickets;
+			return this;
+		}
+
 		@Override
 		public SslProvider build() {
 			return new SslProvider(this);
@@ -662,10 +1003,17 @@ public final class SslProvider {
 			return handshakeTimeoutMillis == build.handshakeTimeoutMillis &&
 					closeNotifyFlushTimeoutMillis == build.closeNotifyFlushTimeoutMillis &&
 					closeNotifyReadTimeoutMillis == build.closeNotifyReadTimeoutMillis &&
+					sessionCacheSize == build.sessionCacheSize &&
+					sessionTimeoutSeconds == build.sessionTimeoutSeconds &&
+					sessionTickets == build.sessionTickets &&
 					Objects.equals(sslContext, build.sslContext) &&
 					Objects.equals(handlerConfigurator, build.handlerConfigurator) &&
 					Objects.equals(serverNames, build.serverNames) &&
 					confPerDomainName.equals(build.confPerDomainName) &&
+					Objects.equals(sniMappingsLoader, build.sniMappingsLoader) &&
+					sniMappingsCacheSpec.equals(build.sniMappingsCacheSpec) &&
+					Objects.equals(handshakeExecutor, build.handshakeExecutor) &&
+					Objects.equals(handshakeConcurrencySpec, build.handshakeConcurrencySpec) &&
 					Objects.equals(genericSslContextSpec, build.genericSslContextSpec);
 		}
 
@@ -678,7 +1026,14 @@ public final class SslProvider {
 			result = 31 * result + Long.hashCode(closeNotifyFlushTimeoutMillis);
 			result = 31 * result + Long.hashCode(closeNotifyReadTimeoutMillis);
 			result = 31 * result + Objects.hashCode(serverNames);
+			result = 31 * result + Integer.hashCode(sessionCacheSize);
+			result = 31 * result + Integer.hashCode(sessionTimeoutSeconds);
+			result = 31 * result + Boolean.hashCode(sessionTickets);
 			result = 31 * result + Objects.hashCode(confPerDomainName);
+			result = 31 * result + Objects.hashCode(sniMappingsLoader);
+			result = 31 * result + sniMappingsCacheSpec.hashCode();
+			result = 31 * result + Objects.hashCode(handshakeExecutor);
+			result = 31 * result + Objects.hashCode(handshakeConcurrencySpec);
 			result = 31 * result + Objects.hashCode(genericSslContextSpec);
 			return result;
 		}
@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.tcp;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.ssl.SslHandshakeCompletionEvent;
+import org.jspecify.annotations.Nullable;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+import static reactor.netty.ReactorNetty.format;
+
+/**
+ * Limits the number of the TLS handshakes that are in progress at the same time on the server.
+ * The excess handshakes wait in a bounded queue, the connections are not read until a handshake can start,
+ * so the time spent in the queue counts towards the handshake timeout. When the queue is full,
+ * the connection is closed.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+final class TlsHandshakeLimiter {
+
+	final int maxConcurrentHandshakes;
+	final int maxPendingHandshakes;
+	final boolean metricsEnabled;
+	final String id;
+
+	final AtomicInteger active = new AtomicInteger();
+	final AtomicInteger pending = new AtomicInteger();
+	final LongAdder rejected = new LongAdder();
+	final Queue<HandshakeLimiterHandler> pendingHandlers = new ConcurrentLinkedQueue<>();
+
+	TlsHandshakeLimiter(Spec spec) {
+		this.maxConcurrentHandshakes = spec.maxConcurrentHandshakes;
+		this.maxPendingHandshakes = spec.maxPendingHandshakes;
+		this.metricsEnabled = spec.metricsEnabled;
+		this.id = Integer.toHexString(System.identityHashCode(this));
+	}
+
+	/**
+	 * Registers the meters of the limiter, invoked when the first server that uses the limiter is bound.
+	 */
+	void registerMetrics() {
+		MicrometerTlsHandshakeLimiterMeterRegistrar.INSTANCE.registerMetrics(id, this);
+	}
+
+	/**
+	 * Removes the meters of the limiter, invoked when the last server that uses the limiter is disposed.
+	 */
+	void deRegisterMetrics() {
+		MicrometerTlsHandshakeLimiterMeterRegistrar.INSTANCE.deRegisterMetrics(id);
+	}
+
+	HandshakeLimiterHandler newHandler() {
+		return new HandshakeLimiterHandler(this);
+	}
+
+	int activeHandshakes() {
+		return active.get();
+	}
+
+	int pendingHandshakes() {
+		return pending.get();
+	}
+
+	long rejectedHandshakes() {
+		return rejected.sum();
+	}
+
+	boolean tryAcquire() {
+		for (;;) {
+			int current = active.get();
+			if (current >= maxConcurrentHandshakes) {
+				return false;
+			}
+			if (active.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	boolean tryEnqueue(HandshakeLimiterHandler handler) {
+		for (;;) {
+			int current = pending.get();
+			if (current >= maxPendingHandshakes) {
+				return false;
+			}
+			if (pending.compareAndSet(current, current + 1)) {
+				pendingHandlers.offer(handler);
+				drain();
+				return true;
+			}
+		}
+	}
+
+	void remove(HandshakeLimiterHandler handler) {
+		if (pendingHandlers.remove(handler)) {
+			pending.decrementAndGet();
+		}
+	}
+
+	void release() {
+		active.decrementAndGet();
+		drain();
+	}
+
+	/**
+	 * Hands over the free permits to the waiting handshakes. Invoked on every release and enqueue,
+	 * so that a permit released concurrently with an enqueue is never lost.
+	 */
+	void drain() {
+		while (!pendingHandlers.isEmpty() && tryAcquire()) {
+			HandshakeLimiterHandler handler = pendingHandlers.poll();
+			if (handler == null) {
+				active.decrementAndGet();
+				return;
+			}
+			pending.decrementAndGet();
+			if (!handler.admit()) {
+				// The connection was closed while waiting
+				active.decrementAndGet();
+			}
+		}
+	}
+
+	static final class Spec implements SslProvider.HandshakeConcurrencySpec {
+
+		int maxConcurrentHandshakes = Integer.MAX_VALUE;
+		int maxPendingHandshakes;
+		boolean metricsEnabled;
+
+		@Override
+		public SslProvider.HandshakeConcurrencySpec maxConcurrentHandshakes(int maxConcurrentHandshakes) {
+			if (maxConcurrentHandshakes <= 0) {
+				throw new IllegalArgumentException("Max concurrent handshakes must be strictly positive, was: " + maxConcurrentHandshakes);
+			}
+			this.maxConcurrentHandshakes = maxConcurrentHandshakes;
+			return this;
+		}
+
+		@Override
+		public SslProvider.HandshakeConcurrencySpec maxPendingHandshakes(int maxPendingHandshakes) {
+			if (maxPendingHandshakes < 0) {
+				throw new IllegalArgumentException("Max pending handshakes must be positive, was: " + maxPendingHandshakes);
+			}
+			this.maxPendingHandshakes = maxPendingHandshakes;
+			return this;
+		}
+
+		@Override
+		public SslProvider.HandshakeConcurrencySpec metrics(boolean enable) {
+			this.metricsEnabled = enable;
+			return this;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Spec)) {
+				return false;
+			}
+			Spec that = (Spec) o;
+			return maxConcurrentHandshakes == that.maxConcurrentHandshakes &&
+					maxPendingHandshakes == that.maxPendingHandshakes &&
+					metricsEnabled == that.metricsEnabled;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = 1;
+			result = 31 * result + maxConcurrentHandshakes;
+			result = 31 * result + maxPendingHandshakes;
+			result = 31 * result + Boolean.hashCode(metricsEnabled);
+			return result;
+		}
+	}
+
+	/**
+	 * Placed right before the {@code SslReader}, it holds back the {@code channelActive} event, and thus
+	 * the first read issued by the {@code SslReader}, until the handshake is allowed to start.
+	 */
+	static final class HandshakeLimiterHandler extends ChannelInboundHandlerAdapter {
+
+		static final int NEW = 0;
+		static final int PENDING = 1;
+		static final int ACTIVE = 2;
+		static final int DONE = 3;
+
+		final TlsHandshakeLimiter limiter;
+
+		volatile int state;
+		static final AtomicIntegerFieldUpdater<HandshakeLimiterHandler> STATE =
+				AtomicIntegerFieldUpdater.newUpdater(HandshakeLimiterHandler.class, "state");
+
+		@Nullable ChannelHandlerContext ctx;
+
+		HandshakeLimiterHandler(TlsHandshakeLimiter limiter) {
+			this.limiter = limiter;
+		}
+
+		@Override
+		public void handlerAdded(ChannelHandlerContext ctx) {
+			// When the handler is added after channelActive, e.g. after the detection of a non SSL request,
+			// there is nothing to hold back and the handshake is not limited
+			this.ctx = ctx;
+		}
+
+		@Override
+		public void channelActive(ChannelHandlerContext ctx) {
+			if (limiter.tryAcquire()) {
+				state = ACTIVE;
+				ctx.fireChannelActive();
+			}
+			else {
+				state = PENDING;
+				if (!limiter.tryEnqueue(this)) {
+					state = DONE;
+					limiter.rejected.increment();
+					if (log.isDebugEnabled()) {
+						log.debug(format(ctx.channel(), "Too many TLS handshakes in progress, closing the connection"));
+					}
+					ctx.close();
+				}
+				else if (log.isDebugEnabled()) {
+					log.debug(format(ctx.channel(), "Too many TLS handshakes in progress, the handshake is queued"));
+				}
+			}
+		}
+
+		@Override
+		public void channelInactive(ChannelHandlerContext ctx) {
+			releaseOrRemove();
+			ctx.fireChannelInactive();
+		}
+
+		@Override
+		public void handlerRemoved(ChannelHandlerContext ctx) {
+			releaseOrRemove();
+		}
+
+		@Override
+		public void userEventTriggered(ChannelHandlerContext ctx, Object evt) {
+			if (evt instanceof SslHandshakeCompletionEvent) {
+				if (ctx.pipeline().context(this) != null) {
+					ctx.pipeline().remove(this);
+				}
+				else {
+					releaseOrRemove();
+				}
+			}
+			ctx.fireUserEventTriggered(evt);
+		}
+
+		boolean admit() {
+			if (!STATE.compareAndSet(this, PENDING, ACTIVE)) {
+				return false;
+			}
+			ChannelHandlerContext ctx = Objects.requireNonNull(this.ctx);
+			ctx.executor().execute(() -> {
+				if (ctx.channel().isActive()) {
+					ctx.fireChannelActive();
+				}
+			});
+			return true;
+		}
+
+		void releaseOrRemove() {
+			for (;;) {
+				int current = state;
+				if (current == ACTIVE) {
+					if (STATE.compareAndSet(this, ACTIVE, DONE)) {
+						limiter.release();
+						return;
+					}
+				}
+				else if (current == PENDING) {
+					if (STATE.compareAndSet(this, PENDING, DONE)) {
+						limiter.remove(this);
+						return;
+					}
+				}
+				else {
+					state = DONE;
+					return;
+				}
+			}
+		}
+	}
+
+	static final Logger log = Loggers.getLogger(TlsHandshakeLimiter.class);
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.tcp;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.docs.MeterDocumentation;
+
+/**
+ * Meters for the limit of the concurrent TLS handshakes on the server.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+enum TlsHandshakeLimiterMeters implements MeterDocumentation {
+
+	/**
+	 * The number of the TLS handshakes that are in progress.
+	 */
+	ACTIVE_HANDSHAKES {
+		@Override
+		public String getName() {
+			return "reactor.netty.tcp.server.tls.handshakes.active";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return TlsHandshakeLimiterMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.GAUGE;
+		}
+	},
+
+	/**
+	 * The number of the TLS handshakes that wait in the queue.
+	 */
+	PENDING_HANDSHAKES {
+		@Override
+		public String getName() {
+			return "reactor.netty.tcp.server.tls.handshakes.pending";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return TlsHandshakeLimiterMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.GAUGE;
+		}
+	},
+
+	/**
+	 * The number of the connections closed because the queue of the TLS handshakes was full.
+	 */
+	REJECTED_HANDSHAKES {
+		@Override
+		public String getName() {
+			return "reactor.netty.tcp.server.tls.handshakes.rejected";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return TlsHandshakeLimiterMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.COUNTER;
+		}
+	};
+
+	enum TlsHandshakeLimiterMetersTags implements KeyName {
+
+		/**
+		 * ID.
+		 */
+		ID {
+			@Override
+			public String asString() {
+				return "id";
+			}
+		}
+	}
+}
@@ -71,6 +71,16 @@ enum TlsHandshakeObservations implements ObservationDocumentation {
 			}
 		},
 
+		/**
+		 * Reactor Netty TLS session resumption (true when a previously negotiated session was resumed).
+		 */
+		REACTOR_NETTY_TLS_RESUMED {
+			@Override
+			public String asString() {
+				return "reactor.netty.tls.resumed";
+			}
+		},
+
 		/**
 		 * Reactor Netty type (client/server).
 		 */
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.transport;
+
+import java.time.Duration;
+
+/**
+ * Configures the instrumentation of the {@link io.netty.buffer.ByteBufAllocator} of the channels.
+ * A sample of the allocations is attributed to the component, i.e. the channel handler or the class,
+ * that requested the buffer. Only the known Netty and Reactor Netty classes and the configured
+ * {@link #components(String...) components} are reported by name, the other classes are reported as {@code unknown}.
+ * The sampled buffers are tracked until they are released, so that the buffers that are
+ * never released (leaks) and the buffers that are held for a long time are reported per component.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ * @see Transport#allocatorInstrumentation(java.util.function.Consumer)
+ */
+public interface AllocatorInstrumentationSpec {
+
+	/**
+	 * The default sample rate, one of {@value} allocations is sampled.
+	 */
+	int DEFAULT_SAMPLE_RATE = 64;
+
+	/**
+	 * The default time after which a sampled buffer that is not released is reported as long-lived.
+	 */
+	Duration DEFAULT_LONG_LIVED_THRESHOLD = Duration.ofSeconds(30);
+
+	/**
+	 * The default maximum number of the sampled buffers that are tracked at the same time.
+	 */
+	int DEFAULT_MAX_TRACKED_BUFFERS = 1024;
+
+	/**
+	 * One of {@code sampleRate} allocations is sampled. The component that requested a sampled buffer is resolved
+	 * from the stack trace and the number of allocations and the allocated bytes of the component are estimated
+	 * by multiplying the sampled values by the sample rate. By default {@value #DEFAULT_SAMPLE_RATE}.
+	 *
+	 * @param sampleRate the sample rate, {@code 1} samples every allocation
+	 * @return {@literal this}
+	 */
+	AllocatorInstrumentationSpec sampleRate(int sampleRate);
+
+	/**
+	 * The time after which a sampled buffer that is not released is reported as long-lived.
+	 * By default 30 seconds.
+	 *
+	 * @param longLivedThreshold the time after which a sampled buffer that is not released is reported as long-lived
+	 * @return {@literal this}
+	 */
+	AllocatorInstrumentationSpec longLivedThreshold(Duration longLivedThreshold);
+
+	/**
+	 * The maximum number of the sampled buffers that are tracked at the same time. When reached, the sampled
+	 * allocations are still attributed to the component, but the buffers are not tracked.
+	 * By default {@value #DEFAULT_MAX_TRACKED_BUFFERS}.
+	 *
+	 * @param maxTrackedBuffers the maximum number of the sampled buffers that are tracked at the same time,
+	 * {@code 0} disables the leak and the long-lived buffer tracking
+	 * @return {@literal this}
+	 */
+	AllocatorInstrumentationSpec maxTrackedBuffers(int maxTrackedBuffers);
+
+	/**
+	 * The simple names of the top level classes that are reported as components in addition to the known Netty
+	 * and Reactor Netty classes, e.g. the channel handlers of the application. The allocations requested by any other
+	 * class are reported as {@code unknown}, so that the number of the meters stays bounded.
+	 *
+	 * @param components the simple names of the classes that are reported as components
+	 * @return {@literal this}
+	 */
+	AllocatorInstrumentationSpec components(String... components);
+}
@@ -0,0 +1,468 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.transport;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.channel.Channel;
+import reactor.netty.internal.util.MapUtils;
+import reactor.netty.internal.util.Metrics;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link ByteBufAllocator} that delegates the allocations and attributes a sample of them to the component,
+ * i.e. the channel handler or the class, that requested the buffer.
+ * <p>The component is resolved from the stack trace of the sampled allocations only, the other allocations
+ * go directly to the delegate. The component is one of a bounded set of known class names, any other class
+ * is reported as {@value #UNKNOWN_COMPONENT}, so that the number of the meters stays bounded.
+ * The sampled buffers are wrapped in a {@link TrackedByteBuf}, so that their release can be observed,
+ * and are tracked with a weak reference: a tracked buffer that is garbage collected before being released is a leak,
+ * a tracked buffer that is not released after the configured threshold is long-lived.
+ * The composite buffers are not sampled.
+ * <p>The instrumented allocator is shared by the channels that use the same delegate allocator, its meters are removed
+ * when the last of these channels is closed.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+final class InstrumentedByteBufAllocator implements ByteBufAllocator {
+
+	static final String UNKNOWN_COMPONENT = "unknown";
+
+	/**
+	 * The simple names of the Netty and Reactor Netty classes that allocate buffers and are reported as components.
+	 */
+	static final Set<String> DEFAULT_COMPONENTS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+			"AbstractEpollStreamChannel",
+			"AbstractKQueueStreamChannel",
+			"AbstractNioByteChannel",
+			"AbstractNioMessageChannel",
+			"ByteBufFlux",
+			"ByteToMessageDecoder",
+			"ChannelOperations",
+			"DefaultHttp2FrameWriter",
+			"EpollDatagramChannel",
+			"HpackEncoder",
+			"Http2FrameCodec",
+			"HttpClientOperations",
+			"HttpContentEncoder",
+			"HttpObjectAggregator",
+			"HttpObjectDecoder",
+			"HttpObjectEncoder",
+			"HttpOperations",
+			"HttpServerOperations",
+			"JdkZlibDecoder",
+			"JdkZlibEncoder",
+			"KQueueDatagramChannel",
+			"MessageToByteEncoder",
+			"NettyOutbound",
+			"SslHandler",
+			"WebSocket08FrameDecoder",
+			"WebSocket08FrameEncoder")));
+
+	static final AtomicLong ID_GENERATOR = new AtomicLong();
+
+	final ByteBufAllocator delegate;
+	final Set<String> allowedComponents;
+	final String id;
+	final long longLivedThresholdNanos;
+	final int maxTrackedBuffers;
+	final int sampleRate;
+	final Spec spec;
+
+	final ConcurrentMap<String, Component> components = new ConcurrentHashMap<>();
+	final Set<TrackedBuffer> trackedBuffers = ConcurrentHashMap.newKeySet();
+	final AtomicInteger trackedCount = new AtomicInteger();
+	final ReferenceQueue<ByteBuf> collected = new ReferenceQueue<>();
+
+	/**
+	 * The number of the open channels that use the allocator, {@code -1} once the allocator is disposed.
+	 */
+	final AtomicInteger channels = new AtomicInteger();
+
+	InstrumentedByteBufAllocator(ByteBufAllocator delegate, Spec spec) {
+		this.delegate = delegate;
+		this.allowedComponents = spec.components;
+		this.id = Long.toString(ID_GENERATOR.incrementAndGet());
+		this.longLivedThresholdNanos = spec.longLivedThreshold.toNanos();
+		this.maxTrackedBuffers = spec.maxTrackedBuffers;
+		this.sampleRate = spec.sampleRate;
+		this.spec = spec;
+	}
+
+	@Override
+	public ByteBuf buffer() {
+		return sample(delegate.buffer());
+	}
+
+	@Override
+	public ByteBuf buffer(int initialCapacity) {
+		return sample(delegate.buffer(initialCapacity));
+	}
+
+	@Override
+	public ByteBuf buffer(int initialCapacity, int maxCapacity) {
+		return sample(delegate.buffer(initialCapacity, maxCapacity));
+	}
+
+	@Override
+	public ByteBuf ioBuffer() {
+		return sample(delegate.ioBuffer());
+	}
+
+	@Override
+	public ByteBuf ioBuffer(int initialCapacity) {
+		return sample(delegate.ioBuffer(initialCapacity));
+	}
+
+	@Override
+	public ByteBuf ioBuffer(int initialCapacity, int maxCapacity) {
+		return sample(delegate.ioBuffer(initialCapacity, maxCapacity));
+	}
+
+	@Override
+	public ByteBuf heapBuffer() {
+		return sample(delegate.heapBuffer());
+	}
+
+	@Override
+	public ByteBuf heapBuffer(int initialCapacity) {
+		return sample(delegate.heapBuffer(initialCapacity));
+	}
+
+	@Override
+	public ByteBuf heapBuffer(int initialCapacity, int maxCapacity) {
+		return sample(delegate.heapBuffer(initialCapacity, maxCapacity));
+	}
+
+	@Override
+	public ByteBuf directBuffer() {
+		return sample(delegate.directBuffer());
+	}
+
+	@Override
+	public ByteBuf directBuffer(int initialCapacity) {
+		return sample(delegate.directBuffer(initialCapacity));
+	}
+
+	@Override
+	public ByteBuf directBuffer(int initialCapacity, int maxCapacity) {
+		return sample(delegate.directBuffer(initialCapacity, maxCapacity));
+	}
+
+	@Override
+	public CompositeByteBuf compositeBuffer() {
+		return delegate.compositeBuffer();
+	}
+
+	@Override
+	public CompositeByteBuf compositeBuffer(int maxNumComponents) {
+		return delegate.compositeBuffer(maxNumComponents);
+	}
+
+	@Override
+	public CompositeByteBuf compositeHeapBuffer() {
+		return delegate.compositeHeapBuffer();
+	}
+
+	@Override
+	public CompositeByteBuf compositeHeapBuffer(int maxNumComponents) {
+		return delegate.compositeHeapBuffer(maxNumComponents);
+	}
+
+	@Override
+	public CompositeByteBuf compositeDirectBuffer() {
+		return delegate.compositeDirectBuffer();
+	}
+
+	@Override
+	public CompositeByteBuf compositeDirectBuffer(int maxNumComponents) {
+		return delegate.compositeDirectBuffer(maxNumComponents);
+	}
+
+	@Override
+	public boolean isDirectBufferPooled() {
+		return delegate.isDirectBufferPooled();
+	}
+
+	@Override
+	public int calculateNewCapacity(int minNewCapacity, int maxCapacity) {
+		return delegate.calculateNewCapacity(minNewCapacity, maxCapacity);
+	}
+
+	@Override
+	public String toString() {
+		return "InstrumentedByteBufAllocator{delegate=" + delegate + ", sampleRate=" + sampleRate + '}';
+	}
+
+	/**
+	 * Returns the buffer as is when the allocation is not sampled, otherwise attributes the allocation to the component
+	 * that requested it and, when the tracking capacity allows it, wraps the buffer so that its release is tracked.
+	 */
+	ByteBuf sample(ByteBuf buf) {
+		if (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0) {
+			return buf;
+		}
+
+		Component component = component(component(new Throwable().getStackTrace(), allowedComponents));
+		component.allocations.add(sampleRate);
+		component.allocatedBytes.add((long) buf.capacity() * sampleRate);
+
+		pollCollected();
+		if (trackedCount.incrementAndGet() > maxTrackedBuffers) {
+			trackedCount.decrementAndGet();
+			return buf;
+		}
+		return new TrackedByteBuf(this, buf, component);
+	}
+
+	Component component(String name) {
+		return MapUtils.computeIfAbsent(components, name, key -> {
+			Component component = new Component(this, key);
+			if (Metrics.isMicrometerAvailable() && channels.get() >= 0) {
+				MicrometerInstrumentedByteBufAllocatorMeterRegistrar.INSTANCE.registerMetrics(id, component);
+				// The allocator might have been disposed while the meters were registered
+				if (channels.get() < 0) {
+					MicrometerInstrumentedByteBufAllocatorMeterRegistrar.INSTANCE.deRegisterMetrics(id, key);
+				}
+			}
+			return component;
+		});
+	}
+
+	/**
+	 * Starts using the allocator for the given channel, the allocator is released when the channel is closed.
+	 *
+	 * @param channel the channel
+	 * @return {@code false} if the allocator is already disposed and cannot be used anymore
+	 */
+	boolean acquire(Channel channel) {
+		for (;;) {
+			int current = channels.get();
+			if (current < 0) {
+				return false;
+			}
+			if (channels.compareAndSet(current, current + 1)) {
+				channel.closeFuture().addListener(f -> release());
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Disposes the allocator when the last channel that uses it is closed: the allocator is not shared anymore
+	 * and its meters are removed.
+	 */
+	void release() {
+		if (channels.decrementAndGet() == 0 && channels.compareAndSet(0, -1)) {
+			spec.allocators.remove(delegate, this);
+			if (Metrics.isMicrometerAvailable()) {
+				for (Component component : components.values()) {
+					MicrometerInstrumentedByteBufAllocatorMeterRegistrar.INSTANCE.deRegisterMetrics(id, component.name);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Counts the tracked buffers that were garbage collected before being released as leaks.
+	 */
+	void pollCollected() {
+		Reference<? extends ByteBuf> reference;
+		while ((reference = collected.poll()) != null) {
+			TrackedBuffer trackedBuffer = (TrackedBuffer) reference;
+			if (trackedBuffers.remove(trackedBuffer)) {
+				trackedCount.decrementAndGet();
+				trackedBuffer.component.leaks.increment();
+			}
+		}
+	}
+
+	void released(TrackedBuffer trackedBuffer) {
+		if (trackedBuffers.remove(trackedBuffer)) {
+			trackedCount.decrementAndGet();
+		}
+		trackedBuffer.clear();
+	}
+
+	int longLived(Component component) {
+		pollCollected();
+		long now = System.nanoTime();
+		int longLived = 0;
+		for (TrackedBuffer trackedBuffer : trackedBuffers) {
+			if (trackedBuffer.component == component && now - trackedBuffer.allocationNanos >= longLivedThresholdNanos) {
+				longLived++;
+			}
+		}
+		return longLived;
+	}
+
+	/**
+	 * Resolves the component from the first frame that does not belong to the buffer allocation machinery,
+	 * i.e. the allocator, the receive buffer allocator of the channel or the pipeline, and returns the simple name
+	 * of its top level class when it is one of the allowed components, {@value #UNKNOWN_COMPONENT} otherwise.
+	 */
+	static String component(StackTraceElement[] stackTrace, Set<String> allowedComponents) {
+		for (StackTraceElement element : stackTrace) {
+			String className = element.getClassName();
+			if (className.startsWith("io.netty.buffer.") ||
+					className.equals(InstrumentedByteBufAllocator.class.getName()) ||
+					className.startsWith(InstrumentedByteBufAllocator.class.getName() + '$') ||
+					className.equals(TrackedByteBuf.class.getName()) ||
+					className.startsWith("io.netty.channel.AbstractChannelHandlerContext") ||
+					className.startsWith("io.netty.channel.DefaultChannelPipeline") ||
+					className.contains("RecvByteBufAllocator")) {
+				continue;
+			}
+			int start = className.lastIndexOf('.') + 1;
+			int end = className.indexOf('$', start);
+			String component = className.substring(start, end == -1 ? className.length() : end);
+			return allowedComponents.contains(component) ? component : UNKNOWN_COMPONENT;
+		}
+		return UNKNOWN_COMPONENT;
+	}
+
+	static final class Component {
+
+		final InstrumentedByteBufAllocator allocator;
+		final String name;
+
+		final LongAdder allocations = new LongAdder();
+		final LongAdder allocatedBytes = new LongAdder();
+		final LongAdder leaks = new LongAdder();
+
+		Component(InstrumentedByteBufAllocator allocator, String name) {
+			this.allocator = allocator;
+			this.name = name;
+		}
+
+		long allocations() {
+			return allocations.sum();
+		}
+
+		long allocatedBytes() {
+			return allocatedBytes.sum();
+		}
+
+		long leaks() {
+			return leaks.sum();
+		}
+
+		int longLived() {
+			return allocator.longLived(this);
+		}
+	}
+
+	static final class TrackedBuffer extends WeakReference<ByteBuf> {
+
+		final Component component;
+		final long allocationNanos;
+
+		TrackedBuffer(ByteBuf buf, Component component, ReferenceQueue<ByteBuf> queue) {
+			super(buf, queue);
+			this.component = component;
+			this.allocationNanos = System.nanoTime();
+		}
+	}
+
+	static final class Spec implements AllocatorInstrumentationSpec {
+
+		Duration longLivedThreshold = DEFAULT_LONG_LIVED_THRESHOLD;
+		int maxTrackedBuffers = DEFAULT_MAX_TRACKED_BUFFERS;
+		int sampleRate = DEFAULT_SAMPLE_RATE;
+		Set<String> components = DEFAULT_COMPONENTS;
+
+		final ConcurrentMap<ByteBufAllocator, InstrumentedByteBufAllocator> allocators = new ConcurrentHashMap<>();
+
+		@Override
+		public AllocatorInstrumentationSpec sampleRate(int sampleRate) {
+			if (sampleRate <= 0) {
+				throw new IllegalArgumentException("Sample rate must be strictly positive, was: " + sampleRate);
+			}
+			this.sampleRate = sampleRate;
+			return this;
+		}
+
+		@Override
+		public AllocatorInstrumentationSpec longLivedThreshold(Duration longLivedThreshold) {
+			Objects.requireNonNull(longLivedThreshold, "longLivedThreshold");
+			if (longLivedThreshold.isNegative()) {
+				throw new IllegalArgumentException("Long-lived threshold must be positive, was: " + longLivedThreshold);
+			}
+			this.longLivedThreshold = longLivedThreshold;
+			return this;
+		}
+
+		@Override
+		public AllocatorInstrumentationSpec maxTrackedBuffers(int maxTrackedBuffers) {
+			if (maxTrackedBuffers < 0) {
+				throw new IllegalArgumentException("Max tracked buffers must be positive, was: " + maxTrackedBuffers);
+			}
+			this.maxTrackedBuffers = maxTrackedBuffers;
+			return this;
+		}
+
+		@Override
+		public AllocatorInstrumentationSpec components(String... components) {
+			Objects.requireNonNull(components, "components");
+			Set<String> allowed = new HashSet<>(DEFAULT_COMPONENTS);
+			for (String component : components) {
+				allowed.add(Objects.requireNonNull(component, "component"));
+			}
+			this.components = Collections.unmodifiableSet(allowed);
+			return this;
+		}
+
+		/**
+		 * Returns the instrumented allocator for the allocator of the given channel, all channels that use the same
+		 * allocator share the instrumented allocator until the last of them is closed.
+		 */
+		ByteBufAllocator wrap(Channel channel) {
+			ByteBufAllocator alloc = channel.alloc();
+			if (alloc instanceof InstrumentedByteBufAllocator) {
+				InstrumentedByteBufAllocator instrumented = (InstrumentedByteBufAllocator) alloc;
+				if (instrumented.acquire(channel)) {
+					return instrumented;
+				}
+				alloc = instrumented.delegate;
+			}
+			for (;;) {
+				InstrumentedByteBufAllocator instrumented =
+						MapUtils.computeIfAbsent(allocators, alloc, key -> new InstrumentedByteBufAllocator(key, this));
+				if (instrumented.acquire(channel)) {
+					return instrumented;
+				}
+				allocators.remove(alloc, instrumented);
+			}
+		}
+	}
+}
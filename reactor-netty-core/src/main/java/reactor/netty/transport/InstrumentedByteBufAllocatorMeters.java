@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.transport;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.docs.MeterDocumentation;
+
+/**
+ * Meters for the allocations attributed to the components by the instrumented {@link io.netty.buffer.ByteBufAllocator}.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+enum InstrumentedByteBufAllocatorMeters implements MeterDocumentation {
+
+	/**
+	 * The estimated number of the bytes allocated by the component.
+	 */
+	ALLOCATED_BYTES {
+		@Override
+		public String getName() {
+			return "reactor.netty.bytebuf.allocator.component.allocated.bytes";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return InstrumentedByteBufAllocatorMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.COUNTER;
+		}
+	},
+
+	/**
+	 * The estimated number of the buffers allocated by the component.
+	 */
+	ALLOCATIONS {
+		@Override
+		public String getName() {
+			return "reactor.netty.bytebuf.allocator.component.allocations";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return InstrumentedByteBufAllocatorMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.COUNTER;
+		}
+	},
+
+	/**
+	 * The number of the sampled buffers allocated by the component that were garbage collected before being released.
+	 */
+	LEAKS {
+		@Override
+		public String getName() {
+			return "reactor.netty.bytebuf.allocator.component.leaks";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return InstrumentedByteBufAllocatorMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.COUNTER;
+		}
+	},
+
+	/**
+	 * The number of the sampled buffers allocated by the component that are not released after the long-lived threshold.
+	 */
+	LONG_LIVED_BUFFERS {
+		@Override
+		public String getName() {
+			return "reactor.netty.bytebuf.allocator.component.long.lived.buffers";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return InstrumentedByteBufAllocatorMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.GAUGE;
+		}
+	};
+
+	enum InstrumentedByteBufAllocatorMetersTags implements KeyName {
+
+		/**
+		 * Component.
+		 */
+		COMPONENT {
+			@Override
+			public String asString() {
+				return "component";
+			}
+		},
+
+		/**
+		 * ID.
+		 */
+		ID {
+			@Override
+			public String asString() {
+				return "id";
+			}
+		}
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.transport;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tags;
+
+import static reactor.netty.Metrics.REGISTRY;
+import static reactor.netty.transport.InstrumentedByteBufAllocatorMeters.ALLOCATED_BYTES;
+import static reactor.netty.transport.InstrumentedByteBufAllocatorMeters.ALLOCATIONS;
+import static reactor.netty.transport.InstrumentedByteBufAllocatorMeters.InstrumentedByteBufAllocatorMetersTags.COMPONENT;
+import static reactor.netty.transport.InstrumentedByteBufAllocatorMeters.InstrumentedByteBufAllocatorMetersTags.ID;
+import static reactor.netty.transport.InstrumentedByteBufAllocatorMeters.LEAKS;
+import static reactor.netty.transport.InstrumentedByteBufAllocatorMeters.LONG_LIVED_BUFFERS;
+
+/**
+ * Registers and removes counters and gauges for a given {@link InstrumentedByteBufAllocator.Component}.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+final class MicrometerInstrumentedByteBufAllocatorMeterRegistrar {
+
+	static final MicrometerInstrumentedByteBufAllocatorMeterRegistrar INSTANCE = new MicrometerInstrumentedByteBufAllocatorMeterRegistrar();
+
+	private MicrometerInstrumentedByteBufAllocatorMeterRegistrar() {}
+
+	void registerMetrics(String id, InstrumentedByteBufAllocator.Component component) {
+		Tags tags = Tags.of(ID.asString(), id, COMPONENT.asString(), component.name);
+
+		FunctionCounter.builder(ALLOCATIONS.getName(), component, InstrumentedByteBufAllocator.Component::allocations)
+		               .tags(tags)
+		               .register(REGISTRY);
+
+		FunctionCounter.builder(ALLOCATED_BYTES.getName(), component, InstrumentedByteBufAllocator.Component::allocatedBytes)
+		               .tags(tags)
+		               .register(REGISTRY);
+
+		FunctionCounter.builder(LEAKS.getName(), component, InstrumentedByteBufAllocator.Component::leaks)
+		               .tags(tags)
+		               .register(REGISTRY);
+
+		Gauge.builder(LONG_LIVED_BUFFERS.getName(), component, InstrumentedByteBufAllocator.Component::longLived)
+		     .tags(tags)
+		     .register(REGISTRY);
+	}
+
+	void deRegisterMetrics(String id, String component) {
+		Tags tags = Tags.of(ID.asString(), id, COMPONENT.asString(), component);
+
+		REGISTRY.remove(new Meter.Id(ALLOCATIONS.getName(), tags, null, null, Meter.Type.COUNTER));
+		REGISTRY.remove(new Meter.Id(ALLOCATED_BYTES.getName(), tags, null, null, Meter.Type.COUNTER));
+		REGISTRY.remove(new Meter.Id(LEAKS.getName(), tags, null, null, Meter.Type.COUNTER));
+		REGISTRY.remove(new Meter.Id(LONG_LIVED_BUFFERS.getName(), tags, null, null, Meter.Type.GAUGE));
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020-2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2020-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -55,6 +55,7 @@ import reactor.netty.DisposableServer;
 import reactor.netty.FutureMono;
 import reactor.netty.channel.AbortedException;
 import reactor.netty.channel.ChannelOperations;
+import reactor.netty.channel.InboundMemoryBudget;
 import reactor.netty.internal.util.MapUtils;
 import reactor.netty.resources.ConnectionProvider;
 import reactor.netty.resources.LoopResources;
@@ -327,6 +328,27 @@ public abstract class ServerTransport<T extends ServerTransport<T, CONF>,
 		return bindAddress(() -> AddressUtils.updateHost(configuration().bindAddress(), host));
 	}
 
+	/**
+	 * Caps the inbound bytes that are buffered and not yet consumed, per connection and for all connections
+	 * of this server. Each bound server has its own budget. When either budget is exceeded, the reads of the connection
+	 * are paused until both the connection and the server are below half of their budget. The bytes are accounted
+	 * while the messages wait in the receive queue of the connection (or of the HTTP/2 stream) because there is
+	 * no demand, or in the queue of the pipelined HTTP/1.1 requests. When metrics are enabled, the current usage is exposed with a prefix of
+	 * {@code reactor.netty.server.inbound.memory} and the meters are removed when the server is disposed.
+	 * <p>By default the inbound memory is not budgeted.
+	 *
+	 * @param maxConnectionBytes the maximum number of the buffered inbound bytes per connection
+	 * @param maxBytes the maximum number of the buffered inbound bytes for all connections
+	 * @return a new {@link ServerTransport} reference
+	 * @since 1.3.0
+	 */
+	public T inboundMemoryBudget(long maxConnectionBytes, long maxBytes) {
+		InboundMemoryBudget.Spec inboundMemoryBudget = InboundMemoryBudget.spec(maxConnectionBytes, maxBytes);
+		T dup = duplicate();
+		dup.configuration().inboundMemoryBudget = inboundMemoryBudget;
+		return dup;
+	}
+
 	/**
 	 * The port to which this server should bind.
 	 *
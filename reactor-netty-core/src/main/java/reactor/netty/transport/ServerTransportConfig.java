@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020-2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2020-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -34,6 +34,7 @@ import reactor.netty.ChannelPipelineConfigurer;
 import reactor.netty.Connection;
 import reactor.netty.ConnectionObserver;
 import reactor.netty.DisposableServer;
+import reactor.netty.channel.InboundMemoryBudget;
 
 import static reactor.netty.ReactorNetty.format;
 
@@ -118,6 +119,16 @@ public abstract class ServerTransportConfig<CONF extends TransportConfig> extend
 		return doOnUnbound;
 	}
 
+	/**
+	 * Return the configured {@link InboundMemoryBudget.Spec} or null.
+	 *
+	 * @return the configured {@link InboundMemoryBudget.Spec} or null
+	 * @since 1.3.0
+	 */
+	public final InboundMemoryBudget.@Nullable Spec inboundMemoryBudget() {
+		return inboundMemoryBudget;
+	}
+
 
 	// Protected/Package private write API
 
@@ -128,6 +139,7 @@ public abstract class ServerTransportConfig<CONF extends TransportConfig> extend
 	@Nullable Consumer<? super DisposableServer> doOnBound;
 	@Nullable Consumer<? super Connection>       doOnConnection;
 	@Nullable Consumer<? super DisposableServer> doOnUnbound;
+	InboundMemoryBudget.@Nullable Spec           inboundMemoryBudget;
 
 	/**
 	 * Default ServerTransportConfig with options.
@@ -153,6 +165,7 @@ public abstract class ServerTransportConfig<CONF extends TransportConfig> extend
 		this.doOnBound = parent.doOnBound;
 		this.doOnConnection = parent.doOnConnection;
 		this.doOnUnbound = parent.doOnUnbound;
+		this.inboundMemoryBudget = parent.inboundMemoryBudget;
 	}
 
 	@Override
@@ -184,6 +197,12 @@ public abstract class ServerTransportConfig<CONF extends TransportConfig> extend
 
 	@Override
 	protected ChannelPipelineConfigurer defaultOnChannelInit() {
+		InboundMemoryBudget.Spec inboundMemoryBudget = this.inboundMemoryBudget;
+		if (inboundMemoryBudget != null) {
+			boolean metricsEnabled = metricsRecorder() != null;
+			return (connectionObserver, channel, remoteAddress) ->
+					InboundMemoryBudget.of(inboundMemoryBudget, channel, metricsEnabled).addHandler(channel);
+		}
 		return ChannelPipelineConfigurer.emptyConfigurer();
 	}
 
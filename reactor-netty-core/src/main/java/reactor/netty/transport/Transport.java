@@ -19,6 +19,7 @@ import java.net.SocketAddress;
 import java.nio.charset.Charset;
 import java.time.Duration;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import io.netty.buffer.ByteBuf;
@@ -50,6 +51,32 @@ import reactor.util.Loggers;
  */
 public abstract class Transport<T extends Transport<T, C>, C extends TransportConfig> {
 
+	/**
+	 * Instrument the {@link io.netty.buffer.ByteBufAllocator} of the channels, so that a sample of the allocations
+	 * is attributed to the channel handler or the class that requested the buffer, and the sampled buffers that are
+	 * never released or held for a long time are reported. The metrics are registered in Micrometer's
+	 * {@link io.micrometer.core.instrument.Metrics#globalRegistry globalRegistry} with a prefix of
+	 * {@code reactor.netty.bytebuf.allocator.component}.
+	 * <p>By default this is not enabled.
+	 *
+	 * @param allocatorInstrumentationSpec the instrumentation configuration
+	 * @return a new {@link Transport} reference
+	 * @since 1.3.0
+	 */
+	public T allocatorInstrumentation(Consumer<? super AllocatorInstrumentationSpec> allocatorInstrumentationSpec) {
+		Objects.requireNonNull(allocatorInstrumentationSpec, "allocatorInstrumentationSpec");
+		if (!Metrics.isMicrometerAvailable()) {
+			throw new UnsupportedOperationException(
+				"To enable the allocator instrumentation, you must add the dependency `io.micrometer:micrometer-core`" +
+					" to the class path first");
+		}
+		InstrumentedByteBufAllocator.Spec spec = new InstrumentedByteBufAllocator.Spec();
+		allocatorInstrumentationSpec.accept(spec);
+		T dup = duplicate();
+		dup.configuration().allocatorInstrumentation = spec;
+		return dup;
+	}
+
 	/**
 	 * Update the given attribute key or remove it if the value is {@literal null}.
 	 *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020-2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2020-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -195,6 +195,7 @@ public abstract class TransportConfig {
 
 	// Protected/Package private write API
 
+	InstrumentedByteBufAllocator.@Nullable Spec allocatorInstrumentation;
 	Map<AttributeKey<?>, ?>                     attrs;
 	@Nullable Supplier<? extends SocketAddress> bindAddress;
 	@Nullable ChannelGroup                      channelGroup;
@@ -233,6 +234,7 @@ public abstract class TransportConfig {
 	 * Create TransportConfig from an existing one.
 	 */
 	protected TransportConfig(TransportConfig parent) {
+		this.allocatorInstrumentation = parent.allocatorInstrumentation;
 		this.attrs = parent.attrs;
 		this.bindAddress = parent.bindAddress;
 		this.channelGroup = parent.channelGroup;
@@ -383,12 +385,19 @@ public abstract class TransportConfig {
 		protected void initChannel(Channel channel) {
 			ChannelPipeline pipeline = channel.pipeline();
 
+			if (config.allocatorInstrumentation != null) {
+				channel.config().setAllocator(config.allocatorInstrumentation.wrap(channel));
+			}
+
 			if (config.metricsRecorder != null) {
 				ChannelOperations.addMetricsHandler(channel, config.metricsRecorder, remoteAddress, onServer);
 
 				if (Metrics.isMicrometerAvailable()) {
 					try {
 						ByteBufAllocator alloc = channel.alloc();
+						if (alloc instanceof InstrumentedByteBufAllocator) {
+							alloc = ((InstrumentedByteBufAllocator) alloc).delegate;
+						}
 						if (alloc instanceof PooledByteBufAllocator) {
 							ByteBufAllocatorMetrics.INSTANCE.registerMetrics("pooled", ((PooledByteBufAllocator) alloc).metric(), alloc);
 						}
@@ -16,6 +16,9 @@
 package reactor.netty;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.TooLongFrameException;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -27,13 +30,16 @@ import reactor.test.StepVerifier;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -137,6 +143,82 @@ class ByteBufFluxTest {
 		System.out.println(Files.exists(tmpFile));
 	}
 
+	@Test
+	void testAggregateMaxBytes() {
+		AtomicBoolean cancelled = new AtomicBoolean();
+		ByteBufFlux.fromString(Flux.just("123", "456", "789").doOnCancel(() -> cancelled.set(true)))
+		           .aggregate(5)
+		           .as(StepVerifier::create)
+		           .expectError(TooLongFrameException.class)
+		           .verify(Duration.ofSeconds(30));
+		assertThat(cancelled.get()).isTrue();
+
+		ByteBufFlux.fromString(Flux.just("123", "456"))
+		           .aggregate(6)
+		           .asString()
+		           .as(StepVerifier::create)
+		           .expectNext("123456")
+		           .expectComplete()
+		           .verify(Duration.ofSeconds(30));
+	}
+
+	@Test
+	void testAggregateExpectedBytes() {
+		ByteBufFlux.fromString(Flux.just("123", "456"))
+		           .aggregate(6, 10)
+		           .as(StepVerifier::create)
+		           .assertNext(bb -> {
+		               assertThat(bb).isNotInstanceOf(CompositeByteBuf.class);
+		               assertThat(bb.capacity()).isEqualTo(6);
+		               assertThat(bb.toString(Charset.defaultCharset())).isEqualTo("123456");
+		           })
+		           .expectComplete()
+		           .verify(Duration.ofSeconds(30));
+
+		AtomicBoolean subscribed = new AtomicBoolean();
+		ByteBufFlux.fromString(Flux.just("123").doOnSubscribe(s -> subscribed.set(true)))
+		           .aggregate(11, 10)
+		           .as(StepVerifier::create)
+		           .expectError(TooLongFrameException.class)
+		           .verify(Duration.ofSeconds(30));
+		assertThat(subscribed.get()).isFalse();
+
+		ByteBufFlux.fromString(Flux.empty())
+		           .aggregate(6, 10)
+		           .as(StepVerifier::create)
+		           .expectComplete()
+		           .verify(Duration.ofSeconds(30));
+	}
+
+	@Test
+	void testDecodeDelimited() {
+		List<ByteBuf> inbound = new ArrayList<>();
+		Flux<ByteBuf> chunks =
+				Flux.just("{\"a\":1}\n{\"b\"", ":2}\n\n{\"c\":", "3", "}\n{\"d\":4}")
+				    .map(s -> Unpooled.copiedBuffer(s, StandardCharsets.UTF_8))
+				    .doOnNext(inbound::add);
+
+		ByteBufFlux.fromInbound(chunks)
+		           .decodeDelimited((byte) '\n', 16, bb -> bb.toString(StandardCharsets.UTF_8))
+		           .as(StepVerifier::create)
+		           .expectNext("{\"a\":1}", "{\"b\":2}", "{\"c\":3}", "{\"d\":4}")
+		           .expectComplete()
+		           .verify(Duration.ofSeconds(30));
+
+		// The slices of the split messages are released
+		assertThat(inbound).allMatch(bb -> bb.refCnt() == 1);
+		inbound.forEach(ByteBuf::release);
+	}
+
+	@Test
+	void testDecodeDelimitedMaxMessageBytes() {
+		ByteBufFlux.fromString(Flux.just("123", "456", "\n"))
+		           .decodeDelimited((byte) '\n', 5, bb -> bb.toString(Charset.defaultCharset()))
+		           .as(StepVerifier::create)
+		           .expectError(TooLongFrameException.class)
+		           .verify(Duration.ofSeconds(30));
+	}
+
 	private static File createTemporaryDirectory() {
 		try {
 			return Files.createTempDirectory("ByteBufFluxTest").toFile();
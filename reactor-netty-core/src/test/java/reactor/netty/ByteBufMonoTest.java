@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020-2021 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2020-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,15 +15,26 @@
  */
 package reactor.netty;
 
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 class ByteBufMonoTest {
 
 	@Test
@@ -51,6 +62,44 @@ class ByteBufMonoTest {
 		doTestFromString(Mono.just("123"));
 	}
 
+	@ParameterizedTest
+	@ValueSource(strings = {"UTF-8", "UTF-16BE", "UTF-16LE"})
+	void testAsStringFromNioBuffers(String charsetName) {
+		Charset charset = Charset.forName(charsetName);
+		String text = "a\u00e9\u20ac\ud83d\ude00b";
+		byte[] bytes = text.getBytes(charset);
+		// Each character is split between the components
+		CompositeByteBuf composite = Unpooled.compositeBuffer(Integer.MAX_VALUE);
+		for (byte b : bytes) {
+			composite.addComponent(true, Unpooled.directBuffer(1).writeByte(b));
+		}
+		assertThat(composite.nioBufferCount()).isEqualTo(bytes.length);
+
+		try {
+			assertThat(ByteBufMono.decode(composite, charset)).isEqualTo(text);
+			assertThat(composite.isReadable()).isFalse();
+		}
+		finally {
+			composite.release();
+		}
+	}
+
+	@Test
+	void testDecode() {
+		ByteBufFlux.fromString(Flux.just("1", "2", "3"))
+		           .aggregate(Integer.MAX_VALUE)
+		           .decode(bb -> {
+		               assertThat(bb.nioBufferCount()).isEqualTo(3);
+		               try (InputStream in = new ByteBufInputStream(bb)) {
+		                   return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)).readLine();
+		               }
+		           })
+		           .as(StepVerifier::create)
+		           .expectNext("123")
+		           .expectComplete()
+		           .verify(Duration.ofSeconds(30));
+	}
+
 	private void doTestFromString(Publisher<? extends String> source) {
 		StepVerifier.create(ByteBufMono.fromString(source))
 		            .expectNextMatches(b -> {
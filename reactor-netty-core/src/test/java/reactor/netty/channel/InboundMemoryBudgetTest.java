@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.channel;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+import reactor.netty.NettyInbound;
+import reactor.netty.NettyOutbound;
+import reactor.test.subscriber.TestSubscriber;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static reactor.netty.Metrics.REGISTRY;
+import static reactor.netty.channel.InboundMemoryBudgetMeters.InboundMemoryBudgetMetersTags.ID;
+import static reactor.netty.channel.InboundMemoryBudgetMeters.PAUSED_CONNECTIONS;
+import static reactor.netty.channel.InboundMemoryBudgetMeters.PAUSES;
+import static reactor.netty.channel.InboundMemoryBudgetMeters.USED_BYTES;
+
+/**
+ * This test class verifies {@link InboundMemoryBudget}.
+ *
+ * @author Violeta Georgieva
+ */
+class InboundMemoryBudgetTest {
+
+	@Test
+	void testConnectionBudget() {
+		InboundMemoryBudget budget = InboundMemoryBudget.create(100, 1000);
+		EmbeddedChannel channel = new EmbeddedChannel();
+		AtomicInteger reads = new AtomicInteger();
+		budget.addHandler(channel);
+		channel.pipeline().addFirst(new ReadCounter(reads));
+		InboundMemoryBudget.ConnectionBudget connectionBudget = InboundMemoryBudget.connectionBudget(channel);
+		assertThat(connectionBudget).isNotNull();
+
+		ByteBuf first = Unpooled.buffer().writeBytes(new byte[60]);
+		ByteBuf second = Unpooled.buffer().writeBytes(new byte[60]);
+		try {
+			connectionBudget.acquire(first);
+			assertThat(channel.config().isAutoRead()).isTrue();
+
+			connectionBudget.acquire(second);
+			assertThat(connectionBudget.usedBytes()).isEqualTo(120);
+			assertThat(budget.usedBytes()).isEqualTo(120);
+			assertThat(budget.pausedConnections()).isEqualTo(1);
+			assertThat(budget.pauses()).isEqualTo(1);
+			assertThat(channel.config().isAutoRead()).isFalse();
+
+			int current = reads.get();
+			channel.config().setAutoRead(true);
+			channel.read();
+			assertThat(reads.get()).isEqualTo(current);
+
+			connectionBudget.release(first);
+			assertThat(budget.pausedConnections()).isEqualTo(1);
+			assertThat(reads.get()).isEqualTo(current);
+
+			connectionBudget.release(second);
+			assertThat(connectionBudget.usedBytes()).isEqualTo(0);
+			assertThat(budget.usedBytes()).isEqualTo(0);
+			assertThat(budget.pausedConnections()).isEqualTo(0);
+			assertThat(channel.config().isAutoRead()).isTrue();
+			assertThat(reads.get()).isGreaterThan(current);
+		}
+		finally {
+			first.release();
+			second.release();
+			channel.finishAndReleaseAll();
+		}
+	}
+
+	@Test
+	void testServerBudget() {
+		InboundMemoryBudget budget = InboundMemoryBudget.create(100, 100);
+		EmbeddedChannel channel1 = new EmbeddedChannel();
+		EmbeddedChannel channel2 = new EmbeddedChannel();
+		budget.addHandler(channel1);
+		budget.addHandler(channel2);
+		InboundMemoryBudget.ConnectionBudget connectionBudget1 = InboundMemoryBudget.connectionBudget(channel1);
+		InboundMemoryBudget.ConnectionBudget connectionBudget2 = InboundMemoryBudget.connectionBudget(channel2);
+		assertThat(connectionBudget1).isNotNull();
+		assertThat(connectionBudget2).isNotNull();
+
+		ByteBuf first = Unpooled.buffer().writeBytes(new byte[80]);
+		ByteBuf second = Unpooled.buffer().writeBytes(new byte[30]);
+		try {
+			connectionBudget1.acquire(first);
+			assertThat(channel1.config().isAutoRead()).isTrue();
+
+			connectionBudget2.acquire(second);
+			assertThat(budget.usedBytes()).isEqualTo(110);
+			assertThat(channel1.config().isAutoRead()).isTrue();
+			assertThat(channel2.config().isAutoRead()).isFalse();
+
+			connectionBudget1.release(first);
+			channel2.runPendingTasks();
+			assertThat(budget.usedBytes()).isEqualTo(30);
+			assertThat(budget.pausedConnections()).isEqualTo(0);
+			assertThat(channel2.config().isAutoRead()).isTrue();
+
+			channel2.close();
+			assertThat(budget.usedBytes()).isEqualTo(0);
+
+			// The bytes of a closed connection are not accounted anymore
+			connectionBudget2.release(second);
+			assertThat(budget.usedBytes()).isEqualTo(0);
+		}
+		finally {
+			first.release();
+			second.release();
+			channel1.finishAndReleaseAll();
+			channel2.finishAndReleaseAll();
+		}
+	}
+
+	@Test
+	void testFluxReceiveQueue() {
+		InboundMemoryBudget budget = InboundMemoryBudget.create(100, 1000);
+		EmbeddedChannel channel = new EmbeddedChannel();
+		budget.addHandler(channel);
+		ChannelOperations<NettyInbound, NettyOutbound> operations =
+				new ChannelOperations<>(() -> channel, (connection, newState) -> {
+				});
+		FluxReceive receive = new FluxReceive(operations);
+
+		receive.onInboundNext(Unpooled.buffer().writeBytes(new byte[60]));
+		receive.onInboundNext(Unpooled.buffer().writeBytes(new byte[60]));
+		assertThat(budget.usedBytes()).isEqualTo(120);
+		assertThat(budget.pausedConnections()).isEqualTo(1);
+
+		TestSubscriber<Object> subscriber = TestSubscriber.builder().initialRequest(1).build();
+		receive.subscribe(subscriber);
+		assertThat(subscriber.getReceivedOnNext()).hasSize(1);
+		assertThat(budget.usedBytes()).isEqualTo(60);
+		assertThat(budget.pausedConnections()).isEqualTo(1);
+
+		subscriber.request(1);
+		assertThat(subscriber.getReceivedOnNext()).hasSize(2);
+		assertThat(budget.usedBytes()).isEqualTo(0);
+		assertThat(budget.pausedConnections()).isEqualTo(0);
+
+		receive.onInboundComplete();
+		subscriber.block(Duration.ofSeconds(5));
+		channel.finishAndReleaseAll();
+	}
+
+	@Test
+	void testBudgetPerServerChannel() {
+		InboundMemoryBudget.Spec spec = InboundMemoryBudget.spec(100, 1000);
+		// Stands for the server channels, the channels have no parent and are their own server channel
+		EmbeddedChannel firstServer = new EmbeddedChannel();
+		EmbeddedChannel secondServer = new EmbeddedChannel();
+		try {
+			InboundMemoryBudget first = InboundMemoryBudget.of(spec, firstServer, false);
+			assertThat(first.maxConnectionBytes()).isEqualTo(100);
+			assertThat(first.maxBytes()).isEqualTo(1000);
+			assertThat(InboundMemoryBudget.of(spec, firstServer, false)).isSameAs(first);
+			assertThat(InboundMemoryBudget.of(spec, secondServer, false)).isNotSameAs(first);
+		}
+		finally {
+			firstServer.finishAndReleaseAll();
+			secondServer.finishAndReleaseAll();
+		}
+	}
+
+	@Test
+	void testMetricsRemovedWhenServerDisposed() {
+		InboundMemoryBudget.Spec spec = InboundMemoryBudget.spec(100, 1000);
+		EmbeddedChannel server = new EmbeddedChannel();
+		String id = server.id().asShortText();
+
+		InboundMemoryBudget.of(spec, server, true);
+		assertThat(REGISTRY.find(USED_BYTES.getName()).tag(ID.asString(), id).gauge()).isNotNull();
+		assertThat(REGISTRY.find(PAUSED_CONNECTIONS.getName()).tag(ID.asString(), id).gauge()).isNotNull();
+		assertThat(REGISTRY.find(PAUSES.getName()).tag(ID.asString(), id).functionCounter()).isNotNull();
+
+		server.finishAndReleaseAll();
+		assertThat(REGISTRY.find(USED_BYTES.getName()).tag(ID.asString(), id).gauge()).isNull();
+		assertThat(REGISTRY.find(PAUSED_CONNECTIONS.getName()).tag(ID.asString(), id).gauge()).isNull();
+		assertThat(REGISTRY.find(PAUSES.getName()).tag(ID.asString(), id).functionCounter()).isNull();
+	}
+
+	@Test
+	void testMetricsNotRegisteredWhenDisabled() {
+		InboundMemoryBudget.Spec spec = InboundMemoryBudget.spec(100, 1000);
+		EmbeddedChannel server = new EmbeddedChannel();
+		try {
+			InboundMemoryBudget.of(spec, server, false);
+			assertThat(REGISTRY.find(USED_BYTES.getName()).tag(ID.asString(), server.id().asShortText()).gauge()).isNull();
+		}
+		finally {
+			server.finishAndReleaseAll();
+		}
+	}
+
+	@Test
+	void testSpecValidation() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> InboundMemoryBudget.spec(0, 100));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> InboundMemoryBudget.spec(100, 10));
+	}
+
+	static final class ReadCounter extends ChannelOutboundHandlerAdapter {
+
+		final AtomicInteger reads;
+
+		ReadCounter(AtomicInteger reads) {
+			this.reads = reads;
+		}
+
+		@Override
+		public void read(ChannelHandlerContext ctx) throws Exception {
+			reads.incrementAndGet();
+			super.read(ctx);
+		}
+	}
+}
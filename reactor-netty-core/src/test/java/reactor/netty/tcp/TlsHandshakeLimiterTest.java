@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.tcp;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslHandshakeCompletionEvent;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import io.netty.handler.ssl.util.SelfSignedCertificate;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.DisposableServer;
+
+import java.net.Socket;
+import java.security.cert.CertificateException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static reactor.netty.Metrics.REGISTRY;
+import static reactor.netty.tcp.TlsHandshakeLimiterMeters.ACTIVE_HANDSHAKES;
+import static reactor.netty.tcp.TlsHandshakeLimiterMeters.PENDING_HANDSHAKES;
+import static reactor.netty.tcp.TlsHandshakeLimiterMeters.REJECTED_HANDSHAKES;
+import static reactor.netty.tcp.TlsHandshakeLimiterMeters.TlsHandshakeLimiterMetersTags.ID;
+
+/**
+ * This test class verifies {@link TlsHandshakeLimiter}.
+ *
+ * @author Violeta Georgieva
+ */
+class TlsHandshakeLimiterTest {
+
+	static SelfSignedCertificate ssc;
+
+	@BeforeAll
+	static void createSelfSignedCertificate() throws CertificateException {
+		ssc = new SelfSignedCertificate();
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = {false, true})
+	void handshakesAreLimitedByTheServer(boolean wiretap) throws Exception {
+		SslContext serverCtx = SslContextBuilder.forServer(ssc.certificate(), ssc.privateKey()).build();
+		SslContext clientCtx = SslContextBuilder.forClient().trustManager(InsecureTrustManagerFactory.INSTANCE).build();
+		SslProvider provider =
+				SslProvider.builder()
+				           .sslContext(serverCtx)
+				           .handshakeConcurrency(spec -> spec.maxConcurrentHandshakes(1))
+				           .build();
+		TlsHandshakeLimiter limiter = provider.handshakeLimiter;
+		assertThat(limiter).isNotNull();
+
+		DisposableServer server =
+				TcpServer.create()
+				         .host("localhost")
+				         .port(0)
+				         .wiretap(wiretap)
+				         .secure(provider)
+				         .handle((in, out) -> out.sendString(Mono.just("hello")))
+				         .bindNow();
+
+		TcpClient client =
+				TcpClient.create()
+				         .remoteAddress(server::address)
+				         .wiretap(wiretap)
+				         .secure(spec -> spec.sslContext(clientCtx));
+		try {
+			// The connection never sends a ClientHello, so it keeps the only handshake permit
+			try (Socket socket = new Socket("localhost", server.port())) {
+				await().atMost(5, TimeUnit.SECONDS)
+				       .until(() -> limiter.activeHandshakes() == 1);
+
+				assertThatThrownBy(() -> receive(client)).isNotNull();
+				assertThat(limiter.rejectedHandshakes()).isEqualTo(1);
+			}
+
+			await().atMost(5, TimeUnit.SECONDS)
+			       .until(() -> limiter.activeHandshakes() == 0);
+
+			assertThat(receive(client)).isEqualTo("hello");
+			await().atMost(5, TimeUnit.SECONDS)
+			       .until(() -> limiter.activeHandshakes() == 0);
+		}
+		finally {
+			server.disposeNow();
+		}
+	}
+
+	@Test
+	void excessHandshakesAreQueuedThenRejected() {
+		TlsHandshakeLimiter.Spec spec = new TlsHandshakeLimiter.Spec();
+		spec.maxConcurrentHandshakes(1).maxPendingHandshakes(1);
+		TlsHandshakeLimiter limiter = new TlsHandshakeLimiter(spec);
+
+		ActiveRecorder first = new ActiveRecorder();
+		EmbeddedChannel firstChannel = new EmbeddedChannel(limiter.newHandler(), first);
+		assertThat(first.active).isTrue();
+
+		ActiveRecorder second = new ActiveRecorder();
+		EmbeddedChannel secondChannel = new EmbeddedChannel(limiter.newHandler(), second);
+		assertThat(second.active).isFalse();
+
+		ActiveRecorder third = new ActiveRecorder();
+		EmbeddedChannel thirdChannel = new EmbeddedChannel(limiter.newHandler(), third);
+		assertThat(third.active).isFalse();
+		assertThat(thirdChannel.isOpen()).isFalse();
+
+		assertThat(limiter.activeHandshakes()).isEqualTo(1);
+		assertThat(limiter.pendingHandshakes()).isEqualTo(1);
+		assertThat(limiter.rejectedHandshakes()).isEqualTo(1);
+
+		firstChannel.pipeline().fireUserEventTriggered(SslHandshakeCompletionEvent.SUCCESS);
+		secondChannel.runPendingTasks();
+		assertThat(second.active).isTrue();
+		assertThat(limiter.activeHandshakes()).isEqualTo(1);
+		assertThat(limiter.pendingHandshakes()).isEqualTo(0);
+
+		secondChannel.close();
+		assertThat(limiter.activeHandshakes()).isEqualTo(0);
+
+		firstChannel.finishAndReleaseAll();
+		secondChannel.finishAndReleaseAll();
+		thirdChannel.finishAndReleaseAll();
+	}
+
+	@Test
+	void closedPendingConnectionReleasesItsPlace() {
+		TlsHandshakeLimiter.Spec spec = new TlsHandshakeLimiter.Spec();
+		spec.maxConcurrentHandshakes(1).maxPendingHandshakes(1);
+		TlsHandshakeLimiter limiter = new TlsHandshakeLimiter(spec);
+
+		EmbeddedChannel firstChannel = new EmbeddedChannel(limiter.newHandler(), new ActiveRecorder());
+		EmbeddedChannel secondChannel = new EmbeddedChannel(limiter.newHandler(), new ActiveRecorder());
+		assertThat(limiter.pendingHandshakes()).isEqualTo(1);
+
+		secondChannel.close();
+		assertThat(limiter.pendingHandshakes()).isEqualTo(0);
+
+		firstChannel.close();
+		assertThat(limiter.activeHandshakes()).isEqualTo(0);
+
+		firstChannel.finishAndReleaseAll();
+		secondChannel.finishAndReleaseAll();
+	}
+
+	@Test
+	void metricsRemovedWhenLastServerDisposed() {
+		TlsHandshakeLimiter.Spec spec = new TlsHandshakeLimiter.Spec();
+		spec.maxConcurrentHandshakes(1).metrics(true);
+		TlsHandshakeLimiter limiter = new TlsHandshakeLimiter(spec);
+		BoundServers servers = SslProvider.metricsServers(null, limiter);
+		assertThat(servers).isNotNull();
+
+		// Stands for the server channels, the channels have no parent and are tracked themselves
+		EmbeddedChannel firstServer = new EmbeddedChannel();
+		EmbeddedChannel secondServer = new EmbeddedChannel();
+		servers.track(firstServer);
+		servers.track(secondServer);
+		assertThat(REGISTRY.find(ACTIVE_HANDSHAKES.getName()).tag(ID.asString(), limiter.id).gauge()).isNotNull();
+
+		firstServer.finishAndReleaseAll();
+		assertThat(REGISTRY.find(ACTIVE_HANDSHAKES.getName()).tag(ID.asString(), limiter.id).gauge()).isNotNull();
+
+		secondServer.finishAndReleaseAll();
+		assertThat(REGISTRY.find(ACTIVE_HANDSHAKES.getName()).tag(ID.asString(), limiter.id).gauge()).isNull();
+		assertThat(REGISTRY.find(PENDING_HANDSHAKES.getName()).tag(ID.asString(), limiter.id).gauge()).isNull();
+		assertThat(REGISTRY.find(REJECTED_HANDSHAKES.getName()).tag(ID.asString(), limiter.id).functionCounter()).isNull();
+	}
+
+	static String receive(TcpClient client) {
+		Connection connection = client.connectNow(Duration.ofSeconds(5));
+		try {
+			return connection.inbound()
+			                 .receive()
+			                 .aggregate()
+			                 .asString()
+			                 .block(Duration.ofSeconds(5));
+		}
+		finally {
+			connection.disposeNow();
+		}
+	}
+
+	static final class ActiveRecorder extends ChannelInboundHandlerAdapter {
+
+		boolean active;
+
+		@Override
+		public void channelActive(ChannelHandlerContext ctx) {
+			active = true;
+			ctx.fireChannelActive();
+		}
+	}
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.transport;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static reactor.netty.Metrics.REGISTRY;
+import static reactor.netty.transport.InstrumentedByteBufAllocatorMeters.ALLOCATIONS;
+import static reactor.netty.transport.InstrumentedByteBufAllocatorMeters.InstrumentedByteBufAllocatorMetersTags.ID;
+
+/**
+ * This test class verifies {@link InstrumentedByteBufAllocator}.
+ *
+ * @author Violeta Georgieva
+ */
+class InstrumentedByteBufAllocatorTest {
+
+	static final String TEST_COMPONENT = "InstrumentedByteBufAllocatorTest";
+
+	@Test
+	void testSampledAllocationIsAttributedAndTracked() {
+		InstrumentedByteBufAllocator alloc = allocator(spec().sampleRate(1), PooledByteBufAllocator.DEFAULT);
+
+		ByteBuf heap = alloc.heapBuffer(16);
+		ByteBuf direct = alloc.directBuffer(32);
+		try {
+			assertThat(heap).isInstanceOf(TrackedByteBuf.class);
+			assertThat(heap.alloc()).isSameAs(alloc);
+			assertThat(heap.unwrap().alloc()).isSameAs(PooledByteBufAllocator.DEFAULT);
+			assertThat(direct).isInstanceOf(TrackedByteBuf.class);
+			assertThat(direct.isDirect()).isTrue();
+			assertThat(direct.unwrap().alloc()).isSameAs(PooledByteBufAllocator.DEFAULT);
+			assertThat(alloc.trackedCount.get()).isEqualTo(2);
+
+			InstrumentedByteBufAllocator.Component component = alloc.components.get(TEST_COMPONENT);
+			assertThat(component).isNotNull();
+			assertThat(component.allocations()).isEqualTo(2);
+			assertThat(component.allocatedBytes()).isEqualTo(48);
+
+			direct.writeBytes(new byte[64]);
+			assertThat(direct.readableBytes()).isEqualTo(64);
+		}
+		finally {
+			heap.release();
+			direct.release();
+		}
+
+		assertThat(alloc.trackedCount.get()).isEqualTo(0);
+		assertThat(alloc.trackedBuffers).isEmpty();
+	}
+
+	@Test
+	void testReleaseThroughDerivedBuffers() {
+		InstrumentedByteBufAllocator alloc = allocator(spec().sampleRate(1), PooledByteBufAllocator.DEFAULT);
+
+		ByteBuf buf = alloc.buffer(16).writeLong(1).writeLong(2);
+		ByteBuf retained = buf.retainedSlice(0, 8);
+		assertThat(retained).isInstanceOf(TrackedByteBuf.class);
+		assertThat(retained.readLong()).isEqualTo(1);
+
+		buf.release();
+		assertThat(alloc.trackedCount.get()).isEqualTo(1);
+
+		retained.release();
+		assertThat(buf.refCnt()).isEqualTo(0);
+		assertThat(alloc.trackedCount.get()).isEqualTo(0);
+
+		buf = alloc.buffer(16).writeLong(1).writeLong(2);
+		ByteBuf slice = buf.readSlice(8);
+		assertThat(slice).isInstanceOf(TrackedByteBuf.class);
+		assertThat(slice.unwrap()).isSameAs(buf);
+
+		slice.release();
+		assertThat(buf.refCnt()).isEqualTo(0);
+		assertThat(alloc.trackedCount.get()).isEqualTo(0);
+	}
+
+	@Test
+	void testLongLivedBuffers() {
+		InstrumentedByteBufAllocator alloc = allocator(spec().sampleRate(1).longLivedThreshold(Duration.ZERO),
+				UnpooledByteBufAllocator.DEFAULT);
+
+		ByteBuf buf = alloc.buffer();
+		InstrumentedByteBufAllocator.Component component = alloc.components.get(TEST_COMPONENT);
+		assertThat(component).isNotNull();
+		assertThat(component.longLived()).isEqualTo(1);
+
+		buf.release();
+		assertThat(component.longLived()).isEqualTo(0);
+		assertThat(component.leaks()).isEqualTo(0);
+	}
+
+	@Test
+	void testLeaks() {
+		InstrumentedByteBufAllocator alloc = allocator(spec().sampleRate(1), UnpooledByteBufAllocator.DEFAULT);
+
+		ByteBuf buf = alloc.heapBuffer(16);
+		InstrumentedByteBufAllocator.Component component = alloc.components.get(TEST_COMPONENT);
+		assertThat(component).isNotNull();
+		try {
+			// Stands for the garbage collection of the buffer before being released
+			assertThat(((TrackedByteBuf) buf).trackedBuffer.enqueue()).isTrue();
+			alloc.pollCollected();
+
+			assertThat(component.leaks()).isEqualTo(1);
+			assertThat(alloc.trackedCount.get()).isEqualTo(0);
+		}
+		finally {
+			buf.release();
+		}
+		assertThat(component.leaks()).isEqualTo(1);
+	}
+
+	@Test
+	void testMaxTrackedBuffers() {
+		InstrumentedByteBufAllocator alloc = allocator(spec().sampleRate(1).maxTrackedBuffers(0),
+				PooledByteBufAllocator.DEFAULT);
+
+		ByteBuf buf = alloc.heapBuffer(16);
+		try {
+			assertThat(buf).isNotInstanceOf(TrackedByteBuf.class);
+			assertThat(alloc.trackedCount.get()).isEqualTo(0);
+
+			InstrumentedByteBufAllocator.Component component = alloc.components.get(TEST_COMPONENT);
+			assertThat(component).isNotNull();
+			assertThat(component.allocations()).isEqualTo(1);
+		}
+		finally {
+			buf.release();
+		}
+	}
+
+	@Test
+	void testUnknownComponent() {
+		InstrumentedByteBufAllocator alloc = allocator(new InstrumentedByteBufAllocator.Spec().sampleRate(1),
+				UnpooledByteBufAllocator.DEFAULT);
+
+		ByteBuf buf = alloc.heapBuffer(16);
+		try {
+			assertThat(alloc.components).containsOnlyKeys(InstrumentedByteBufAllocator.UNKNOWN_COMPONENT);
+		}
+		finally {
+			buf.release();
+		}
+	}
+
+	@Test
+	void testComponent() {
+		StackTraceElement[] stackTrace = new StackTraceElement[] {
+				new StackTraceElement("io.netty.buffer.AbstractByteBufAllocator", "ioBuffer", null, 1),
+				new StackTraceElement(InstrumentedByteBufAllocator.class.getName(), "ioBuffer", null, 1),
+				new StackTraceElement("io.netty.channel.DefaultMaxMessagesRecvByteBufAllocator$MaxMessageHandle", "allocate", null, 1),
+				new StackTraceElement("io.netty.channel.nio.AbstractNioByteChannel$NioByteUnsafe", "read", null, 1)};
+		assertThat(InstrumentedByteBufAllocator.component(stackTrace, InstrumentedByteBufAllocator.DEFAULT_COMPONENTS))
+				.isEqualTo("AbstractNioByteChannel");
+
+		stackTrace = new StackTraceElement[] {
+				new StackTraceElement("io.netty.buffer.AbstractByteBufAllocator", "buffer", null, 1),
+				new StackTraceElement("io.netty.channel.AbstractChannelHandlerContext", "alloc", null, 1),
+				new StackTraceElement("io.netty.handler.codec.http.HttpObjectEncoder", "encode", null, 1)};
+		assertThat(InstrumentedByteBufAllocator.component(stackTrace, InstrumentedByteBufAllocator.DEFAULT_COMPONENTS))
+				.isEqualTo("HttpObjectEncoder");
+
+		stackTrace = new StackTraceElement[] {
+				new StackTraceElement("io.netty.buffer.AbstractByteBufAllocator", "buffer", null, 1),
+				new StackTraceElement("com.example.MyHandler$1", "run", null, 1)};
+		assertThat(InstrumentedByteBufAllocator.component(stackTrace, InstrumentedByteBufAllocator.DEFAULT_COMPONENTS))
+				.isEqualTo(InstrumentedByteBufAllocator.UNKNOWN_COMPONENT);
+		assertThat(InstrumentedByteBufAllocator.component(stackTrace, Collections.singleton("MyHandler")))
+				.isEqualTo("MyHandler");
+
+		assertThat(InstrumentedByteBufAllocator.component(new StackTraceElement[0], InstrumentedByteBufAllocator.DEFAULT_COMPONENTS))
+				.isEqualTo(InstrumentedByteBufAllocator.UNKNOWN_COMPONENT);
+	}
+
+	@Test
+	void testWrap() {
+		InstrumentedByteBufAllocator.Spec spec = new InstrumentedByteBufAllocator.Spec();
+		EmbeddedChannel first = channel(PooledByteBufAllocator.DEFAULT);
+		EmbeddedChannel second = channel(PooledByteBufAllocator.DEFAULT);
+		EmbeddedChannel third = channel(UnpooledByteBufAllocator.DEFAULT);
+
+		ByteBufAllocator alloc = spec.wrap(first);
+		assertThat(alloc).isInstanceOf(InstrumentedByteBufAllocator.class);
+		assertThat(spec.wrap(second)).isSameAs(alloc);
+		assertThat(spec.wrap(third)).isNotSameAs(alloc);
+
+		first.finishAndReleaseAll();
+		assertThat(spec.allocators).containsValue((InstrumentedByteBufAllocator) alloc);
+
+		second.finishAndReleaseAll();
+		assertThat(spec.allocators).doesNotContainValue((InstrumentedByteBufAllocator) alloc);
+		assertThat(spec.wrap(channel(PooledByteBufAllocator.DEFAULT))).isNotSameAs(alloc);
+
+		third.finishAndReleaseAll();
+	}
+
+	@Test
+	void testMetricsRemovedWhenLastChannelClosed() {
+		InstrumentedByteBufAllocator.Spec spec = spec();
+		spec.sampleRate(1);
+		EmbeddedChannel first = channel(UnpooledByteBufAllocator.DEFAULT);
+		EmbeddedChannel second = channel(UnpooledByteBufAllocator.DEFAULT);
+		InstrumentedByteBufAllocator alloc = (InstrumentedByteBufAllocator) spec.wrap(first);
+		assertThat(spec.wrap(second)).isSameAs(alloc);
+
+		alloc.heapBuffer(16).release();
+		assertThat(REGISTRY.find(ALLOCATIONS.getName()).tag(ID.asString(), alloc.id).functionCounter()).isNotNull();
+
+		first.finishAndReleaseAll();
+		assertThat(REGISTRY.find(ALLOCATIONS.getName()).tag(ID.asString(), alloc.id).functionCounter()).isNotNull();
+
+		second.finishAndReleaseAll();
+		assertThat(REGISTRY.find(ALLOCATIONS.getName()).tag(ID.asString(), alloc.id).functionCounter()).isNull();
+	}
+
+	@Test
+	void testSpecValidation() {
+		InstrumentedByteBufAllocator.Spec spec = new InstrumentedByteBufAllocator.Spec();
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> spec.sampleRate(0));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> spec.longLivedThreshold(Duration.ofSeconds(-1)));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> spec.maxTrackedBuffers(-1));
+		assertThatExceptionOfType(NullPointerException.class)
+				.isThrownBy(() -> spec.components((String) null));
+	}
+
+	static InstrumentedByteBufAllocator.Spec spec() {
+		InstrumentedByteBufAllocator.Spec spec = new InstrumentedByteBufAllocator.Spec();
+		spec.components(TEST_COMPONENT);
+		return spec;
+	}
+
+	static InstrumentedByteBufAllocator allocator(AllocatorInstrumentationSpec spec, ByteBufAllocator delegate) {
+		return (InstrumentedByteBufAllocator) ((InstrumentedByteBufAllocator.Spec) spec).wrap(channel(delegate));
+	}
+
+	static EmbeddedChannel channel(ByteBufAllocator alloc) {
+		EmbeddedChannel channel = new EmbeddedChannel();
+		channel.config().setAllocator(alloc);
+		return channel;
+	}
+}
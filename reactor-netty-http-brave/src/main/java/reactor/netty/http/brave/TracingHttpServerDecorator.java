@@ -264,6 +264,17 @@ final class TracingHttpServerDecorator {
 			              null,
 			              t -> cleanup(connection.channel()),
 			              () -> cleanup(connection.channel()));
+			Mono<Void> result = voidMono;
+			// The request is not sampled, the sampling decision has been taken once in handleReceive,
+			// there is nothing to report on completion, but the context still has to be propagated
+			if (!span.isNoop()) {
+				result = recordSpan(voidMono, connection, braveRequest, span);
+			}
+			return result.contextWrite(ctx -> ctx.put(TraceContext.class, span.context())
+			                                     .put(SpanCustomizer.class, span.customizer()));
+		}
+
+		Mono<Void> recordSpan(Mono<Void> voidMono, Connection connection, HttpServerRequest braveRequest, Span span) {
 			// At the point of doFinally the connection might be disposed and there might be no event loop
 			// associated with the disposed connection
 			EventLoop eventLoop = connection.channel().eventLoop();
@@ -282,9 +293,7 @@ final class TracingHttpServerDecorator {
 			                       }
 			                   }
 			               })
-			               .doOnError(this::throwable)
-			               .contextWrite(ctx -> ctx.put(TraceContext.class, span.context())
-			                                       .put(SpanCustomizer.class, span.customizer()));
+			               .doOnError(this::throwable);
 		}
 
 		void throwable(Throwable t) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020-2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2020-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,11 +15,14 @@
  */
 package reactor.netty.http.brave;
 
+import brave.propagation.TraceContext;
 import brave.test.http.ITHttpServer;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.util.concurrent.DefaultEventExecutor;
 import io.netty.util.concurrent.EventExecutor;
+import okhttp3.Request;
+import okhttp3.Response;
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -84,6 +87,11 @@ public class ITTracingHttpServerDecoratorTest extends ITHttpServer {
 				                        res.sendString(Mono.justOrEmpty(req.param("itemId"))
 				                                           .publishOn(Schedulers.boundedElastic())))
 				                .get("/nested/items/{itemId}", (req, res) -> res.sendString(Mono.justOrEmpty(req.param("itemId"))))
+				                .get("/context", (req, res) ->
+				                        res.sendString(Mono.deferContextual(ctx ->
+				                                Mono.just(ctx.getOrEmpty(TraceContext.class)
+				                                             .map(TraceContext::traceIdString)
+				                                             .orElse("none")))))
 				                .get("/child", (req, res) -> {
 				                        httpTracing.tracing()
 				                                   .tracer()
@@ -157,4 +165,21 @@ public class ITTracingHttpServerDecoratorTest extends ITHttpServer {
 
 		assertThat(testSpanHandler.takeRemoteSpanWithErrorTag(SERVER, "414").tags()).containsEntry("error", "414");
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testUnsampledRequestPropagatesContext() throws IOException {
+		String traceId = "463ac35c9f6413ad";
+		Request request = new Request.Builder()
+				.url(url("/context"))
+				.header("X-B3-TraceId", traceId)
+				.header("X-B3-SpanId", traceId)
+				.header("X-B3-Sampled", "0")
+				.build();
+
+		try (Response response = get(request)) {
+			assertThat(response.isSuccessful()).isTrue();
+			assertThat(requireNonNull(response.body()).string()).isEqualTo(traceId);
+		}
+		// The request is not sampled, no span is reported, the strict span handler verifies it on close
+	}
+}
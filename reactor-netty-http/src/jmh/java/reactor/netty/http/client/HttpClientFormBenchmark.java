@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.FileRegion;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.HttpConstants;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpRequestEncoder;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.multipart.DefaultHttpDataFactory;
+import io.netty.handler.codec.http.multipart.HttpPostRequestEncoder;
+import io.netty.handler.stream.ChunkedWriteHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the multipart upload of a file with {@link HttpClientFormEncoder}, that reads the file in chunks
+ * into buffers, and with {@link HttpClientFormFileWriter}, that writes the file as {@link FileRegion}.
+ * The encoded request is written to a file channel, as a socket would do, {@link FileRegion} is transferred
+ * with {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}.
+ *
+ * @author Violeta Georgieva
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class HttpClientFormBenchmark {
+
+	@Param({"16777216"})
+	int fileSize;
+
+	Path file;
+	Path target;
+	FileChannel targetChannel;
+
+	@Setup
+	public void setup() throws IOException {
+		file = Files.createTempFile("upload", ".bin");
+		try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+			raf.setLength(fileSize);
+		}
+		target = Files.createTempFile("target", ".bin");
+		targetChannel = FileChannel.open(target, StandardOpenOption.WRITE);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		targetChannel.close();
+		Files.deleteIfExists(file);
+		Files.deleteIfExists(target);
+	}
+
+	@Benchmark
+	public long encoder() throws Exception {
+		HttpClientFormEncoder encoder = encoder();
+		EmbeddedChannel channel = channel();
+		channel.writeAndFlush(encoder.finalizeRequest());
+		channel.writeAndFlush(encoder);
+		channel.runPendingTasks();
+		return drain(channel);
+	}
+
+	@Benchmark
+	public long fileRegion() throws Exception {
+		HttpClientFormEncoder encoder = encoder();
+		EmbeddedChannel channel = channel();
+		HttpRequest request = encoder.finalizeRequest();
+		HttpClientFormFileWriter writer = HttpClientFormFileWriter.create(channel, HttpVersion.HTTP_1_1, encoder, request);
+		if (writer == null) {
+			throw new IllegalStateException("FileRegion is not supported");
+		}
+		writer.write(request, true);
+		return drain(channel);
+	}
+
+	HttpClientFormEncoder encoder() throws Exception {
+		HttpRequest request = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/");
+		HttpClientFormEncoder encoder = new HttpClientFormEncoder(new DefaultHttpDataFactory(DefaultHttpDataFactory.MINSIZE),
+				request, true, HttpConstants.DEFAULT_CHARSET, HttpPostRequestEncoder.EncoderMode.RFC1738);
+		encoder.attr("name", "value")
+		       .file("file", file.toFile(), "application/octet-stream");
+		return encoder;
+	}
+
+	static EmbeddedChannel channel() {
+		return new EmbeddedChannel(new HttpRequestEncoder(), new ChunkedWriteHandler());
+	}
+
+	long drain(EmbeddedChannel channel) throws IOException {
+		targetChannel.position(0);
+		long written = 0;
+		Object message;
+		while ((message = channel.readOutbound()) != null) {
+			if (message instanceof FileRegion) {
+				FileRegion region = (FileRegion) message;
+				while (region.transferred() < region.count()) {
+					written += region.transferTo(targetChannel, region.transferred());
+				}
+				region.release();
+			}
+			else {
+				ByteBuf buf = (ByteBuf) message;
+				for (ByteBuffer byteBuffer : buf.nioBuffers()) {
+					while (byteBuffer.hasRemaining()) {
+						written += targetChannel.write(byteBuffer);
+					}
+				}
+				buf.release();
+			}
+		}
+		channel.finishAndReleaseAll();
+		return written;
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.netty.transport.AddressUtils;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static reactor.netty.http.server.ConnectionInfo.getDefaultHostPort;
+
+/**
+ * Compares the regular expression based {@code Forwarded}/{@code X-Forwarded-*} parsing
+ * (the implementation before 1.3.0, copied below) with {@link DefaultHttpForwardedHeaderHandler}
+ * and with its per-connection cache.
+ * Run with {@code -prof gc} to see the allocation rate per operation.
+ *
+ * @author Violeta Georgieva
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ForwardedHeaderHandlerBenchmark {
+
+	@Param({"forwarded", "x-forwarded"})
+	String headers;
+
+	ConnectionInfo connectionInfo;
+	HttpRequest request;
+	DefaultHttpForwardedHeaderHandler.ConnectionCache cache;
+
+	@Setup
+	public void setup() {
+		request = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/");
+		request.headers().set("Host", "example.com");
+		if ("forwarded".equals(headers)) {
+			request.headers().set("Forwarded", "for=192.168.0.1:4711;proto=https;host=a.example.com, for=10.0.0.1");
+		}
+		else {
+			request.headers()
+			       .set("X-Forwarded-For", "192.168.0.1, 10.0.0.1")
+			       .set("X-Forwarded-Proto", "https")
+			       .set("X-Forwarded-Host", "a.example.com")
+			       .set("X-Forwarded-Port", "8443");
+		}
+		connectionInfo = ConnectionInfo.from(request, false,
+				AddressUtils.createUnresolved("localhost", 8080), AddressUtils.createUnresolved("127.0.0.1", 50000), null);
+		cache = new DefaultHttpForwardedHeaderHandler.ConnectionCache();
+	}
+
+	@Benchmark
+	public ConnectionInfo regex() {
+		return RegexForwardedHeaderHandler.apply(connectionInfo, request);
+	}
+
+	@Benchmark
+	public ConnectionInfo singlePass() {
+		return DefaultHttpForwardedHeaderHandler.INSTANCE.apply(connectionInfo, request);
+	}
+
+	@Benchmark
+	public ConnectionInfo connectionCache() {
+		return cache.apply(connectionInfo, request);
+	}
+
+	static final class RegexForwardedHeaderHandler {
+
+		static final Pattern FORWARDED_HOST_PATTERN   = Pattern.compile("host=\"?([^;,\"]+)\"?");
+		static final Pattern FORWARDED_PROTO_PATTERN  = Pattern.compile("proto=\"?([^;,\"]+)\"?");
+		static final Pattern FORWARDED_FOR_PATTERN    = Pattern.compile("for=\"?([^;,\"]+)\"?");
+
+		static ConnectionInfo apply(ConnectionInfo connectionInfo, HttpRequest request) {
+			String forwardedHeader = request.headers().get("Forwarded");
+			if (forwardedHeader != null) {
+				String forwarded = forwardedHeader.split(",", 2)[0];
+				Matcher protoMatcher = FORWARDED_PROTO_PATTERN.matcher(forwarded);
+				if (protoMatcher.find()) {
+					connectionInfo = connectionInfo.withScheme(protoMatcher.group(1).trim());
+				}
+				Matcher hostMatcher = FORWARDED_HOST_PATTERN.matcher(forwarded);
+				if (hostMatcher.find()) {
+					connectionInfo = connectionInfo.withHostAddress(
+							AddressUtils.parseAddress(hostMatcher.group(1), getDefaultHostPort(connectionInfo.getScheme()), true));
+				}
+				Matcher forMatcher = FORWARDED_FOR_PATTERN.matcher(forwarded);
+				if (forMatcher.find()) {
+					connectionInfo = connectionInfo.withRemoteAddress(
+							AddressUtils.parseAddress(forMatcher.group(1).trim(), remotePort(connectionInfo), true));
+				}
+				return connectionInfo;
+			}
+
+			String ipHeader = request.headers().get("X-Forwarded-For");
+			if (ipHeader != null) {
+				connectionInfo = connectionInfo.withRemoteAddress(
+						AddressUtils.parseAddress(ipHeader.split(",", 2)[0], remotePort(connectionInfo)));
+			}
+			String protoHeader = request.headers().get("X-Forwarded-Proto");
+			if (protoHeader != null) {
+				connectionInfo = connectionInfo.withScheme(protoHeader.split(",", 2)[0].trim());
+			}
+			String hostHeader = request.headers().get("X-Forwarded-Host");
+			if (hostHeader != null) {
+				connectionInfo = connectionInfo.withHostAddress(
+						AddressUtils.parseAddress(hostHeader.split(",", 2)[0].trim(),
+								getDefaultHostPort(connectionInfo.getScheme()), true));
+			}
+			String portHeader = request.headers().get("X-Forwarded-Port");
+			if (portHeader != null && !portHeader.isEmpty()) {
+				String portStr = portHeader.split(",", 2)[0].trim();
+				if (portStr.chars().allMatch(Character::isDigit)) {
+					int port = Integer.parseInt(portStr);
+					connectionInfo = connectionInfo.withHostAddress(
+							AddressUtils.createUnresolved(((InetSocketAddress) connectionInfo.hostAddress).getHostString(), port),
+							connectionInfo.getHostName(), port);
+				}
+			}
+			return connectionInfo;
+		}
+
+		static int remotePort(ConnectionInfo connectionInfo) {
+			return ((InetSocketAddress) connectionInfo.remoteAddress).getPort();
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a handler with a blocking call invoked on a virtual thread with {@link HttpServer#handleBlocking(BlockingHttpHandler)}
+ * and the same handler shifted with {@code publishOn(Schedulers.boundedElastic())}.
+ * Each operation sends {@code concurrency} requests at once, the blocking call sleeps {@code blockMillis}.
+ * Requires Java 21 or newer.
+ *
+ * @author Violeta Georgieva
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VirtualThreadHandlerBenchmark {
+
+	static final byte[] RESPONSE = "Hello World!".getBytes(StandardCharsets.UTF_8);
+
+	@Param({"1"})
+	int blockMillis;
+
+	@Param({"100", "1000"})
+	int concurrency;
+
+	DisposableServer boundedElasticServer;
+	DisposableServer virtualThreadServer;
+	ConnectionProvider provider;
+	HttpClient boundedElasticClient;
+	HttpClient virtualThreadClient;
+
+	@Setup
+	public void setup() {
+		boundedElasticServer =
+				HttpServer.create()
+				          .port(0)
+				          .handle((req, res) -> res.sendByteArray(
+				                  Mono.fromCallable(() -> {
+				                          Thread.sleep(blockMillis);
+				                          return RESPONSE;
+				                      })
+				                      .subscribeOn(Schedulers.boundedElastic())))
+				          .bindNow();
+		virtualThreadServer =
+				HttpServer.create()
+				          .port(0)
+				          .handleBlocking(exchange -> {
+				              Thread.sleep(blockMillis);
+				              try (OutputStream out = exchange.responseBody()) {
+				                  out.write(RESPONSE);
+				              }
+				          })
+				          .bindNow();
+		provider = ConnectionProvider.builder("benchmark").maxConnections(concurrency).pendingAcquireMaxCount(-1).build();
+		boundedElasticClient = HttpClient.create(provider).port(boundedElasticServer.port());
+		virtualThreadClient = HttpClient.create(provider).port(virtualThreadServer.port());
+	}
+
+	@TearDown
+	public void tearDown() {
+		boundedElasticServer.disposeNow();
+		virtualThreadServer.disposeNow();
+		provider.disposeLater().block();
+	}
+
+	@Benchmark
+	public Integer boundedElastic() {
+		return requests(boundedElasticClient);
+	}
+
+	@Benchmark
+	public Integer virtualThread() {
+		return requests(virtualThreadClient);
+	}
+
+	Integer requests(HttpClient client) {
+		return Flux.range(0, concurrency)
+		           .flatMap(i -> client.get()
+		                               .uri("/")
+		                               .responseSingle((res, bytes) -> bytes.asByteArray())
+		                               .map(bytes -> bytes.length), concurrency)
+		           .reduce(0, Integer::sum)
+		           .block();
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+/**
+ * An error for signalling that a request was rejected without being sent because the limit of
+ * the requests in progress to the remote host was reached.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ * @see HttpClient#concurrencyLimit(java.util.function.Consumer)
+ */
+public final class ConcurrencyLimitExceededException extends RuntimeException {
+
+	ConcurrencyLimitExceededException(String message) {
+		super(message);
+	}
+
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		// omit stacktrace for this exception
+		return this;
+	}
+
+	private static final long serialVersionUID = 4823014710924379104L;
+}
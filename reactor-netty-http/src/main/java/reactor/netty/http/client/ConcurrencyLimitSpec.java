@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import java.time.Duration;
+
+/**
+ * Configures the limit of the requests that are in progress at the same time to each remote host.
+ * The excess requests fail immediately with {@link ConcurrencyLimitExceededException} instead of waiting for
+ * a connection. A request is in progress from its subscription until its response is fully received.
+ * <p>The limit is either fixed or adapted to the measured response latency, the last configured limit wins.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ * @see HttpClient#concurrencyLimit(java.util.function.Consumer)
+ */
+public interface ConcurrencyLimitSpec {
+
+	/**
+	 * Limits the requests in progress to each remote host to a fixed number.
+	 *
+	 * @param maxConcurrentRequests the maximum number of the requests in progress to each remote host
+	 * @return {@literal this}
+	 */
+	ConcurrencyLimitSpec maxConcurrentRequests(int maxConcurrentRequests);
+
+	/**
+	 * Adapts the limit with additive increase/multiplicative decrease. The limit is increased by one when a response
+	 * is received within the latency threshold while at least half of the limit is in use, and is decreased by
+	 * {@code 10%} when a response is received above the latency threshold, with status {@code 429} or {@code 503},
+	 * or the request fails. The limit is decreased at most once per window, the requests that started before
+	 * the last decrease do not decrease it again.
+	 *
+	 * @param initialLimit the initial limit
+	 * @param maxLimit the maximum limit
+	 * @param latencyThreshold the response latency above which the limit is decreased
+	 * @return {@literal this}
+	 */
+	ConcurrencyLimitSpec aimdLimit(int initialLimit, int maxLimit, Duration latencyThreshold);
+
+	/**
+	 * Adapts the limit as TCP Vegas does. The number of the queued requests is estimated from the minimum
+	 * and the measured response latency, the limit increases while few requests are queued and decreases
+	 * when many requests are queued, when a response is received with status {@code 429} or {@code 503},
+	 * or the request fails.
+	 *
+	 * @param initialLimit the initial limit
+	 * @param maxLimit the maximum limit
+	 * @return {@literal this}
+	 */
+	ConcurrencyLimitSpec vegasLimit(int initialLimit, int maxLimit);
+}
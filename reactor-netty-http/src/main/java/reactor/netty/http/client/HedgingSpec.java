@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import java.time.Duration;
+
+/**
+ * Configures the hedging of the idempotent requests, i.e. {@code GET}, {@code HEAD}, {@code OPTIONS}, {@code PUT},
+ * {@code DELETE} and {@code TRACE}. When the response headers of a request are not received within the hedging delay,
+ * a second attempt is sent. It acquires its own connection from the pool, i.e. another connection with HTTP/1.1,
+ * but possibly another stream of the same connection with HTTP/2. The response that arrives first is used and
+ * the other attempt is cancelled.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ * @see HttpClient#hedging(java.util.function.Consumer)
+ */
+public interface HedgingSpec {
+
+	/**
+	 * The default ratio of the hedged requests to the requests.
+	 */
+	double DEFAULT_BUDGET_RATIO = 0.1;
+
+	/**
+	 * The default maximum number of the hedged requests that can be accumulated.
+	 */
+	int DEFAULT_BUDGET_MAX_HEDGES = 10;
+
+	/**
+	 * The hedging delay. When {@link #percentile(double)} is configured, this delay is used until enough
+	 * responses are received to compute the percentile.
+	 *
+	 * @param delay the time to wait for the response headers before sending a second attempt
+	 * @return {@literal this}
+	 */
+	HedgingSpec delay(Duration delay);
+
+	/**
+	 * Derives the hedging delay from the latency of the recent responses, e.g. {@code 0.95} sends a second attempt
+	 * when the response headers are not received within the 95th percentile of the response latency.
+	 * The latency of a request is measured from its first attempt, also when the hedged attempt wins.
+	 *
+	 * @param percentile the percentile of the response latency, between {@code 0} and {@code 1} exclusive
+	 * @return {@literal this}
+	 */
+	HedgingSpec percentile(double percentile);
+
+	/**
+	 * Caps the hedged requests to a ratio of the requests. Each request deposits {@code ratio} tokens into a budget
+	 * that holds at most {@code maxHedges} tokens and each hedged request withdraws one token, when the budget is
+	 * empty the request is not hedged. By default {@value #DEFAULT_BUDGET_RATIO} and
+	 * {@value #DEFAULT_BUDGET_MAX_HEDGES}.
+	 *
+	 * @param ratio the ratio of the hedged requests to the requests, between {@code 0} and {@code 1}
+	 * @param maxHedges the maximum number of the hedged requests that can be accumulated
+	 * @return {@literal this}
+	 */
+	HedgingSpec budget(double ratio, int maxHedges);
+}
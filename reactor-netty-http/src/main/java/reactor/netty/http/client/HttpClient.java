@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2011-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -562,6 +562,25 @@ public abstract class HttpClient extends ClientTransport<HttpClient, HttpClientC
 		return this;
 	}
 
+	/**
+	 * Limits the number of the requests that are in progress at the same time to each remote host, the excess
+	 * requests fail immediately with {@link ConcurrencyLimitExceededException} instead of waiting for a connection.
+	 * The limit is either fixed or adapted to the measured response latency and to the responses with
+	 * status {@code 429} or {@code 503}, so that a slow or overloaded remote host is not flooded with requests.
+	 *
+	 * @param concurrencyLimitSpec a callback for configuring the limit of the requests in progress
+	 * @return a new {@link HttpClient}
+	 * @since 1.3.0
+	 */
+	public final HttpClient concurrencyLimit(Consumer<? super ConcurrencyLimitSpec> concurrencyLimitSpec) {
+		Objects.requireNonNull(concurrencyLimitSpec, "concurrencyLimitSpec");
+		HttpClientConcurrencyLimiter.Spec spec = new HttpClientConcurrencyLimiter.Spec();
+		concurrencyLimitSpec.accept(spec);
+		HttpClient dup = duplicate();
+		dup.configuration().concurrencyLimiter = new HttpClientConcurrencyLimiter(spec);
+		return dup;
+	}
+
 	/**
 	 * Apply cookies configuration.
 	 *
@@ -1095,6 +1114,27 @@ public abstract class HttpClient extends ClientTransport<HttpClient, HttpClientC
 		return dup;
 	}
 
+	/**
+	 * Hedges the idempotent requests to reduce the tail latency, when the response headers are not received within
+	 * the hedging delay, a second attempt is sent, the response that arrives first is used and the other attempt
+	 * is cancelled. The second attempt acquires its own connection from the pool, i.e. another connection with
+	 * HTTP/1.1, but possibly another stream of the same connection with HTTP/2. The hedging delay is either fixed or derived from a percentile of the
+	 * latency of the recent responses and the hedged requests are capped to a ratio of the requests.
+	 * <p>The request body, if any, is sent by each attempt.
+	 *
+	 * @param hedgingSpec a callback for configuring the hedging
+	 * @return a new {@link HttpClient}
+	 * @since 1.3.0
+	 */
+	public final HttpClient hedging(Consumer<? super HedgingSpec> hedgingSpec) {
+		Objects.requireNonNull(hedgingSpec, "hedgingSpec");
+		HttpClientHedging.Spec spec = new HttpClientHedging.Spec();
+		hedgingSpec.accept(spec);
+		HttpClient dup = duplicate();
+		dup.configuration().hedging = new HttpClientHedging(spec);
+		return dup;
+	}
+
 	/**
 	 * Apply HTTP/2 configuration.
 	 *
@@ -1454,6 +1494,26 @@ public abstract class HttpClient extends ClientTransport<HttpClient, HttpClientC
 		return dup;
 	}
 
+	/**
+	 * Caps the {@code retry once} of the requests that fail with
+	 * {@link reactor.netty.channel.AbortedException#isConnectionReset(Throwable)} to a ratio of the requests,
+	 * so that the retries do not multiply the load when the remote host is failing.
+	 * Each request deposits {@code ratio} tokens into a budget that holds at most {@code maxRetries} tokens
+	 * and each retry withdraws one token, when the budget is empty the error is propagated without retry.
+	 * The budget is initially full and it is shared by all requests of this client.
+	 * <p>By default the retries are not budgeted. See {@link #disableRetry(boolean)}.
+	 *
+	 * @param ratio the ratio of the retries to the requests, between {@code 0} and {@code 1}
+	 * @param maxRetries the maximum number of the retries that can be accumulated
+	 * @return a new {@link HttpClient}
+	 * @since 1.3.0
+	 */
+	public final HttpClient retryBudget(double ratio, int maxRetries) {
+		HttpClient dup = duplicate();
+		dup.configuration().retryBudget = new RetryBudget(ratio, maxRetries);
+		return dup;
+	}
+
 	/**
 	 * Enable default sslContext support.
 	 * <p>By default {@link SslContext} is initialized with:
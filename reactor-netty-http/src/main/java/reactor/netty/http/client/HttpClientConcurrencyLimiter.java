@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.jspecify.annotations.Nullable;
+import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
+import reactor.netty.http.internal.ConcurrencyLimit;
+import reactor.netty.http.internal.ConcurrencyLimits;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of the requests that are in progress at the same time to each remote host.
+ * Each remote host has its own limit, adapted with the latency of the responses received from it.
+ * The limit of a remote host without requests in progress for {@link #HOST_IDLE_TIME} is evicted.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+final class HttpClientConcurrencyLimiter {
+
+	/**
+	 * The time after which the limit of a remote host without requests in progress is evicted.
+	 */
+	static final long HOST_IDLE_TIME = TimeUnit.MINUTES.toNanos(1);
+
+	final Supplier<ConcurrencyLimit> limitFactory;
+	final Map<String, HostLimit> hosts = new ConcurrentHashMap<>();
+	final AtomicLong lastEviction = new AtomicLong(System.nanoTime());
+
+	HttpClientConcurrencyLimiter(Spec spec) {
+		Supplier<ConcurrencyLimit> limitFactory = spec.limitFactory;
+		if (limitFactory == null) {
+			throw new IllegalArgumentException("One of maxConcurrentRequests, aimdLimit or vegasLimit must be configured");
+		}
+		this.limitFactory = limitFactory;
+	}
+
+	/**
+	 * Returns a permit for a request to the remote host or {@code null} when the limit is reached.
+	 *
+	 * @param host the remote host and port
+	 * @return a permit for a request to the remote host or {@code null} when the limit is reached
+	 */
+	@Nullable Permit tryAcquire(String host) {
+		long now = System.nanoTime();
+		evictIdleHosts(now);
+		HostLimit hostLimit = hosts.computeIfAbsent(host, h -> new HostLimit(limitFactory.get()));
+		hostLimit.lastActive = now;
+		return hostLimit.tryAcquire() ? new Permit(hostLimit) : null;
+	}
+
+	/**
+	 * Evicts the limits of the remote hosts without requests in progress for {@link #HOST_IDLE_TIME},
+	 * the hosts are checked at most once per {@link #HOST_IDLE_TIME}.
+	 *
+	 * @param now the current {@link System#nanoTime()}
+	 */
+	void evictIdleHosts(long now) {
+		long last = lastEviction.get();
+		if (now - last < HOST_IDLE_TIME || !lastEviction.compareAndSet(last, now)) {
+			return;
+		}
+		// A request that obtained the limit just before its eviction is still counted by it, the next requests
+		// start with a new limit
+		hosts.values().removeIf(hostLimit -> hostLimit.isIdle(now));
+	}
+
+	static final class HostLimit {
+
+		final ConcurrencyLimit limit;
+		final AtomicInteger inFlight = new AtomicInteger();
+
+		volatile long lastActive;
+
+		HostLimit(ConcurrencyLimit limit) {
+			this.limit = limit;
+		}
+
+		boolean isIdle(long now) {
+			return inFlight.get() == 0 && now - lastActive >= HOST_IDLE_TIME;
+		}
+
+		boolean tryAcquire() {
+			return ConcurrencyLimits.tryAcquire(inFlight, limit.limit());
+		}
+	}
+
+	/**
+	 * A permit for a request, observes the connection used by the request and is released once the response
+	 * is fully received or the connection is released. A request that fails before receiving a response releases
+	 * the permit with {@link #release(boolean)}.
+	 */
+	static final class Permit implements ConnectionObserver {
+
+		final HostLimit host;
+		final long start = System.nanoTime();
+		final AtomicBoolean released = new AtomicBoolean();
+
+		volatile boolean dropped;
+		volatile long latencyNanos = -1;
+
+		Permit(HostLimit host) {
+			this.host = host;
+		}
+
+		@Override
+		public void onStateChange(Connection connection, State newState) {
+			if (newState == HttpClientState.RESPONSE_RECEIVED) {
+				latencyNanos = System.nanoTime() - start;
+				HttpClientOperations ops = connection.as(HttpClientOperations.class);
+				if (ops != null) {
+					HttpResponseStatus status = ops.status();
+					dropped = HttpResponseStatus.TOO_MANY_REQUESTS.equals(status) ||
+							HttpResponseStatus.SERVICE_UNAVAILABLE.equals(status);
+				}
+			}
+			// The connection of a request that is going to be retried is released before the response,
+			// such a request keeps its permit
+			else if (latencyNanos != -1 && (newState == HttpClientState.RESPONSE_COMPLETED ||
+					newState == State.RELEASED || newState == State.DISCONNECTING)) {
+				release(dropped);
+			}
+		}
+
+		void cancel() {
+			if (released.compareAndSet(false, true)) {
+				host.lastActive = System.nanoTime();
+				host.inFlight.decrementAndGet();
+			}
+		}
+
+		void release(boolean dropped) {
+			if (released.compareAndSet(false, true)) {
+				long now = System.nanoTime();
+				host.lastActive = now;
+				int inFlight = host.inFlight.getAndDecrement();
+				long latencyNanos = this.latencyNanos;
+				host.limit.onSample(start, latencyNanos != -1 ? latencyNanos : now - start, inFlight, dropped);
+			}
+		}
+	}
+
+	/**
+	 * TCP Vegas, the queued requests are estimated with {@code limit * (1 - minLatency / latency)},
+	 * the limit increases by {@code log10(limit)} while they are below {@code 3 * log10(limit)} and decreases
+	 * by {@code log10(limit)} when they are above {@code 6 * log10(limit)}.
+	 * The minimum latency is probed again every {@code 30 * limit} samples, so that it follows a lasting change
+	 * of the latency of the remote host, e.g. after a failover to a more distant host.
+	 */
+	static final class VegasLimit implements ConcurrencyLimit {
+
+		static final int ALPHA = 3;
+		static final int BETA = 6;
+		static final int PROBE_MULTIPLIER = 30;
+
+		final int maxLimit;
+
+		long minLatencyNanos;
+		long samples;
+
+		volatile int limit;
+
+		VegasLimit(int initialLimit, int maxLimit) {
+			this.maxLimit = maxLimit;
+			this.limit = initialLimit;
+		}
+
+		@Override
+		public int limit() {
+			return limit;
+		}
+
+		@Override
+		public synchronized void onSample(long startNanos, long latencyNanos, int inFlight, boolean dropped) {
+			int current = limit;
+			if (latencyNanos > 0 && ++samples >= (long) PROBE_MULTIPLIER * current) {
+				// Forget the minimum latency, the current sample becomes the new baseline
+				samples = 0;
+				minLatencyNanos = latencyNanos;
+			}
+			else if (latencyNanos > 0 && (minLatencyNanos == 0 || latencyNanos < minLatencyNanos)) {
+				minLatencyNanos = latencyNanos;
+			}
+			double step = Math.max(1, Math.log10(current));
+			double newLimit;
+			if (dropped) {
+				newLimit = current - step;
+			}
+			else if (inFlight * 2 < current || latencyNanos <= 0) {
+				// The limit is not used, no reason to change it
+				return;
+			}
+			else {
+				double queued = Math.ceil(current * (1 - (double) minLatencyNanos / latencyNanos));
+				if (queued <= ALPHA * step) {
+					newLimit = current + step;
+				}
+				else if (queued >= BETA * step) {
+					newLimit = current - step;
+				}
+				else {
+					return;
+				}
+			}
+			limit = Math.max(1, Math.min(maxLimit, (int) newLimit));
+		}
+	}
+
+	static final class Spec implements ConcurrencyLimitSpec {
+
+		@Nullable Supplier<ConcurrencyLimit> limitFactory;
+
+		@Override
+		public ConcurrencyLimitSpec maxConcurrentRequests(int maxConcurrentRequests) {
+			this.limitFactory = ConcurrencyLimits.fixed(maxConcurrentRequests);
+			return this;
+		}
+
+		@Override
+		public ConcurrencyLimitSpec aimdLimit(int initialLimit, int maxLimit, Duration latencyThreshold) {
+			this.limitFactory = ConcurrencyLimits.aimd(initialLimit, maxLimit, latencyThreshold);
+			return this;
+		}
+
+		@Override
+		public ConcurrencyLimitSpec vegasLimit(int initialLimit, int maxLimit) {
+			ConcurrencyLimits.checkLimits(initialLimit, maxLimit);
+			this.limitFactory = () -> new VegasLimit(initialLimit, maxLimit);
+			return this;
+		}
+	}
+}
@@ -338,6 +338,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 	boolean acceptGzip;
 	@Nullable String baseUrl;
 	@Nullable BiFunction<? super HttpClientRequest, ? super NettyOutbound, ? extends Publisher<Void>> body;
+	@Nullable HttpClientConcurrencyLimiter concurrencyLimiter;
 	@Nullable Function<? super Mono<? extends Connection>, ? extends Mono<? extends Connection>> connector;
 	ClientCookieDecoder cookieDecoder;
 	ClientCookieEncoder cookieEncoder;
@@ -352,6 +353,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 	@Nullable BiConsumer<? super HttpClientResponse, ? super Throwable> doOnResponseError;
 	@Nullable BiPredicate<HttpClientRequest, HttpClientResponse> followRedirectPredicate;
 	HttpHeaders headers;
+	@Nullable HttpClientHedging hedging;
 	@Nullable Http2SettingsSpec http2Settings;
 	@Nullable Http3SettingsSpec http3Settings;
 	HttpMessageLogFactory httpMessageLogFactory;
@@ -361,6 +363,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 	@Nullable BiConsumer<HttpHeaders, HttpClientRequest> redirectRequestBiConsumer;
 	@Nullable Consumer<HttpClientRequest> redirectRequestConsumer;
 	@Nullable Duration responseTimeout;
+	@Nullable RetryBudget retryBudget;
 	boolean retryDisabled;
 	@Nullable SslProvider sslProvider;
 	@Nullable URI uri;
@@ -390,6 +393,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 		this.acceptGzip = parent.acceptGzip;
 		this.baseUrl = parent.baseUrl;
 		this.body = parent.body;
+		this.concurrencyLimiter = parent.concurrencyLimiter;
 		this.connector = parent.connector;
 		this.cookieDecoder = parent.cookieDecoder;
 		this.cookieEncoder = parent.cookieEncoder;
@@ -404,6 +408,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 		this.doOnResponseError = parent.doOnResponseError;
 		this.followRedirectPredicate = parent.followRedirectPredicate;
 		this.headers = parent.headers;
+		this.hedging = parent.hedging;
 		this.http2Settings = parent.http2Settings;
 		this.http3Settings = parent.http3Settings;
 		this.httpMessageLogFactory = parent.httpMessageLogFactory;
@@ -413,6 +418,7 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 		this.redirectRequestBiConsumer = parent.redirectRequestBiConsumer;
 		this.redirectRequestConsumer = parent.redirectRequestConsumer;
 		this.responseTimeout = parent.responseTimeout;
+		this.retryBudget = parent.retryBudget;
 		this.retryDisabled = parent.retryDisabled;
 		this.sslProvider = parent.sslProvider;
 		this.uri = parent.uri;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017-2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2017-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -111,10 +111,10 @@ class HttpClientConnect extends HttpClient {
 		Mono<? extends Connection> mono;
 		if (config.deferredConf != null) {
 			mono = config.deferredConf.apply(Mono.just(config))
-			           .flatMap(MonoHttpConnect::new);
+			           .flatMap(HttpClientConnect::monoHttpConnect);
 		}
 		else {
-			mono = new MonoHttpConnect(config);
+			mono = monoHttpConnect(config);
 		}
 
 		Consumer<? super HttpClientConfig> doOnConnect = config.doOnConnect();
@@ -202,6 +202,17 @@ class HttpClientConnect extends HttpClient {
 		return httpClient;
 	}
 
+	static Mono<Connection> monoHttpConnect(HttpClientConfig config) {
+		Mono<Connection> mono = new MonoHttpConnect(config);
+		HttpClientHedging hedging = config.hedging;
+		if (hedging != null) {
+			mono = hedging.hedge(config.method, mono);
+		}
+		// Deposits once per request, the hedged attempts subscribe again to MonoHttpConnect
+		RetryBudget retryBudget = config.retryBudget;
+		return retryBudget != null ? mono.doOnSubscribe(s -> retryBudget.deposit()) : mono;
+	}
+
 	static final class MonoHttpConnect extends Mono<Connection> {
 
 		final HttpClientConfig config;
@@ -276,11 +287,29 @@ class HttpClientConnect extends HttpClient {
 					}
 				}
 
+				// A request retried on a connection reset keeps its permit
+				HttpClientConcurrencyLimiter.Permit permit = handler.permit;
+				HttpClientConcurrencyLimiter concurrencyLimiter = _config.concurrencyLimiter;
+				if (concurrencyLimiter != null && permit == null) {
+					UriEndpoint toURI = handler.toURI;
+					String host = toURI.host + ':' + toURI.port;
+					permit = concurrencyLimiter.tryAcquire(host);
+					if (permit == null) {
+						sink.error(new ConcurrencyLimitExceededException(
+								"The limit of the requests in progress to " + host + " is reached"));
+						return;
+					}
+				}
+				handler.permit = permit;
+
 				ConnectionObserver observer =
 						new HttpObserver(sink, handler)
 						        .then(_config.defaultConnectionObserver())
 						        .then(_config.connectionObserver())
 						        .then(new HttpIOHandlerObserver(sink, handler));
+				if (permit != null) {
+					observer = observer.then(permit);
+				}
 
 				AddressResolverGroup<?> resolver = _config.resolverInternal();
 
@@ -289,6 +318,8 @@ class HttpClientConnect extends HttpClient {
 						.subscribe(new ClientTransportSubscriber(sink));
 
 			}).retryWhen(Retry.indefinitely().filter(handler))
+			  .doOnError(handler::releasePermit)
+			  .doOnCancel(handler::cancelPermit)
 			  .subscribe(actual);
 		}
 
@@ -482,6 +513,7 @@ class HttpClientConnect extends HttpClient {
 		                                        redirectRequestConsumer;
 		final HttpResponseDecoderSpec           decoder;
 		final @Nullable Duration                responseTimeout;
+		final @Nullable RetryBudget             retryBudget;
 
 		@Nullable ProxyProvider                 proxyProvider;
 
@@ -491,6 +523,8 @@ class HttpClientConnect extends HttpClient {
 		volatile Supplier<String> @Nullable []  redirectedFrom;
 		volatile boolean                        shouldRetry;
 		volatile @Nullable HttpHeaders          previousRequestHeaders;
+		volatile HttpClientConcurrencyLimiter.@Nullable Permit
+		                                        permit;
 
 		HttpClientHandler(HttpClientConfig configuration) {
 			this.method = configuration.method;
@@ -501,6 +535,7 @@ class HttpClientConnect extends HttpClient {
 			this.decoder = configuration.decoder;
 			this.proxyProvider = configuration.proxyProvider();
 			this.responseTimeout = configuration.responseTimeout;
+			this.retryBudget = configuration.retryBudget;
 			this.defaultHeaders = configuration.headers;
 
 			String baseUrl = configuration.baseUrl;
@@ -720,17 +755,43 @@ class HttpClientConnect extends HttpClient {
 				if (HttpResponseStatus.SEE_OTHER.equals(re.status)) {
 					method = HttpMethod.GET;
 				}
+				// The redirect may target another host, it acquires its own permit
+				HttpClientConcurrencyLimiter.Permit permit = this.permit;
+				if (permit != null) {
+					this.permit = null;
+					permit.release(false);
+				}
 				redirect(re.location);
 				return true;
 			}
 			if (shouldRetry && AbortedException.isConnectionReset(throwable)) {
 				shouldRetry = false;
-				redirect(toURI.toString());
-				return true;
+				if (retryBudget == null || retryBudget.tryWithdraw()) {
+					redirect(toURI.toString());
+					return true;
+				}
 			}
 			return false;
 		}
 
+		/**
+		 * Releases the permit of a request that fails, once the retries are exhausted, before the response
+		 * is fully received. The connection resets are not counted as drops, they do not indicate an overloaded host.
+		 */
+		void releasePermit(Throwable error) {
+			HttpClientConcurrencyLimiter.Permit permit = this.permit;
+			if (permit != null) {
+				permit.release(!AbortedException.isConnectionReset(error));
+			}
+		}
+
+		void cancelPermit() {
+			HttpClientConcurrencyLimiter.Permit permit = this.permit;
+			if (permit != null) {
+				permit.cancel();
+			}
+		}
+
 		@Override
 		public String toString() {
 			return "{" + "uri=" + toURI + ", method=" + method + '}';
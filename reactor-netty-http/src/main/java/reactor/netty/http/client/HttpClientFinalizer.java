@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017-2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2017-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,11 @@ import java.util.function.Function;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.ChannelOption;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
 import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
@@ -118,11 +123,28 @@ final class HttpClientFinalizer extends HttpClientConnect implements HttpClient.
 
 	@Override
 	public <V> Mono<V> responseSingle(BiFunction<? super HttpClientResponse, ? super ByteBufMono, ? extends Mono<V>> receiver) {
-		return _connect().flatMap(resp -> receiver.apply(resp, resp.receive().aggregate())
+		int maxAggregatedContentLength = configuration().decoder.maxAggregatedContentLength;
+		return _connect().flatMap(resp -> receiver.apply(resp, aggregate(resp, maxAggregatedContentLength))
 		                                          .doFinally(s -> discard(resp))
 		                                          .contextWrite(resp.currentContextView()));
 	}
 
+	static ByteBufMono aggregate(HttpClientOperations resp, int maxAggregatedContentLength) {
+		if (maxAggregatedContentLength == -1) {
+			// Not configured, the body is aggregated as before
+			return resp.receive().aggregate();
+		}
+		// The body is pre-sized from Content-Length unless it is not the length of the body,
+		// i.e. for HEAD requests, 304 responses or when the content is decoded, e.g. gzip
+		HttpHeaders headers = resp.responseHeaders();
+		long contentLength = -1;
+		if (!HttpMethod.HEAD.equals(resp.method()) && !HttpResponseStatus.NOT_MODIFIED.equals(resp.status()) &&
+				!headers.contains(HttpHeaderNames.CONTENT_ENCODING)) {
+			contentLength = HttpUtil.getContentLength(headers, -1L);
+		}
+		return resp.receive().aggregate(contentLength, maxAggregatedContentLength);
+	}
+
 	// RequestSender methods
 
 	@Override
@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.ChannelProgressiveFuture;
+import io.netty.channel.ChannelProgressiveFutureListener;
+import io.netty.channel.ChannelProgressivePromise;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.codec.http.multipart.Attribute;
+import io.netty.handler.codec.http.multipart.FileUpload;
+import io.netty.handler.codec.http.multipart.HttpData;
+import io.netty.handler.codec.http.multipart.HttpPostRequestEncoder.ErrorDataEncoderException;
+import io.netty.handler.codec.http.multipart.InterfaceHttpData;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedNioFile;
+import io.netty.util.ReferenceCountUtil;
+import org.jspecify.annotations.Nullable;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Sinks;
+import reactor.netty.NettyPipeline;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes a {@code multipart/form-data} body prepared with {@link HttpClientForm} without
+ * copying the content of the files into user space.
+ * <p>The headers of the parts are written as buffers and the content of each file that is on disk is written as:
+ * <ul>
+ *     <li>{@link DefaultFileRegion} on cleartext HTTP/1.1, i.e. {@code sendfile}</li>
+ *     <li>{@link ChunkedNioFile} with {@value #CHUNK_SIZE} bytes chunks read directly into pooled buffers,
+ *     when SSL/TLS is enabled</li>
+ * </ul>
+ * HTTP/2 and HTTP/3 use the {@link HttpClientFormEncoder} as before, as the streams accept only HTTP messages.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+final class HttpClientFormFileWriter {
+
+	static final int CHUNK_SIZE = 64 * 1024;
+
+	/**
+	 * Returns a writer for the form or {@code null} when the form must be written with the {@link HttpClientFormEncoder}.
+	 *
+	 * @param channel the channel where the request will be written
+	 * @param version the HTTP version of the request
+	 * @param encoder the form
+	 * @param request the request returned by {@link HttpClientFormEncoder#finalizeRequest()}
+	 * @return a writer for the form or {@code null} when the form must be written with the {@link HttpClientFormEncoder}
+	 */
+	static @Nullable HttpClientFormFileWriter create(Channel channel, HttpVersion version,
+			HttpClientFormEncoder encoder, HttpRequest request) {
+		if (!encoder.isMultipart() ||
+				(!HttpVersion.HTTP_1_1.equals(version) && !HttpVersion.HTTP_1_0.equals(version))) {
+			return null;
+		}
+		String contentType = request.headers().get(HttpHeaderNames.CONTENT_TYPE);
+		String boundary = contentType != null ? boundary(contentType) : null;
+		if (boundary == null) {
+			return null;
+		}
+		boolean hasFile = false;
+		for (InterfaceHttpData data : encoder.getBodyListAttributes()) {
+			if (!(data instanceof HttpData) || !((HttpData) data).isCompleted()) {
+				return null;
+			}
+			hasFile |= !((HttpData) data).isInMemory();
+		}
+		if (!hasFile) {
+			return null;
+		}
+		ChannelPipeline pipeline = channel.pipeline();
+		boolean fileRegion = pipeline.get(SslHandler.class) == null && pipeline.get(NettyPipeline.CompressionHandler) == null;
+		return new HttpClientFormFileWriter(channel, encoder, boundary, fileRegion);
+	}
+
+	final Channel channel;
+	final List<Object> messages;
+	final long[] sizes;
+	final long length;
+	final Sinks.Many<Long> progressSink;
+
+	HttpClientFormFileWriter(Channel channel, HttpClientFormEncoder encoder, String boundary, boolean fileRegion) {
+		this.channel = channel;
+		Charset charset = encoder.newCharset;
+		ByteBufAllocator alloc = channel.alloc();
+		List<InterfaceHttpData> datas = encoder.getBodyListAttributes();
+		List<Object> messages = new ArrayList<>(datas.size() * 3 + 1);
+		long length = 0;
+		try {
+			for (InterfaceHttpData data : datas) {
+				HttpData httpData = (HttpData) data;
+				ByteBuf headers = alloc.buffer().writeBytes(partHeaders(httpData, boundary).getBytes(charset));
+				length += headers.readableBytes();
+				messages.add(headers);
+
+				if (httpData.isInMemory()) {
+					ByteBuf content = httpData.getByteBuf().retainedDuplicate();
+					length += content.readableBytes();
+					messages.add(content);
+				}
+				else {
+					long contentLength = httpData.length();
+					length += contentLength;
+					messages.add(fileRegion ?
+							new DefaultFileRegion(httpData.getFile(), 0, contentLength) :
+							new ChunkedNioFile(httpData.getFile(), CHUNK_SIZE));
+				}
+
+				ByteBuf crlf = alloc.buffer(2).writeByte('\r').writeByte('\n');
+				length += 2;
+				messages.add(crlf);
+			}
+			ByteBuf end = alloc.buffer().writeBytes(("--" + boundary + "--\r\n").getBytes(charset));
+			length += end.readableBytes();
+			messages.add(end);
+		}
+		catch (IOException e) {
+			messages.forEach(HttpClientFormFileWriter::release);
+			throw Exceptions.propagate(new ErrorDataEncoderException(e));
+		}
+		long[] sizes = new long[messages.size()];
+		for (int i = 0; i < sizes.length; i++) {
+			sizes[i] = size(messages.get(i));
+		}
+		this.messages = messages;
+		this.sizes = sizes;
+		this.length = length;
+		this.progressSink = Sinks.many().unicast().onBackpressureError();
+	}
+
+	/**
+	 * Writes the request and the form.
+	 * The number of the written bytes of the body is emitted with {@link #progressSink} as the parts are written,
+	 * for the content of the files, also as the chunks/regions are written when the transport reports the progress.
+	 *
+	 * @param request the request returned by {@link HttpClientFormEncoder#finalizeRequest()}
+	 * @param chunked whether the body is sent with {@code Transfer-Encoding: chunked}
+	 * @return the future of the last write
+	 */
+	@SuppressWarnings("FutureReturnValueIgnored")
+	ChannelFuture write(HttpRequest request, boolean chunked) {
+		HttpRequest headers = request;
+		if (request instanceof FullHttpRequest) {
+			// The encoder aggregated the body, it is not needed as the parts are written below
+			FullHttpRequest full = (FullHttpRequest) request;
+			headers = new DefaultHttpRequest(full.protocolVersion(), full.method(), full.uri(), full.headers());
+			full.release();
+		}
+		if (chunked) {
+			HttpUtil.setTransferEncodingChunked(headers, true);
+		}
+		else {
+			HttpUtil.setTransferEncodingChunked(headers, false);
+			HttpUtil.setContentLength(headers, length);
+		}
+
+		channel.write(headers);
+		long offset = 0;
+		for (int i = 0; i < messages.size(); i++) {
+			ChannelProgressivePromise promise = channel.newProgressivePromise();
+			promise.addListener(new ProgressListener(offset, sizes[i]));
+			offset += sizes[i];
+			channel.write(messages.get(i), promise);
+		}
+		ChannelFuture future = channel.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+		future.addListener(f -> {
+			if (f.isSuccess()) {
+				progressSink.tryEmitComplete();
+			}
+			else {
+				progressSink.tryEmitError(f.cause());
+			}
+		});
+		return future;
+	}
+
+	static String partHeaders(HttpData data, String boundary) {
+		StringBuilder sb = new StringBuilder("--").append(boundary).append("\r\n")
+				.append(HttpHeaderNames.CONTENT_DISPOSITION).append(": form-data; name=\"").append(data.getName()).append('"');
+		if (data instanceof FileUpload) {
+			FileUpload fileUpload = (FileUpload) data;
+			sb.append("; filename=\"").append(fileUpload.getFilename()).append("\"\r\n")
+			  .append(HttpHeaderNames.CONTENT_LENGTH).append(": ").append(fileUpload.length()).append("\r\n")
+			  .append(HttpHeaderNames.CONTENT_TYPE).append(": ").append(fileUpload.getContentType());
+			if (fileUpload.getCharset() != null) {
+				sb.append("; charset=").append(fileUpload.getCharset().name());
+			}
+			sb.append("\r\n");
+			if (fileUpload.getContentTransferEncoding() != null) {
+				sb.append(HttpHeaderNames.CONTENT_TRANSFER_ENCODING).append(": ")
+				  .append(fileUpload.getContentTransferEncoding()).append("\r\n");
+			}
+		}
+		else {
+			sb.append("\r\n")
+			  .append(HttpHeaderNames.CONTENT_LENGTH).append(": ").append(data.length()).append("\r\n");
+			if (data instanceof Attribute && data.getCharset() != null) {
+				sb.append(HttpHeaderNames.CONTENT_TYPE).append(": text/plain; charset=").append(data.getCharset().name()).append("\r\n");
+			}
+		}
+		return sb.append("\r\n").toString();
+	}
+
+	static @Nullable String boundary(String contentType) {
+		int index = contentType.indexOf("boundary=");
+		if (index == -1) {
+			return null;
+		}
+		int end = contentType.indexOf(';', index);
+		String boundary = contentType.substring(index + "boundary=".length(), end == -1 ? contentType.length() : end).trim();
+		if (boundary.length() > 1 && boundary.charAt(0) == '"' && boundary.charAt(boundary.length() - 1) == '"') {
+			// RFC 2046, the boundary may be a quoted string
+			boundary = boundary.substring(1, boundary.length() - 1);
+		}
+		return boundary.isEmpty() ? null : boundary;
+	}
+
+	static long size(Object message) {
+		if (message instanceof ByteBuf) {
+			return ((ByteBuf) message).readableBytes();
+		}
+		if (message instanceof DefaultFileRegion) {
+			return ((DefaultFileRegion) message).count();
+		}
+		if (message instanceof ChunkedNioFile) {
+			return ((ChunkedNioFile) message).length();
+		}
+		return 0;
+	}
+
+	static void release(Object message) {
+		if (message instanceof ChunkedNioFile) {
+			try {
+				((ChunkedNioFile) message).close();
+			}
+			catch (Exception e) {
+				// ignore
+			}
+		}
+		else {
+			ReferenceCountUtil.release(message);
+		}
+	}
+
+	/**
+	 * Emits the number of the written bytes of the body, all listeners are notified on the event loop
+	 * in the order of the writes.
+	 */
+	final class ProgressListener implements ChannelProgressiveFutureListener {
+
+		final long offset;
+		final long size;
+
+		ProgressListener(long offset, long size) {
+			this.offset = offset;
+			this.size = size;
+		}
+
+		@Override
+		public void operationProgressed(ChannelProgressiveFuture future, long progress, long total) {
+			if (progress > 0 && progress < size) {
+				progressSink.tryEmitNext(offset + progress);
+			}
+		}
+
+		@Override
+		public void operationComplete(ChannelProgressiveFuture future) {
+			if (future.isSuccess() && size > 0) {
+				progressSink.tryEmitNext(offset + size);
+			}
+		}
+	}
+}
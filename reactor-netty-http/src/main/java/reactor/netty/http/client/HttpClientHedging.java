@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import io.netty.handler.codec.http.HttpMethod;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+import reactor.netty.Connection;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Hedges the idempotent requests, a second attempt is subscribed when the first one has not received
+ * the response headers within the hedging delay. Each attempt acquires its own connection from the pool, with HTTP/1.1
+ * this is another connection, with HTTP/2 it may be another stream of the same connection. The attempt that receives
+ * the response headers first wins and the other one is cancelled, which disposes its connection, i.e. an HTTP/2 stream
+ * is reset and an HTTP/1.1 connection is closed as it cannot be reused while a response is in progress. When both
+ * attempts receive the response headers at the same time, the connection of the loser is disposed as well.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+final class HttpClientHedging {
+
+	final RetryBudget budget;
+	final long delayNanos;
+	final @Nullable LatencyHistory history;
+
+	HttpClientHedging(Spec spec) {
+		Duration delay = spec.delay;
+		if (delay == null) {
+			throw new IllegalArgumentException("The hedging delay must be configured");
+		}
+		this.budget = new RetryBudget(spec.budgetRatio, spec.budgetMaxHedges);
+		this.delayNanos = delay.toNanos();
+		this.history = spec.percentile > 0 ? new LatencyHistory(spec.percentile) : null;
+	}
+
+	/**
+	 * Hedges the request when it is idempotent. Each subscription to the {@code attempt} sends the request.
+	 *
+	 * @param method the request method
+	 * @param attempt sends the request and emits the connection once the response headers are received
+	 * @return the hedged request
+	 */
+	Mono<Connection> hedge(HttpMethod method, Mono<Connection> attempt) {
+		if (!isIdempotent(method)) {
+			return attempt;
+		}
+		return Mono.defer(() -> {
+			budget.deposit();
+			// The latency is measured from the first attempt, so that each request records one sample. When the hedged
+			// attempt wins, the first attempt is cancelled and the sample is a lower bound of its latency, recording
+			// the latency of the hedged attempt instead would keep only the fast responses.
+			long start = System.nanoTime();
+			AtomicBoolean won = new AtomicBoolean();
+			Mono<Connection> first = attempt.handle((connection, sink) -> win(won, start, connection, sink));
+			Mono<Connection> hedged =
+					Mono.delay(Duration.ofNanos(delayNanos()))
+					    .flatMap(l -> budget.tryWithdraw() ?
+					            // Only the first attempt propagates errors so that they are the same as without hedging
+					            attempt.<Connection>handle((connection, sink) -> win(won, start, connection, sink))
+					                   .onErrorResume(t -> Mono.empty()) :
+					            Mono.empty());
+			// Only the winner emits, an attempt that completes empty keeps waiting for the other one
+			return Flux.merge(first, hedged).next();
+		});
+	}
+
+	/**
+	 * Emits the connection of the attempt that receives the response headers first. The connection of an attempt
+	 * that receives them at the same time as the winner, and therefore cannot be cancelled anymore, is disposed.
+	 */
+	void win(AtomicBoolean won, long startNanos, Connection connection, SynchronousSink<Connection> sink) {
+		if (won.compareAndSet(false, true)) {
+			record(startNanos);
+			sink.next(connection);
+		}
+		else {
+			connection.dispose();
+		}
+	}
+
+	long delayNanos() {
+		LatencyHistory history = this.history;
+		if (history != null) {
+			long percentileNanos = history.percentileNanos;
+			if (percentileNanos > 0) {
+				return percentileNanos;
+			}
+		}
+		return delayNanos;
+	}
+
+	void record(long startNanos) {
+		LatencyHistory history = this.history;
+		if (history != null) {
+			history.record(System.nanoTime() - startNanos);
+		}
+	}
+
+	static boolean isIdempotent(HttpMethod method) {
+		return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method) || HttpMethod.OPTIONS.equals(method) ||
+				HttpMethod.PUT.equals(method) || HttpMethod.DELETE.equals(method) || HttpMethod.TRACE.equals(method);
+	}
+
+	/**
+	 * Keeps the latency of the last {@value #SIZE} requests and recomputes the percentile
+	 * every {@value #RECOMPUTE_INTERVAL} responses, so that the requests only read a volatile field.
+	 */
+	static final class LatencyHistory {
+
+		static final int SIZE = 1024;
+		static final int RECOMPUTE_INTERVAL = 128;
+
+		final double percentile;
+		final AtomicLongArray samples = new AtomicLongArray(SIZE);
+		final AtomicLong count = new AtomicLong();
+
+		volatile long percentileNanos = -1;
+
+		LatencyHistory(double percentile) {
+			this.percentile = percentile;
+		}
+
+		void record(long latencyNanos) {
+			long n = count.getAndIncrement();
+			samples.set((int) (n & (SIZE - 1)), latencyNanos);
+			if ((n + 1) % RECOMPUTE_INTERVAL == 0) {
+				int size = (int) Math.min(n + 1, SIZE);
+				long[] sorted = new long[size];
+				for (int i = 0; i < size; i++) {
+					sorted[i] = samples.get(i);
+				}
+				Arrays.sort(sorted);
+				percentileNanos = sorted[Math.min(size - 1, (int) Math.ceil(percentile * size) - 1)];
+			}
+		}
+	}
+
+	static final class Spec implements HedgingSpec {
+
+		@Nullable Duration delay;
+		double percentile;
+		double budgetRatio = DEFAULT_BUDGET_RATIO;
+		int budgetMaxHedges = DEFAULT_BUDGET_MAX_HEDGES;
+
+		@Override
+		public HedgingSpec delay(Duration delay) {
+			Objects.requireNonNull(delay, "delay");
+			if (delay.isNegative() || delay.isZero()) {
+				throw new IllegalArgumentException("Delay must be strictly positive, was: " + delay);
+			}
+			this.delay = delay;
+			return this;
+		}
+
+		@Override
+		public HedgingSpec percentile(double percentile) {
+			if (percentile <= 0 || percentile >= 1) {
+				throw new IllegalArgumentException("Percentile must be between 0 and 1 exclusive, was: " + percentile);
+			}
+			this.percentile = percentile;
+			return this;
+		}
+
+		@Override
+		public HedgingSpec budget(double ratio, int maxHedges) {
+			if (ratio < 0 || ratio > 1) {
+				throw new IllegalArgumentException("Ratio must be between 0 and 1, was: " + ratio);
+			}
+			if (maxHedges <= 0) {
+				throw new IllegalArgumentException("Max hedges must be strictly positive, was: " + maxHedges);
+			}
+			this.budgetRatio = ratio;
+			this.budgetMaxHedges = maxHedges;
+			return this;
+		}
+	}
+}
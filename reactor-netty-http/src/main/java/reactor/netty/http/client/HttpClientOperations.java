@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2011-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -1038,6 +1038,28 @@ class HttpClientOperations extends HttpOperations<NettyInbound, NettyOutbound>
 
 				HttpRequest r = encoder.finalizeRequest();
 
+				HttpClientFormFileWriter fileWriter =
+						HttpClientFormFileWriter.create(parent.channel(), parent.version, encoder, r);
+				if (fileWriter != null) {
+					Flux<Long> tail = fileWriter.progressSink.asFlux().onBackpressureLatest();
+
+					if (encoder.cleanOnTerminate) {
+						tail = tail.doOnCancel(encoder)
+						           .doAfterTerminate(encoder);
+					}
+
+					if (progressCallback != null) {
+						progressCallback.accept(tail);
+					}
+					else {
+						tail.subscribe();
+					}
+					//"FutureReturnValueIgnored" this is deliberate
+					fileWriter.write(r, chunked);
+					s.onComplete();
+					return;
+				}
+
 				if (!chunked) {
 					HttpUtil.setTransferEncodingChunked(r, false);
 					HttpUtil.setContentLength(r, encoder.length());
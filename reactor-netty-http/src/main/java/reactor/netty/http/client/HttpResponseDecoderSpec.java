@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019-2024 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2019-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,6 +29,7 @@ import reactor.netty.http.HttpDecoderSpec;
  *     <tr><td>{@link #DEFAULT_INITIAL_BUFFER_SIZE}</td><td>128</td></tr>
  *     <tr><td>{@link #DEFAULT_MAX_CHUNK_SIZE}</td><td>8192</td></tr>
  *     <tr><td>{@link #DEFAULT_MAX_HEADER_SIZE}</td><td>8192</td></tr>
+ *     <tr><td>{@link #DEFAULT_MAX_AGGREGATED_CONTENT_LENGTH}</td><td>-1</td></tr>
  *     <tr><td>{@link #DEFAULT_MAX_INITIAL_LINE_LENGTH}</td><td>4096</td></tr>
  *     <tr><td>{@link #DEFAULT_PARSE_HTTP_AFTER_CONNECT_REQUEST}</td><td>false</td></tr>
  *     <tr><td>{@link #DEFAULT_VALIDATE_HEADERS}</td><td>true</td></tr>
@@ -49,7 +50,17 @@ public final class HttpResponseDecoderSpec extends HttpDecoderSpec<HttpResponseD
 	 */
 	public static final int DEFAULT_H2C_MAX_CONTENT_LENGTH = 65536;
 
+	/**
+	 * The maximum length of the response body aggregated with
+	 * {@link HttpClient.ResponseReceiver#responseSingle(java.util.function.BiFunction)}.
+	 * By default, the aggregated response body is not limited.
+	 *
+	 * @since 1.3.0
+	 */
+	public static final int DEFAULT_MAX_AGGREGATED_CONTENT_LENGTH = -1;
+
 	boolean failOnMissingResponse        = DEFAULT_FAIL_ON_MISSING_RESPONSE;
+	int     maxAggregatedContentLength   = DEFAULT_MAX_AGGREGATED_CONTENT_LENGTH;
 	boolean parseHttpAfterConnectRequest = DEFAULT_PARSE_HTTP_AFTER_CONNECT_REQUEST;
 
 	HttpResponseDecoderSpec() {
@@ -74,6 +85,29 @@ public final class HttpResponseDecoderSpec extends HttpDecoderSpec<HttpResponseD
 		return this;
 	}
 
+	/**
+	 * Configure the maximum length of the response body aggregated with
+	 * {@link HttpClient.ResponseReceiver#responseSingle(java.util.function.BiFunction)}.
+	 * A larger response body fails with {@link io.netty.handler.codec.TooLongFrameException} as soon as the limit is
+	 * exceeded, or before receiving the body when {@code Content-Length} exceeds the limit.
+	 * When configured, the response body is aggregated in a buffer sized from {@code Content-Length}, if present,
+	 * otherwise in a composite buffer that is not consolidated.
+	 * By default {@link #DEFAULT_MAX_AGGREGATED_CONTENT_LENGTH}, i.e. not limited and the response body is aggregated
+	 * as with {@link reactor.netty.ByteBufFlux#aggregate()}.
+	 *
+	 * @param maxAggregatedContentLength the maximum length of the aggregated response body, {@code -1} for no limit
+	 * @return this option builder for further configuration
+	 * @since 1.3.0
+	 */
+	public HttpResponseDecoderSpec maxAggregatedContentLength(int maxAggregatedContentLength) {
+		if (maxAggregatedContentLength < -1) {
+			throw new IllegalArgumentException("maxAggregatedContentLength must be -1 or positive, was: " +
+					maxAggregatedContentLength);
+		}
+		this.maxAggregatedContentLength = maxAggregatedContentLength;
+		return this;
+	}
+
 	/**
 	 * Configure whether the HTTP decoding will continue even after HTTP CONNECT.
 	 *
@@ -98,6 +132,7 @@ public final class HttpResponseDecoderSpec extends HttpDecoderSpec<HttpResponseD
 		}
 		HttpResponseDecoderSpec that = (HttpResponseDecoderSpec) o;
 		return failOnMissingResponse == that.failOnMissingResponse &&
+				maxAggregatedContentLength == that.maxAggregatedContentLength &&
 				parseHttpAfterConnectRequest == that.parseHttpAfterConnectRequest;
 	}
 
@@ -105,6 +140,7 @@ public final class HttpResponseDecoderSpec extends HttpDecoderSpec<HttpResponseD
 	public int hashCode() {
 		int result = super.hashCode();
 		result = 31 * result + Boolean.hashCode(failOnMissingResponse);
+		result = 31 * result + maxAggregatedContentLength;
 		result = 31 * result + Boolean.hashCode(parseHttpAfterConnectRequest);
 		return result;
 	}
@@ -121,6 +157,7 @@ public final class HttpResponseDecoderSpec extends HttpDecoderSpec<HttpResponseD
 		decoder.validateHeaders = validateHeaders;
 		decoder.allowDuplicateContentLengths = allowDuplicateContentLengths;
 		decoder.failOnMissingResponse = failOnMissingResponse;
+		decoder.maxAggregatedContentLength = maxAggregatedContentLength;
 		decoder.parseHttpAfterConnectRequest = parseHttpAfterConnectRequest;
 		decoder.h2cMaxContentLength = h2cMaxContentLength;
 		decoder.allowPartialChunks = allowPartialChunks;
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket that caps the retries, or the hedged requests, to a ratio of the requests. Each request deposits
+ * {@code ratio} tokens, each retry withdraws one token, the bucket holds at most {@code maxRetries} tokens and
+ * it is initially full so that the first requests can be retried.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+final class RetryBudget {
+
+	/**
+	 * The tokens are counted in billionths so that the deposits are integers, even for very small ratios.
+	 */
+	static final long SCALE = 1_000_000_000L;
+
+	final long capacity;
+	final long deposit;
+	final AtomicLong tokens;
+
+	RetryBudget(double ratio, int maxRetries) {
+		if (ratio < 0 || ratio > 1) {
+			throw new IllegalArgumentException("Ratio must be between 0 and 1, was: " + ratio);
+		}
+		if (maxRetries <= 0) {
+			throw new IllegalArgumentException("Max retries must be strictly positive, was: " + maxRetries);
+		}
+		this.capacity = maxRetries * SCALE;
+		this.deposit = Math.round(ratio * SCALE);
+		this.tokens = new AtomicLong(capacity);
+	}
+
+	void deposit() {
+		for (;;) {
+			long current = tokens.get();
+			if (current >= capacity || tokens.compareAndSet(current, Math.min(capacity, current + deposit))) {
+				return;
+			}
+		}
+	}
+
+	long tokens() {
+		return tokens.get() / SCALE;
+	}
+
+	boolean tryWithdraw() {
+		for (;;) {
+			long current = tokens.get();
+			if (current < SCALE) {
+				return false;
+			}
+			if (tokens.compareAndSet(current, current - SCALE)) {
+				return true;
+			}
+		}
+	}
+}
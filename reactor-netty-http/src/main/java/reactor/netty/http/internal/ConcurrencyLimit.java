@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.internal;
+
+/**
+ * The limit of the requests that are in progress at the same time, it is adapted with the samples
+ * of the completed requests. It is used by the admission control of the server and by the concurrency limit
+ * of the client.
+ * <p><strong>Note:</strong> This interface is for internal use only. It can be removed at any time.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ * @see ConcurrencyLimits
+ */
+public interface ConcurrencyLimit {
+
+	/**
+	 * Returns the current limit.
+	 *
+	 * @return the current limit
+	 */
+	int limit();
+
+	/**
+	 * Invoked when a request completes.
+	 *
+	 * @param startNanos the {@link System#nanoTime()} when the request started
+	 * @param latencyNanos the latency of the request
+	 * @param inFlight the requests in progress when the request completed, including it
+	 * @param dropped whether the request failed or the remote peer signalled an overload
+	 */
+	void onSample(long startNanos, long latencyNanos, int inFlight, boolean dropped);
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.internal;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Factories of {@link ConcurrencyLimit} and helpers shared by the admission control of the server and
+ * the concurrency limit of the client.
+ * <p><strong>Note:</strong> This utility class is for internal use only. It can be removed at any time.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+public final class ConcurrencyLimits {
+
+	/**
+	 * Returns a factory of fixed limits.
+	 *
+	 * @param maxConcurrentRequests the maximum number of the requests in progress
+	 * @return a factory of fixed limits
+	 * @throws IllegalArgumentException if the limit is not strictly positive
+	 */
+	public static Supplier<ConcurrencyLimit> fixed(int maxConcurrentRequests) {
+		if (maxConcurrentRequests <= 0) {
+			throw new IllegalArgumentException("Max concurrent requests must be strictly positive, was: " + maxConcurrentRequests);
+		}
+		FixedLimit limit = new FixedLimit(maxConcurrentRequests);
+		// A fixed limit has no state, it can be shared
+		return () -> limit;
+	}
+
+	/**
+	 * Returns a factory of additive increase/multiplicative decrease limits, each limit adapts independently.
+	 *
+	 * @param initialLimit the initial limit
+	 * @param maxLimit the maximum limit
+	 * @param latencyThreshold the latency above which the limit is decreased
+	 * @return a factory of additive increase/multiplicative decrease limits
+	 * @throws IllegalArgumentException if the limits are not valid
+	 */
+	public static Supplier<ConcurrencyLimit> aimd(int initialLimit, int maxLimit, Duration latencyThreshold) {
+		Objects.requireNonNull(latencyThreshold, "latencyThreshold");
+		checkLimits(initialLimit, maxLimit);
+		return () -> new AimdLimit(initialLimit, maxLimit, latencyThreshold);
+	}
+
+	/**
+	 * Checks that the initial limit is strictly positive and not greater than the maximum limit.
+	 *
+	 * @param initialLimit the initial limit
+	 * @param maxLimit the maximum limit
+	 * @throws IllegalArgumentException if the limits are not valid
+	 */
+	public static void checkLimits(int initialLimit, int maxLimit) {
+		if (initialLimit <= 0) {
+			throw new IllegalArgumentException("Initial limit must be strictly positive, was: " + initialLimit);
+		}
+		if (maxLimit < initialLimit) {
+			throw new IllegalArgumentException("Max limit must be greater than or equal to the initial limit, was: " + maxLimit);
+		}
+	}
+
+	/**
+	 * Increments the requests in progress unless they have reached the allowed number.
+	 *
+	 * @param inFlight the requests in progress
+	 * @param allowed the allowed number of the requests in progress
+	 * @return true if the requests in progress were incremented
+	 */
+	public static boolean tryAcquire(AtomicInteger inFlight, int allowed) {
+		for (;;) {
+			int current = inFlight.get();
+			if (current >= allowed) {
+				return false;
+			}
+			if (inFlight.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	static final class FixedLimit implements ConcurrencyLimit {
+
+		final int limit;
+
+		FixedLimit(int limit) {
+			this.limit = limit;
+		}
+
+		@Override
+		public int limit() {
+			return limit;
+		}
+
+		@Override
+		public void onSample(long startNanos, long latencyNanos, int inFlight, boolean dropped) {
+		}
+	}
+
+	/**
+	 * Additive increase/multiplicative decrease. The limit is decreased at most once per window: the requests that
+	 * started before the last decrease were in progress under the previous limit and do not decrease it again.
+	 */
+	static final class AimdLimit implements ConcurrencyLimit {
+
+		static final double BACKOFF_RATIO = 0.9;
+
+		final long latencyThresholdNanos;
+		final int maxLimit;
+
+		boolean decreased;
+		long lastDecreaseNanos;
+
+		volatile int limit;
+
+		AimdLimit(int initialLimit, int maxLimit, Duration latencyThreshold) {
+			this.latencyThresholdNanos = latencyThreshold.toNanos();
+			this.maxLimit = maxLimit;
+			this.limit = initialLimit;
+		}
+
+		@Override
+		public int limit() {
+			return limit;
+		}
+
+		@Override
+		public synchronized void onSample(long startNanos, long latencyNanos, int inFlight, boolean dropped) {
+			int current = limit;
+			if (dropped || latencyNanos > latencyThresholdNanos) {
+				if (!decreased || startNanos - lastDecreaseNanos > 0) {
+					decreased = true;
+					lastDecreaseNanos = startNanos + latencyNanos;
+					limit = Math.max(1, (int) (current * BACKOFF_RATIO));
+				}
+			}
+			else if (inFlight * 2 >= current) {
+				// Increase only when the limit is actually used
+				limit = Math.min(maxLimit, current + 1);
+			}
+		}
+	}
+
+	private ConcurrencyLimits() {}
+}
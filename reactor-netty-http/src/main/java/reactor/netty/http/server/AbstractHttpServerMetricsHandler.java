@@ -80,12 +80,15 @@ abstract class AbstractHttpServerMetricsHandler extends ChannelDuplexHandler {
 	@Nullable String status;
 
 	final Function<String, String> methodTagValue;
+	final boolean routeTemplateUriTag;
 	final @Nullable Function<String, String> uriTagValue;
 
 	protected AbstractHttpServerMetricsHandler(
 			@Nullable Function<String, String> methodTagValue,
+			boolean routeTemplateUriTag,
 			@Nullable Function<String, String> uriTagValue) {
 		this.methodTagValue = methodTagValue == null ? DEFAULT_METHOD_TAG_VALUE : methodTagValue;
+		this.routeTemplateUriTag = routeTemplateUriTag;
 		this.uriTagValue = uriTagValue;
 	}
 
@@ -104,6 +107,7 @@ abstract class AbstractHttpServerMetricsHandler extends ChannelDuplexHandler {
 		this.remoteSocketAddress = copy.remoteSocketAddress;
 		this.status = copy.status;
 		this.methodTagValue = copy.methodTagValue;
+		this.routeTemplateUriTag = copy.routeTemplateUriTag;
 		this.uriTagValue = copy.uriTagValue;
 	}
 
@@ -247,6 +251,7 @@ abstract class AbstractHttpServerMetricsHandler extends ChannelDuplexHandler {
 	@Override
 	public void channelRead(ChannelHandlerContext ctx, Object msg) {
 		HttpServerOperations ops = null;
+		boolean recordRead = false;
 		try {
 			if (msg instanceof HttpRequest) {
 				reset(ctx.channel());
@@ -280,7 +285,13 @@ abstract class AbstractHttpServerMetricsHandler extends ChannelDuplexHandler {
 			dataReceived += extractProcessedDataFromBuffer(msg);
 
 			if (msg instanceof LastHttpContent) {
-				recordRead();
+				if (routeTemplateUriTag && ops != null) {
+					// Full request, the route is known only once the request is dispatched
+					recordRead = true;
+				}
+				else {
+					recordRead();
+				}
 			}
 		}
 		catch (RuntimeException e) {
@@ -293,6 +304,26 @@ abstract class AbstractHttpServerMetricsHandler extends ChannelDuplexHandler {
 		ctx.fireChannelRead(msg);
 
 		if (ops != null) {
+			if (routeTemplateUriTag) {
+				try {
+					// The routes are applied synchronously when the request is dispatched
+					DefaultHttpServerRoutes.HttpRouteHandler route = ops.route;
+					String template = route != null ? route.getPath() : null;
+					if (route != null && template != null) {
+						routeResolved(route, template);
+					}
+					if (recordRead) {
+						recordRead();
+					}
+				}
+				catch (RuntimeException e) {
+					// Allow request-response exchange to continue, unaffected by metrics problem
+					if (log.isWarnEnabled()) {
+						log.warn(format(ctx.channel(), "Exception caught while recording metrics."), e);
+					}
+				}
+			}
+
 			// ContextView is available only when a subscription to the I/O Handler happens
 			contextView(ops);
 		}
@@ -398,6 +429,16 @@ abstract class AbstractHttpServerMetricsHandler extends ChannelDuplexHandler {
 		recorder().recordStreamClosed(localAddress);
 	}
 
+	/**
+	 * Invoked when the request is handled by a route with a path template.
+	 *
+	 * @param route the route that handles the request
+	 * @param template the route path template
+	 */
+	protected void routeResolved(DefaultHttpServerRoutes.HttpRouteHandler route, String template) {
+		path = template;
+	}
+
 	protected void startRead(HttpServerOperations ops) {
 		dataReceivedTime = System.nanoTime();
 	}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.docs.MeterDocumentation;
+
+/**
+ * Meters for the admission control on the server.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+enum AdmissionControlMeters implements MeterDocumentation {
+
+	/**
+	 * The current limit of the requests in progress.
+	 */
+	LIMIT {
+		@Override
+		public String getName() {
+			return "reactor.netty.http.server.admission.limit";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return AdmissionControlMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.GAUGE;
+		}
+	},
+
+	/**
+	 * The number of the requests in progress.
+	 */
+	IN_FLIGHT {
+		@Override
+		public String getName() {
+			return "reactor.netty.http.server.admission.inflight";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return AdmissionControlMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.GAUGE;
+		}
+	},
+
+	/**
+	 * The number of the requests rejected with {@code 503 Service Unavailable}.
+	 */
+	REJECTED {
+		@Override
+		public String getName() {
+			return "reactor.netty.http.server.admission.rejected";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return AdmissionControlMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.COUNTER;
+		}
+	};
+
+	enum AdmissionControlMetersTags implements KeyName {
+
+		/**
+		 * ID of the server channel.
+		 */
+		ID {
+			@Override
+			public String asString() {
+				return "id";
+			}
+		}
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.time.Duration;
+import java.util.function.ToIntFunction;
+
+/**
+ * Configures the limit of the requests that are in progress at the same time on the server.
+ * The excess requests are rejected immediately with {@code 503 Service Unavailable}, their I/O handler is not
+ * subscribed. A request is in progress until the {@link org.reactivestreams.Publisher} returned by its
+ * I/O handler terminates, i.e. for a websocket, until the websocket is closed.
+ * <p>The limit is either fixed or adapted to the measured response latency, the last configured limit wins.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ * @see HttpServer#admissionControl(java.util.function.Consumer)
+ */
+public interface AdmissionControlSpec {
+
+	/**
+	 * Limits the requests in progress to a fixed number.
+	 *
+	 * @param maxConcurrentRequests the maximum number of the requests in progress
+	 * @return {@literal this}
+	 */
+	AdmissionControlSpec maxConcurrentRequests(int maxConcurrentRequests);
+
+	/**
+	 * Adapts the limit with additive increase/multiplicative decrease. The limit is increased by one when a request
+	 * completes within the latency threshold while at least half of the limit is in use, and is decreased by
+	 * {@code 10%} when a request completes above the latency threshold or with an error. The limit is decreased
+	 * at most once per window, the requests that started before the last decrease do not decrease it again.
+	 *
+	 * @param initialLimit the initial limit
+	 * @param maxLimit the maximum limit
+	 * @param latencyThreshold the response latency above which the limit is decreased
+	 * @return {@literal this}
+	 */
+	AdmissionControlSpec aimdLimit(int initialLimit, int maxLimit, Duration latencyThreshold);
+
+	/**
+	 * Adapts the limit with the gradient of the response latency. The recent latency is compared with the long-term
+	 * latency, the limit decreases when the recent latency grows (i.e. requests queue up) and increases otherwise.
+	 *
+	 * @param initialLimit the initial limit
+	 * @param maxLimit the maximum limit
+	 * @return {@literal this}
+	 */
+	AdmissionControlSpec gradientLimit(int initialLimit, int maxLimit);
+
+	/**
+	 * Configures the priority of the requests, between {@code 1} and {@code 100}, values outside this range are clamped.
+	 * A request with priority {@code p} is admitted only while the requests in progress are below {@code p%}
+	 * of the limit, so that the requests with lower priority are shed first. By default, all requests have priority
+	 * {@code 100}.
+	 *
+	 * @param priority a function that returns the priority of the request
+	 * @return {@literal this}
+	 */
+	AdmissionControlSpec priority(ToIntFunction<? super HttpServerRequest> priority);
+
+	/**
+	 * Whether to expose the limit, the requests in progress and the rejected requests as metrics with
+	 * a prefix of {@code reactor.netty.http.server.admission}. Micrometer must be on the classpath.
+	 * By default, metrics are not enabled.
+	 *
+	 * @param enable true enables the metrics
+	 * @return {@literal this}
+	 */
+	AdmissionControlSpec metrics(boolean enable);
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * The request and the response given to a {@link BlockingHttpHandler}, together with blocking adapters
+ * for their bodies. The adapters apply backpressure, a read waits for the next inbound buffer and
+ * a write waits for demand from the connection, the event loop only performs the I/O.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+public interface BlockingHttpExchange {
+
+	/**
+	 * Returns the request.
+	 *
+	 * @return the request
+	 */
+	HttpServerRequest request();
+
+	/**
+	 * Returns the response, the status and the headers must be set before the first write to
+	 * {@link #responseBody()}.
+	 *
+	 * @return the response
+	 */
+	HttpServerResponse response();
+
+	/**
+	 * Returns the request body as {@link InputStream}, the buffers are requested one at a time from
+	 * {@link HttpServerRequest#receive()}.
+	 *
+	 * @return the request body as {@link InputStream}
+	 */
+	InputStream requestBody();
+
+	/**
+	 * Returns the response body as {@link OutputStream}, the first write sends the status and the headers.
+	 * The written bytes are sent in chunks of 8 KiB or on
+	 * {@link OutputStream#flush()}, the stream is closed once the handler returns.
+	 *
+	 * @return the response body as {@link OutputStream}
+	 */
+	OutputStream responseBody();
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+/**
+ * An I/O handler written in a blocking style, it is invoked on a virtual thread so that blocking calls
+ * (e.g. JDBC) do not block the event loop and do not need to be shifted to another scheduler.
+ * The request is completed once this handler returns and the response body is flushed.
+ * Virtual threads require Java 21 or newer.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ * @see HttpServer#handleBlocking(BlockingHttpHandler)
+ * @see HttpServerRoutes#routeBlocking(java.util.function.Predicate, BlockingHttpHandler)
+ */
+@FunctionalInterface
+public interface BlockingHttpHandler {
+
+	/**
+	 * Handles the request, invoked on a virtual thread.
+	 *
+	 * @param exchange the request and the response with their blocking body adapters
+	 * @throws Exception when the request cannot be handled, the response is then aborted
+	 */
+	void handle(BlockingHttpExchange exchange) throws Exception;
+}
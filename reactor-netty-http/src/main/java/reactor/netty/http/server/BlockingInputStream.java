@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCountUtil;
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.netty.ByteBufFlux;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * {@link InputStream} reading the request body, the buffers are requested one at a time,
+ * a read blocks the calling thread until the next buffer is received.
+ * <p>The buffers that are received but not read are released when the stream is closed,
+ * also when they are received after that.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+final class BlockingInputStream extends InputStream {
+
+	static final Object COMPLETE = new Object();
+
+	final BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+	final ContentSubscriber subscriber = new ContentSubscriber();
+
+	@Nullable ByteBuf current;
+	boolean done;
+	boolean requested;
+
+	volatile boolean closed;
+
+	BlockingInputStream(ByteBufFlux content) {
+		// The inbound buffers are released once delivered, they are retained until read
+		content.retain()
+		       .doOnDiscard(ByteBuf.class, ByteBuf::release)
+		       .subscribe(subscriber);
+	}
+
+	@Override
+	public int available() {
+		ByteBuf buf = current;
+		return buf != null ? buf.readableBytes() : 0;
+	}
+
+	@Override
+	public void close() {
+		if (!closed) {
+			closed = true;
+			ByteBuf buf = current;
+			if (buf != null) {
+				current = null;
+				buf.release();
+			}
+			subscriber.dispose();
+			drain();
+		}
+	}
+
+	@Override
+	public int read() throws IOException {
+		ByteBuf buf = next();
+		return buf != null ? buf.readUnsignedByte() : -1;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (off < 0 || len < 0 || len > b.length - off) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (len == 0) {
+			return 0;
+		}
+		ByteBuf buf = next();
+		if (buf == null) {
+			return -1;
+		}
+		int read = Math.min(len, buf.readableBytes());
+		buf.readBytes(b, off, read);
+		return read;
+	}
+
+	/**
+	 * Releases the buffers that are received but not read.
+	 */
+	void drain() {
+		Object signal;
+		while ((signal = signals.poll()) != null) {
+			ReferenceCountUtil.release(signal);
+		}
+	}
+
+	@Nullable ByteBuf next() throws IOException {
+		if (closed) {
+			throw new IOException("Stream closed");
+		}
+		ByteBuf buf = current;
+		while (buf == null || !buf.isReadable()) {
+			if (buf != null) {
+				current = null;
+				buf.release();
+			}
+			if (done) {
+				return null;
+			}
+			if (!requested) {
+				requested = true;
+				subscriber.request(1);
+			}
+			Object signal;
+			try {
+				signal = signals.take();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException();
+			}
+			if (signal == COMPLETE) {
+				done = true;
+				return null;
+			}
+			if (signal instanceof Throwable) {
+				done = true;
+				throw new IOException((Throwable) signal);
+			}
+			requested = false;
+			buf = (ByteBuf) signal;
+			current = buf;
+		}
+		return buf;
+	}
+
+	final class ContentSubscriber extends BaseSubscriber<ByteBuf> {
+
+		@Override
+		protected void hookOnSubscribe(Subscription subscription) {
+			// The buffers are requested one at a time by the reading thread
+		}
+
+		@Override
+		protected void hookOnNext(ByteBuf value) {
+			signals.offer(value);
+			if (closed) {
+				drain();
+			}
+		}
+
+		@Override
+		protected void hookOnComplete() {
+			signals.offer(COMPLETE);
+		}
+
+		@Override
+		protected void hookOnError(Throwable throwable) {
+			signals.offer(throwable);
+		}
+	}
+}
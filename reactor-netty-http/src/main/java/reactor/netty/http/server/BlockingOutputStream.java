@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Operators;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link OutputStream} writing the response body, the written bytes are emitted in chunks by {@link #content()}.
+ * A chunk is emitted only when requested by the connection, until then the writing thread is blocked.
+ * {@link ReentrantLock} is used instead of {@code synchronized} so that a blocked virtual thread does not pin
+ * its carrier thread.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+final class BlockingOutputStream extends OutputStream {
+
+	static final int CHUNK_SIZE = 8192;
+
+	final ByteBufAllocator alloc;
+	final Flux<ByteBuf> content;
+	final ReentrantLock lock = new ReentrantLock();
+	final Condition demanded = lock.newCondition();
+
+	@Nullable ByteBuf buffer;
+	boolean cancelled;
+	boolean closed;
+	long demand;
+	@Nullable Throwable error;
+	@Nullable FluxSink<ByteBuf> sink;
+
+	BlockingOutputStream(ByteBufAllocator alloc) {
+		this.alloc = alloc;
+		this.content = Flux.create(sink -> {
+			sink.onRequest(n -> signal(() -> demand = Operators.addCap(demand, n)));
+			sink.onDispose(() -> signal(() -> cancelled = true));
+			Throwable error;
+			lock.lock();
+			try {
+				this.sink = sink;
+				error = this.error;
+				demanded.signalAll();
+			}
+			finally {
+				lock.unlock();
+			}
+			if (error != null) {
+				sink.error(error);
+			}
+		});
+	}
+
+	/**
+	 * Returns the chunks written to this stream, it can be subscribed only once.
+	 *
+	 * @return the chunks written to this stream
+	 */
+	Flux<ByteBuf> content() {
+		return content;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (!closed) {
+			emit();
+			closed = true;
+			FluxSink<ByteBuf> sink = awaitSink();
+			if (sink != null) {
+				sink.complete();
+			}
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if (closed) {
+			throw new IOException("Stream closed");
+		}
+		emit();
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		buffer().writeByte(b);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (off < 0 || len < 0 || len > b.length - off) {
+			throw new IndexOutOfBoundsException();
+		}
+		while (len > 0) {
+			ByteBuf buf = buffer();
+			int write = Math.min(len, buf.writableBytes());
+			buf.writeBytes(b, off, write);
+			off += write;
+			len -= write;
+		}
+	}
+
+	/**
+	 * Unblocks the writing thread when the content will not be consumed.
+	 */
+	void cancel() {
+		signal(() -> cancelled = true);
+	}
+
+	/**
+	 * Terminates the content with an error, the pending bytes are discarded.
+	 *
+	 * @param error the error
+	 */
+	void abort(Throwable error) {
+		ByteBuf buf = buffer;
+		if (buf != null) {
+			buffer = null;
+			buf.release();
+		}
+		if (!closed) {
+			closed = true;
+			FluxSink<ByteBuf> sink;
+			lock.lock();
+			try {
+				sink = this.sink;
+				if (sink == null) {
+					// The content is not subscribed yet, the error is emitted on subscribe
+					this.error = error;
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+			if (sink != null) {
+				sink.error(error);
+			}
+		}
+	}
+
+	/**
+	 * Returns a buffer with writable bytes, emits the current buffer when full.
+	 */
+	ByteBuf buffer() throws IOException {
+		if (closed) {
+			throw new IOException("Stream closed");
+		}
+		ByteBuf buf = buffer;
+		if (buf != null && !buf.isWritable()) {
+			emit();
+			buf = null;
+		}
+		if (buf == null) {
+			buf = buffer = alloc.buffer(CHUNK_SIZE, CHUNK_SIZE);
+		}
+		return buf;
+	}
+
+	/**
+	 * Emits the current buffer once requested, the calling thread is blocked until then.
+	 */
+	void emit() throws IOException {
+		ByteBuf buf = buffer;
+		if (buf == null || !buf.isReadable()) {
+			return;
+		}
+		buffer = null;
+		FluxSink<ByteBuf> sink;
+		lock.lock();
+		try {
+			while (!cancelled && (this.sink == null || demand == 0)) {
+				demanded.await();
+			}
+			if (cancelled) {
+				buf.release();
+				throw new IOException("Response cancelled");
+			}
+			demand--;
+			sink = this.sink;
+		}
+		catch (InterruptedException e) {
+			buf.release();
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+		finally {
+			lock.unlock();
+		}
+		if (sink != null) {
+			sink.next(buf);
+		}
+	}
+
+	@Nullable FluxSink<ByteBuf> awaitSink() throws IOException {
+		lock.lock();
+		try {
+			while (!cancelled && sink == null) {
+				demanded.await();
+			}
+			return cancelled ? null : sink;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	void signal(Runnable update) {
+		lock.lock();
+		try {
+			update.run();
+			demanded.signalAll();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+}
@@ -58,7 +58,15 @@ public final class ConnectionInfo {
 
 	final @Nullable String forwardedPrefix;
 
+	final @Nullable ProxyProtocolTlvs proxyProtocolTlvs;
+
+	static ConnectionInfo from(HttpRequest request, boolean secured, SocketAddress localAddress, SocketAddress remoteAddress,
+			@Nullable BiFunction<ConnectionInfo, HttpRequest, ConnectionInfo> forwardedHeaderHandler) {
+		return from(request, secured, localAddress, remoteAddress, null, forwardedHeaderHandler);
+	}
+
 	static ConnectionInfo from(HttpRequest request, boolean secured, SocketAddress localAddress, SocketAddress remoteAddress,
+			@Nullable ProxyProtocolTlvs proxyProtocolTlvs,
 			@Nullable BiFunction<ConnectionInfo, HttpRequest, ConnectionInfo> forwardedHeaderHandler) {
 		String hostName = DEFAULT_HOST_NAME;
 		int hostPort = -1;
@@ -77,11 +85,11 @@ public final class ConnectionInfo {
 		}
 
 		if (!(remoteAddress instanceof InetSocketAddress)) {
-			return new ConnectionInfo(localAddress, hostName, hostPort, remoteAddress, scheme, false);
+			return new ConnectionInfo(localAddress, hostName, hostPort, remoteAddress, scheme, false, null, proxyProtocolTlvs);
 		}
 		else {
 			ConnectionInfo connectionInfo =
-					new ConnectionInfo(localAddress, hostName, hostPort, remoteAddress, scheme, true);
+					new ConnectionInfo(localAddress, hostName, hostPort, remoteAddress, scheme, true, null, proxyProtocolTlvs);
 			if (forwardedHeaderHandler != null) {
 				return forwardedHeaderHandler.apply(connectionInfo, request);
 			}
@@ -100,6 +108,12 @@ public final class ConnectionInfo {
 
 	ConnectionInfo(SocketAddress hostAddress, String hostName, int hostPort,
 			SocketAddress remoteAddress, String scheme, boolean isInetAddress, @Nullable String forwardedPrefix) {
+		this(hostAddress, hostName, hostPort, remoteAddress, scheme, isInetAddress, forwardedPrefix, null);
+	}
+
+	ConnectionInfo(SocketAddress hostAddress, String hostName, int hostPort,
+			SocketAddress remoteAddress, String scheme, boolean isInetAddress, @Nullable String forwardedPrefix,
+			@Nullable ProxyProtocolTlvs proxyProtocolTlvs) {
 		this.hostAddress = hostAddress;
 		this.hostName = hostName;
 		this.hostPort = hostPort;
@@ -107,6 +121,7 @@ public final class ConnectionInfo {
 		this.remoteAddress = remoteAddress;
 		this.scheme = scheme;
 		this.forwardedPrefix = forwardedPrefix;
+		this.proxyProtocolTlvs = proxyProtocolTlvs;
 	}
 
 	/**
@@ -141,7 +156,7 @@ public final class ConnectionInfo {
 	public ConnectionInfo withHostAddress(InetSocketAddress hostAddress) {
 		requireNonNull(hostAddress, "hostAddress");
 		return new ConnectionInfo(hostAddress, hostAddress.getHostString(), hostAddress.getPort(), this.remoteAddress,
-				this.scheme, true);
+				this.scheme, true, null, this.proxyProtocolTlvs);
 	}
 
 	/**
@@ -155,7 +170,7 @@ public final class ConnectionInfo {
 	public ConnectionInfo withHostAddress(InetSocketAddress hostAddress, String hostName, int hostPort) {
 		requireNonNull(hostAddress, "hostAddress");
 		requireNonNull(hostName, "hostName");
-		return new ConnectionInfo(hostAddress, hostName, hostPort, this.remoteAddress, this.scheme, true);
+		return new ConnectionInfo(hostAddress, hostName, hostPort, this.remoteAddress, this.scheme, true, null, this.proxyProtocolTlvs);
 	}
 
 	/**
@@ -165,7 +180,8 @@ public final class ConnectionInfo {
 	 */
 	public ConnectionInfo withRemoteAddress(InetSocketAddress remoteAddress) {
 		requireNonNull(remoteAddress, "remoteAddress");
-		return new ConnectionInfo(this.hostAddress, this.hostName, this.hostPort, remoteAddress, this.scheme, true);
+		return new ConnectionInfo(this.hostAddress, this.hostName, this.hostPort, remoteAddress, this.scheme, true, null,
+				this.proxyProtocolTlvs);
 	}
 
 	/**
@@ -175,7 +191,8 @@ public final class ConnectionInfo {
 	 */
 	public ConnectionInfo withScheme(String scheme) {
 		requireNonNull(scheme, "scheme");
-		return new ConnectionInfo(this.hostAddress, this.hostName, this.hostPort, this.remoteAddress, scheme, this.isInetAddress);
+		return new ConnectionInfo(this.hostAddress, this.hostName, this.hostPort, this.remoteAddress, scheme, this.isInetAddress,
+				null, this.proxyProtocolTlvs);
 	}
 
 	/**
@@ -187,7 +204,7 @@ public final class ConnectionInfo {
 	public ConnectionInfo withForwardedPrefix(String forwardedPrefix) {
 		requireNonNull(forwardedPrefix, "forwardedPrefix");
 		return new ConnectionInfo(this.hostAddress, this.hostName, this.hostPort, this.remoteAddress, this.scheme,
-				this.isInetAddress, forwardedPrefix);
+				this.isInetAddress, forwardedPrefix, this.proxyProtocolTlvs);
 	}
 
 	/**
@@ -217,6 +234,15 @@ public final class ConnectionInfo {
 		return forwardedPrefix;
 	}
 
+	/**
+	 * Returns the TLVs received with the PROXY protocol v2 header on this connection.
+	 * @return the TLVs received with the PROXY protocol v2 header, or {@code null} when there are no TLVs
+	 * @since 1.3.0
+	 */
+	public @Nullable ProxyProtocolTlvs getProxyProtocolTlvs() {
+		return proxyProtocolTlvs;
+	}
+
 	/**
 	 * Returns the default host port number based on scheme.
 	 * @param scheme a connection scheme like "http", "https", or "wss"
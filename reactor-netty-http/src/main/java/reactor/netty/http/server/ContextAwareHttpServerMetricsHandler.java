@@ -38,8 +38,9 @@ final class ContextAwareHttpServerMetricsHandler extends AbstractHttpServerMetri
 	ContextAwareHttpServerMetricsHandler(
 			ContextAwareHttpServerMetricsRecorder recorder,
 			@Nullable Function<String, String> methodTagValue,
+			boolean routeTemplateUriTag,
 			@Nullable Function<String, String> uriTagValue) {
-		super(methodTagValue, uriTagValue);
+		super(methodTagValue, routeTemplateUriTag, uriTagValue);
 		this.recorder = recorder;
 	}
 
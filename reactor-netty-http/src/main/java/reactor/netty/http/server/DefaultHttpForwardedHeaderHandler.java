@@ -15,19 +15,24 @@
  */
 package reactor.netty.http.server;
 
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
 import java.util.ArrayList;
+import java.util.Objects;
 import java.util.StringTokenizer;
 import java.util.function.BiFunction;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
+import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpRequest;
+import org.jspecify.annotations.Nullable;
 import reactor.netty.transport.AddressUtils;
 
 import static reactor.netty.http.server.ConnectionInfo.getDefaultHostPort;
 
 /**
  * Default implementation for handling {@code X-Forwarded}/{@code Forwarded} headers.
+ * <p>The headers are parsed in a single pass without regular expressions and without
+ * intermediate {@link ConnectionInfo} copies.
  *
  * @author Andrey Shlykov
  * @since 0.9.12
@@ -43,9 +48,9 @@ final class DefaultHttpForwardedHeaderHandler implements BiFunction<ConnectionIn
 	static final String  X_FORWARDED_PROTO_HEADER = "X-Forwarded-Proto";
 	static final String  X_FORWARDED_PREFIX_HEADER = "X-Forwarded-Prefix";
 
-	static final Pattern FORWARDED_HOST_PATTERN   = Pattern.compile("host=\"?([^;,\"]+)\"?");
-	static final Pattern FORWARDED_PROTO_PATTERN  = Pattern.compile("proto=\"?([^;,\"]+)\"?");
-	static final Pattern FORWARDED_FOR_PATTERN    = Pattern.compile("for=\"?([^;,\"]+)\"?");
+	static final String  FORWARDED_FOR   = "for";
+	static final String  FORWARDED_HOST  = "host";
+	static final String  FORWARDED_PROTO = "proto";
 
 	private static final String[] EMPTY_STRING_ARRAY = {};
 
@@ -62,78 +67,213 @@ final class DefaultHttpForwardedHeaderHandler implements BiFunction<ConnectionIn
 
 	@Override
 	public ConnectionInfo apply(ConnectionInfo connectionInfo, HttpRequest request) {
-		String forwardedHeader = request.headers().get(FORWARDED_HEADER);
+		HttpHeaders headers = request.headers();
+		String forwardedHeader = headers.get(FORWARDED_HEADER);
 		if (forwardedHeader != null) {
 			return parseForwardedInfo(connectionInfo, forwardedHeader);
 		}
-		return parseXForwardedInfo(connectionInfo, request);
+		return parseXForwardedInfo(connectionInfo,
+				headers.get(X_FORWARDED_IP_HEADER),
+				headers.get(X_FORWARDED_PROTO_HEADER),
+				headers.get(X_FORWARDED_HOST_HEADER),
+				headers.get(X_FORWARDED_PORT_HEADER),
+				headers.get(X_FORWARDED_PREFIX_HEADER));
 	}
 
-	@SuppressWarnings("NullAway")
-	private ConnectionInfo parseForwardedInfo(ConnectionInfo connectionInfo, String forwardedHeader) {
-		String forwarded = forwardedHeader.split(",", 2)[0];
-		Matcher protoMatcher = FORWARDED_PROTO_PATTERN.matcher(forwarded);
-		if (protoMatcher.find()) {
-			connectionInfo = connectionInfo.withScheme(protoMatcher.group(1).trim());
-		}
-		Matcher hostMatcher = FORWARDED_HOST_PATTERN.matcher(forwarded);
-		if (hostMatcher.find()) {
-			connectionInfo = connectionInfo.withHostAddress(
-					AddressUtils.parseAddress(hostMatcher.group(1),
-							getDefaultHostPort(connectionInfo.getScheme()), DEFAULT_FORWARDED_HEADER_VALIDATION));
-		}
-		Matcher forMatcher = FORWARDED_FOR_PATTERN.matcher(forwarded);
-		if (forMatcher.find()) {
-			connectionInfo = connectionInfo.withRemoteAddress(
-					// Deliberately suppress "NullAway"
-					// This implementation is invoked always with InetSocketAddress and remote address != null
-					AddressUtils.parseAddress(forMatcher.group(1).trim(), connectionInfo.getRemoteAddress().getPort(),
-							DEFAULT_FORWARDED_HEADER_VALIDATION));
-		}
-		return connectionInfo;
+	/**
+	 * Parses the first element of the {@code Forwarded} header, i.e. everything before the first
+	 * {@code ','} that is not quoted. The parameters are separated by {@code ';'},
+	 * their names are case-insensitive and the values might be quoted.
+	 */
+	static ConnectionInfo parseForwardedInfo(ConnectionInfo connectionInfo, String forwardedHeader) {
+		String proto = null;
+		String host = null;
+		String forAddress = null;
+		int length = forwardedHeader.length();
+		int index = 0;
+		while (index < length) {
+			int nameStart = skipWhitespaces(forwardedHeader, index, length);
+			int nameEnd = nameStart;
+			char c = 0;
+			while (nameEnd < length && (c = forwardedHeader.charAt(nameEnd)) != '=' && c != ';' && c != ',') {
+				nameEnd++;
+			}
+			if (nameEnd == length || c != '=') {
+				// A parameter without a value
+				if (c == ',') {
+					break;
+				}
+				index = nameEnd + 1;
+				continue;
+			}
+
+			int valueStart = skipWhitespaces(forwardedHeader, nameEnd + 1, length);
+			int valueEnd;
+			int end;
+			if (valueStart < length && forwardedHeader.charAt(valueStart) == '"') {
+				valueStart++;
+				valueEnd = forwardedHeader.indexOf('"', valueStart);
+				if (valueEnd == -1) {
+					valueEnd = length;
+				}
+				end = valueEnd;
+				while (end < length && (c = forwardedHeader.charAt(end)) != ';' && c != ',') {
+					end++;
+				}
+			}
+			else {
+				end = valueStart;
+				while (end < length && (c = forwardedHeader.charAt(end)) != ';' && c != ',') {
+					end++;
+				}
+				valueEnd = trimEnd(forwardedHeader, valueStart, end);
+			}
+
+			if (valueEnd > valueStart) {
+				nameEnd = trimEnd(forwardedHeader, nameStart, nameEnd);
+				if (proto == null && isName(forwardedHeader, nameStart, nameEnd, FORWARDED_PROTO)) {
+					proto = forwardedHeader.substring(valueStart, valueEnd);
+				}
+				else if (host == null && isName(forwardedHeader, nameStart, nameEnd, FORWARDED_HOST)) {
+					host = forwardedHeader.substring(valueStart, valueEnd);
+				}
+				else if (forAddress == null && isName(forwardedHeader, nameStart, nameEnd, FORWARDED_FOR)) {
+					forAddress = forwardedHeader.substring(valueStart, valueEnd);
+				}
+			}
+
+			if (end >= length || forwardedHeader.charAt(end) == ',') {
+				break;
+			}
+			index = end + 1;
+		}
+
+		if (proto == null && host == null && forAddress == null) {
+			return connectionInfo;
+		}
+
+		String scheme = proto != null ? proto : connectionInfo.scheme;
+		SocketAddress hostAddress = connectionInfo.hostAddress;
+		String hostName = connectionInfo.hostName;
+		int hostPort = connectionInfo.hostPort;
+		if (host != null) {
+			InetSocketAddress address =
+					AddressUtils.parseAddress(host, getDefaultHostPort(scheme), DEFAULT_FORWARDED_HEADER_VALIDATION);
+			hostAddress = address;
+			hostName = address.getHostString();
+			hostPort = address.getPort();
+		}
+		SocketAddress remoteAddress = connectionInfo.remoteAddress;
+		if (forAddress != null) {
+			// This implementation is invoked always with InetSocketAddress
+			remoteAddress = AddressUtils.parseAddress(forAddress, ((InetSocketAddress) remoteAddress).getPort(),
+					DEFAULT_FORWARDED_HEADER_VALIDATION);
+		}
+		return new ConnectionInfo(hostAddress, hostName, hostPort, remoteAddress, scheme,
+				connectionInfo.isInetAddress || host != null || forAddress != null, null, connectionInfo.proxyProtocolTlvs);
 	}
 
-	@SuppressWarnings("NullAway")
-	private ConnectionInfo parseXForwardedInfo(ConnectionInfo connectionInfo, HttpRequest request) {
-		String ipHeader = request.headers().get(X_FORWARDED_IP_HEADER);
-		if (ipHeader != null) {
-			connectionInfo = connectionInfo.withRemoteAddress(
-					// Deliberately suppress "NullAway"
-					// This implementation is invoked always with InetSocketAddress and remote address != null
-					AddressUtils.parseAddress(ipHeader.split(",", 2)[0], connectionInfo.getRemoteAddress().getPort()));
+	static ConnectionInfo parseXForwardedInfo(
+			ConnectionInfo connectionInfo,
+			@Nullable String ipHeader,
+			@Nullable String protoHeader,
+			@Nullable String hostHeader,
+			@Nullable String portHeader,
+			@Nullable String prefixHeader) {
+		if (ipHeader == null && protoHeader == null && hostHeader == null && portHeader == null && prefixHeader == null) {
+			return connectionInfo;
 		}
-		String protoHeader = request.headers().get(X_FORWARDED_PROTO_HEADER);
-		if (protoHeader != null) {
-			connectionInfo = connectionInfo.withScheme(protoHeader.split(",", 2)[0].trim());
+
+		boolean isInetAddress = connectionInfo.isInetAddress;
+		SocketAddress remoteAddress = connectionInfo.remoteAddress;
+		if (ipHeader != null) {
+			// This implementation is invoked always with InetSocketAddress
+			remoteAddress = AddressUtils.parseAddress(firstValue(ipHeader), ((InetSocketAddress) remoteAddress).getPort());
+			isInetAddress = true;
 		}
-		String hostHeader = request.headers().get(X_FORWARDED_HOST_HEADER);
+
+		String scheme = protoHeader != null ? firstValue(protoHeader) : connectionInfo.scheme;
+
+		SocketAddress hostAddress = connectionInfo.hostAddress;
+		String hostName = connectionInfo.hostName;
+		int hostPort = connectionInfo.hostPort;
 		if (hostHeader != null) {
-			connectionInfo = connectionInfo.withHostAddress(
-					AddressUtils.parseAddress(hostHeader.split(",", 2)[0].trim(),
-							getDefaultHostPort(connectionInfo.getScheme()), DEFAULT_FORWARDED_HEADER_VALIDATION));
+			InetSocketAddress address =
+					AddressUtils.parseAddress(firstValue(hostHeader), getDefaultHostPort(scheme), DEFAULT_FORWARDED_HEADER_VALIDATION);
+			hostAddress = address;
+			hostName = address.getHostString();
+			hostPort = address.getPort();
+			isInetAddress = true;
 		}
 
-		String portHeader = request.headers().get(X_FORWARDED_PORT_HEADER);
 		if (portHeader != null && !portHeader.isEmpty()) {
-			String portStr = portHeader.split(",", 2)[0].trim();
-			if (portStr.chars().allMatch(Character::isDigit)) {
-				int port = Integer.parseInt(portStr);
-				connectionInfo = connectionInfo.withHostAddress(
-						// Deliberately suppress "NullAway"
-						// This implementation is invoked always with InetSocketAddress and local address != null
-						AddressUtils.createUnresolved(connectionInfo.getHostAddress().getHostString(), port),
-						connectionInfo.getHostName(), port);
+			int port = parsePort(firstValue(portHeader));
+			if (port != -1) {
+				// This implementation is invoked always with InetSocketAddress
+				hostAddress = AddressUtils.createUnresolved(((InetSocketAddress) hostAddress).getHostString(), port);
+				hostPort = port;
+				isInetAddress = true;
 			}
 			else if (DEFAULT_FORWARDED_HEADER_VALIDATION) {
 				throw new IllegalArgumentException("Failed to parse a port from " + portHeader);
 			}
 		}
 
-		String prefixHeader = request.headers().get(X_FORWARDED_PREFIX_HEADER);
-		if (prefixHeader != null) {
-			connectionInfo = connectionInfo.withForwardedPrefix(parseForwardedPrefix(prefixHeader));
+		return new ConnectionInfo(hostAddress, hostName, hostPort, remoteAddress, scheme, isInetAddress,
+				prefixHeader != null ? parseForwardedPrefix(prefixHeader) : null, connectionInfo.proxyProtocolTlvs);
+	}
+
+	/**
+	 * Returns the first comma separated value without the leading and trailing whitespaces.
+	 * When the header has only one value without whitespaces, the header itself is returned.
+	 */
+	static String firstValue(String header) {
+		int length = header.length();
+		int end = header.indexOf(',');
+		if (end == -1) {
+			end = length;
+		}
+		int start = skipWhitespaces(header, 0, end);
+		end = trimEnd(header, start, end);
+		return start == 0 && end == length ? header : header.substring(start, end);
+	}
+
+	static boolean isName(String header, int start, int end, String name) {
+		return end - start == name.length() && header.regionMatches(true, start, name, 0, name.length());
+	}
+
+	static int parsePort(String port) {
+		int length = port.length();
+		if (length == 0 || length > 5) {
+			return -1;
+		}
+		int result = 0;
+		for (int i = 0; i < length; i++) {
+			int digit = port.charAt(i) - '0';
+			if (digit < 0 || digit > 9) {
+				return -1;
+			}
+			result = result * 10 + digit;
+		}
+		return result;
+	}
+
+	static int skipWhitespaces(String header, int start, int end) {
+		while (start < end && isWhitespace(header.charAt(start))) {
+			start++;
+		}
+		return start;
+	}
+
+	static int trimEnd(String header, int start, int end) {
+		while (end > start && isWhitespace(header.charAt(end - 1))) {
+			end--;
 		}
-		return connectionInfo;
+		return end;
+	}
+
+	static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t';
 	}
 
 	private static String parseForwardedPrefix(String prefixHeader) {
@@ -164,4 +304,90 @@ final class DefaultHttpForwardedHeaderHandler implements BiFunction<ConnectionIn
 		}
 		return !tokens.isEmpty() ? tokens.toArray(EMPTY_STRING_ARRAY) : EMPTY_STRING_ARRAY;
 	}
+
+	/**
+	 * A {@link DefaultHttpForwardedHeaderHandler} bound to one HTTP/1.1 connection.
+	 * Behind a load balancer the requests on a keep-alive connection carry the same forwarded headers,
+	 * thus the {@link ConnectionInfo} resolved for the previous request is returned
+	 * when the headers and the connection information are the same.
+	 * <p>This handler is accessed only from the event loop of the connection.
+	 */
+	static final class ConnectionCache implements BiFunction<ConnectionInfo, HttpRequest, ConnectionInfo> {
+
+		@Nullable ConnectionInfo connectionInfo;
+		@Nullable ConnectionInfo result;
+
+		@Nullable String forwardedHeader;
+		@Nullable String hostHeader;
+		@Nullable String ipHeader;
+		@Nullable String portHeader;
+		@Nullable String prefixHeader;
+		@Nullable String protoHeader;
+
+		@Override
+		public ConnectionInfo apply(ConnectionInfo connectionInfo, HttpRequest request) {
+			HttpHeaders headers = request.headers();
+			String forwardedHeader = headers.get(FORWARDED_HEADER);
+			if (forwardedHeader != null) {
+				ConnectionInfo result = this.result;
+				if (result != null && forwardedHeader.equals(this.forwardedHeader) && sameConnectionInfo(connectionInfo)) {
+					return result;
+				}
+				result = parseForwardedInfo(connectionInfo, forwardedHeader);
+				update(connectionInfo, result, forwardedHeader, null, null, null, null, null);
+				return result;
+			}
+
+			String ipHeader = headers.get(X_FORWARDED_IP_HEADER);
+			String protoHeader = headers.get(X_FORWARDED_PROTO_HEADER);
+			String hostHeader = headers.get(X_FORWARDED_HOST_HEADER);
+			String portHeader = headers.get(X_FORWARDED_PORT_HEADER);
+			String prefixHeader = headers.get(X_FORWARDED_PREFIX_HEADER);
+			ConnectionInfo result = this.result;
+			if (result != null && this.forwardedHeader == null &&
+					Objects.equals(ipHeader, this.ipHeader) &&
+					Objects.equals(protoHeader, this.protoHeader) &&
+					Objects.equals(hostHeader, this.hostHeader) &&
+					Objects.equals(portHeader, this.portHeader) &&
+					Objects.equals(prefixHeader, this.prefixHeader) &&
+					sameConnectionInfo(connectionInfo)) {
+				return result;
+			}
+			result = parseXForwardedInfo(connectionInfo, ipHeader, protoHeader, hostHeader, portHeader, prefixHeader);
+			update(connectionInfo, result, null, ipHeader, protoHeader, hostHeader, portHeader, prefixHeader);
+			return result;
+		}
+
+		boolean sameConnectionInfo(ConnectionInfo connectionInfo) {
+			ConnectionInfo previous = this.connectionInfo;
+			return previous != null &&
+					previous.hostPort == connectionInfo.hostPort &&
+					previous.isInetAddress == connectionInfo.isInetAddress &&
+					previous.scheme.equals(connectionInfo.scheme) &&
+					previous.hostName.equals(connectionInfo.hostName) &&
+					previous.hostAddress.equals(connectionInfo.hostAddress) &&
+					previous.remoteAddress.equals(connectionInfo.remoteAddress) &&
+					Objects.equals(previous.forwardedPrefix, connectionInfo.forwardedPrefix) &&
+					previous.proxyProtocolTlvs == connectionInfo.proxyProtocolTlvs;
+		}
+
+		void update(
+				ConnectionInfo connectionInfo,
+				ConnectionInfo result,
+				@Nullable String forwardedHeader,
+				@Nullable String ipHeader,
+				@Nullable String protoHeader,
+				@Nullable String hostHeader,
+				@Nullable String portHeader,
+				@Nullable String prefixHeader) {
+			this.connectionInfo = connectionInfo;
+			this.result = result;
+			this.forwardedHeader = forwardedHeader;
+			this.ipHeader = ipHeader;
+			this.protoHeader = protoHeader;
+			this.hostHeader = hostHeader;
+			this.portHeader = portHeader;
+			this.prefixHeader = prefixHeader;
+		}
+	}
 }
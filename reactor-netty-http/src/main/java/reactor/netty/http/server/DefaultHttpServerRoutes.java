@@ -130,6 +130,23 @@ final class DefaultHttpServerRoutes implements HttpServerRoutes {
 		return this;
 	}
 
+	/**
+	 * Binds the meters of the routes that have a path template and a method, so that the requests
+	 * handled by these routes do not need to resolve them.
+	 *
+	 * @param recorder the Micrometer recorder
+	 * @param methodTagValue the function that returns the method tag value
+	 */
+	void bindMeters(MicrometerHttpServerMetricsRecorder recorder, Function<String, String> methodTagValue) {
+		for (HttpRouteHandler handler : handlers) {
+			String path = handler.path;
+			HttpMethod method = handler.method;
+			if (path != null && method != null) {
+				recorder.getRouteMeters(handler, path, methodTagValue.apply(method.name()));
+			}
+		}
+	}
+
 	@Override
 	public Publisher<Void> apply(HttpServerRequest request, HttpServerResponse response) {
 		// find I/0 handler to process this request
@@ -165,6 +182,10 @@ final class DefaultHttpServerRoutes implements HttpServerRoutes {
 
 		final @Nullable HttpMethod method;
 
+		// Meters bound to this route, bound when the server is bound or resolved on the first request
+		// handled by this route when the route has no method
+		volatile MicrometerHttpServerMetricsRecorder.@Nullable RouteMeters meters;
+
 		HttpRouteHandler(Predicate<? super HttpServerRequest> condition,
 				BiFunction<? super HttpServerRequest, ? super HttpServerResponse, ? extends Publisher<Void>> handler,
 				@Nullable Function<? super String, Map<String, String>> resolver,
@@ -180,6 +201,9 @@ final class DefaultHttpServerRoutes implements HttpServerRoutes {
 		@Override
 		public Publisher<Void> apply(HttpServerRequest request,
 				HttpServerResponse response) {
+			if (request instanceof HttpServerOperations) {
+				((HttpServerOperations) request).route = this;
+			}
 			return handler.apply(request.paramsResolver(resolver), response);
 		}
 
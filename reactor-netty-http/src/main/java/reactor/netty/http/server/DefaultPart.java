@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.multipart.HttpPostRequestDecoder.ErrorDataDecoderException;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Default {@link Part} implementation, the content is a window of the tokens produced by {@link MultipartParser}.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+final class DefaultPart implements Part {
+
+	final ByteBufAllocator alloc;
+	final Flux<ByteBuf> content;
+	final @Nullable String filename;
+	final HttpHeaders headers;
+	final String name;
+
+	DefaultPart(HttpHeaders headers, Flux<ByteBuf> content, ByteBufAllocator alloc) {
+		String contentDisposition = headers.get(HttpHeaderNames.CONTENT_DISPOSITION);
+		String name = contentDisposition != null ? MultipartParser.parameter(contentDisposition, "name") : null;
+		if (name == null) {
+			throw new ErrorDataDecoderException("Part without Content-Disposition name: " + contentDisposition);
+		}
+		this.alloc = alloc;
+		this.content = content.doOnDiscard(ByteBuf.class, ByteBuf::release);
+		this.filename = MultipartParser.parameter(contentDisposition, "filename");
+		this.headers = headers;
+		this.name = name;
+	}
+
+	@Override
+	public String name() {
+		return name;
+	}
+
+	@Override
+	public @Nullable String filename() {
+		return filename;
+	}
+
+	@Override
+	public HttpHeaders headers() {
+		return headers;
+	}
+
+	@Override
+	public ByteBufFlux content() {
+		// The buffers are released once delivered, same as the buffers received with NettyInbound#receive
+		return ByteBufFlux.fromInbound(
+				content.concatMap(buf -> Mono.just(buf).doFinally(sig -> buf.release()), 0), alloc);
+	}
+
+	@Override
+	public Mono<Void> transferTo(Path file) {
+		return Mono.using(
+				() -> AsynchronousFileChannel.open(file, StandardOpenOption.WRITE,
+						StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING),
+				channel -> {
+					long[] position = new long[1];
+					return content.concatMap(buf -> {
+					                  long current = position[0];
+					                  position[0] += buf.readableBytes();
+					                  return write(channel, buf, current);
+					              }, 0)
+					              .then();
+				},
+				channel -> {
+					try {
+						channel.close();
+					}
+					catch (Exception e) {
+						// ignore
+					}
+				});
+	}
+
+	@Override
+	public String toString() {
+		return "DefaultPart{name=" + name + ", filename=" + filename + '}';
+	}
+
+	/**
+	 * Writes the buffer at the given position, the buffer is released once the write completes,
+	 * also on cancellation, as the pending write still uses the memory of the buffer.
+	 */
+	static Mono<Void> write(AsynchronousFileChannel channel, ByteBuf buf, long position) {
+		ByteBuffer byteBuffer = buf.nioBuffer();
+		return Mono.create(sink ->
+		           channel.write(byteBuffer, position, position, new CompletionHandler<Integer, Long>() {
+		               @Override
+		               public void completed(Integer written, Long pos) {
+		                   if (byteBuffer.hasRemaining()) {
+		                       long next = pos + written;
+		                       channel.write(byteBuffer, next, next, this);
+		                   }
+		                   else {
+		                       buf.release();
+		                       sink.success();
+		                   }
+		               }
+
+		               @Override
+		               public void failed(Throwable t, Long pos) {
+		                   buf.release();
+		                   sink.error(t);
+		               }
+		           }));
+	}
+}
@@ -30,22 +30,54 @@ import reactor.netty.NettyPipeline;
  * if so, replace current handler with a {@link HAProxyMessageDecoder},
  * so each channel in the same {@link HttpServer} instance can choose to support
  * proxy protocol or not at runtime.
+ * <p>The PROXY protocol v2 header is read in place by {@link HAProxyMessageReader#readV2},
+ * {@link HAProxyMessageDecoder} is used only for v1 and for invalid headers.
  *
  * @author aftersss
  */
 final class HAProxyMessageDetector extends ByteToMessageDecoder {
 
+	final boolean required;
+
+	HAProxyMessageDetector() {
+		this(false);
+	}
+
+	/**
+	 * Creates a new detector.
+	 *
+	 * @param required when {@code true}, a channel without proxy protocol is handed to {@link HAProxyMessageDecoder}
+	 * which rejects it, otherwise the channel continues without proxy protocol
+	 */
+	HAProxyMessageDetector(boolean required) {
+		this.required = required;
+	}
+
 	@Override
 	protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
 		ProtocolDetectionResult<HAProxyProtocolVersion> detectionResult = HAProxyMessageDecoder.detectProtocol(in);
 		if (detectionResult.equals(ProtocolDetectionResult.needsMoreData())) {
 			return;
 		}
-		else if (detectionResult.equals(ProtocolDetectionResult.invalid())) {
+		else if (detectionResult.equals(ProtocolDetectionResult.invalid()) && !required) {
 			ctx.pipeline()
 			   .remove(this);
 		}
 		else {
+			if (detectionResult.detectedProtocol() == HAProxyProtocolVersion.V2) {
+				// Fast path, the binary header is read in place
+				int result = HAProxyMessageReader.readV2(ctx.channel(), in);
+				if (result == HAProxyMessageReader.V2_NEEDS_MORE_DATA) {
+					return;
+				}
+				else if (result == HAProxyMessageReader.V2_READ) {
+					ctx.pipeline()
+					   .remove(this);
+
+					ctx.read();
+					return;
+				}
+			}
 			ctx.pipeline()
 			   .addAfter(NettyPipeline.ProxyProtocolDecoder,
 			             NettyPipeline.ProxyProtocolReader,
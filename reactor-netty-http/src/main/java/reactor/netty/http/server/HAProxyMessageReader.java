@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019-2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2019-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,12 +17,21 @@ package reactor.netty.http.server;
 
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.handler.codec.haproxy.HAProxyMessage;
+import io.netty.handler.codec.haproxy.HAProxySSLTLV;
+import io.netty.handler.codec.haproxy.HAProxyTLV;
 import io.netty.util.AttributeKey;
+import io.netty.util.NetUtil;
 import org.jspecify.annotations.Nullable;
 import reactor.netty.transport.AddressUtils;
 
@@ -37,6 +46,9 @@ final class HAProxyMessageReader extends ChannelInboundHandlerAdapter {
 	private static final AttributeKey<@Nullable InetSocketAddress> REMOTE_ADDRESS_FROM_PROXY_PROTOCOL =
 			AttributeKey.valueOf("remoteAddressFromProxyProtocol");
 
+	private static final AttributeKey<@Nullable ProxyProtocolTlvs> TLVS_FROM_PROXY_PROTOCOL =
+			AttributeKey.valueOf("tlvsFromProxyProtocol");
+
 	private static final boolean isProxyProtocolAvailable;
 
 	static {
@@ -62,6 +74,137 @@ final class HAProxyMessageReader extends ChannelInboundHandlerAdapter {
 		return null;
 	}
 
+	/**
+	 * Returns the TLVs received with the PROXY protocol v2 header. Unlike the remote address,
+	 * the TLVs are kept on the channel, so that they are available for all HTTP/2 streams.
+	 */
+	static @Nullable ProxyProtocolTlvs resolveTlvsFromProxyProtocol(Channel channel) {
+		if (HAProxyMessageReader.isProxyProtocolAvailable()) {
+			return channel.attr(TLVS_FROM_PROXY_PROTOCOL).get();
+		}
+
+		return null;
+	}
+
+	static final int V2_NEEDS_MORE_DATA = -1;
+	static final int V2_NOT_SUPPORTED = 0;
+	static final int V2_READ = 1;
+
+	// signature (12 bytes) + version/command (1 byte) + family/transport (1 byte) + length (2 bytes)
+	static final int V2_HEADER_LENGTH = 16;
+	static final int V2_IPV4_ADDRESSES_LENGTH = 12;
+	static final int V2_IPV6_ADDRESSES_LENGTH = 36;
+	static final int V2_UNIX_ADDRESSES_LENGTH = 216;
+
+	/**
+	 * Reads the PROXY protocol v2 header in place, without creating {@link HAProxyMessage}.
+	 * The source address and the TLVs are set into the channel attributes.
+	 *
+	 * @param channel the channel
+	 * @param in the buffer, the signature is already detected
+	 * @return {@link #V2_READ} when the header is consumed, {@link #V2_NEEDS_MORE_DATA} when the header
+	 * is not fully received, {@link #V2_NOT_SUPPORTED} when the header has to be decoded by {@code HAProxyMessageDecoder}
+	 */
+	static int readV2(Channel channel, ByteBuf in) {
+		int readerIndex = in.readerIndex();
+		if (in.readableBytes() < V2_HEADER_LENGTH) {
+			return V2_NEEDS_MORE_DATA;
+		}
+		int versionCommand = in.getUnsignedByte(readerIndex + 12);
+		if ((versionCommand & 0xF0) != 0x20 || (versionCommand & 0x0F) > 0x01) {
+			// Let HAProxyMessageDecoder report the invalid header
+			return V2_NOT_SUPPORTED;
+		}
+		int family = in.getUnsignedByte(readerIndex + 13) >> 4;
+		int length = in.getUnsignedShort(readerIndex + 14);
+		if (in.readableBytes() < V2_HEADER_LENGTH + length) {
+			return V2_NEEDS_MORE_DATA;
+		}
+
+		int addressesLength;
+		switch (family) {
+			case 0x0:
+				addressesLength = 0;
+				break;
+			case 0x1:
+				addressesLength = V2_IPV4_ADDRESSES_LENGTH;
+				break;
+			case 0x2:
+				addressesLength = V2_IPV6_ADDRESSES_LENGTH;
+				break;
+			case 0x3:
+				addressesLength = V2_UNIX_ADDRESSES_LENGTH;
+				break;
+			default:
+				return V2_NOT_SUPPORTED;
+		}
+		if (length < addressesLength) {
+			return V2_NOT_SUPPORTED;
+		}
+
+		int addresses = readerIndex + V2_HEADER_LENGTH;
+		// LOCAL command (health checks) does not carry the original addresses
+		if ((versionCommand & 0x0F) == 0x01 && (family == 0x1 || family == 0x2)) {
+			int addressLength = family == 0x1 ? 4 : 16;
+			byte[] sourceAddress = new byte[addressLength];
+			in.getBytes(addresses, sourceAddress);
+			int sourcePort = in.getUnsignedShort(addresses + 2 * addressLength);
+			if (sourcePort != 0) {
+				// Unresolved as with HAProxyMessageDecoder, the address is not looked up
+				channel.attr(REMOTE_ADDRESS_FROM_PROXY_PROTOCOL)
+				       .set(AddressUtils.createUnresolved(NetUtil.bytesToIpAddress(sourceAddress), sourcePort));
+			}
+		}
+
+		int tlvsLength = length - addressesLength;
+		if (tlvsLength > 0) {
+			channel.attr(TLVS_FROM_PROXY_PROTOCOL)
+			       .set(new ProxyProtocolTlvs(ByteBufUtil.getBytes(in, addresses + addressesLength, tlvsLength)));
+		}
+
+		in.skipBytes(V2_HEADER_LENGTH + length);
+		return V2_READ;
+	}
+
+	/**
+	 * Encodes back the TLVs decoded by {@code HAProxyMessageDecoder}, so that they are available
+	 * in the same form as the TLVs read in place by {@link #readV2}.
+	 * {@code HAProxyMessageDecoder} lists the SSL sub-TLVs also at the top level, they are already part
+	 * of the content of the SSL TLV and are skipped.
+	 */
+	static @Nullable ProxyProtocolTlvs tlvs(List<HAProxyTLV> tlvs) {
+		if (tlvs.isEmpty()) {
+			return null;
+		}
+		Set<HAProxyTLV> encapsulated = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (HAProxyTLV tlv : tlvs) {
+			if (tlv instanceof HAProxySSLTLV) {
+				encapsulated.addAll(((HAProxySSLTLV) tlv).encapsulatedTLVs());
+			}
+		}
+		int length = 0;
+		for (HAProxyTLV tlv : tlvs) {
+			if (!encapsulated.contains(tlv)) {
+				length += ProxyProtocolTlvs.TLV_HEADER_LENGTH + tlv.content().readableBytes();
+			}
+		}
+		byte[] bytes = new byte[length];
+		int index = 0;
+		for (HAProxyTLV tlv : tlvs) {
+			if (encapsulated.contains(tlv)) {
+				continue;
+			}
+			ByteBuf content = tlv.content();
+			int contentLength = content.readableBytes();
+			bytes[index] = tlv.typeByteValue();
+			bytes[index + 1] = (byte) (contentLength >> 8);
+			bytes[index + 2] = (byte) contentLength;
+			content.getBytes(content.readerIndex(), bytes, index + ProxyProtocolTlvs.TLV_HEADER_LENGTH, contentLength);
+			index += ProxyProtocolTlvs.TLV_HEADER_LENGTH + contentLength;
+		}
+		return new ProxyProtocolTlvs(bytes);
+	}
+
 	@Override
 	public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
 		if (msg instanceof HAProxyMessage) {
@@ -74,6 +217,13 @@ final class HAProxyMessageReader extends ChannelInboundHandlerAdapter {
 				   .set(remoteAddress);
 			}
 
+			ProxyProtocolTlvs tlvs = tlvs(proxyMessage.tlvs());
+			if (tlvs != null) {
+				ctx.channel()
+				   .attr(TLVS_FROM_PROXY_PROTOCOL)
+				   .set(tlvs);
+			}
+
 			proxyMessage.release();
 
 			ctx.channel()
@@ -80,6 +80,8 @@ final class Http2StreamBridgeServerHandler extends ChannelDuplexHandler {
 	// This is a lazy initialization
 	SocketAddress remoteAddress;
 
+	@Nullable ProxyProtocolTlvs proxyProtocolTlvs;
+
 	@SuppressWarnings("NullAway")
 	// Deliberately suppress "NullAway"
 	// This is a lazy initialization
@@ -132,6 +134,7 @@ final class Http2StreamBridgeServerHandler extends ChannelDuplexHandler {
 			remoteAddress =
 					Optional.ofNullable(HAProxyMessageReader.resolveRemoteAddressFromProxyProtocol(ctx.channel().parent()))
 					        .orElse(ctx.channel().parent().remoteAddress());
+			proxyProtocolTlvs = HAProxyMessageReader.resolveTlvsFromProxyProtocol(ctx.channel().parent());
 		}
 		if (msg instanceof HttpRequest) {
 			HttpRequest request = (HttpRequest) msg;
@@ -145,6 +148,7 @@ final class Http2StreamBridgeServerHandler extends ChannelDuplexHandler {
 						secured,
 						ctx.channel().localAddress(),
 						remoteAddress,
+						proxyProtocolTlvs,
 						forwardedHeaderHandler);
 				ops = new HttpServerOperations(Connection.from(ctx.channel()),
 						listener,
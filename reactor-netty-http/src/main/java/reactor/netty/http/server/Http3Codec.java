@@ -68,6 +68,7 @@ final class Http3Codec extends ChannelInitializer<QuicStreamChannel> {
 	final ChannelOperations.OnSetup                                         opsFactory;
 	final @Nullable Duration                                                readTimeout;
 	final @Nullable Duration                                                requestTimeout;
+	final boolean                                                           routeTemplateUriTag;
 	final @Nullable Function<String, String>                                uriTagValue;
 	final boolean                                                           validate;
 
@@ -89,6 +90,7 @@ final class Http3Codec extends ChannelInitializer<QuicStreamChannel> {
 			ChannelOperations.OnSetup opsFactory,
 			@Nullable Duration readTimeout,
 			@Nullable Duration requestTimeout,
+			boolean routeTemplateUriTag,
 			@Nullable Function<String, String> uriTagValue,
 			boolean validate) {
 		this.accessLogEnabled = accessLogEnabled;
@@ -108,6 +110,7 @@ final class Http3Codec extends ChannelInitializer<QuicStreamChannel> {
 		this.opsFactory = opsFactory;
 		this.readTimeout = readTimeout;
 		this.requestTimeout = requestTimeout;
+		this.routeTemplateUriTag = routeTemplateUriTag;
 		this.uriTagValue = uriTagValue;
 		this.validate = validate;
 	}
@@ -137,13 +140,13 @@ final class Http3Codec extends ChannelInitializer<QuicStreamChannel> {
 			if (metricsRecorder instanceof HttpServerMetricsRecorder) {
 				ChannelHandler handler;
 				if (metricsRecorder instanceof MicrometerHttpServerMetricsRecorder) {
-					handler = new MicrometerHttpServerMetricsHandler((MicrometerHttpServerMetricsRecorder) metricsRecorder, methodTagValue, uriTagValue);
+					handler = new MicrometerHttpServerMetricsHandler((MicrometerHttpServerMetricsRecorder) metricsRecorder, methodTagValue, routeTemplateUriTag, uriTagValue);
 				}
 				else if (metricsRecorder instanceof ContextAwareHttpServerMetricsRecorder) {
-					handler = new ContextAwareHttpServerMetricsHandler((ContextAwareHttpServerMetricsRecorder) metricsRecorder, methodTagValue, uriTagValue);
+					handler = new ContextAwareHttpServerMetricsHandler((ContextAwareHttpServerMetricsRecorder) metricsRecorder, methodTagValue, routeTemplateUriTag, uriTagValue);
 				}
 				else {
-					handler = new HttpServerMetricsHandler((HttpServerMetricsRecorder) metricsRecorder, methodTagValue, uriTagValue);
+					handler = new HttpServerMetricsHandler((HttpServerMetricsRecorder) metricsRecorder, methodTagValue, routeTemplateUriTag, uriTagValue);
 				}
 				p.addBefore(NettyPipeline.ReactiveBridge, NettyPipeline.HttpMetricsHandler, handler);
 			}
@@ -174,11 +177,12 @@ final class Http3Codec extends ChannelInitializer<QuicStreamChannel> {
 			ChannelOperations.OnSetup opsFactory,
 			@Nullable Duration readTimeout,
 			@Nullable Duration requestTimeout,
+			boolean routeTemplateUriTag,
 			@Nullable Function<String, String> uriTagValue,
 			boolean validate) {
 		return new Http3ServerConnectionHandler(
 				new Http3Codec(accessLogEnabled, accessLog, compressionOptions, compressPredicate, decoder, encoder, formDecoderProvider, forwardedHeaderHandler,
 						httpMessageLogFactory, listener, mapHandle, methodTagValue, metricsRecorder, minCompressionSize,
-						opsFactory, readTimeout, requestTimeout, uriTagValue, validate));
+						opsFactory, readTimeout, requestTimeout, routeTemplateUriTag, uriTagValue, validate));
 	}
 }
\ No newline at end of file
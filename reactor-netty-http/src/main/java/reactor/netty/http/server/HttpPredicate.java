@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2011-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -216,7 +216,12 @@ final class HttpPredicate
 	@Override
 	public final boolean test(HttpServerRequest key) {
 		return (protocol == null || protocol.equals(key.version())) && method.equals(key.method()) &&
-				template.matches(key.uri());
+				template.matchesRoutePath(routePath(key));
+	}
+
+	static String routePath(HttpServerRequest request) {
+		return request instanceof HttpServerOperations ? ((HttpServerOperations) request).routePath() :
+				UriPathTemplate.routePath(request.uri());
 	}
 
 	/**
@@ -282,6 +287,17 @@ final class HttpPredicate
 			}
 		}
 
+		/**
+		 * Returns the part of the given {@code uri} that is matched against the templates,
+		 * i.e. without the scheme, the host and the port and without the part starting with the last {@code ?}.
+		 *
+		 * @param uri the uri
+		 * @return the part of the given {@code uri} that is matched against the templates
+		 */
+		static String routePath(String uri) {
+			return filterQueryParams(filterHostAndPort(uri));
+		}
+
 		/**
 		 * Creates a new {@code UriPathTemplate} from the given {@code uriPattern}.
 		 *
@@ -331,6 +347,18 @@ final class HttpPredicate
 			return matcher(uri).matches();
 		}
 
+		/**
+		 * Tests the given {@code routePath}, already obtained with {@link #routePath(String)},
+		 * against this template.
+		 *
+		 * @param routePath The route path to match
+		 *
+		 * @return {@code true} if there's a match, {@code false} otherwise
+		 */
+		boolean matchesRoutePath(String routePath) {
+			return uriPattern.matcher(routePath).matches();
+		}
+
 		/**
 		 * Matches the template against the given {@code uri} returning a map of path
 		 * parameters extracted from the uri, keyed by the names in the template. If the
@@ -355,8 +383,7 @@ final class HttpPredicate
 		}
 
 		private Matcher matcher(String uri) {
-			uri = filterQueryParams(filterHostAndPort(uri));
-			return uriPattern.matcher(uri);
+			return uriPattern.matcher(routePath(uri));
 		}
 
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2011-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -469,7 +469,27 @@ public abstract class HttpServer extends ServerTransport<HttpServer, HttpServerC
 	public final HttpServer handle(
 			BiFunction<? super HttpServerRequest, ? super HttpServerResponse, ? extends Publisher<Void>> handler) {
 		Objects.requireNonNull(handler, "handler");
-		return childObserve(new HttpServerHandle(handler));
+		HttpServer dup = childObserve(new HttpServerHandle(handler));
+		// The meters of the routes are bound upfront only when the last handler is the routes
+		dup.configuration().routes = handler instanceof DefaultHttpServerRoutes ? (DefaultHttpServerRoutes) handler : null;
+		return dup;
+	}
+
+	/**
+	 * Attach a blocking I/O handler that is invoked on a virtual thread for each request, so that blocking calls
+	 * do not block the event loop. The request and the response bodies can be read and written with
+	 * {@link BlockingHttpExchange#requestBody()} and {@link BlockingHttpExchange#responseBody()}.
+	 * Use {@link HttpServerRoutes#routeBlocking(Predicate, BlockingHttpHandler)} to run only some routes
+	 * on virtual threads.
+	 *
+	 * @param handler a blocking I/O handler
+	 * @return a new {@link HttpServer}
+	 * @throws UnsupportedOperationException if virtual threads are not available, they require Java 21 or newer
+	 * @since 1.3.0
+	 */
+	public final HttpServer handleBlocking(BlockingHttpHandler handler) {
+		Objects.requireNonNull(handler, "handler");
+		return handle(new VirtualThreadHandler(handler));
 	}
 
 	@Override
@@ -603,6 +623,28 @@ public abstract class HttpServer extends ServerTransport<HttpServer, HttpServerC
 		return dup;
 	}
 
+	/**
+	 * Limits the number of the requests that are in progress at the same time, the excess requests are rejected
+	 * immediately with {@code 503 Service Unavailable} instead of queueing on the event loops.
+	 * The limit is either fixed or adapted to the measured response latency and the requests can be prioritized
+	 * so that the requests with lower priority are shed first.
+	 * The limit is shared by all connections and protocols of a bound server, each bound server has its own limit.
+	 *
+	 * @param admissionControlSpec a callback for configuring the limit of the requests in progress
+	 * @return a new {@link HttpServer}
+	 * @since 1.3.0
+	 */
+	public final HttpServer admissionControl(Consumer<? super AdmissionControlSpec> admissionControlSpec) {
+		Objects.requireNonNull(admissionControlSpec, "admissionControlSpec");
+		HttpServerAdmissionControl.Spec spec = new HttpServerAdmissionControl.Spec();
+		admissionControlSpec.accept(spec);
+		// Fail fast when no limit is configured, the limit itself is created for each bound server
+		spec.limit();
+		HttpServer dup = duplicate();
+		dup.configuration().admissionControl = spec;
+		return dup;
+	}
+
 	/**
 	 * Decorate the configured I/O handler.
 	 * See {@link #handle(BiFunction)}.
@@ -846,6 +888,29 @@ public abstract class HttpServer extends ServerTransport<HttpServer, HttpServerC
 		}
 	}
 
+	/**
+	 * Whether to use the path template of the route that handles the request (e.g. {@code /users/{id}})
+	 * as uri value for the metrics, instead of the actual path. This bounds the number of the uri tag values
+	 * by the number of the routes. The requests that are not handled by a route with a path template
+	 * continue to use the actual path, transformed by the {@code uriTagValue} function if configured.
+	 * <p>The built-in Micrometer integration keeps the meters of a route on the route itself, so that
+	 * recording the metrics for a request does not require a meter lookup.
+	 * <p>This setting has effect only when the metrics are enabled, see {@link #metrics(boolean, Function)}.
+	 * <p>By default the actual path is used.
+	 *
+	 * @param enable true enables using the path template of the route; false disables it
+	 * @return a new {@link HttpServer}
+	 * @since 1.3.0
+	 */
+	public final HttpServer metricsRouteTemplateUriTag(boolean enable) {
+		if (enable == configuration().routeTemplateUriTag) {
+			return this;
+		}
+		HttpServer dup = duplicate();
+		dup.configuration().routeTemplateUriTag = enable;
+		return dup;
+	}
+
 	/**
 	 * Removes any previously applied SSL configuration customization.
 	 *
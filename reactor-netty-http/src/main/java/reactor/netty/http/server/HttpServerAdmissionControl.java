@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.netty.channel.Channel;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.netty.Connection;
+import reactor.netty.http.internal.ConcurrencyLimit;
+import reactor.netty.http.internal.ConcurrencyLimits;
+import reactor.netty.internal.util.Metrics;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import static reactor.netty.ReactorNetty.format;
+
+/**
+ * Limits the number of the requests that are in progress at the same time on the server.
+ * It decorates the I/O handler in the same way as {@link HttpServer#mapHandle(BiFunction)}, so that it applies
+ * to HTTP/1.1, HTTP/2 and HTTP/3 requests. When the limit is reached, the request is answered with
+ * {@code 503 Service Unavailable} and the I/O handler is not subscribed.
+ * <p>One instance is created per bound server, i.e. per server channel, so that servers bound with the same
+ * configuration do not share the limit. Its meters are removed when the server is disposed.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+final class HttpServerAdmissionControl implements BiFunction<Mono<Void>, Connection, Mono<Void>> {
+
+	static final Logger log = Loggers.getLogger(HttpServerAdmissionControl.class);
+
+	static final AttributeKey<HttpServerAdmissionControl> ADMISSION_CONTROL = AttributeKey.valueOf("$ADMISSION_CONTROL");
+
+	static final int MAX_PRIORITY = 100;
+
+	final ConcurrencyLimit limit;
+	final boolean metricsEnabled;
+	final @Nullable ToIntFunction<? super HttpServerRequest> priority;
+
+	final AtomicInteger inFlight = new AtomicInteger();
+	final LongAdder rejected = new LongAdder();
+
+	HttpServerAdmissionControl(Spec spec) {
+		this.limit = spec.limit().get();
+		this.metricsEnabled = spec.metricsEnabled;
+		this.priority = spec.priority;
+	}
+
+	/**
+	 * Returns the admission control of the server to which the connection belongs, it is created on the first request.
+	 *
+	 * @param spec the admission control configuration
+	 * @param channel the channel of the request
+	 * @return the admission control of the server
+	 */
+	static HttpServerAdmissionControl of(Spec spec, Channel channel) {
+		// The server channel is the root, e.g. HTTP/2 stream -> connection -> server
+		Channel serverChannel = channel;
+		for (Channel parent = channel.parent(); parent != null; parent = parent.parent()) {
+			serverChannel = parent;
+		}
+		Attribute<HttpServerAdmissionControl> attr = serverChannel.attr(ADMISSION_CONTROL);
+		HttpServerAdmissionControl admissionControl = attr.get();
+		if (admissionControl == null) {
+			HttpServerAdmissionControl created = new HttpServerAdmissionControl(spec);
+			admissionControl = attr.setIfAbsent(created);
+			if (admissionControl == null) {
+				admissionControl = created;
+				created.bind(serverChannel);
+			}
+		}
+		return admissionControl;
+	}
+
+	/**
+	 * Registers the meters, if enabled, and removes them when the server channel is closed.
+	 *
+	 * @param serverChannel the server channel
+	 */
+	void bind(Channel serverChannel) {
+		if (metricsEnabled && Metrics.isMicrometerAvailable()) {
+			String id = serverChannel.id().asShortText();
+			MicrometerAdmissionControlMeterRegistrar.INSTANCE.registerMetrics(id, this);
+			serverChannel.closeFuture().addListener(f -> MicrometerAdmissionControlMeterRegistrar.INSTANCE.deRegisterMetrics(id));
+		}
+	}
+
+	@Override
+	public Mono<Void> apply(Mono<Void> handle, Connection connection) {
+		// The permit is acquired on subscription, a handle that is never subscribed does not hold it
+		return Mono.defer(() -> {
+			if (!tryAcquire(priority(connection))) {
+				rejected.increment();
+				if (log.isDebugEnabled()) {
+					log.debug(format(connection.channel(), "Request rejected, the limit of {} requests in progress is reached"),
+							limit.limit());
+				}
+				if (connection instanceof HttpServerResponse) {
+					return ((HttpServerResponse) connection).status(HttpResponseStatus.SERVICE_UNAVAILABLE).send().then();
+				}
+				return Mono.error(new IllegalStateException("The limit of the requests in progress is reached"));
+			}
+			long start = System.nanoTime();
+			return handle.doFinally(sig -> release(start, System.nanoTime() - start, sig));
+		});
+	}
+
+	int priority(Connection connection) {
+		if (priority != null && connection instanceof HttpServerRequest) {
+			return Math.max(1, Math.min(MAX_PRIORITY, priority.applyAsInt((HttpServerRequest) connection)));
+		}
+		return MAX_PRIORITY;
+	}
+
+	int inFlight() {
+		return inFlight.get();
+	}
+
+	int limit() {
+		return limit.limit();
+	}
+
+	long rejected() {
+		return rejected.sum();
+	}
+
+	boolean tryAcquire(int priority) {
+		int allowed = Math.max(1, (int) ((long) limit.limit() * priority / MAX_PRIORITY));
+		return ConcurrencyLimits.tryAcquire(inFlight, allowed);
+	}
+
+	void release(long startNanos, long latencyNanos, SignalType signal) {
+		int current = inFlight.getAndDecrement();
+		// A cancelled request (e.g. the connection was closed) does not say anything about the latency
+		if (signal != SignalType.CANCEL) {
+			limit.onSample(startNanos, latencyNanos, current, signal == SignalType.ON_ERROR);
+		}
+	}
+
+	/**
+	 * Compares a short-term and a long-term exponential moving average of the latency. When the recent latency
+	 * grows above the long-term latency, requests are queueing and the limit decreases proportionally, otherwise
+	 * the limit grows by its square root, i.e. the allowed queue.
+	 */
+	static final class GradientLimit implements ConcurrencyLimit {
+
+		static final double LONG_WINDOW_FACTOR = 2d / (600 + 1);
+		static final double SHORT_WINDOW_FACTOR = 2d / (10 + 1);
+		static final double SMOOTHING = 0.2;
+		static final double TOLERANCE = 1.5;
+
+		final int maxLimit;
+
+		double estimatedLimit;
+		double longLatency;
+		double shortLatency;
+
+		volatile int limit;
+
+		GradientLimit(int initialLimit, int maxLimit) {
+			this.maxLimit = maxLimit;
+			this.estimatedLimit = initialLimit;
+			this.limit = initialLimit;
+		}
+
+		@Override
+		public int limit() {
+			return limit;
+		}
+
+		@Override
+		public synchronized void onSample(long startNanos, long latencyNanos, int inFlight, boolean dropped) {
+			if (longLatency == 0) {
+				longLatency = shortLatency = latencyNanos;
+			}
+			else {
+				longLatency += (latencyNanos - longLatency) * LONG_WINDOW_FACTOR;
+				shortLatency += (latencyNanos - shortLatency) * SHORT_WINDOW_FACTOR;
+			}
+			if (longLatency / shortLatency > 2) {
+				// The long-term latency recovers faster after a period of high latency
+				longLatency *= 0.95;
+			}
+			if (!dropped && inFlight * 2 < estimatedLimit) {
+				// The limit is not used, no reason to change it
+				return;
+			}
+
+			double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longLatency / shortLatency));
+			double newLimit = dropped ?
+					estimatedLimit * 0.5 :
+					estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+			newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+			estimatedLimit = Math.max(1, Math.min(maxLimit, newLimit));
+			limit = (int) estimatedLimit;
+		}
+	}
+
+	static final class Spec implements AdmissionControlSpec {
+
+		@Nullable Supplier<ConcurrencyLimit> limit;
+		@Nullable ToIntFunction<? super HttpServerRequest> priority;
+		boolean metricsEnabled;
+
+		@Override
+		public AdmissionControlSpec maxConcurrentRequests(int maxConcurrentRequests) {
+			this.limit = ConcurrencyLimits.fixed(maxConcurrentRequests);
+			return this;
+		}
+
+		@Override
+		public AdmissionControlSpec aimdLimit(int initialLimit, int maxLimit, Duration latencyThreshold) {
+			this.limit = ConcurrencyLimits.aimd(initialLimit, maxLimit, latencyThreshold);
+			return this;
+		}
+
+		@Override
+		public AdmissionControlSpec gradientLimit(int initialLimit, int maxLimit) {
+			ConcurrencyLimits.checkLimits(initialLimit, maxLimit);
+			this.limit = () -> new GradientLimit(initialLimit, maxLimit);
+			return this;
+		}
+
+		@Override
+		public AdmissionControlSpec priority(ToIntFunction<? super HttpServerRequest> priority) {
+			this.priority = Objects.requireNonNull(priority, "priority");
+			return this;
+		}
+
+		@Override
+		public AdmissionControlSpec metrics(boolean enable) {
+			this.metricsEnabled = enable;
+			return this;
+		}
+
+		/**
+		 * Returns the factory of the limit, a new limit is created for each bound server.
+		 *
+		 * @return the factory of the limit
+		 */
+		Supplier<ConcurrencyLimit> limit() {
+			Supplier<ConcurrencyLimit> limit = this.limit;
+			if (limit == null) {
+				throw new IllegalArgumentException("One of maxConcurrentRequests, aimdLimit or gradientLimit must be configured");
+			}
+			return limit;
+		}
+	}
+}
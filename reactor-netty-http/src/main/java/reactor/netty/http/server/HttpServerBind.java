@@ -19,6 +19,7 @@ import io.netty.channel.ChannelOption;
 import io.netty.util.AttributeKey;
 import reactor.core.publisher.Mono;
 import reactor.netty.DisposableServer;
+import reactor.netty.channel.ChannelMetricsRecorder;
 import reactor.netty.internal.util.MapUtils;
 import reactor.netty.tcp.TcpServerConfig;
 
@@ -27,6 +28,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Provides the actual {@link HttpServer} instance.
@@ -76,6 +78,16 @@ final class HttpServerBind extends HttpServer {
 						"Configured HTTP/3 protocol without TLS. Configure TLS via HttpServer#secure"));
 			}
 		}
+		DefaultHttpServerRoutes routes = config.routes;
+		Supplier<? extends ChannelMetricsRecorder> metricsRecorder = config.metricsRecorder();
+		if (config.routeTemplateUriTag && routes != null && metricsRecorder != null) {
+			ChannelMetricsRecorder recorder = metricsRecorder.get();
+			if (recorder instanceof MicrometerHttpServerMetricsRecorder) {
+				// Bind the meters of the routes upfront, the requests then only record the values
+				routes.bindMeters((MicrometerHttpServerMetricsRecorder) recorder,
+						config.methodTagValue != null ? config.methodTagValue : AbstractHttpServerMetricsHandler.DEFAULT_METHOD_TAG_VALUE);
+			}
+		}
 		return super.bind();
 	}
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020-2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2020-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -27,7 +27,6 @@ import io.netty.channel.ChannelPromise;
 import io.netty.channel.socket.DatagramChannel;
 import io.netty.channel.socket.ServerSocketChannel;
 import io.netty.channel.unix.ServerDomainSocketChannel;
-import io.netty.handler.codec.haproxy.HAProxyMessageDecoder;
 import io.netty.handler.codec.http.HttpDecoderConfig;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpObject;
@@ -282,6 +281,16 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		return requestTimeout;
 	}
 
+	/**
+	 * Returns whether the path template of the route that handles the request is used as uri tag value.
+	 *
+	 * @return true if the path template of the route that handles the request is used as uri tag value
+	 * @since 1.3.0
+	 */
+	public boolean routeTemplateUriTag() {
+		return routeTemplateUriTag;
+	}
+
 	/**
 	 * Returns the current {@link SslProvider} if that {@link HttpServer} secured via SSL
 	 * transport or null.
@@ -309,6 +318,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 
 	boolean                                                           accessLogEnabled;
 	@Nullable Function<AccessLogArgProvider, @Nullable AccessLog>     accessLog;
+	HttpServerAdmissionControl.@Nullable Spec                         admissionControl;
 	@Nullable HttpCompressionOptionsSpec                              compressionOptions;
 	@Nullable BiPredicate<HttpServerRequest, HttpServerResponse>      compressPredicate;
 	ServerCookieDecoder                                               cookieDecoder;
@@ -331,6 +341,8 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 	@Nullable Duration                                                readTimeout;
 	boolean                                                           redirectHttpToHttps;
 	@Nullable Duration                                                requestTimeout;
+	@Nullable DefaultHttpServerRoutes                                 routes;
+	boolean                                                           routeTemplateUriTag;
 	@Nullable SslProvider                                             sslProvider;
 	@Nullable Function<String, String>                                uriTagValue;
 
@@ -353,6 +365,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		super(parent);
 		this.accessLogEnabled = parent.accessLogEnabled;
 		this.accessLog = parent.accessLog;
+		this.admissionControl = parent.admissionControl;
 		this.compressionOptions = parent.compressionOptions;
 		this.compressPredicate = parent.compressPredicate;
 		this.cookieDecoder = parent.cookieDecoder;
@@ -374,6 +387,8 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		this.readTimeout = parent.readTimeout;
 		this.redirectHttpToHttps = parent.redirectHttpToHttps;
 		this.requestTimeout = parent.requestTimeout;
+		this.routes = parent.routes;
+		this.routeTemplateUriTag = parent.routeTemplateUriTag;
 		this.sslProvider = parent.sslProvider;
 		this.uriTagValue = parent.uriTagValue;
 	}
@@ -502,6 +517,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			ChannelOperations.OnSetup opsFactory,
 			@Nullable Duration readTimeout,
 			@Nullable Duration requestTimeout,
+			boolean routeTemplateUriTag,
 			@Nullable Function<String, String> uriTagValue) {
 		ChannelPipeline pipeline = ch.pipeline();
 		if (accessLogEnabled) {
@@ -550,13 +566,13 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 				}
 				else {
 					if (metricsRecorder instanceof MicrometerHttpServerMetricsRecorder) {
-						handler = new MicrometerHttpServerMetricsHandler((MicrometerHttpServerMetricsRecorder) metricsRecorder, methodTagValue, uriTagValue);
+						handler = new MicrometerHttpServerMetricsHandler((MicrometerHttpServerMetricsRecorder) metricsRecorder, methodTagValue, routeTemplateUriTag, uriTagValue);
 					}
 					else if (metricsRecorder instanceof ContextAwareHttpServerMetricsRecorder) {
-						handler = new ContextAwareHttpServerMetricsHandler((ContextAwareHttpServerMetricsRecorder) metricsRecorder, methodTagValue, uriTagValue);
+						handler = new ContextAwareHttpServerMetricsHandler((ContextAwareHttpServerMetricsRecorder) metricsRecorder, methodTagValue, routeTemplateUriTag, uriTagValue);
 					}
 					else {
-						handler = new HttpServerMetricsHandler((HttpServerMetricsRecorder) metricsRecorder, methodTagValue, uriTagValue);
+						handler = new HttpServerMetricsHandler((HttpServerMetricsRecorder) metricsRecorder, methodTagValue, routeTemplateUriTag, uriTagValue);
 					}
 				}
 				pipeline.addBefore(NettyPipeline.ReactiveBridge, NettyPipeline.HttpMetricsHandler, handler);
@@ -618,6 +634,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			ChannelOperations.OnSetup opsFactory,
 			@Nullable Duration readTimeout,
 			@Nullable Duration requestTimeout,
+			boolean routeTemplateUriTag,
 			@Nullable Function<String, String> uriTagValue,
 			boolean validate) {
 		p.remove(NettyPipeline.ReactiveBridge);
@@ -625,7 +642,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		p.addLast(NettyPipeline.HttpCodec, newHttp3ServerConnectionHandler(accessLogEnabled, accessLog, compressionOptions, compressPredicate,
 				cookieDecoder, cookieEncoder, formDecoderProvider, forwardedHeaderHandler, httpMessageLogFactory,
 				listener, mapHandle, methodTagValue, metricsRecorder, minCompressionSize, opsFactory, readTimeout,
-				requestTimeout, uriTagValue, validate));
+				requestTimeout, routeTemplateUriTag, uriTagValue, validate));
 
 		if (metricsRecorder != null) {
 			// Connection metrics are not applicable
@@ -654,6 +671,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			ChannelOperations.OnSetup opsFactory,
 			@Nullable Duration readTimeout,
 			@Nullable Duration requestTimeout,
+			boolean routeTemplateUriTag,
 			@Nullable Function<String, String> uriTagValue,
 			boolean validate) {
 		p.remove(NettyPipeline.ReactiveBridge);
@@ -688,7 +706,8 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		          new Http2MultiplexHandler(new H2Codec(accessLogEnabled, accessLog, compressionOptions, compressPredicate,
 		                  http2SettingsSpec != null ? http2SettingsSpec.connectProtocolEnabled() : null,
 		                  cookieDecoder, cookieEncoder, formDecoderProvider, forwardedHeaderHandler, httpMessageLogFactory, listener,
-		                  mapHandle, methodTagValue, metricsRecorder, minCompressionSize, opsFactory, readTimeout, requestTimeout, uriTagValue)));
+		                  mapHandle, methodTagValue, metricsRecorder, minCompressionSize, opsFactory, readTimeout, requestTimeout,
+		                  routeTemplateUriTag, uriTagValue)));
 
 		IdleTimeoutHandler.addIdleTimeoutHandler(p, idleTimeout);
 
@@ -726,6 +745,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			ChannelOperations.OnSetup opsFactory,
 			@Nullable Duration readTimeout,
 			@Nullable Duration requestTimeout,
+			boolean routeTemplateUriTag,
 			@Nullable Function<String, String> uriTagValue) {
 		HttpDecoderConfig decoderConfig = new HttpDecoderConfig();
 		decoderConfig.setMaxInitialLineLength(decoder.maxInitialLineLength())
@@ -741,7 +761,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		Http11OrH2CleartextCodec upgrader = new Http11OrH2CleartextCodec(accessLogEnabled, accessLog, compressionOptions, compressPredicate,
 				cookieDecoder, cookieEncoder, p.get(NettyPipeline.LoggingHandler) != null, enableGracefulShutdown, formDecoderProvider,
 				forwardedHeaderHandler, http2SettingsSpec, httpMessageLogFactory, listener, mapHandle, methodTagValue, metricsRecorder,
-				minCompressionSize, opsFactory, readTimeout, requestTimeout, uriTagValue, decoder.validateHeaders());
+				minCompressionSize, opsFactory, readTimeout, requestTimeout, routeTemplateUriTag, uriTagValue, decoder.validateHeaders());
 
 		ChannelHandler http2ServerHandler = new H2CleartextCodec(upgrader, http2SettingsSpec != null ? http2SettingsSpec.maxStreams() : null);
 
@@ -774,13 +794,13 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			if (metricsRecorder instanceof HttpServerMetricsRecorder) {
 				ChannelHandler handler;
 				if (metricsRecorder instanceof MicrometerHttpServerMetricsRecorder) {
-					handler = new MicrometerHttpServerMetricsHandler((MicrometerHttpServerMetricsRecorder) metricsRecorder, methodTagValue, uriTagValue);
+					handler = new MicrometerHttpServerMetricsHandler((MicrometerHttpServerMetricsRecorder) metricsRecorder, methodTagValue, routeTemplateUriTag, uriTagValue);
 				}
 				else if (metricsRecorder instanceof ContextAwareHttpServerMetricsRecorder) {
-					handler = new ContextAwareHttpServerMetricsHandler((ContextAwareHttpServerMetricsRecorder) metricsRecorder, methodTagValue, uriTagValue);
+					handler = new ContextAwareHttpServerMetricsHandler((ContextAwareHttpServerMetricsRecorder) metricsRecorder, methodTagValue, routeTemplateUriTag, uriTagValue);
 				}
 				else {
-					handler = new HttpServerMetricsHandler((HttpServerMetricsRecorder) metricsRecorder, methodTagValue, uriTagValue);
+					handler = new HttpServerMetricsHandler((HttpServerMetricsRecorder) metricsRecorder, methodTagValue, routeTemplateUriTag, uriTagValue);
 				}
 				p.addAfter(NettyPipeline.HttpTrafficHandler, NettyPipeline.HttpMetricsHandler, handler);
 				if (metricsRecorder instanceof MicrometerHttpServerMetricsRecorder) {
@@ -814,6 +834,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			int minCompressionSize,
 			@Nullable Duration readTimeout,
 			@Nullable Duration requestTimeout,
+			boolean routeTemplateUriTag,
 			@Nullable Function<String, String> uriTagValue) {
 		HttpDecoderConfig decoderConfig = new HttpDecoderConfig();
 		decoderConfig.setMaxInitialLineLength(decoder.maxInitialLineLength())
@@ -846,13 +867,13 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			if (metricsRecorder instanceof HttpServerMetricsRecorder) {
 				AbstractHttpServerMetricsHandler handler;
 				if (metricsRecorder instanceof MicrometerHttpServerMetricsRecorder) {
-					handler = new MicrometerHttpServerMetricsHandler((MicrometerHttpServerMetricsRecorder) metricsRecorder, methodTagValue, uriTagValue);
+					handler = new MicrometerHttpServerMetricsHandler((MicrometerHttpServerMetricsRecorder) metricsRecorder, methodTagValue, routeTemplateUriTag, uriTagValue);
 				}
 				else if (metricsRecorder instanceof ContextAwareHttpServerMetricsRecorder) {
-					handler = new ContextAwareHttpServerMetricsHandler((ContextAwareHttpServerMetricsRecorder) metricsRecorder, methodTagValue, uriTagValue);
+					handler = new ContextAwareHttpServerMetricsHandler((ContextAwareHttpServerMetricsRecorder) metricsRecorder, methodTagValue, routeTemplateUriTag, uriTagValue);
 				}
 				else {
-					handler = new HttpServerMetricsHandler((HttpServerMetricsRecorder) metricsRecorder, methodTagValue, uriTagValue);
+					handler = new HttpServerMetricsHandler((HttpServerMetricsRecorder) metricsRecorder, methodTagValue, routeTemplateUriTag, uriTagValue);
 				}
 				if (channelOpened) {
 					handler.channelOpened = true;
@@ -867,6 +888,23 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		}
 	}
 
+	/**
+	 * Composes the admission control with the I/O handler decoration, the admission control is applied last so that
+	 * a rejected request does not subscribe the decorated I/O handler.
+	 */
+	static @Nullable BiFunction<? super Mono<Void>, ? super Connection, ? extends Mono<Void>> mapHandle(
+			HttpServerAdmissionControl.@Nullable Spec admissionControl,
+			@Nullable BiFunction<? super Mono<Void>, ? super Connection, ? extends Mono<Void>> mapHandle) {
+		if (admissionControl == null) {
+			return mapHandle;
+		}
+		if (mapHandle == null) {
+			return (mono, connection) -> HttpServerAdmissionControl.of(admissionControl, connection.channel()).apply(mono, connection);
+		}
+		return (mono, connection) ->
+				HttpServerAdmissionControl.of(admissionControl, connection.channel()).apply(mapHandle.apply(mono, connection), connection);
+	}
+
 	static final boolean ACCESS_LOG = Boolean.parseBoolean(System.getProperty(ACCESS_LOG_ENABLED, "false"));
 
 	static final int h3 = 0b1000;
@@ -1040,6 +1078,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		final ChannelOperations.OnSetup                                         opsFactory;
 		final @Nullable Duration                                                readTimeout;
 		final @Nullable Duration                                                requestTimeout;
+		final boolean                                                           routeTemplateUriTag;
 		final @Nullable Function<String, String>                                uriTagValue;
 
 		H2Codec(
@@ -1061,6 +1100,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 				ChannelOperations.OnSetup opsFactory,
 				@Nullable Duration readTimeout,
 				@Nullable Duration requestTimeout,
+				boolean routeTemplateUriTag,
 				@Nullable Function<String, String> uriTagValue) {
 			this.accessLogEnabled = accessLogEnabled;
 			this.accessLog = accessLog;
@@ -1080,6 +1120,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			this.opsFactory = opsFactory;
 			this.readTimeout = readTimeout;
 			this.requestTimeout = requestTimeout;
+			this.routeTemplateUriTag = routeTemplateUriTag;
 			this.uriTagValue = uriTagValue;
 		}
 
@@ -1088,7 +1129,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			ch.pipeline().remove(this);
 			addStreamHandlers(ch, accessLogEnabled, accessLog, compressionOptions, compressPredicate, connectProtocolEnabled, cookieDecoder, cookieEncoder,
 					formDecoderProvider, forwardedHeaderHandler, httpMessageLogFactory, listener, mapHandle, methodTagValue, metricsRecorder,
-					minCompressionSize, opsFactory, readTimeout, requestTimeout, uriTagValue);
+					minCompressionSize, opsFactory, readTimeout, requestTimeout, routeTemplateUriTag, uriTagValue);
 		}
 	}
 
@@ -1116,6 +1157,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		final ChannelOperations.OnSetup                                         opsFactory;
 		final @Nullable Duration                                                readTimeout;
 		final @Nullable Duration                                                requestTimeout;
+		final boolean                                                           routeTemplateUriTag;
 		final @Nullable Function<String, String>                                uriTagValue;
 
 		Http11OrH2CleartextCodec(
@@ -1139,6 +1181,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 				ChannelOperations.OnSetup opsFactory,
 				@Nullable Duration readTimeout,
 				@Nullable Duration requestTimeout,
+				boolean routeTemplateUriTag,
 				@Nullable Function<String, String> uriTagValue,
 				boolean validate) {
 			this.accessLogEnabled = accessLogEnabled;
@@ -1181,6 +1224,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			this.opsFactory = opsFactory;
 			this.readTimeout = readTimeout;
 			this.requestTimeout = requestTimeout;
+			this.routeTemplateUriTag = routeTemplateUriTag;
 			this.uriTagValue = uriTagValue;
 		}
 
@@ -1192,7 +1236,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			ch.pipeline().remove(this);
 			addStreamHandlers(ch, accessLogEnabled, accessLog, compressionOptions, compressPredicate, connectProtocolEnabled, cookieDecoder, cookieEncoder,
 					formDecoderProvider, forwardedHeaderHandler, httpMessageLogFactory, listener, mapHandle, methodTagValue,
-					metricsRecorder, minCompressionSize, opsFactory, readTimeout, requestTimeout, uriTagValue);
+					metricsRecorder, minCompressionSize, opsFactory, readTimeout, requestTimeout, routeTemplateUriTag, uriTagValue);
 		}
 
 		@Override
@@ -1255,6 +1299,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		final @Nullable Duration                                                readTimeout;
 		final @Nullable Duration                                                requestTimeout;
 		final boolean                                                           supportOnlyHttp2;
+		final boolean                                                           routeTemplateUriTag;
 		final @Nullable Function<String, String>                                uriTagValue;
 
 		H2OrHttp11Codec(HttpServerChannelInitializer initializer, ConnectionObserver listener) {
@@ -1286,6 +1331,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			this.readTimeout = initializer.readTimeout;
 			this.requestTimeout = initializer.requestTimeout;
 			this.supportOnlyHttp2 = supportOnlyHttp2;
+			this.routeTemplateUriTag = initializer.routeTemplateUriTag;
 			this.uriTagValue = initializer.uriTagValue;
 		}
 
@@ -1301,6 +1347,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 				configureH2Pipeline(p, accessLogEnabled, accessLog, compressionOptions, compressPredicate, cookieDecoder, cookieEncoder,
 						enableGracefulShutdown, formDecoderProvider, forwardedHeaderHandler, http2SettingsSpec, httpMessageLogFactory, idleTimeout,
 						listener, mapHandle, methodTagValue, metricsRecorder, minCompressionSize, opsFactory, readTimeout, requestTimeout,
+						routeTemplateUriTag,
 						uriTagValue, decoder.validateHeaders());
 				return;
 			}
@@ -1308,7 +1355,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			if (!supportOnlyHttp2 && ApplicationProtocolNames.HTTP_1_1.equals(protocol)) {
 				configureHttp11Pipeline(p, accessLogEnabled, accessLog, compressionOptions, compressPredicate, cookieDecoder, cookieEncoder, true,
 						decoder, formDecoderProvider, forwardedHeaderHandler, httpMessageLogFactory, idleTimeout, listener,
-						mapHandle, maxKeepAliveRequests, methodTagValue, metricsRecorder, minCompressionSize, readTimeout, requestTimeout, uriTagValue);
+						mapHandle, maxKeepAliveRequests, methodTagValue, metricsRecorder, minCompressionSize, readTimeout, requestTimeout, routeTemplateUriTag, uriTagValue);
 
 				// When the server is configured with HTTP/1.1 and H2 and HTTP/1.1 is negotiated,
 				// when channelActive event happens, this HttpTrafficHandler is still not in the pipeline,
@@ -1349,6 +1396,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		final @Nullable SslProvider                                             sslProvider;
 		final @Nullable Duration                                                readTimeout;
 		final @Nullable Duration                                                requestTimeout;
+		final boolean                                                           routeTemplateUriTag;
 		final @Nullable Function<String, String>                                uriTagValue;
 
 		HttpServerChannelInitializer(HttpServerConfig config) {
@@ -1365,7 +1413,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			this.http2SettingsSpec = config.http2Settings;
 			this.httpMessageLogFactory = config.httpMessageLogFactory;
 			this.idleTimeout = config.idleTimeout;
-			this.mapHandle = config.mapHandle;
+			this.mapHandle = mapHandle(config.admissionControl, config.mapHandle);
 			this.maxKeepAliveRequests = config.maxKeepAliveRequests;
 			this.methodTagValue = config.methodTagValue;
 			this.metricsRecorder = config.metricsRecorderInternal();
@@ -1377,6 +1425,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			this.redirectHttpToHttps = config.redirectHttpToHttps;
 			this.requestTimeout = config.requestTimeout;
 			this.sslProvider = config.sslProvider;
+			this.routeTemplateUriTag = config.routeTemplateUriTag;
 			this.uriTagValue = config.uriTagValue;
 		}
 
@@ -1427,6 +1476,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 							minCompressionSize,
 							readTimeout,
 							requestTimeout,
+							routeTemplateUriTag,
 							uriTagValue);
 				}
 				else if ((protocols & h2) == h2) {
@@ -1460,6 +1510,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 								opsFactory,
 								readTimeout,
 								requestTimeout,
+								routeTemplateUriTag,
 								uriTagValue,
 								decoder.validateHeaders());
 					}
@@ -1484,6 +1535,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 							opsFactory,
 							readTimeout,
 							requestTimeout,
+							routeTemplateUriTag,
 							uriTagValue,
 							decoder.validateHeaders());
 				}
@@ -1514,6 +1566,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 							opsFactory,
 							readTimeout,
 							requestTimeout,
+							routeTemplateUriTag,
 							uriTagValue);
 				}
 				else if ((protocols & h11) == h11) {
@@ -1539,6 +1592,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 							minCompressionSize,
 							readTimeout,
 							requestTimeout,
+							routeTemplateUriTag,
 							uriTagValue);
 				}
 				else if ((protocols & h2c) == h2c) {
@@ -1564,6 +1618,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 							opsFactory,
 							readTimeout,
 							requestTimeout,
+							routeTemplateUriTag,
 							uriTagValue,
 							decoder.validateHeaders());
 					needRead = true;
@@ -1572,10 +1627,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 
 			if (proxyProtocolSupportType == ProxyProtocolSupportType.ON) {
 				channel.pipeline()
-				       .addFirst(NettyPipeline.ProxyProtocolDecoder, new HAProxyMessageDecoder())
-				       .addAfter(NettyPipeline.ProxyProtocolDecoder,
-				                 NettyPipeline.ProxyProtocolReader,
-				                 new HAProxyMessageReader());
+				       .addFirst(NettyPipeline.ProxyProtocolDecoder, new HAProxyMessageDetector(true));
 			}
 			else if (proxyProtocolSupportType == ProxyProtocolSupportType.AUTO) {
 				channel.pipeline()
@@ -16,6 +16,7 @@
 package reactor.netty.http.server;
 
 import io.netty.handler.codec.http.cookie.Cookie;
+import org.jspecify.annotations.Nullable;
 import reactor.netty.http.HttpInfos;
 
 import java.util.List;
@@ -37,4 +38,17 @@ public interface HttpServerInfos extends HttpInfos, ConnectionInformation {
 	 * @return Resolved HTTP cookies
 	 */
 	Map<CharSequence, List<Cookie>> allCookies();
+
+	/**
+	 * Returns the first cookie with the given name. As opposed to {@link #cookies()} and {@link #allCookies()},
+	 * the implementation might look up only the requested cookie without resolving all cookies.
+	 *
+	 * @param name the cookie name
+	 * @return the first cookie with the given name, or {@code null} when there is no such cookie
+	 * @since 1.3.0
+	 */
+	default @Nullable Cookie cookie(CharSequence name) {
+		List<Cookie> cookies = allCookies().get(name.toString());
+		return cookies == null || cookies.isEmpty() ? null : cookies.get(0);
+	}
 }
@@ -31,8 +31,9 @@ final class HttpServerMetricsHandler extends AbstractHttpServerMetricsHandler {
 	HttpServerMetricsHandler(
 			HttpServerMetricsRecorder recorder,
 			@Nullable Function<String, String> methodTagValue,
+			boolean routeTemplateUriTag,
 			@Nullable Function<String, String> uriTagValue) {
-		super(methodTagValue, uriTagValue);
+		super(methodTagValue, routeTemplateUriTag, uriTagValue);
 		this.recorder = recorder;
 	}
 
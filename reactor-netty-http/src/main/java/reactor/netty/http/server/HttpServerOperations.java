@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2011-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -37,6 +37,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
@@ -143,7 +144,10 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 	boolean isWebsocket;
 	@Nullable Function<? super String, Map<String, String>> paramsResolver;
 	@Nullable String path;
+	@Nullable QueryParams queryParams;
+	@Nullable String routePath;
 	@Nullable Future<?> requestTimeoutFuture;
+	@Nullable DefaultHttpServerRoutes.HttpRouteHandler route;
 	@Nullable Consumer<? super HttpHeaders> trailerHeadersConsumer;
 	@Nullable FullHttpResponse fullHttpResponse;
 
@@ -169,9 +173,12 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 		this.nettyResponse = replaced.nettyResponse;
 		this.paramsResolver = replaced.paramsResolver;
 		this.path = replaced.path;
+		this.queryParams = replaced.queryParams;
+		this.routePath = replaced.routePath;
 		this.readTimeout = replaced.readTimeout;
 		this.requestTimeout = replaced.requestTimeout;
 		this.responseHeaders = replaced.responseHeaders;
+		this.route = replaced.route;
 		this.scheme = replaced.scheme;
 		this.timestamp = replaced.timestamp;
 		this.trailerHeadersConsumer = replaced.trailerHeadersConsumer;
@@ -321,6 +328,14 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 		throw new IllegalStateException("request not parsed");
 	}
 
+	@Override
+	public @Nullable Cookie cookie(CharSequence name) {
+		if (cookieHolder != null) {
+			return cookieHolder.getCookie(name);
+		}
+		throw new IllegalStateException("request not parsed");
+	}
+
 	@Override
 	public Context currentContext() {
 		return currentContext;
@@ -405,6 +420,32 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 		return null != paramsResolver ? paramsResolver.apply(uri()) : null;
 	}
 
+	@Override
+	public @Nullable String queryParam(CharSequence name) {
+		Objects.requireNonNull(name, "name");
+		return queryParamsHolder().get(name);
+	}
+
+	@Override
+	public Map<String, List<String>> queryParams() {
+		return queryParamsHolder().all();
+	}
+
+	/**
+	 * Returns the raw (not decoded) path of the request URI that is matched against the routes,
+	 * computed once per request, see {@link HttpPredicate.UriPathTemplate#routePath(String)}.
+	 *
+	 * @return the raw path of the request URI that is matched against the routes
+	 */
+	String routePath() {
+		String routePath = this.routePath;
+		if (routePath == null) {
+			routePath = HttpPredicate.UriPathTemplate.routePath(uri());
+			this.routePath = routePath;
+		}
+		return routePath;
+	}
+
 	@Override
 	public HttpServerRequest paramsResolver(@Nullable Function<? super String, Map<String, String>> paramsResolver) {
 		this.paramsResolver = paramsResolver;
@@ -425,6 +466,44 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 		return receiveFormInternal(config);
 	}
 
+	@Override
+	public Flux<Part> receiveParts() {
+		String contentType = nettyRequest.headers().get(HttpHeaderNames.CONTENT_TYPE);
+		String boundary = contentType != null && isMultipart() ? MultipartParser.boundary(contentType) : null;
+		if (!Objects.equals(method(), HttpMethod.POST) || boundary == null) {
+			return Flux.error(new IllegalStateException(
+					"Request is not POST or does not have Content-Type " +
+							"with value 'multipart/form-data' and a boundary"));
+		}
+		return Flux.defer(() -> {
+			ByteBufAllocator alloc = channel().alloc();
+			MultipartParser parser = new MultipartParser(boundary, alloc);
+			return receiveObject() // receiveContent uses filter operator, this operator buffers, but we don't want it
+			        // The content is parsed synchronously, the inbound buffer is released once this operator returns
+			        .concatMap(object -> object instanceof HttpContent ?
+			                Flux.fromIterable(parser.parse(((HttpContent) object).content())) : Mono.empty(), 0)
+			        .concatWith(Mono.fromRunnable(parser::complete))
+			        .doFinally(sig -> parser.release())
+			        // The parts are consumed one by one, there is no need to prefetch the tokens of the next parts
+			        .windowUntil(token -> token instanceof HttpHeaders, true, 1)
+			        .concatMap(window -> window.switchOnFirst((signal, tokens) -> {
+			            Object first = signal.get();
+			            if (first instanceof HttpHeaders) {
+			                Flux<ByteBuf> content = tokens.skip(1).cast(ByteBuf.class);
+			                try {
+			                    return Mono.<Part>just(new DefaultPart((HttpHeaders) first, content, alloc));
+			                }
+			                catch (RuntimeException e) {
+			                    // The content of the invalid part is drained and released before propagating the error
+			                    return content.doOnNext(ByteBuf::release).then(Mono.<Part>error(e));
+			                }
+			            }
+			            return tokens.then(Mono.<Part>empty());
+			        }, false), 0)
+			        .doOnDiscard(ByteBuf.class, ByteBuf::release);
+		});
+	}
+
 	@Override
 	public Flux<?> receiveObject() {
 		// Handle the 'Expect: 100-continue' header if necessary.
@@ -529,6 +608,11 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 		return connectionInfo.getForwardedPrefix();
 	}
 
+	@Override
+	public @Nullable ProxyProtocolTlvs proxyProtocolTlvs() {
+		return connectionInfo.getProxyProtocolTlvs();
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public NettyOutbound send(Publisher<? extends ByteBuf> source) {
@@ -736,13 +820,28 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 	public String fullPath() {
 		if (nettyRequest != null) {
 			if (path == null) {
-				path = resolvePath(nettyRequest.uri());
+				path = resolvePath(queryParamsHolder().path());
 			}
 			return path;
 		}
 		throw new IllegalStateException("request not parsed");
 	}
 
+	/**
+	 * Returns the query parameters of this request, the query string is indexed once per request
+	 * and the result is shared by {@link #fullPath()} and the query parameters API.
+	 *
+	 * @return the query parameters of this request
+	 */
+	final QueryParams queryParamsHolder() {
+		QueryParams queryParams = this.queryParams;
+		if (queryParams == null) {
+			queryParams = new QueryParams(uri());
+			this.queryParams = queryParams;
+		}
+		return queryParams;
+	}
+
 	@Override
 	public HttpVersion version() {
 		if (nettyRequest != null) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2011-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,12 +17,14 @@ package reactor.netty.http.server;
 
 import java.net.InetSocketAddress;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.QueryStringDecoder;
 import io.netty.handler.codec.http.multipart.Attribute;
 import io.netty.handler.codec.http.multipart.FileUpload;
 import io.netty.handler.codec.http.multipart.HttpData;
@@ -67,6 +69,33 @@ public interface HttpServerRequest extends NettyInbound, HttpServerInfos {
 	 */
 	HttpServerRequest paramsResolver(@Nullable Function<? super String, Map<String, String>> paramsResolver);
 
+	/**
+	 * Returns the decoded value of the first query parameter with the given name,
+	 * e.g. {@code "1"} for {@code "a"} in URI {@code /test?a=1&a=2}.
+	 * A query parameter without a value has an empty value.
+	 * <p>Only the value of the requested query parameter is decoded.
+	 *
+	 * @param name the decoded query parameter name
+	 * @return the decoded value of the first query parameter with the given name,
+	 * or {@code null} when there is no such query parameter
+	 * @since 1.3.0
+	 */
+	default @Nullable String queryParam(CharSequence name) {
+		List<String> values = queryParams().get(name.toString());
+		return values != null ? values.get(0) : null;
+	}
+
+	/**
+	 * Returns all decoded query parameters as an unmodifiable map of name to values,
+	 * in the order of appearance in the request URI.
+	 *
+	 * @return all decoded query parameters
+	 * @since 1.3.0
+	 */
+	default Map<String, List<String>> queryParams() {
+		return new QueryStringDecoder(uri()).parameters();
+	}
+
 	/**
 	 * Returns a {@link Flux} of {@link HttpContent} containing received chunks.
 	 *
@@ -126,6 +155,23 @@ public interface HttpServerRequest extends NettyInbound, HttpServerInfos {
 	 */
 	Flux<HttpData> receiveForm(Consumer<HttpServerFormDecoderProvider.Builder> formDecoderBuilder);
 
+	/**
+	 * When the request is {@code POST} and have {@code Content-Type} with value {@code multipart/form-data},
+	 * returns a {@link Flux} of {@link Part} streamed directly from the connection.
+	 * When the request is not {@code POST} or does not have {@code Content-Type}
+	 * with value {@code multipart/form-data}, a {@link Flux#error(Throwable)} will be returned.
+	 * <p>In contrast to {@link #receiveForm()}, the parts are neither kept in memory nor written to disk,
+	 * the content of each part is received with backpressure as it is consumed via {@link Part#content()}
+	 * or written to a file via {@link Part#transferTo(java.nio.file.Path)}. The content of a part must be consumed
+	 * before the next part is emitted.
+	 *
+	 * @return a {@link Flux} of {@link Part}
+	 * @since 1.3.0
+	 */
+	default Flux<Part> receiveParts() {
+		return Flux.error(new UnsupportedOperationException("Streaming multipart is not supported"));
+	}
+
 	@Override
 	@Nullable InetSocketAddress hostAddress();
 
@@ -161,4 +207,14 @@ public interface HttpServerRequest extends NettyInbound, HttpServerInfos {
 	 * @since 1.1.23
 	 */
 	@Nullable String forwardedPrefix();
+
+	/**
+	 * Returns the TLVs received with the PROXY protocol v2 header on the connection of this request.
+	 *
+	 * @return the TLVs received with the PROXY protocol v2 header, or {@code null} when there are no TLVs
+	 * @since 1.3.0
+	 */
+	default @Nullable ProxyProtocolTlvs proxyProtocolTlvs() {
+		return null;
+	}
 }
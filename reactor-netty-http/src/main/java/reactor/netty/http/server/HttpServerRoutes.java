@@ -276,6 +276,21 @@ public interface HttpServerRoutes extends
 	HttpServerRoutes route(Predicate<? super HttpServerRequest> condition,
 			BiFunction<? super HttpServerRequest, ? super HttpServerResponse, ? extends Publisher<Void>> handler);
 
+	/**
+	 * A generic route predicate that if matched invoke the passed blocking I/O handler on a virtual thread.
+	 *
+	 * @param condition a predicate given each inbound request
+	 * @param handler the blocking I/O handler to invoke on match
+	 * @return this {@link HttpServerRoutes}
+	 * @throws UnsupportedOperationException if virtual threads are not available, they require Java 21 or newer
+	 * @since 1.3.0
+	 * @see HttpServer#handleBlocking(BlockingHttpHandler)
+	 */
+	default HttpServerRoutes routeBlocking(Predicate<? super HttpServerRequest> condition, BlockingHttpHandler handler) {
+		Objects.requireNonNull(handler, "handler");
+		return route(condition, new VirtualThreadHandler(handler));
+	}
+
 	/**
 	 * Use the provided {@link java.util.Comparator} to sort routes, rather than using configured order.Routes that were
 	 * already configured are also impacted by this change and will be sorted according to the comparator.You can revert
@@ -52,6 +52,7 @@ import reactor.netty.Connection;
 import reactor.netty.ConnectionObserver;
 import reactor.netty.ReactorNetty;
 import reactor.netty.channel.ChannelOperations;
+import reactor.netty.channel.InboundMemoryBudget;
 import reactor.netty.http.logging.HttpMessageArgProviderFactory;
 import reactor.netty.http.logging.HttpMessageLogFactory;
 import reactor.netty.http.server.compression.HttpCompressionOptionsSpec;
@@ -107,11 +108,15 @@ final class HttpTrafficHandler extends ChannelDuplexHandler implements Runnable
 
 	@Nullable Queue<Object> pipelined;
 
+	InboundMemoryBudget.@Nullable ConnectionBudget memoryBudget;
+
 	@SuppressWarnings("NullAway")
 	// Deliberately suppress "NullAway"
 	// This is a lazy initialization
 	SocketAddress remoteAddress;
 
+	@Nullable ProxyProtocolTlvs proxyProtocolTlvs;
+
 	@SuppressWarnings("NullAway")
 	// Deliberately suppress "NullAway"
 	// This is a lazy initialization
@@ -138,7 +143,9 @@ final class HttpTrafficHandler extends ChannelDuplexHandler implements Runnable
 			boolean validateHeaders) {
 		this.listener = listener;
 		this.formDecoderProvider = formDecoderProvider;
-		this.forwardedHeaderHandler = forwardedHeaderHandler;
+		// The default handler is replaced with a per-connection cache of the resolved ConnectionInfo
+		this.forwardedHeaderHandler = forwardedHeaderHandler == DefaultHttpForwardedHeaderHandler.INSTANCE ?
+				new DefaultHttpForwardedHeaderHandler.ConnectionCache() : forwardedHeaderHandler;
 		this.compress = compress;
 		this.compressionOptions = compressionOptions;
 		this.cookieEncoder = encoder;
@@ -156,6 +163,7 @@ final class HttpTrafficHandler extends ChannelDuplexHandler implements Runnable
 	public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
 		super.handlerAdded(ctx);
 		this.ctx = ctx;
+		this.memoryBudget = InboundMemoryBudget.connectionBudget(ctx.channel());
 		if (HttpServerOperations.log.isDebugEnabled()) {
 			HttpServerOperations.log.debug(format(ctx.channel(), "New http connection, requesting read"));
 		}
@@ -179,6 +187,7 @@ final class HttpTrafficHandler extends ChannelDuplexHandler implements Runnable
 			remoteAddress =
 					Optional.ofNullable(HAProxyMessageReader.resolveRemoteAddressFromProxyProtocol(ctx.channel()))
 					        .orElse(ctx.channel().remoteAddress());
+			proxyProtocolTlvs = HAProxyMessageReader.resolveTlvsFromProxyProtocol(ctx.channel());
 		}
 		// read message and track if it was keepAlive
 		if (msg instanceof HttpRequest) {
@@ -251,6 +260,7 @@ final class HttpTrafficHandler extends ChannelDuplexHandler implements Runnable
 							secure,
 							ctx.channel().localAddress(),
 							remoteAddress,
+							proxyProtocolTlvs,
 							forwardedHeaderHandler);
 					ops = new HttpServerOperations(Connection.from(ctx.channel()),
 							listener,
@@ -388,6 +398,9 @@ final class HttpTrafficHandler extends ChannelDuplexHandler implements Runnable
 		if (!pipelined.offer(msg)) {
 			ctx.fireExceptionCaught(Exceptions.failWithOverflow());
 		}
+		else if (memoryBudget != null) {
+			memoryBudget.acquire(msg);
+		}
 	}
 
 	@Override
@@ -607,6 +620,7 @@ final class HttpTrafficHandler extends ChannelDuplexHandler implements Runnable
 							secure,
 							ctx.channel().localAddress(),
 							remoteAddress,
+							proxyProtocolTlvs,
 							forwardedHeaderHandler);
 					ops = new HttpServerOperations(Connection.from(ctx.channel()),
 							listener,
@@ -638,7 +652,11 @@ final class HttpTrafficHandler extends ChannelDuplexHandler implements Runnable
 				ctx.fireChannelRead(holder.request);
 			}
 			else {
-				ctx.fireChannelRead(pipelined.poll());
+				Object content = pipelined.poll();
+				if (memoryBudget != null) {
+					memoryBudget.release(content);
+				}
+				ctx.fireChannelRead(content);
 			}
 		}
 		overflow = false;
@@ -653,6 +671,9 @@ final class HttpTrafficHandler extends ChannelDuplexHandler implements Runnable
 		if (pipelined != null && !pipelined.isEmpty()) {
 			Object o;
 			while ((o = pipelined.poll()) != null) {
+				if (memoryBudget != null) {
+					memoryBudget.release(o);
+				}
 				ReferenceCountUtil.release(o);
 			}
 
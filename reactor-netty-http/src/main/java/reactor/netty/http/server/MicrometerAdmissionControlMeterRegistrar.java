@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tags;
+
+import static reactor.netty.Metrics.REGISTRY;
+import static reactor.netty.http.server.AdmissionControlMeters.AdmissionControlMetersTags.ID;
+import static reactor.netty.http.server.AdmissionControlMeters.IN_FLIGHT;
+import static reactor.netty.http.server.AdmissionControlMeters.LIMIT;
+import static reactor.netty.http.server.AdmissionControlMeters.REJECTED;
+
+/**
+ * Registers gauges and counters for a given {@link HttpServerAdmissionControl}.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+final class MicrometerAdmissionControlMeterRegistrar {
+
+	static final MicrometerAdmissionControlMeterRegistrar INSTANCE = new MicrometerAdmissionControlMeterRegistrar();
+
+	private MicrometerAdmissionControlMeterRegistrar() {}
+
+	void registerMetrics(String id, HttpServerAdmissionControl admissionControl) {
+		Gauge.builder(LIMIT.getName(), admissionControl, HttpServerAdmissionControl::limit)
+		     .tag(ID.asString(), id)
+		     .register(REGISTRY);
+
+		Gauge.builder(IN_FLIGHT.getName(), admissionControl, HttpServerAdmissionControl::inFlight)
+		     .tag(ID.asString(), id)
+		     .register(REGISTRY);
+
+		FunctionCounter.builder(REJECTED.getName(), admissionControl, HttpServerAdmissionControl::rejected)
+		               .tag(ID.asString(), id)
+		               .register(REGISTRY);
+	}
+
+	void deRegisterMetrics(String id) {
+		Tags tags = Tags.of(ID.asString(), id);
+
+		REGISTRY.remove(new Meter.Id(LIMIT.getName(), tags, null, null, Meter.Type.GAUGE));
+		REGISTRY.remove(new Meter.Id(IN_FLIGHT.getName(), tags, null, null, Meter.Type.GAUGE));
+		REGISTRY.remove(new Meter.Id(REJECTED.getName(), tags, null, null, Meter.Type.COUNTER));
+	}
+}
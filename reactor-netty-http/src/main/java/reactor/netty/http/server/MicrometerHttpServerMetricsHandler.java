@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022-2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2022-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,6 +29,7 @@ import reactor.util.context.ContextView;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -67,12 +68,15 @@ final class MicrometerHttpServerMetricsHandler extends AbstractHttpServerMetrics
 	// This is a lazy initialization
 	Observation responseTimeObservation;
 	@Nullable ContextView parentContextView;
+	MicrometerHttpServerMetricsRecorder.@Nullable RouteMeters routeMeters;
+	boolean unsampled;
 
 	MicrometerHttpServerMetricsHandler(
 			MicrometerHttpServerMetricsRecorder recorder,
 			@Nullable Function<String, String> methodTagValue,
+			boolean routeTemplateUriTag,
 			@Nullable Function<String, String> uriTagValue) {
-		super(methodTagValue, uriTagValue);
+		super(methodTagValue, routeTemplateUriTag, uriTagValue);
 		this.recorder = recorder;
 		this.responseTimeName = recorder.name() + RESPONSE_TIME;
 	}
@@ -85,11 +89,20 @@ final class MicrometerHttpServerMetricsHandler extends AbstractHttpServerMetrics
 		this.responseTimeHandlerContext = copy.responseTimeHandlerContext;
 		this.responseTimeObservation = copy.responseTimeObservation;
 		this.parentContextView = copy.parentContextView;
+		this.routeMeters = copy.routeMeters;
+		this.unsampled = copy.unsampled;
 	}
 
 	@Override
 	protected MetricsArgProvider createMetricsArgProvider() {
-		return super.createMetricsArgProvider().put(Observation.class, responseTimeObservation);
+		MetricsArgProvider metricsArgProvider = super.createMetricsArgProvider();
+		if (!unsampled) {
+			metricsArgProvider.put(Observation.class, responseTimeObservation);
+		}
+		MicrometerHttpServerMetricsRecorder.RouteMeters routeMeters = this.routeMeters;
+		return routeMeters != null ?
+				metricsArgProvider.put(MicrometerHttpServerMetricsRecorder.RouteMeters.class, routeMeters) :
+				metricsArgProvider;
 	}
 
 	@Override
@@ -97,52 +110,109 @@ final class MicrometerHttpServerMetricsHandler extends AbstractHttpServerMetrics
 		return recorder;
 	}
 
+	@Override
+	protected void recordException() {
+		MicrometerHttpServerMetricsRecorder.RouteMeters routeMeters = this.routeMeters;
+		if (routeMeters != null) {
+			routeMeters.incrementErrorsCount();
+		}
+		else {
+			super.recordException();
+		}
+	}
+
+	@Override
+	protected void recordRead() {
+		MicrometerHttpServerMetricsRecorder.RouteMeters routeMeters = this.routeMeters;
+		if (routeMeters != null) {
+			routeMeters.recordRead(System.nanoTime() - dataReceivedTime, dataReceived);
+		}
+		else {
+			super.recordRead();
+		}
+	}
+
 	@Override
 	protected void recordWrite(Channel channel) {
-		recordWrite(dataSent, dataSentTime, requireNonNull(method), requireNonNull(path), requireNonNull(remoteSocketAddress),
-				responseTimeObservation, requireNonNull(status));
+		recordWrite(dataReceivedTime, dataSent, dataSentTime, requireNonNull(method), requireNonNull(path),
+				requireNonNull(remoteSocketAddress), unsampled ? null : responseTimeObservation, routeMeters, requireNonNull(status));
 
 		setChannelContext(channel, parentContextView);
 	}
 
 	@Override
 	protected void recordWrite(Channel channel, MetricsArgProvider metricsArgProvider) {
-		recordWrite(metricsArgProvider.dataSent, metricsArgProvider.dataSentTime, requireNonNull(metricsArgProvider.method),
-				requireNonNull(metricsArgProvider.path), requireNonNull(metricsArgProvider.remoteSocketAddress),
-				requireNonNull(metricsArgProvider.get(Observation.class)), requireNonNull(metricsArgProvider.status));
+		recordWrite(metricsArgProvider.dataReceivedTime, metricsArgProvider.dataSent, metricsArgProvider.dataSentTime,
+				requireNonNull(metricsArgProvider.method), requireNonNull(metricsArgProvider.path),
+				requireNonNull(metricsArgProvider.remoteSocketAddress), metricsArgProvider.get(Observation.class),
+				metricsArgProvider.get(MicrometerHttpServerMetricsRecorder.RouteMeters.class),
+				requireNonNull(metricsArgProvider.status));
 	}
 
 	void recordWrite(
+			long dataReceivedTime,
 			long dataSent,
 			long dataSentTime,
 			String method,
 			String path,
 			SocketAddress remoteSocketAddress,
-			Observation responseTimeObservation,
+			@Nullable Observation responseTimeObservation,
+			MicrometerHttpServerMetricsRecorder.@Nullable RouteMeters routeMeters,
 			String status) {
-		Duration dataSentTimeDuration = Duration.ofNanos(System.nanoTime() - dataSentTime);
-		recorder().recordDataSentTime(path, method, status, dataSentTimeDuration);
+		if (routeMeters != null) {
+			routeMeters.recordWrite(status, System.nanoTime() - dataSentTime, dataSent);
+		}
+		else {
+			Duration dataSentTimeDuration = Duration.ofNanos(System.nanoTime() - dataSentTime);
+			recorder().recordDataSentTime(path, method, status, dataSentTimeDuration);
 
-		// Always take the remote address from the operations in order to consider proxy information
-		// Use remoteSocketAddress() in order to obtain UDS info
-		recorder().recordDataSent(remoteSocketAddress, path, dataSent);
+			// Always take the remote address from the operations in order to consider proxy information
+			// Use remoteSocketAddress() in order to obtain UDS info
+			recorder().recordDataSent(remoteSocketAddress, path, dataSent);
+		}
 
 		// Cannot invoke the recorder anymore:
 		// 1. The recorder is one instance only, it is invoked for all requests that can happen
 		// 2. The recorder does not have knowledge about request lifecycle
 		//
 		// Move the implementation from the recorder here
-		responseTimeObservation.stop();
+		if (responseTimeObservation != null) {
+			responseTimeObservation.stop();
+		}
+		else if (dataReceivedTime != 0) {
+			// The request is not sampled, there is no Observation, record the response time directly
+			Timer responseTime = routeMeters != null ? routeMeters.responseTime(status) :
+					recorder.getResponseTimeTimer(responseTimeName, path, method, status);
+			if (responseTime != null) {
+				responseTime.record(System.nanoTime() - dataReceivedTime, TimeUnit.NANOSECONDS);
+			}
+		}
+	}
+
+	@Override
+	protected void routeResolved(DefaultHttpServerRoutes.HttpRouteHandler route, String template) {
+		super.routeResolved(route, template);
+
+		routeMeters = recorder.getRouteMeters(route, template, requireNonNull(method));
+		if (responseTimeHandlerContext != null) {
+			responseTimeHandlerContext.routeResolved(routeMeters);
+		}
 	}
 
 	@Override
 	protected void startRead(HttpServerOperations ops) {
 		super.startRead(ops);
 
+		// The sampling decision is taken once, unsampled requests still propagate the parent context,
+		// only the Observation is not started and stopped
+		unsampled = ObservationSampler.ENABLED && !ObservationSampler.sampled(ops.nettyRequest.headers());
+
 		responseTimeHandlerContext = new ResponseTimeHandlerContext(recorder, requireNonNull(method), requireNonNull(path), ops);
 		responseTimeObservation = Observation.createNotStarted(this.responseTimeName, responseTimeHandlerContext, OBSERVATION_REGISTRY);
 		parentContextView = updateChannelContext(ops.channel(), responseTimeObservation);
-		responseTimeObservation.start();
+		if (!unsampled) {
+			responseTimeObservation.start();
+		}
 	}
 
 	// response
@@ -154,7 +224,9 @@ final class MicrometerHttpServerMetricsHandler extends AbstractHttpServerMetrics
 			responseTimeHandlerContext = new ResponseTimeHandlerContext(recorder, requireNonNull(method), requireNonNull(path), ops);
 			responseTimeObservation = Observation.createNotStarted(this.responseTimeName, responseTimeHandlerContext, OBSERVATION_REGISTRY);
 			parentContextView = updateChannelContext(ops.channel(), responseTimeObservation);
-			responseTimeObservation.start();
+			if (!unsampled) {
+				responseTimeObservation.start();
+			}
 		}
 		responseTimeHandlerContext.setResponse(ops.nettyResponse);
 		responseTimeHandlerContext.status = requireNonNull(status);
@@ -174,6 +246,8 @@ final class MicrometerHttpServerMetricsHandler extends AbstractHttpServerMetrics
 		responseTimeHandlerContext = null;
 		responseTimeObservation = null;
 		parentContextView = null;
+		routeMeters = null;
+		unsampled = false;
 	}
 
 	/*
@@ -189,10 +263,12 @@ final class MicrometerHttpServerMetricsHandler extends AbstractHttpServerMetrics
 		final String method;
 		final String netHostName;
 		final String netHostPort;
-		final String path;
 		final MicrometerHttpServerMetricsRecorder recorder;
 		final String scheme;
 
+		String path;
+		MicrometerHttpServerMetricsRecorder.@Nullable RouteMeters routeMeters;
+
 		// status might not be known beforehand
 		String status = UNKNOWN;
 
@@ -215,9 +291,17 @@ final class MicrometerHttpServerMetricsHandler extends AbstractHttpServerMetrics
 			return this;
 		}
 
+		void routeResolved(MicrometerHttpServerMetricsRecorder.RouteMeters routeMeters) {
+			this.path = routeMeters.uri;
+			this.routeMeters = routeMeters;
+			setContextualName(this.method + '_' + this.path.substring(1));
+		}
+
 		@Override
 		public @Nullable Timer getTimer() {
-			return recorder.getResponseTimeTimer(getName(), path, method, status);
+			MicrometerHttpServerMetricsRecorder.RouteMeters routeMeters = this.routeMeters;
+			return routeMeters != null ? routeMeters.responseTime(status) :
+					recorder.getResponseTimeTimer(getName(), path, method, status);
 		}
 
 		@Override
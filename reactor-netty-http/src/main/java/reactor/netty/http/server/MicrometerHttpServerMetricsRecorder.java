@@ -28,6 +28,8 @@ import java.net.SocketAddress;
 import java.time.Duration;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.atomic.LongAdder;
 
 import static reactor.netty.Metrics.DATA_RECEIVED;
@@ -60,6 +62,7 @@ final class MicrometerHttpServerMetricsRecorder extends MicrometerHttpMetricsRec
 	private final ConcurrentMap<String, DistributionSummary> dataReceivedCache = new ConcurrentHashMap<>();
 	private final ConcurrentMap<String, DistributionSummary> dataSentCache = new ConcurrentHashMap<>();
 	private final ConcurrentMap<String, Counter> errorsCache = new ConcurrentHashMap<>();
+	private final ConcurrentMap<MeterKey, RouteMeters> routeMetersCache = new ConcurrentHashMap<>();
 
 	private MicrometerHttpServerMetricsRecorder() {
 		super(HTTP_SERVER_PREFIX, PROTOCOL_VALUE_HTTP);
@@ -67,29 +70,37 @@ final class MicrometerHttpServerMetricsRecorder extends MicrometerHttpMetricsRec
 
 	@Override
 	public void recordDataReceivedTime(String uri, String method, Duration time) {
+		Timer dataReceivedTime = getDataReceivedTimeTimer(uri, method);
+		if (dataReceivedTime != null) {
+			dataReceivedTime.record(time);
+		}
+	}
+
+	final @Nullable Timer getDataReceivedTimeTimer(String uri, String method) {
 		MeterKey meterKey = new MeterKey(uri, null, null, method, null);
-		Timer dataReceivedTime = MapUtils.computeIfAbsent(dataReceivedTimeCache, meterKey,
+		return MapUtils.computeIfAbsent(dataReceivedTimeCache, meterKey,
 				key -> filter(Timer.builder(name() + DATA_RECEIVED_TIME)
 				                   .tags(HttpServerMeters.DataReceivedTimeTags.URI.asString(), uri,
 				                         HttpServerMeters.DataReceivedTimeTags.METHOD.asString(), method)
 				                   .register(REGISTRY)));
-		if (dataReceivedTime != null) {
-			dataReceivedTime.record(time);
-		}
 	}
 
 	@Override
 	public void recordDataSentTime(String uri, String method, String status, Duration time) {
+		Timer dataSentTime = getDataSentTimeTimer(uri, method, status);
+		if (dataSentTime != null) {
+			dataSentTime.record(time);
+		}
+	}
+
+	final @Nullable Timer getDataSentTimeTimer(String uri, String method, String status) {
 		MeterKey meterKey = new MeterKey(uri, null, null, method, status);
-		Timer dataSentTime = MapUtils.computeIfAbsent(dataSentTimeCache, meterKey,
+		return MapUtils.computeIfAbsent(dataSentTimeCache, meterKey,
 				key -> filter(Timer.builder(name() + DATA_SENT_TIME)
 				                   .tags(HttpServerMeters.DataSentTimeTags.URI.asString(), uri,
 				                         HttpServerMeters.DataSentTimeTags.METHOD.asString(), method,
 				                         HttpServerMeters.DataSentTimeTags.STATUS.asString(), status)
 				                   .register(REGISTRY)));
-		if (dataSentTime != null) {
-			dataSentTime.record(time);
-		}
 	}
 
 	@Override
@@ -110,37 +121,71 @@ final class MicrometerHttpServerMetricsRecorder extends MicrometerHttpMetricsRec
 
 	@Override
 	public void recordDataReceived(SocketAddress remoteAddress, String uri, long bytes) {
-		DistributionSummary dataReceived = MapUtils.computeIfAbsent(dataReceivedCache, uri,
+		DistributionSummary dataReceived = getDataReceivedSummary(uri);
+		if (dataReceived != null) {
+			dataReceived.record(bytes);
+		}
+	}
+
+	final @Nullable DistributionSummary getDataReceivedSummary(String uri) {
+		return MapUtils.computeIfAbsent(dataReceivedCache, uri,
 				key -> filter(DistributionSummary.builder(name() + DATA_RECEIVED)
 				                                 .baseUnit(HttpServerMeters.HTTP_SERVER_DATA_RECEIVED.getBaseUnit())
 				                                 .tags(HttpServerMeters.HttpServerMetersTags.URI.asString(), uri)
 				                                 .register(REGISTRY)));
-		if (dataReceived != null) {
-			dataReceived.record(bytes);
-		}
 	}
 
 	@Override
 	public void recordDataSent(SocketAddress remoteAddress, String uri, long bytes) {
-		DistributionSummary dataSent = MapUtils.computeIfAbsent(dataSentCache, uri,
+		DistributionSummary dataSent = getDataSentSummary(uri);
+		if (dataSent != null) {
+			dataSent.record(bytes);
+		}
+	}
+
+	final @Nullable DistributionSummary getDataSentSummary(String uri) {
+		return MapUtils.computeIfAbsent(dataSentCache, uri,
 				key -> filter(DistributionSummary.builder(name() + DATA_SENT)
 				                                 .baseUnit(HttpServerMeters.HTTP_SERVER_DATA_SENT.getBaseUnit())
 				                                 .tags(HttpServerMeters.HttpServerMetersTags.URI.asString(), uri)
 				                                 .register(REGISTRY)));
-		if (dataSent != null) {
-			dataSent.record(bytes);
-		}
 	}
 
 	@Override
 	public void incrementErrorsCount(SocketAddress remoteAddress, String uri) {
-		Counter errors = MapUtils.computeIfAbsent(errorsCache, uri,
+		Counter errors = getErrorsCounter(uri);
+		if (errors != null) {
+			errors.increment();
+		}
+	}
+
+	final @Nullable Counter getErrorsCounter(String uri) {
+		return MapUtils.computeIfAbsent(errorsCache, uri,
 				key -> filter(Counter.builder(name() + ERRORS)
 				                     .tags(HttpServerMeters.HttpServerMetersTags.URI.asString(), uri)
 				                     .register(REGISTRY)));
-		if (errors != null) {
-			errors.increment();
+	}
+
+	/**
+	 * Returns the meters bound to the given route and method. The meters are resolved once and
+	 * then kept on the route itself, thus subsequent requests handled by the same route
+	 * do not require a lookup.
+	 *
+	 * @param route the route that handles the request
+	 * @param uri the route path template
+	 * @param method the method tag value
+	 * @return the meters bound to the given route and method
+	 */
+	RouteMeters getRouteMeters(DefaultHttpServerRoutes.HttpRouteHandler route, String uri, String method) {
+		RouteMeters routeMeters = route.meters;
+		if (routeMeters != null && routeMeters.method.equals(method)) {
+			return routeMeters;
 		}
+		// The same route might be invoked with different methods (e.g. a route without method predicate)
+		routeMeters = MapUtils.computeIfAbsent(routeMetersCache, new MeterKey(uri, null, null, method, null),
+				key -> new RouteMeters(this, uri, method));
+		route.meters = routeMeters;
+		return routeMeters;
 	}
 
 	@Override
@@ -232,4 +277,105 @@ final class MicrometerHttpServerMetricsRecorder extends MicrometerHttpMetricsRec
 					return gauge != null ? activeConnectionsAdder : null;
 				});
 	}
+
+	/**
+	 * Pre-resolved meters for a route path template and a method.
+	 * Recording does not require a meter lookup nor an allocation.
+	 */
+	static final class RouteMeters {
+		static final int MIN_STATUS = 100;
+		static final int MAX_STATUS = 599;
+
+		final @Nullable Counter errors;
+		final @Nullable DistributionSummary dataReceived;
+		final @Nullable Timer dataReceivedTime;
+		final @Nullable DistributionSummary dataSent;
+		final String method;
+		final ConcurrentMap<String, StatusMeters> nonStandardStatusMeters = new ConcurrentHashMap<>();
+		final MicrometerHttpServerMetricsRecorder recorder;
+		final String responseTimeName;
+		final AtomicReferenceArray<StatusMeters> statusMeters = new AtomicReferenceArray<>(MAX_STATUS - MIN_STATUS + 1);
+		final String uri;
+
+		RouteMeters(MicrometerHttpServerMetricsRecorder recorder, String uri, String method) {
+			this.errors = recorder.getErrorsCounter(uri);
+			this.dataReceived = recorder.getDataReceivedSummary(uri);
+			this.dataReceivedTime = recorder.getDataReceivedTimeTimer(uri, method);
+			this.dataSent = recorder.getDataSentSummary(uri);
+			this.method = method;
+			this.recorder = recorder;
+			this.responseTimeName = recorder.name() + RESPONSE_TIME;
+			this.uri = uri;
+		}
+
+		void incrementErrorsCount() {
+			if (errors != null) {
+				errors.increment();
+			}
+		}
+
+		void recordRead(long dataReceivedTimeNanos, long bytes) {
+			if (dataReceivedTime != null) {
+				dataReceivedTime.record(dataReceivedTimeNanos, TimeUnit.NANOSECONDS);
+			}
+			if (dataReceived != null) {
+				dataReceived.record(bytes);
+			}
+		}
+
+		void recordWrite(String status, long dataSentTimeNanos, long bytes) {
+			Timer dataSentTime = statusMeters(status).dataSentTime;
+			if (dataSentTime != null) {
+				dataSentTime.record(dataSentTimeNanos, TimeUnit.NANOSECONDS);
+			}
+			if (dataSent != null) {
+				dataSent.record(bytes);
+			}
+		}
+
+		@Nullable Timer responseTime(String status) {
+			return statusMeters(status).responseTime;
+		}
+
+		StatusMeters statusMeters(String status) {
+			int index = statusCode(status) - MIN_STATUS;
+			if (index < 0 || index > MAX_STATUS - MIN_STATUS) {
+				// Non-standard status code, rare, a map lookup is acceptable
+				return MapUtils.computeIfAbsent(nonStandardStatusMeters, status, key -> new StatusMeters(this, key));
+			}
+			StatusMeters meters = statusMeters.get(index);
+			if (meters == null) {
+				// A race here results in the same meters being resolved twice
+				meters = new StatusMeters(this, status);
+				statusMeters.lazySet(index, meters);
+			}
+			return meters;
+		}
+
+		static int statusCode(String status) {
+			if (status.length() != 3) {
+				return -1;
+			}
+			int code = 0;
+			for (int i = 0; i < 3; i++) {
+				int digit = status.charAt(i) - '0';
+				if (digit < 0 || digit > 9) {
+					return -1;
+				}
+				code = code * 10 + digit;
+			}
+			return code;
+		}
+	}
+
+	static final class StatusMeters {
+		final @Nullable Timer dataSentTime;
+		final @Nullable Timer responseTime;
+
+		StatusMeters(RouteMeters routeMeters, String status) {
+			MicrometerHttpServerMetricsRecorder recorder = routeMeters.recorder;
+			this.dataSentTime = recorder.getDataSentTimeTimer(routeMeters.uri, routeMeters.method, status);
+			this.responseTime = recorder.getResponseTimeTimer(routeMeters.responseTimeName, routeMeters.uri, routeMeters.method, status);
+		}
+	}
 }
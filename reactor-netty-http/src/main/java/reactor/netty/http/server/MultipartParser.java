@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.multipart.HttpPostRequestDecoder.ErrorDataDecoderException;
+import org.jspecify.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Incremental {@code multipart/form-data} parser.
+ * <p>Each received buffer is turned into a list of tokens, {@link HttpHeaders} when the headers of a part
+ * are received and {@link ByteBuf} for the content of the current part. The content tokens are retained slices
+ * of the received buffers, only the few bytes that may be the beginning of a delimiter and the incomplete
+ * headers are copied until the next buffer is received.
+ * <p>This class is not thread-safe, the buffers are expected to be provided sequentially.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+final class MultipartParser {
+
+	static final int MAX_HEADERS_SIZE = 16 * 1024;
+
+	static final ByteBuf CRLF = Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(new byte[] {'\r', '\n'}));
+	static final ByteBuf CRLF_CRLF = Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(new byte[] {'\r', '\n', '\r', '\n'}));
+
+	enum State {
+		PREAMBLE, DELIMITER, HEADERS, BODY, EPILOGUE
+	}
+
+	final ByteBufAllocator alloc;
+	/**
+	 * {@code CRLF--boundary}.
+	 */
+	final ByteBuf delimiter;
+	/**
+	 * {@code --boundary}, the first delimiter may not be preceded by {@code CRLF}.
+	 */
+	final ByteBuf firstDelimiter;
+
+	@Nullable ByteBuf cumulation;
+	State state = State.PREAMBLE;
+
+	MultipartParser(String boundary, ByteBufAllocator alloc) {
+		this.alloc = alloc;
+		byte[] bytes = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+		this.delimiter = Unpooled.wrappedBuffer(bytes);
+		this.firstDelimiter = Unpooled.wrappedBuffer(bytes, 2, bytes.length - 2);
+	}
+
+	/**
+	 * Parses the given buffer. The buffer is not released, the returned content tokens are retained slices.
+	 *
+	 * @param content the received buffer
+	 * @return the tokens, {@link HttpHeaders} or {@link ByteBuf}, parsed so far
+	 */
+	List<Object> parse(ByteBuf content) {
+		if (state == State.EPILOGUE) {
+			return Collections.emptyList();
+		}
+
+		ByteBuf buf;
+		ByteBuf cumulation = this.cumulation;
+		if (cumulation != null) {
+			this.cumulation = null;
+			CompositeByteBuf composite = alloc.compositeBuffer(2);
+			composite.addComponents(true, cumulation, content.retain());
+			buf = composite;
+		}
+		else {
+			buf = content;
+		}
+
+		List<Object> out = new ArrayList<>(2);
+		try {
+			parse(buf, out);
+			if (buf.isReadable()) {
+				this.cumulation = alloc.buffer(buf.readableBytes()).writeBytes(buf);
+			}
+		}
+		catch (Throwable t) {
+			for (Object o : out) {
+				if (o instanceof ByteBuf) {
+					((ByteBuf) o).release();
+				}
+			}
+			throw t;
+		}
+		finally {
+			if (buf != content) {
+				buf.release();
+			}
+		}
+		return out;
+	}
+
+	void parse(ByteBuf buf, List<Object> out) {
+		for (;;) {
+			switch (state) {
+				case PREAMBLE: {
+					int index = ByteBufUtil.indexOf(firstDelimiter, buf);
+					if (index == -1) {
+						// Keep only the bytes that may be the beginning of the delimiter
+						buf.skipBytes(Math.max(0, buf.readableBytes() - firstDelimiter.readableBytes() + 1));
+						return;
+					}
+					buf.readerIndex(index + firstDelimiter.readableBytes());
+					state = State.DELIMITER;
+					break;
+				}
+				case DELIMITER: {
+					if (buf.readableBytes() < 2) {
+						return;
+					}
+					int readerIndex = buf.readerIndex();
+					if (buf.getByte(readerIndex) == '-' && buf.getByte(readerIndex + 1) == '-') {
+						buf.skipBytes(buf.readableBytes());
+						state = State.EPILOGUE;
+						return;
+					}
+					// Skip the transport padding
+					int index = ByteBufUtil.indexOf(CRLF, buf);
+					if (index == -1) {
+						checkHeadersSize(buf);
+						return;
+					}
+					buf.readerIndex(index + CRLF.readableBytes());
+					state = State.HEADERS;
+					break;
+				}
+				case HEADERS: {
+					HttpHeaders headers;
+					if (buf.readableBytes() >= 2 && buf.getByte(buf.readerIndex()) == '\r' &&
+							buf.getByte(buf.readerIndex() + 1) == '\n') {
+						buf.skipBytes(2);
+						headers = new DefaultHttpHeaders();
+					}
+					else {
+						int index = ByteBufUtil.indexOf(CRLF_CRLF, buf);
+						if (index == -1) {
+							checkHeadersSize(buf);
+							return;
+						}
+						headers = parseHeaders(buf.toString(buf.readerIndex(), index - buf.readerIndex(), StandardCharsets.UTF_8));
+						buf.readerIndex(index + CRLF_CRLF.readableBytes());
+					}
+					out.add(headers);
+					state = State.BODY;
+					break;
+				}
+				case BODY: {
+					int index = ByteBufUtil.indexOf(delimiter, buf);
+					if (index == -1) {
+						// Keep only the bytes that may be the beginning of the delimiter
+						int length = buf.readableBytes() - delimiter.readableBytes() + 1;
+						if (length > 0) {
+							out.add(buf.readRetainedSlice(length));
+						}
+						return;
+					}
+					int length = index - buf.readerIndex();
+					if (length > 0) {
+						out.add(buf.readRetainedSlice(length));
+					}
+					buf.readerIndex(index + delimiter.readableBytes());
+					state = State.DELIMITER;
+					break;
+				}
+				default:
+					buf.skipBytes(buf.readableBytes());
+					return;
+			}
+		}
+	}
+
+	/**
+	 * Checks that the whole body was received.
+	 *
+	 * @throws ErrorDataDecoderException when the final delimiter was not received
+	 */
+	void complete() {
+		if (state != State.EPILOGUE) {
+			throw new ErrorDataDecoderException("Unexpected end of the multipart body");
+		}
+	}
+
+	void release() {
+		ByteBuf cumulation = this.cumulation;
+		if (cumulation != null) {
+			this.cumulation = null;
+			cumulation.release();
+		}
+	}
+
+	static void checkHeadersSize(ByteBuf buf) {
+		if (buf.readableBytes() > MAX_HEADERS_SIZE) {
+			throw new ErrorDataDecoderException("Part headers are larger than " + MAX_HEADERS_SIZE + " bytes");
+		}
+	}
+
+	static HttpHeaders parseHeaders(String s) {
+		HttpHeaders headers = new DefaultHttpHeaders();
+		int start = 0;
+		int length = s.length();
+		while (start < length) {
+			int end = s.indexOf("\r\n", start);
+			if (end == -1) {
+				end = length;
+			}
+			int colon = s.indexOf(':', start);
+			if (colon > start && colon < end) {
+				headers.add(s.substring(start, colon).trim(), s.substring(colon + 1, end).trim());
+			}
+			start = end + 2;
+		}
+		return headers;
+	}
+
+	/**
+	 * Returns the boundary from the {@code multipart/form-data} content type.
+	 *
+	 * @param contentType the content type
+	 * @return the boundary or {@code null} when there is no boundary parameter
+	 */
+	static @Nullable String boundary(String contentType) {
+		String boundary = parameter(contentType, "boundary");
+		return boundary == null || boundary.isEmpty() ? null : boundary;
+	}
+
+	/**
+	 * Returns the value of the given parameter of a header value such as {@code form-data; name="a"}.
+	 * The value is unquoted.
+	 *
+	 * @param header the header value
+	 * @param name the name of the parameter
+	 * @return the value of the parameter or {@code null} when there is no such parameter
+	 */
+	static @Nullable String parameter(String header, String name) {
+		int length = header.length();
+		int index = header.indexOf(';');
+		while (index != -1 && index < length) {
+			int start = index + 1;
+			while (start < length && header.charAt(start) == ' ') {
+				start++;
+			}
+			int equals = header.indexOf('=', start);
+			if (equals == -1) {
+				return null;
+			}
+			boolean matches = header.substring(start, equals).trim().equalsIgnoreCase(name);
+			int valueStart = equals + 1;
+			while (valueStart < length && header.charAt(valueStart) == ' ') {
+				valueStart++;
+			}
+			int valueEnd;
+			String value;
+			if (valueStart < length && header.charAt(valueStart) == '"') {
+				StringBuilder sb = new StringBuilder();
+				int i = valueStart + 1;
+				for (; i < length; i++) {
+					char c = header.charAt(i);
+					if (c == '\\' && i + 1 < length) {
+						sb.append(header.charAt(++i));
+					}
+					else if (c == '"') {
+						break;
+					}
+					else {
+						sb.append(c);
+					}
+				}
+				value = sb.toString();
+				valueEnd = header.indexOf(';', i);
+			}
+			else {
+				valueEnd = header.indexOf(';', valueStart);
+				value = header.substring(valueStart, valueEnd == -1 ? length : valueEnd).trim();
+			}
+			if (matches) {
+				return value;
+			}
+			index = valueEnd;
+		}
+		return null;
+	}
+}
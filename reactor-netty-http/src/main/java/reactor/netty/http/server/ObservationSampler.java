@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.netty.handler.codec.http.HttpHeaders;
+import org.jspecify.annotations.Nullable;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides once, when the request is received, whether the request will be observed.
+ * The decision is taken from the trace propagation headers ({@code traceparent}, {@code b3},
+ * {@code X-B3-Sampled}, {@code X-B3-Flags}) when the caller has already decided,
+ * otherwise from the configured probability.
+ * <p>For the unsampled requests, {@link MicrometerHttpServerMetricsHandler} does not start
+ * the {@link io.micrometer.observation.Observation}, the metrics are recorded directly.
+ * The channel context is still updated, so that the parent context is propagated.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+final class ObservationSampler {
+
+	/**
+	 * Specifies whether the sampling decision is taken before creating the
+	 * {@link io.micrometer.observation.Observation} for the request.
+	 * Default to {@code false}, every request is observed.
+	 * <p>When enabled, the sampler of the tracer should sample all requests that are
+	 * observed, otherwise the effective sampling rate is the product of the two rates.
+	 */
+	static final boolean ENABLED =
+			Boolean.parseBoolean(System.getProperty("reactor.netty.http.server.observationSampling", "false"));
+
+	/**
+	 * The probability in the range {@code [0.0, 1.0]} that is used when the request does not carry
+	 * a sampling decision. Default to {@code 1.0}.
+	 */
+	static final double PROBABILITY =
+			Double.parseDouble(System.getProperty("reactor.netty.http.server.observationSamplingProbability", "1.0"));
+
+	static final String B3 = "b3";
+	static final String TRACEPARENT = "traceparent";
+	static final String X_B3_FLAGS = "X-B3-Flags";
+	static final String X_B3_SAMPLED = "X-B3-Sampled";
+
+	static boolean sampled(HttpHeaders headers) {
+		Boolean decision = decision(headers);
+		if (decision != null) {
+			return decision;
+		}
+		return PROBABILITY >= 1.0d || (PROBABILITY > 0.0d && ThreadLocalRandom.current().nextDouble() < PROBABILITY);
+	}
+
+	static @Nullable Boolean decision(HttpHeaders headers) {
+		String traceparent = headers.get(TRACEPARENT);
+		if (traceparent != null) {
+			// version-traceid-parentid-flags, 00-{32 hex}-{16 hex}-{2 hex}
+			if (traceparent.length() >= 55 && traceparent.charAt(52) == '-') {
+				int flags = Character.digit(traceparent.charAt(54), 16);
+				if (flags >= 0) {
+					return (flags & 0x01) == 0x01;
+				}
+			}
+			return null;
+		}
+
+		String b3 = headers.get(B3);
+		if (b3 != null) {
+			return b3Decision(b3);
+		}
+
+		if ("1".equals(headers.get(X_B3_FLAGS))) {
+			return Boolean.TRUE;
+		}
+		String sampled = headers.get(X_B3_SAMPLED);
+		if (sampled != null) {
+			if ("1".equals(sampled) || "true".equalsIgnoreCase(sampled)) {
+				return Boolean.TRUE;
+			}
+			if ("0".equals(sampled) || "false".equalsIgnoreCase(sampled)) {
+				return Boolean.FALSE;
+			}
+		}
+		return null;
+	}
+
+	static @Nullable Boolean b3Decision(String b3) {
+		// {sampled} or {traceid}-{spanid}[-{sampled}[-{parentspanid}]]
+		if (b3.length() == 1) {
+			return sampledFlag(b3.charAt(0));
+		}
+		int first = b3.indexOf('-');
+		if (first == -1) {
+			return null;
+		}
+		int second = b3.indexOf('-', first + 1);
+		if (second == -1 || second + 1 >= b3.length()) {
+			return null;
+		}
+		int end = second + 2;
+		if (end < b3.length() && b3.charAt(end) != '-') {
+			return null;
+		}
+		return sampledFlag(b3.charAt(second + 1));
+	}
+
+	static @Nullable Boolean sampledFlag(char flag) {
+		switch (flag) {
+			case '0':
+				return Boolean.FALSE;
+			case '1':
+			case 'd':
+				return Boolean.TRUE;
+			default:
+				return null;
+		}
+	}
+
+	private ObservationSampler() {
+	}
+}
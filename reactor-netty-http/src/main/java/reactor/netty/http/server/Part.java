@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.netty.handler.codec.http.HttpHeaders;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+
+import java.nio.file.Path;
+
+/**
+ * A part of a {@code multipart/form-data} request, received with {@link HttpServerRequest#receiveParts()}.
+ * <p>The content of the part is not buffered, it is read from the connection as it is consumed.
+ * Either {@link #content()} or {@link #transferTo(Path)} must be subscribed exactly once,
+ * the next part is not emitted until the content of the current part is consumed.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+public interface Part {
+
+	/**
+	 * Returns the name of the part, the {@code name} parameter of the {@code Content-Disposition} header.
+	 *
+	 * @return the name of the part
+	 */
+	String name();
+
+	/**
+	 * Returns the file name of the part, the {@code filename} parameter of the {@code Content-Disposition} header.
+	 *
+	 * @return the file name of the part, or {@code null} when the part is not a file
+	 */
+	@Nullable String filename();
+
+	/**
+	 * Returns the headers of the part.
+	 *
+	 * @return the headers of the part
+	 */
+	HttpHeaders headers();
+
+	/**
+	 * Returns the content of the part as it is received.
+	 * <p>Same as the inbound {@link ByteBufFlux}, the buffers are released once they are delivered,
+	 * {@link io.netty.buffer.ByteBuf#retain()} them in order to keep them.
+	 *
+	 * @return the content of the part
+	 */
+	ByteBufFlux content();
+
+	/**
+	 * Writes the content of the part to the given file, as it is received.
+	 * The file is created if it does not exist and truncated otherwise.
+	 * <p>The content is written with {@link java.nio.channels.AsynchronousFileChannel}, thus the event loop
+	 * is not blocked while waiting for the writes and the memory needed does not depend on the size of the part.
+	 * Note that on platforms without native asynchronous file I/O, e.g. Linux, the JDK performs the writes
+	 * on the default thread pool of {@link java.nio.channels.AsynchronousFileChannel}, where a thread is blocked
+	 * for the duration of each write.
+	 *
+	 * @param file the file where to write the content of the part
+	 * @return a {@link Mono} completing when the whole content is written
+	 */
+	Mono<Void> transferTo(Path file);
+}
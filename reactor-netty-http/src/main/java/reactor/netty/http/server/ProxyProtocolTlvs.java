@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import org.jspecify.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The Type-Length-Value vectors received with the PROXY protocol v2 header.
+ * The vectors are received once per connection and are available for all requests on that connection.
+ * <p>The raw TLV section of the header is kept as is and the values are looked up in place,
+ * thus there is no allocation unless a value is requested.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ * @see <a href="https://www.haproxy.org/download/2.9/doc/proxy-protocol.txt">PROXY protocol</a>
+ */
+public final class ProxyProtocolTlvs {
+
+	/**
+	 * Application-Layer Protocol Negotiation (ALPN).
+	 */
+	public static final int PP2_TYPE_ALPN = 0x01;
+
+	/**
+	 * Host name value passed by the client, as an UTF8-encoded string.
+	 */
+	public static final int PP2_TYPE_AUTHORITY = 0x02;
+
+	/**
+	 * 32-bit number storing the CRC32c checksum of the PROXY protocol header.
+	 */
+	public static final int PP2_TYPE_CRC32C = 0x03;
+
+	/**
+	 * Opaque byte sequence of up to 128 bytes generated by the upstream proxy that uniquely identifies the connection.
+	 */
+	public static final int PP2_TYPE_UNIQUE_ID = 0x05;
+
+	/**
+	 * SSL information, a client byte, a verify value and SSL sub-TLVs.
+	 */
+	public static final int PP2_TYPE_SSL = 0x20;
+
+	/**
+	 * SSL sub-TLV, the US-ASCII string representation of the TLS version.
+	 */
+	public static final int PP2_SUBTYPE_SSL_VERSION = 0x21;
+
+	/**
+	 * SSL sub-TLV, the Common Name field of the client certificate's Distinguished Name, as an UTF8-encoded string.
+	 */
+	public static final int PP2_SUBTYPE_SSL_CN = 0x22;
+
+	/**
+	 * SSL sub-TLV, the US-ASCII string name of the used cipher.
+	 */
+	public static final int PP2_SUBTYPE_SSL_CIPHER = 0x23;
+
+	/**
+	 * The namespace's name, as an US-ASCII string.
+	 */
+	public static final int PP2_TYPE_NETNS = 0x30;
+
+	/**
+	 * AWS custom type, the first byte is the subtype, {@code 0x01} is the VPC endpoint ID.
+	 */
+	public static final int PP2_TYPE_AWS = 0xEA;
+
+	/**
+	 * Azure custom type, the first byte is the subtype, {@code 0x01} is the Private Endpoint LinkID.
+	 */
+	public static final int PP2_TYPE_AZURE = 0xEE;
+
+	static final int PP2_SUBTYPE_AWS_VPCE_ID = 0x01;
+	static final int PP2_CLIENT_SSL = 0x01;
+	static final int TLV_HEADER_LENGTH = 3;
+	// client (1 byte) + verify (4 bytes)
+	static final int SSL_HEADER_LENGTH = 5;
+
+	final byte[] tlvs;
+
+	ProxyProtocolTlvs(byte[] tlvs) {
+		this.tlvs = tlvs;
+	}
+
+	/**
+	 * Returns the value of the first TLV with the given type, or {@code null} when there is no such TLV.
+	 *
+	 * @param type the TLV type
+	 * @return the value of the first TLV with the given type, or {@code null} when there is no such TLV
+	 */
+	public byte @Nullable [] get(int type) {
+		int index = indexOf(tlvs, 0, tlvs.length, type);
+		return index == -1 ? null : Arrays.copyOfRange(tlvs, index + TLV_HEADER_LENGTH, index + TLV_HEADER_LENGTH + length(tlvs, index));
+	}
+
+	/**
+	 * Returns the UTF-8 string value of the first TLV with the given type, or {@code null} when there is no such TLV.
+	 *
+	 * @param type the TLV type
+	 * @return the UTF-8 string value of the first TLV with the given type, or {@code null} when there is no such TLV
+	 */
+	public @Nullable String getString(int type) {
+		int index = indexOf(tlvs, 0, tlvs.length, type);
+		return index == -1 ? null : new String(tlvs, index + TLV_HEADER_LENGTH, length(tlvs, index), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Returns the host name passed by the client ({@link #PP2_TYPE_AUTHORITY}).
+	 *
+	 * @return the host name passed by the client, or {@code null} when it is not available
+	 */
+	public @Nullable String authority() {
+		return getString(PP2_TYPE_AUTHORITY);
+	}
+
+	/**
+	 * Returns the unique connection ID ({@link #PP2_TYPE_UNIQUE_ID}).
+	 *
+	 * @return the unique connection ID, or {@code null} when it is not available
+	 */
+	public @Nullable String uniqueId() {
+		return getString(PP2_TYPE_UNIQUE_ID);
+	}
+
+	/**
+	 * Returns the AWS VPC endpoint ID ({@link #PP2_TYPE_AWS} with subtype {@code 0x01}).
+	 *
+	 * @return the AWS VPC endpoint ID, or {@code null} when it is not available
+	 */
+	public @Nullable String awsVpcEndpointId() {
+		int index = indexOf(tlvs, 0, tlvs.length, PP2_TYPE_AWS);
+		while (index != -1) {
+			int length = length(tlvs, index);
+			if (length > 0 && (tlvs[index + TLV_HEADER_LENGTH] & 0xFF) == PP2_SUBTYPE_AWS_VPCE_ID) {
+				return new String(tlvs, index + TLV_HEADER_LENGTH + 1, length - 1, StandardCharsets.US_ASCII);
+			}
+			int next = index + TLV_HEADER_LENGTH + length;
+			index = indexOf(tlvs, next, tlvs.length, PP2_TYPE_AWS);
+		}
+		return null;
+	}
+
+	/**
+	 * Returns {@code true} when the client connected to the proxy over SSL/TLS ({@link #PP2_TYPE_SSL}).
+	 *
+	 * @return {@code true} when the client connected to the proxy over SSL/TLS
+	 */
+	public boolean isSsl() {
+		int index = indexOf(tlvs, 0, tlvs.length, PP2_TYPE_SSL);
+		return index != -1 && length(tlvs, index) >= SSL_HEADER_LENGTH &&
+				(tlvs[index + TLV_HEADER_LENGTH] & PP2_CLIENT_SSL) != 0;
+	}
+
+	/**
+	 * Returns the TLS version used by the client ({@link #PP2_SUBTYPE_SSL_VERSION}).
+	 *
+	 * @return the TLS version used by the client, or {@code null} when it is not available
+	 */
+	public @Nullable String sslVersion() {
+		return sslSubTlv(PP2_SUBTYPE_SSL_VERSION);
+	}
+
+	/**
+	 * Returns the Common Name of the client certificate ({@link #PP2_SUBTYPE_SSL_CN}).
+	 *
+	 * @return the Common Name of the client certificate, or {@code null} when it is not available
+	 */
+	public @Nullable String sslCommonName() {
+		return sslSubTlv(PP2_SUBTYPE_SSL_CN);
+	}
+
+	/**
+	 * Returns the cipher used by the client ({@link #PP2_SUBTYPE_SSL_CIPHER}).
+	 *
+	 * @return the cipher used by the client, or {@code null} when it is not available
+	 */
+	public @Nullable String sslCipher() {
+		return sslSubTlv(PP2_SUBTYPE_SSL_CIPHER);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("ProxyProtocolTlvs{types=[");
+		int index = 0;
+		while (index + TLV_HEADER_LENGTH <= tlvs.length) {
+			if (index > 0) {
+				sb.append(", ");
+			}
+			sb.append("0x").append(Integer.toHexString(tlvs[index] & 0xFF));
+			index += TLV_HEADER_LENGTH + length(tlvs, index);
+		}
+		return sb.append("]}").toString();
+	}
+
+	@Nullable String sslSubTlv(int subtype) {
+		int index = indexOf(tlvs, 0, tlvs.length, PP2_TYPE_SSL);
+		if (index == -1) {
+			return null;
+		}
+		int length = length(tlvs, index);
+		if (length < SSL_HEADER_LENGTH) {
+			return null;
+		}
+		int start = index + TLV_HEADER_LENGTH + SSL_HEADER_LENGTH;
+		int end = index + TLV_HEADER_LENGTH + length;
+		int subIndex = indexOf(tlvs, start, end, subtype);
+		return subIndex == -1 ? null :
+				new String(tlvs, subIndex + TLV_HEADER_LENGTH, length(tlvs, subIndex), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Returns the index of the first TLV with the given type in the range {@code [start, end)},
+	 * or {@code -1} when there is no such TLV or the TLVs are malformed.
+	 */
+	static int indexOf(byte[] tlvs, int start, int end, int type) {
+		int index = start;
+		while (index + TLV_HEADER_LENGTH <= end) {
+			int next = index + TLV_HEADER_LENGTH + length(tlvs, index);
+			if (next > end) {
+				return -1;
+			}
+			if ((tlvs[index] & 0xFF) == type) {
+				return index;
+			}
+			index = next;
+		}
+		return -1;
+	}
+
+	static int length(byte[] tlvs, int index) {
+		return ((tlvs[index + 1] & 0xFF) << 8) | (tlvs[index + 2] & 0xFF);
+	}
+}
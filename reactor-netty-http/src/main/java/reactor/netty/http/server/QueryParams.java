@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.netty.handler.codec.http.QueryStringDecoder;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The query parameters of a request URI.
+ * <p>The offsets of the parameters are indexed once, on first access, and only the values that are requested
+ * are percent-decoded. The query string is split the same way as {@link QueryStringDecoder} does with its defaults:
+ * {@code &} and {@code ;} separate the parameters, a parameter without {@code =} has an empty value,
+ * a parameter with an empty name is ignored, a leading {@code =} is skipped and at most {@value #MAX_PARAMS} parameters are taken into account.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+final class QueryParams {
+
+	static final int[] EMPTY = new int[0];
+	static final int MAX_PARAMS = 1024;
+
+	final String uri;
+	final int pathEnd;
+	final int queryEnd;
+
+	/**
+	 * Triples of (name start, {@code =} index or {@code -1}, end) for each parameter.
+	 */
+	int @Nullable [] offsets;
+	int count;
+	@Nullable Map<String, List<String>> params;
+
+	QueryParams(String uri) {
+		this.uri = uri;
+		int length = uri.length();
+		int pathEnd = length;
+		int queryEnd = length;
+		for (int i = 0; i < length; i++) {
+			char c = uri.charAt(i);
+			if (c == '?') {
+				pathEnd = i;
+				int fragment = uri.indexOf('#', i + 1);
+				if (fragment != -1) {
+					queryEnd = fragment;
+				}
+				break;
+			}
+			else if (c == '#') {
+				pathEnd = i;
+				queryEnd = i;
+				break;
+			}
+		}
+		this.pathEnd = pathEnd;
+		this.queryEnd = queryEnd;
+	}
+
+	/**
+	 * Returns the request URI without the query and the fragment.
+	 * The query starts with the first {@code ?} as with {@link reactor.netty.http.HttpOperations#resolvePath(String)},
+	 * this path is used only for {@link HttpServerOperations#fullPath()}, the routes are matched against
+	 * {@link HttpServerOperations#routePath()}.
+	 *
+	 * @return the request URI without the query and the fragment
+	 */
+	String path() {
+		return pathEnd == uri.length() ? uri : uri.substring(0, pathEnd);
+	}
+
+	/**
+	 * Returns the decoded value of the first parameter with the given name,
+	 * or {@code null} when there is no such parameter.
+	 *
+	 * @param name the decoded parameter name
+	 * @return the decoded value of the first parameter with the given name
+	 */
+	@Nullable String get(CharSequence name) {
+		int[] offsets = offsets();
+		String decodedName = null;
+		for (int i = 0; i < count; i += 3) {
+			int start = offsets[i];
+			int separator = offsets[i + 1];
+			int end = offsets[i + 2];
+			int nameEnd = separator == -1 ? end : separator;
+			if (!isEncoded(uri, start, nameEnd)) {
+				if (!regionEquals(uri, start, nameEnd, name)) {
+					continue;
+				}
+			}
+			else {
+				if (decodedName == null) {
+					decodedName = name.toString();
+				}
+				if (!decodedName.equals(QueryStringDecoder.decodeComponent(uri.substring(start, nameEnd)))) {
+					continue;
+				}
+			}
+			return separator == -1 ? "" : QueryStringDecoder.decodeComponent(uri.substring(separator + 1, end));
+		}
+		return null;
+	}
+
+	/**
+	 * Returns all parameters, decoded, in the order of appearance.
+	 *
+	 * @return all parameters, decoded, in the order of appearance
+	 */
+	Map<String, List<String>> all() {
+		Map<String, List<String>> params = this.params;
+		if (params == null) {
+			int[] offsets = offsets();
+			if (count == 0) {
+				params = Collections.emptyMap();
+			}
+			else {
+				params = new LinkedHashMap<>();
+				for (int i = 0; i < count; i += 3) {
+					int start = offsets[i];
+					int separator = offsets[i + 1];
+					int end = offsets[i + 2];
+					String name = QueryStringDecoder.decodeComponent(uri.substring(start, separator == -1 ? end : separator));
+					String value = separator == -1 ? "" : QueryStringDecoder.decodeComponent(uri.substring(separator + 1, end));
+					params.computeIfAbsent(name, k -> new ArrayList<>(1)).add(value);
+				}
+				params = Collections.unmodifiableMap(params);
+			}
+			this.params = params;
+		}
+		return params;
+	}
+
+	int[] offsets() {
+		int[] offsets = this.offsets;
+		if (offsets == null) {
+			offsets = index();
+			this.offsets = offsets;
+		}
+		return offsets;
+	}
+
+	int[] index() {
+		int start = pathEnd + 1;
+		if (start >= queryEnd) {
+			return EMPTY;
+		}
+		int[] offsets = new int[12];
+		int count = 0;
+		int separator = -1;
+		for (int i = start; i <= queryEnd && count < MAX_PARAMS * 3; i++) {
+			char c = i == queryEnd ? '&' : uri.charAt(i);
+			if (c == '=' && separator == -1) {
+				if (i == start) {
+					// Same as QueryStringDecoder, a leading '=' is skipped
+					start = i + 1;
+				}
+				else {
+					separator = i;
+				}
+			}
+			else if (c == '&' || c == ';') {
+				// A parameter without a name is ignored
+				if (i != start) {
+					if (count == offsets.length) {
+						int[] grown = new int[offsets.length << 1];
+						System.arraycopy(offsets, 0, grown, 0, count);
+						offsets = grown;
+					}
+					offsets[count++] = start;
+					offsets[count++] = separator;
+					offsets[count++] = i;
+				}
+				start = i + 1;
+				separator = -1;
+			}
+		}
+		this.count = count;
+		return offsets;
+	}
+
+	static boolean isEncoded(String s, int start, int end) {
+		for (int i = start; i < end; i++) {
+			char c = s.charAt(i);
+			if (c == '%' || c == '+') {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	static boolean regionEquals(String s, int start, int end, CharSequence name) {
+		int length = name.length();
+		if (end - start != length) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if (s.charAt(start + i) != name.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -19,6 +19,7 @@ import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.cookie.Cookie;
 import io.netty.handler.codec.http.cookie.ServerCookieDecoder;
+import org.jspecify.annotations.Nullable;
 import reactor.netty.http.Cookies;
 
 import java.util.ArrayList;
@@ -64,6 +65,61 @@ public final class ServerCookies extends Cookies {
 		return cachedCookies;
 	}
 
+	/**
+	 * Returns the first cookie with the given name.
+	 * When the cookies are not decoded yet, the raw {@code Cookie} headers are scanned for the given name
+	 * and only the matching cookie is decoded, the rest of the cookies are neither decoded nor cached.
+	 *
+	 * @param name the cookie name
+	 * @return the first cookie with the given name, or {@code null} when there is no such cookie
+	 * @since 1.3.0
+	 */
+	public @Nullable Cookie getCookie(CharSequence name) {
+		if (hasReadCookies()) {
+			List<Cookie> cookies = allCachedCookies.get(name.toString());
+			return cookies == null || cookies.isEmpty() ? null : cookies.get(0);
+		}
+
+		for (String aCookieHeader : allCookieHeaders()) {
+			int length = aCookieHeader.length();
+			int nameLength = name.length();
+			int i = 0;
+			while (i < length) {
+				// Skip the delimiters, the same as ServerCookieDecoder
+				char c = aCookieHeader.charAt(i);
+				if (c == '\t' || c == '\n' || c == 0x0b || c == '\f' || c == '\r' || c == ' ' || c == ',' || c == ';') {
+					i++;
+					continue;
+				}
+				int end = aCookieHeader.indexOf(';', i);
+				if (end == -1) {
+					end = length;
+				}
+				if (end - i > nameLength && aCookieHeader.charAt(i + nameLength) == '=' && regionMatches(aCookieHeader, i, name)) {
+					// Decode only the matching cookie, thus the same validation as for all cookies applies
+					List<Cookie> cookies = serverCookieDecoder.decodeAll(aCookieHeader.substring(i, end));
+					if (!cookies.isEmpty()) {
+						return cookies.get(0);
+					}
+				}
+				i = end + 1;
+			}
+		}
+		return null;
+	}
+
+	static boolean regionMatches(String header, int offset, CharSequence name) {
+		if (name instanceof String) {
+			return header.regionMatches(offset, (String) name, 0, name.length());
+		}
+		for (int i = 0; i < name.length(); i++) {
+			if (header.charAt(offset + i) != name.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Wait for the cookies to become available, cache them and subsequently return the cached map of cookies.
 	 * As opposed to {@link #getCachedCookies()}, this returns all cookies, even if they have the same name.
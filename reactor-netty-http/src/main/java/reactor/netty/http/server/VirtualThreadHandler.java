@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.netty.buffer.ByteBuf;
+import org.jspecify.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+
+import static reactor.netty.ReactorNetty.format;
+
+/**
+ * Adapts a {@link BlockingHttpHandler} to the reactive I/O handler, the {@link BlockingHttpHandler} is invoked
+ * on a new virtual thread for each request. The executor is obtained reflectively so that the module
+ * keeps its Java 8 baseline.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+final class VirtualThreadHandler implements BiFunction<HttpServerRequest, HttpServerResponse, Publisher<Void>> {
+
+	static final Logger log = Loggers.getLogger(VirtualThreadHandler.class);
+
+	static final @Nullable ExecutorService EXECUTOR = virtualThreadExecutor();
+
+	final ExecutorService executor;
+	final BlockingHttpHandler handler;
+
+	VirtualThreadHandler(BlockingHttpHandler handler) {
+		ExecutorService executor = EXECUTOR;
+		if (executor == null) {
+			throw new UnsupportedOperationException("Virtual threads require Java 21 or newer");
+		}
+		this.executor = executor;
+		this.handler = handler;
+	}
+
+	@Override
+	public Publisher<Void> apply(HttpServerRequest request, HttpServerResponse response) {
+		return Mono.create(sink -> {
+			Exchange exchange = new Exchange(request, response);
+			Future<?> task = executor.submit(() -> {
+				try {
+					handler.handle(exchange);
+					exchange.complete();
+					sink.success();
+				}
+				catch (Throwable t) {
+					if (log.isDebugEnabled() && response instanceof HttpServerOperations) {
+						log.debug(format(((HttpServerOperations) response).channel(), "Blocking handler failed"), t);
+					}
+					exchange.abort(t);
+					sink.error(t);
+				}
+			});
+			sink.onCancel(() -> task.cancel(true));
+		});
+	}
+
+	static @Nullable ExecutorService virtualThreadExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		}
+		catch (Throwable t) {
+			if (log.isDebugEnabled()) {
+				log.debug("Virtual threads are not available", t);
+			}
+			return null;
+		}
+	}
+
+	static final class Exchange implements BlockingHttpExchange {
+
+		final HttpServerRequest request;
+		final HttpServerResponse response;
+
+		@Nullable BlockingInputStream requestBody;
+		@Nullable BlockingOutputStream responseBody;
+		@Nullable CompletableFuture<Void> sent;
+
+		Exchange(HttpServerRequest request, HttpServerResponse response) {
+			this.request = request;
+			this.response = response;
+		}
+
+		@Override
+		public HttpServerRequest request() {
+			return request;
+		}
+
+		@Override
+		public HttpServerResponse response() {
+			return response;
+		}
+
+		@Override
+		public InputStream requestBody() {
+			BlockingInputStream requestBody = this.requestBody;
+			if (requestBody == null) {
+				requestBody = this.requestBody = new BlockingInputStream(request.receive());
+			}
+			return requestBody;
+		}
+
+		@Override
+		public OutputStream responseBody() {
+			BlockingOutputStream responseBody = this.responseBody;
+			if (responseBody == null) {
+				BlockingOutputStream stream = responseBody = this.responseBody = new BlockingOutputStream(response.alloc());
+				CompletableFuture<Void> sent = this.sent = new CompletableFuture<>();
+				// The chunks are written by the event loop with the backpressure of the connection
+				response.send(stream.content().doOnDiscard(ByteBuf.class, ByteBuf::release))
+				        .then()
+				        .subscribe(null,
+				                t -> {
+				                    stream.cancel();
+				                    sent.completeExceptionally(t);
+				                },
+				                () -> {
+				                    stream.cancel();
+				                    sent.complete(null);
+				                });
+			}
+			return responseBody;
+		}
+
+		/**
+		 * Closes the bodies and waits for the response body to be sent.
+		 */
+		void complete() throws Exception {
+			BlockingInputStream requestBody = this.requestBody;
+			if (requestBody != null) {
+				requestBody.close();
+			}
+			BlockingOutputStream responseBody = this.responseBody;
+			CompletableFuture<Void> sent = this.sent;
+			if (responseBody != null && sent != null) {
+				responseBody.close();
+				try {
+					sent.get();
+				}
+				catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					throw cause instanceof Exception ? (Exception) cause : e;
+				}
+			}
+		}
+
+		void abort(Throwable error) {
+			BlockingInputStream requestBody = this.requestBody;
+			if (requestBody != null) {
+				requestBody.close();
+			}
+			BlockingOutputStream responseBody = this.responseBody;
+			if (responseBody != null) {
+				responseBody.abort(error);
+			}
+		}
+	}
+}
@@ -0,0 +1,458 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufHolder;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.util.ReferenceCountUtil;
+import org.jspecify.annotations.Nullable;
+import reactor.core.Disposable;
+import reactor.netty.http.websocket.WebsocketOutbound;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+
+import static reactor.netty.ReactorNetty.format;
+
+/**
+ * A group of server WebSocket connections that receive the same messages.
+ * <p>A broadcast message is encoded once into a WebSocket frame, server frames are not masked,
+ * and the encoded frame is written as a retained duplicate to the channel of each member, bypassing
+ * the per-connection frame encoder. When the group is created with compression, the payload is also
+ * deflated once, this frame is used for the members that negotiated {@code permessage-deflate} with
+ * {@code server_no_context_takeover} (see {@link WebsocketServerSpec.Builder#compressionAllowServerNoContext(boolean)}),
+ * according to the extensions of the handshake response, as only then a message can be decompressed independently of the previous messages.
+ * The other members receive the uncompressed frame.
+ * <p>When the channel of a member is not writable, the {@link SlowConsumerPolicy} of the member decides
+ * whether the message is dropped, buffered or the member is disconnected.
+ * <p>The members are removed from the group when their connection is closed or a close frame is sent to them.
+ * <pre>
+ * {@code
+ * WebsocketBroadcastGroup group = WebsocketBroadcastGroup.create();
+ *
+ * HttpServer.create()
+ *           .route(routes -> routes.ws("/ws", (in, out) -> {
+ *               group.add(out, WebsocketBroadcastGroup.SlowConsumerPolicy.buffer(1024 * 1024));
+ *               return in.receive().then();
+ *           }))
+ *           .bindNow();
+ *
+ * group.broadcastText("hello");
+ * }
+ * </pre>
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+public final class WebsocketBroadcastGroup {
+
+	/**
+	 * Creates a new group without compression.
+	 *
+	 * @return a new group
+	 */
+	public static WebsocketBroadcastGroup create() {
+		return new WebsocketBroadcastGroup(false);
+	}
+
+	/**
+	 * Creates a new group. When {@code compress} is {@code true}, the messages are deflated once
+	 * for all members that can receive compressed messages without context takeover.
+	 *
+	 * @param compress whether to deflate the messages for the members that support it
+	 * @return a new group
+	 */
+	public static WebsocketBroadcastGroup create(boolean compress) {
+		return new WebsocketBroadcastGroup(compress);
+	}
+
+	final boolean compress;
+	final Set<Member> members = ConcurrentHashMap.newKeySet();
+	final LongAdder dropped = new LongAdder();
+
+	WebsocketBroadcastGroup(boolean compress) {
+		this.compress = compress;
+	}
+
+	/**
+	 * Adds a WebSocket connection to the group, the messages are dropped when its channel is not writable.
+	 *
+	 * @param outbound the server {@link WebsocketOutbound}
+	 * @return a {@link Disposable} that removes the connection from the group
+	 */
+	public Disposable add(WebsocketOutbound outbound) {
+		return add(outbound, SlowConsumerPolicy.drop());
+	}
+
+	/**
+	 * Adds a WebSocket connection to the group.
+	 *
+	 * @param outbound the server {@link WebsocketOutbound}
+	 * @param policy what to do when the channel of the connection is not writable
+	 * @return a {@link Disposable} that removes the connection from the group
+	 * @throws IllegalArgumentException if the {@link WebsocketOutbound} is not a server WebSocket connection
+	 */
+	public Disposable add(WebsocketOutbound outbound, SlowConsumerPolicy policy) {
+		Objects.requireNonNull(outbound, "outbound");
+		Objects.requireNonNull(policy, "policy");
+		if (!(outbound instanceof WebsocketServerOperations)) {
+			throw new IllegalArgumentException("Only server WebSocket connections can be added to the group");
+		}
+		WebsocketServerOperations ops = (WebsocketServerOperations) outbound;
+		Member member = new Member(ops, policy);
+		members.add(member);
+		ops.onDispose(member);
+		return member;
+	}
+
+	/**
+	 * Returns the number of members.
+	 *
+	 * @return the number of members
+	 */
+	public int size() {
+		return members.size();
+	}
+
+	/**
+	 * Returns the number of messages that were dropped for slow members.
+	 *
+	 * @return the number of messages that were dropped for slow members
+	 */
+	public long droppedMessages() {
+		return dropped.sum();
+	}
+
+	/**
+	 * Sends a text message to all members.
+	 *
+	 * @param text the message
+	 * @return the number of members the message was written to
+	 */
+	public int broadcastText(String text) {
+		Objects.requireNonNull(text, "text");
+		ByteBuf payload = ByteBufUtil.writeUtf8(ByteBufAllocator.DEFAULT, text);
+		return broadcast(OPCODE_TEXT, payload);
+	}
+
+	/**
+	 * Sends a binary message to all members. The payload is released once it is encoded.
+	 *
+	 * @param payload the message
+	 * @return the number of members the message was written to
+	 */
+	public int broadcastBinary(ByteBuf payload) {
+		Objects.requireNonNull(payload, "payload");
+		return broadcast(OPCODE_BINARY, payload);
+	}
+
+	int broadcast(int opcode, ByteBuf payload) {
+		ByteBuf frame = null;
+		ByteBuf deflatedFrame = null;
+		int written = 0;
+		try {
+			for (Member member : members) {
+				Object message;
+				if (member.frameEncoder) {
+					if (compress && member.ops.preDeflate) {
+						if (deflatedFrame == null) {
+							deflatedFrame = encodeDeflated(opcode, payload);
+						}
+						message = deflatedFrame.retainedDuplicate();
+					}
+					else {
+						if (frame == null) {
+							frame = encode(ByteBufAllocator.DEFAULT, opcode, false, payload);
+						}
+						message = frame.retainedDuplicate();
+					}
+				}
+				else {
+					// HTTP/2 streams accept only WebSocket frames
+					message = opcode == OPCODE_TEXT ?
+							new TextWebSocketFrame(payload.retainedDuplicate()) :
+							new BinaryWebSocketFrame(payload.retainedDuplicate());
+				}
+				if (member.write(message)) {
+					written++;
+				}
+			}
+		}
+		finally {
+			payload.release();
+			if (frame != null) {
+				frame.release();
+			}
+			if (deflatedFrame != null) {
+				deflatedFrame.release();
+			}
+		}
+		return written;
+	}
+
+	ByteBuf encodeDeflated(int opcode, ByteBuf payload) {
+		Deflater deflater = new Deflater(COMPRESSION_LEVEL, true);
+		try {
+			deflater.setInput(ByteBufUtil.getBytes(payload, payload.readerIndex(), payload.readableBytes(), false));
+			byte[] out = new byte[Math.max(64, payload.readableBytes() + 64)];
+			int length = 0;
+			for (;;) {
+				length += deflater.deflate(out, length, out.length - length, Deflater.SYNC_FLUSH);
+				if (length < out.length) {
+					break;
+				}
+				out = Arrays.copyOf(out, out.length << 1);
+			}
+			// RFC 7692, remove the 0x00 0x00 0xff 0xff tail of the sync flush
+			if (length >= 4 && out[length - 4] == 0 && out[length - 3] == 0 &&
+					out[length - 2] == (byte) 0xff && out[length - 1] == (byte) 0xff) {
+				length -= 4;
+			}
+			ByteBuf compressed = ByteBufAllocator.DEFAULT.heapBuffer(length).writeBytes(out, 0, length);
+			try {
+				return encode(ByteBufAllocator.DEFAULT, opcode, true, compressed);
+			}
+			finally {
+				compressed.release();
+			}
+		}
+		finally {
+			deflater.end();
+		}
+	}
+
+	/**
+	 * Encodes a final, not masked, WebSocket frame.
+	 */
+	static ByteBuf encode(ByteBufAllocator alloc, int opcode, boolean rsv1, ByteBuf payload) {
+		int length = payload.readableBytes();
+		int headerLength = length < 126 ? 2 : length <= 0xFFFF ? 4 : 10;
+		ByteBuf frame = alloc.buffer(headerLength + length);
+		frame.writeByte(0x80 | (rsv1 ? 0x40 : 0) | opcode);
+		if (length < 126) {
+			frame.writeByte(length);
+		}
+		else if (length <= 0xFFFF) {
+			frame.writeByte(126);
+			frame.writeShort(length);
+		}
+		else {
+			frame.writeByte(127);
+			frame.writeLong(length);
+		}
+		frame.writeBytes(payload, payload.readerIndex(), length);
+		return frame;
+	}
+
+	/**
+	 * Returns {@code true} when the negotiated extensions, i.e. the {@code Sec-WebSocket-Extensions} header
+	 * of the handshake response, contain {@code permessage-deflate} with {@code server_no_context_takeover}
+	 * and the default server window size.
+	 */
+	static boolean isServerNoContextTakeover(@Nullable String extensions) {
+		if (extensions == null) {
+			return false;
+		}
+		for (String extension : extensions.split(",")) {
+			String[] parameters = extension.split(";");
+			if (!"permessage-deflate".equalsIgnoreCase(parameters[0].trim())) {
+				continue;
+			}
+			boolean serverNoContext = false;
+			boolean defaultServerWindow = true;
+			for (int i = 1; i < parameters.length; i++) {
+				String parameter = parameters[i].trim();
+				int index = parameter.indexOf('=');
+				String key = index == -1 ? parameter : parameter.substring(0, index).trim();
+				if ("server_no_context_takeover".equalsIgnoreCase(key)) {
+					serverNoContext = true;
+				}
+				else if ("server_max_window_bits".equalsIgnoreCase(key)) {
+					String value = index == -1 ? "" : parameter.substring(index + 1).trim().replace("\"", "");
+					defaultServerWindow = "15".equals(value);
+				}
+			}
+			return serverNoContext && defaultServerWindow;
+		}
+		return false;
+	}
+
+	/**
+	 * Reads the extensions negotiated with the handshake response, once the extension handler has added them,
+	 * and removes itself.
+	 */
+	static final class NegotiatedExtensionsHandler extends ChannelOutboundHandlerAdapter {
+
+		final WebsocketServerOperations ops;
+
+		NegotiatedExtensionsHandler(WebsocketServerOperations ops) {
+			this.ops = ops;
+		}
+
+		@Override
+		public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+			if (msg instanceof HttpResponse) {
+				ops.preDeflate = isServerNoContextTakeover(((HttpResponse) msg).headers().get(HttpHeaderNames.SEC_WEBSOCKET_EXTENSIONS));
+				ctx.pipeline().remove(this);
+			}
+			ctx.write(msg, promise);
+		}
+	}
+
+	/**
+	 * What to do when a message is broadcast and the channel of a member is not writable.
+	 */
+	public static final class SlowConsumerPolicy {
+
+		/**
+		 * The message is not sent to the member.
+		 *
+		 * @return the policy
+		 */
+		public static SlowConsumerPolicy drop() {
+			return DROP;
+		}
+
+		/**
+		 * The member is disconnected.
+		 *
+		 * @return the policy
+		 */
+		public static SlowConsumerPolicy disconnect() {
+			return DISCONNECT;
+		}
+
+		/**
+		 * The message is buffered in the channel outbound buffer until there are {@code maxBytes}
+		 * pending above the low water mark, then the messages are dropped.
+		 *
+		 * @param maxBytes the maximum number of bytes to buffer
+		 * @return the policy
+		 */
+		public static SlowConsumerPolicy buffer(long maxBytes) {
+			if (maxBytes <= 0) {
+				throw new IllegalArgumentException("maxBytes must be positive");
+			}
+			return new SlowConsumerPolicy(false, maxBytes);
+		}
+
+		static final SlowConsumerPolicy DROP = new SlowConsumerPolicy(false, 0);
+		static final SlowConsumerPolicy DISCONNECT = new SlowConsumerPolicy(true, 0);
+
+		final boolean disconnect;
+		final long maxBytes;
+
+		SlowConsumerPolicy(boolean disconnect, long maxBytes) {
+			this.disconnect = disconnect;
+			this.maxBytes = maxBytes;
+		}
+
+		@Override
+		public String toString() {
+			return disconnect ? "disconnect" : maxBytes > 0 ? "buffer(" + maxBytes + ")" : "drop";
+		}
+	}
+
+	final class Member implements Disposable {
+
+		final Channel channel;
+		final boolean frameEncoder;
+		final WebsocketServerOperations ops;
+		final SlowConsumerPolicy policy;
+
+		Member(WebsocketServerOperations ops, SlowConsumerPolicy policy) {
+			this.channel = ops.channel();
+			this.frameEncoder = !(ops instanceof Http2WebsocketServerOperations);
+			this.ops = ops;
+			this.policy = policy;
+		}
+
+		@Override
+		public void dispose() {
+			members.remove(this);
+		}
+
+		@Override
+		public boolean isDisposed() {
+			return !members.contains(this);
+		}
+
+		@SuppressWarnings("FutureReturnValueIgnored")
+		boolean write(Object message) {
+			if (isDisposed()) {
+				ReferenceCountUtil.release(message);
+				return false;
+			}
+			// Nothing can be sent after the close frame
+			if (!channel.isActive() || ops.closeSent != 0) {
+				dispose();
+				ReferenceCountUtil.release(message);
+				return false;
+			}
+			if (!channel.isWritable() &&
+					(policy.disconnect || channel.bytesBeforeWritable() + size(message) > policy.maxBytes)) {
+				ReferenceCountUtil.release(message);
+				if (policy.disconnect) {
+					if (log.isDebugEnabled()) {
+						log.debug(format(channel, "Disconnecting the slow WebSocket broadcast group member."));
+					}
+					dispose();
+					//"FutureReturnValueIgnored" this is deliberate
+					channel.close();
+				}
+				else {
+					dropped.increment();
+				}
+				return false;
+			}
+			//"FutureReturnValueIgnored" this is deliberate
+			channel.writeAndFlush(message);
+			return true;
+		}
+
+		@Override
+		public String toString() {
+			return "Member{channel=" + channel + ", policy=" + policy + '}';
+		}
+	}
+
+	static int size(Object message) {
+		return message instanceof ByteBuf ? ((ByteBuf) message).readableBytes() :
+				((ByteBufHolder) message).content().readableBytes();
+	}
+
+	static final Logger log = Loggers.getLogger(WebsocketBroadcastGroup.class);
+
+	static final int COMPRESSION_LEVEL = 6;
+	static final int OPCODE_TEXT = 0x1;
+	static final int OPCODE_BINARY = 0x2;
+}
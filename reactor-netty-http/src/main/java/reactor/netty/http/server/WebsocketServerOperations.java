@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2011-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -73,6 +73,8 @@ class WebsocketServerOperations extends HttpServerOperations
 	final Sinks.One<WebSocketCloseStatus>     onCloseState;
 	final boolean                             proxyPing;
 
+	volatile boolean preDeflate;
+
 	volatile int closeSent;
 
 	static final String INBOUND_CANCEL_LOG = "WebSocket server inbound receiver cancelled, closing Websocket.";
@@ -142,6 +144,8 @@ class WebsocketServerOperations extends HttpServerOperations
 					}
 
 					pipeline.addAfter(baseName, NettyPipeline.WsCompressionHandler, wsServerExtensionHandler);
+					// The handshake response passes the extension handler first and then this handler
+					pipeline.addBefore(NettyPipeline.WsCompressionHandler, null, new WebsocketBroadcastGroup.NegotiatedExtensionsHandler(this));
 				}
 				catch (Throwable e) {
 					log.error(format(channel(), ""), e);
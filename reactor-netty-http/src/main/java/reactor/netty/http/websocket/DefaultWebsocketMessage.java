@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.websocket;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+
+/**
+ * Default {@link WebsocketMessage} implementation, the fragments are a window of the received frames.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+final class DefaultWebsocketMessage implements WebsocketMessage {
+
+	final ByteBufAllocator alloc;
+	final Flux<WebSocketFrame> fragments;
+	final int opcode;
+
+	DefaultWebsocketMessage(WebSocketFrame first, Flux<WebSocketFrame> fragments) {
+		this.alloc = first.content().alloc();
+		this.fragments = fragments.doOnDiscard(WebSocketFrame.class, WebSocketFrame::release);
+		this.opcode = first instanceof TextWebSocketFrame ? OPCODE_TEXT : OPCODE_BINARY;
+	}
+
+	@Override
+	public int opcode() {
+		return opcode;
+	}
+
+	@Override
+	public ByteBufFlux content() {
+		return ByteBufFlux.fromInbound(fragments(), alloc);
+	}
+
+	@Override
+	public Flux<WebSocketFrame> fragments() {
+		// The frames are released once delivered, same as the frames received with NettyInbound#receiveObject
+		return fragments.concatMap(frame -> Mono.just(frame).doFinally(sig -> frame.release()), 0);
+	}
+
+	@Override
+	public String toString() {
+		return "DefaultWebsocketMessage{opcode=" + opcode + '}';
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2011-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,9 @@
 package reactor.netty.http.websocket;
 
 import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.ContinuationWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.WebSocketCloseStatus;
 import io.netty.handler.codec.http.websocketx.WebSocketFrame;
 import io.netty.handler.codec.http.websocketx.WebSocketFrameAggregator;
@@ -94,4 +97,32 @@ public interface WebsocketInbound extends NettyInbound {
 	default Flux<WebSocketFrame> receiveFrames() {
 		return receiveObject().ofType(WebSocketFrame.class);
 	}
+
+	/**
+	 * Receive a {@link Flux} of {@link WebsocketMessage}, one per logical message. The fragments of a message
+	 * are emitted as they are received, without aggregating them as {@link #aggregateFrames(int)} does,
+	 * so that large messages can be processed incrementally.
+	 * Control frames (e.g. {@code Ping} when proxied) are not part of the messages and are discarded.
+	 * <p>The fragments that are not yet consumed are queued in the current message, each message should be
+	 * consumed with {@link WebsocketMessage#content()} or {@link WebsocketMessage#fragments()}.
+	 *
+	 * @return a {@link Flux} of {@link WebsocketMessage}
+	 * @since 1.3.0
+	 */
+	default Flux<WebsocketMessage> receiveMessages() {
+		return receiveObject()
+		        // The frame is released once this operator returns, the window delivers it later
+		        .concatMap(o -> o instanceof TextWebSocketFrame || o instanceof BinaryWebSocketFrame ||
+		                o instanceof ContinuationWebSocketFrame ? Mono.just(((WebSocketFrame) o).retain()) : Mono.<WebSocketFrame>empty(), 0)
+		        // The messages are consumed one by one, there is no need to prefetch the fragments of the next messages
+		        .windowUntil(WebSocketFrame::isFinalFragment, false, 1)
+		        .concatMap(window -> window.switchOnFirst((signal, fragments) -> {
+		            WebSocketFrame first = signal.get();
+		            if (first != null) {
+		                return Mono.<WebsocketMessage>just(new DefaultWebsocketMessage(first, fragments));
+		            }
+		            return fragments.then(Mono.<WebsocketMessage>empty());
+		        }, false), 0)
+		        .doOnDiscard(WebSocketFrame.class, WebSocketFrame::release);
+	}
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.websocket;
+
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.ContinuationWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import reactor.core.publisher.Flux;
+import reactor.netty.ByteBufFlux;
+
+/**
+ * A logical websocket message received with {@link WebsocketInbound#receiveMessages()}, i.e.
+ * a {@link TextWebSocketFrame} or a {@link BinaryWebSocketFrame} followed by zero or more
+ * {@link ContinuationWebSocketFrame}, the last fragment has the {@code FIN} flag set.
+ * <p>The fragments are not aggregated, they are emitted as they are received. Either {@link #content()}
+ * or {@link #fragments()} can be subscribed and only once, the fragments are released once delivered,
+ * same as the buffers received with {@link WebsocketInbound#receive()}.
+ *
+ * @author Violeta Georgieva
+ * @since 1.3.0
+ */
+public interface WebsocketMessage {
+
+	/**
+	 * The opcode of a text message.
+	 */
+	int OPCODE_TEXT = 0x1;
+
+	/**
+	 * The opcode of a binary message.
+	 */
+	int OPCODE_BINARY = 0x2;
+
+	/**
+	 * Returns the opcode of the message, i.e. {@link #OPCODE_TEXT} or {@link #OPCODE_BINARY}.
+	 *
+	 * @return the opcode of the message
+	 */
+	int opcode();
+
+	/**
+	 * Returns {@code true} if this is a text message.
+	 *
+	 * @return {@code true} if this is a text message
+	 */
+	default boolean isText() {
+		return opcode() == OPCODE_TEXT;
+	}
+
+	/**
+	 * Returns the payload of the fragments of this message.
+	 *
+	 * @return the payload of the fragments of this message
+	 */
+	ByteBufFlux content();
+
+	/**
+	 * Returns the fragments of this message, {@link WebSocketFrame#isFinalFragment()} returns
+	 * {@code true} for the last fragment.
+	 *
+	 * @return the fragments of this message
+	 */
+	Flux<WebSocketFrame> fragments();
+}
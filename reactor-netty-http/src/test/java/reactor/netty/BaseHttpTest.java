@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021-2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2021-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,12 +18,16 @@ package reactor.netty;
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.params.provider.Arguments;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.http.server.HttpServer;
 import reactor.netty.resources.ConnectionProvider;
+import reactor.test.StepVerifier;
 
 import java.net.SocketAddress;
+import java.time.Duration;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -129,6 +133,25 @@ public class BaseHttpTest {
 		                 .wiretap(true);
 	}
 
+	/**
+	 * Sends a request every {@code 10ms} until one of them emits the expected value, e.g. until a request
+	 * is rejected because a concurrency limit is reached. Fails if no request emits it within {@code 5s}.
+	 *
+	 * @param request a supplier of the request
+	 * @param expected the expected value
+	 * @param <T> the type of the value
+	 */
+	protected static <T> void repeatUntil(Supplier<Mono<T>> request, T expected) {
+		Flux.interval(Duration.ofMillis(10))
+		    .concatMap(i -> request.get())
+		    .filter(expected::equals)
+		    .next()
+		    .as(StepVerifier::create)
+		    .expectNext(expected)
+		    .expectComplete()
+		    .verify(Duration.ofSeconds(5));
+	}
+
 	protected static Stream<Arguments> h2CompatibleCombinations() {
 		return Stream.of(
 				Arguments.of(new HttpProtocol[]{HttpProtocol.H2}, new HttpProtocol[]{HttpProtocol.H2}),
@@ -507,6 +507,57 @@ class HttpMetricsHandlerTests extends BaseHttpTest {
 				serverCtx != null, numWrites, bytesWrite);
 	}
 
+	@Test
+	void testRouteTemplateUriTag() throws Exception {
+		CountDownLatch responseSent = new CountDownLatch(3);
+		ResponseSentHandler responseSentHandler = ResponseSentHandler.INSTANCE;
+
+		disposableServer =
+				createServer()
+				        .host("127.0.0.1")
+				        .metrics(true, Function.identity())
+				        .metricsRouteTemplateUriTag(true)
+				        .doOnConnection(cnx -> responseSentHandler.register(responseSent, cnx.channel().pipeline()))
+				        .route(r -> r.get("/users/{id}", (req, res) -> res.sendString(Mono.just("user " + req.param("id"))))
+				                     .get("/teapot/{id}", (req, res) -> res.status(999).send()))
+				        .bindNow();
+
+		// The meters of the routes are bound when the server is bound
+		assertTimer(registry, SERVER_DATA_RECEIVED_TIME, URI, "/users/{id}", METHOD, "GET").isNotNull();
+		assertDistributionSummary(registry, SERVER_DATA_SENT, URI, "/users/{id}").isNotNull();
+
+		Flux.just("/users/1", "/users/2", "/teapot/1")
+		    .concatMap(uri -> httpClient.get()
+		                                .uri(uri)
+		                                .responseSingle((res, bytes) -> bytes.asString().defaultIfEmpty("")))
+		    .collectList()
+		    .as(StepVerifier::create)
+		    .expectNext(Arrays.asList("user 1", "user 2", ""))
+		    .expectComplete()
+		    .verify(Duration.ofSeconds(30));
+
+		assertThat(responseSent.await(30, TimeUnit.SECONDS)).as("responseSent latch await").isTrue();
+
+		String[] timerTags = new String[] {URI, "/users/{id}", METHOD, "GET", STATUS, "200"};
+		assertTimer(registry, SERVER_RESPONSE_TIME, timerTags)
+				.hasCountEqualTo(2)
+				.hasTotalTimeGreaterThan(0);
+		assertTimer(registry, SERVER_DATA_SENT_TIME, timerTags)
+				.hasCountEqualTo(2)
+				.hasTotalTimeGreaterThan(0);
+		assertTimer(registry, SERVER_DATA_RECEIVED_TIME, URI, "/users/{id}", METHOD, "GET")
+				.hasCountEqualTo(2);
+		assertDistributionSummary(registry, SERVER_DATA_SENT, URI, "/users/{id}")
+				.hasCountEqualTo(2)
+				.hasTotalAmountGreaterThanOrEqualTo(12);
+		assertTimer(registry, SERVER_RESPONSE_TIME, URI, "/users/1", METHOD, "GET", STATUS, "200").isNull();
+		assertTimer(registry, SERVER_RESPONSE_TIME, URI, "/users/2", METHOD, "GET", STATUS, "200").isNull();
+
+		// Non-standard status code
+		assertTimer(registry, SERVER_RESPONSE_TIME, URI, "/teapot/{id}", METHOD, "GET", STATUS, "999")
+				.hasCountEqualTo(1);
+	}
+
 	/*
 	 * https://github.com/reactor/reactor-netty/issues/1559
 	 */
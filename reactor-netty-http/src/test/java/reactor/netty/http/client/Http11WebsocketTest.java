@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2025-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -417,6 +417,11 @@ class Http11WebsocketTest extends WebsocketTest {
 		doTestIssue3295(createServer(), createClient(() -> disposableServer.address()));
 	}
 
+	@Test
+	void testReceiveMessages() {
+		doTestReceiveMessages(createServer(), createClient(() -> disposableServer.address()));
+	}
+
 	static Stream<Arguments> http11CompatibleProtocols() {
 		return Stream.of(
 				Arguments.of(new HttpProtocol[]{HttpProtocol.HTTP11}, new HttpProtocol[]{HttpProtocol.HTTP11}, null, null),
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.BaseHttpTest;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class HttpClientConcurrencyLimiterTests extends BaseHttpTest {
+
+	@Test
+	void failFastWhenLimitReached() {
+		Sinks.Empty<Void> blocked = Sinks.empty();
+		disposableServer =
+				createServer()
+				        .route(r -> r.get("/slow", (req, res) -> res.sendString(blocked.asMono().then(Mono.just("slow"))))
+				                     .get("/fast", (req, res) -> res.sendString(Mono.just("fast"))))
+				        .bindNow();
+
+		HttpClient client = createClient(disposableServer.port()).concurrencyLimit(spec -> spec.maxConcurrentRequests(1));
+
+		Mono<String> slow =
+				client.get()
+				      .uri("/slow")
+				      .responseSingle((res, bytes) -> bytes.asString())
+				      .cache();
+		slow.subscribe();
+
+		Supplier<Mono<String>> fast = () ->
+				client.get()
+				      .uri("/fast")
+				      .responseSingle((res, bytes) -> bytes.asString())
+				      .onErrorResume(ConcurrencyLimitExceededException.class, e -> Mono.just("rejected"));
+		repeatUntil(fast, "rejected");
+
+		blocked.tryEmitEmpty();
+		StepVerifier.create(slow)
+		            .expectNext("slow")
+		            .expectComplete()
+		            .verify(Duration.ofSeconds(5));
+
+		// The permit is released once the response is fully received
+		repeatUntil(fast, "fast");
+	}
+
+	@Test
+	void limitDecreasesOnServiceUnavailable() {
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> res.status(HttpResponseStatus.SERVICE_UNAVAILABLE).send())
+				        .bindNow();
+
+		HttpClient client =
+				createClient(disposableServer.port())
+				        .concurrencyLimit(spec -> spec.aimdLimit(10, 20, Duration.ofSeconds(10)));
+		HttpClientConcurrencyLimiter limiter = client.configuration().concurrencyLimiter;
+		assertThat(limiter).isNotNull();
+
+		client.get()
+		      .uri("/")
+		      .responseSingle((res, bytes) -> Mono.just(res.status()))
+		      .as(StepVerifier::create)
+		      .expectNext(HttpResponseStatus.SERVICE_UNAVAILABLE)
+		      .expectComplete()
+		      .verify(Duration.ofSeconds(5));
+
+		Flux.interval(Duration.ofMillis(10))
+		    .map(i -> limiter.hosts.values().iterator().next())
+		    .filter(host -> host.inFlight.get() == 0)
+		    .next()
+		    .as(StepVerifier::create)
+		    .assertNext(host -> assertThat(host.limit.limit()).isEqualTo(9))
+		    .expectComplete()
+		    .verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void retriedConnectionResetKeepsItsPermit() {
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> res.sendString(Mono.just("test")))
+				        .bindNow();
+
+		HttpClient client =
+				createClient(disposableServer.port())
+				        .concurrencyLimit(spec -> spec.aimdLimit(10, 20, Duration.ofSeconds(10)));
+		HttpClientConcurrencyLimiter limiter = client.configuration().concurrencyLimiter;
+		assertThat(limiter).isNotNull();
+
+		AtomicInteger attempts = new AtomicInteger();
+		client.get()
+		      .uri("/")
+		      .send((req, out) -> attempts.getAndIncrement() == 0 ?
+		              Mono.error(new IOException("Connection reset by peer")) : out)
+		      .responseSingle((res, bytes) -> bytes.asString())
+		      .as(StepVerifier::create)
+		      .expectNext("test")
+		      .expectComplete()
+		      .verify(Duration.ofSeconds(5));
+		assertThat(attempts.get()).isEqualTo(2);
+
+		// The retry is not counted as a drop, the limit is unchanged
+		Flux.interval(Duration.ofMillis(10))
+		    .map(i -> limiter.hosts.values().iterator().next())
+		    .filter(host -> host.inFlight.get() == 0)
+		    .next()
+		    .as(StepVerifier::create)
+		    .assertNext(host -> assertThat(host.limit.limit()).isEqualTo(10))
+		    .expectComplete()
+		    .verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void vegasLimit() {
+		HttpClientConcurrencyLimiter.VegasLimit limit = new HttpClientConcurrencyLimiter.VegasLimit(20, 100);
+		for (int i = 0; i < 20; i++) {
+			limit.onSample(0, TimeUnit.MILLISECONDS.toNanos(10), limit.limit(), false);
+		}
+		int grown = limit.limit();
+		assertThat(grown).isGreaterThan(20);
+
+		// The limit is not used, it does not change
+		limit.onSample(0, TimeUnit.MILLISECONDS.toNanos(100), 1, false);
+		assertThat(limit.limit()).isEqualTo(grown);
+
+		for (int i = 0; i < 5; i++) {
+			limit.onSample(0, TimeUnit.MILLISECONDS.toNanos(100), limit.limit(), false);
+		}
+		int shrunk = limit.limit();
+		assertThat(shrunk).isLessThan(grown);
+
+		limit.onSample(0, TimeUnit.MILLISECONDS.toNanos(10), 1, true);
+		assertThat(limit.limit()).isLessThan(shrunk);
+	}
+
+	@Test
+	void vegasLimitProbesMinLatency() {
+		HttpClientConcurrencyLimiter.VegasLimit limit = new HttpClientConcurrencyLimiter.VegasLimit(1, 1);
+		limit.onSample(0, TimeUnit.MILLISECONDS.toNanos(10), 1, false);
+		assertThat(limit.minLatencyNanos).isEqualTo(TimeUnit.MILLISECONDS.toNanos(10));
+
+		// The latency of the remote host grows for good, the minimum latency follows it once probed
+		long latency = TimeUnit.MILLISECONDS.toNanos(50);
+		for (int i = 0; i < HttpClientConcurrencyLimiter.VegasLimit.PROBE_MULTIPLIER; i++) {
+			limit.onSample(0, latency, 1, false);
+		}
+		assertThat(limit.minLatencyNanos).isEqualTo(latency);
+	}
+
+	@Test
+	void permitIsReleasedOnce() {
+		HttpClientConcurrencyLimiter.Spec spec = new HttpClientConcurrencyLimiter.Spec();
+		spec.maxConcurrentRequests(1);
+		HttpClientConcurrencyLimiter limiter = new HttpClientConcurrencyLimiter(spec);
+
+		HttpClientConcurrencyLimiter.Permit permit = limiter.tryAcquire("localhost:80");
+		assertThat(permit).isNotNull();
+		assertThat(limiter.tryAcquire("localhost:80")).isNull();
+		assertThat(limiter.tryAcquire("localhost:8080")).isNotNull();
+
+		permit.release(false);
+		permit.cancel();
+		assertThat(limiter.hosts.get("localhost:80").inFlight.get()).isEqualTo(0);
+		assertThat(limiter.tryAcquire("localhost:80")).isNotNull();
+	}
+
+	@Test
+	void idleHostsAreEvicted() {
+		HttpClientConcurrencyLimiter.Spec spec = new HttpClientConcurrencyLimiter.Spec();
+		spec.maxConcurrentRequests(1);
+		HttpClientConcurrencyLimiter limiter = new HttpClientConcurrencyLimiter(spec);
+
+		HttpClientConcurrencyLimiter.Permit idle = limiter.tryAcquire("localhost:80");
+		assertThat(idle).isNotNull();
+		idle.release(false);
+		HttpClientConcurrencyLimiter.Permit busy = limiter.tryAcquire("localhost:8080");
+		assertThat(busy).isNotNull();
+		assertThat(limiter.hosts).hasSize(2);
+
+		// Not yet idle long enough
+		limiter.evictIdleHosts(System.nanoTime());
+		assertThat(limiter.hosts).hasSize(2);
+
+		long later = System.nanoTime() + HttpClientConcurrencyLimiter.HOST_IDLE_TIME;
+		limiter.evictIdleHosts(later);
+		assertThat(limiter.hosts).containsOnlyKeys("localhost:8080");
+
+		busy.release(false);
+	}
+
+	@Test
+	void retryBudgetSmallRatio() {
+		RetryBudget budget = new RetryBudget(0.0001, 1);
+		assertThat(budget.tryWithdraw()).isTrue();
+		assertThat(budget.tryWithdraw()).isFalse();
+
+		for (int i = 0; i < 9_999; i++) {
+			budget.deposit();
+		}
+		assertThat(budget.tryWithdraw()).isFalse();
+		budget.deposit();
+		assertThat(budget.tryWithdraw()).isTrue();
+	}
+
+	@Test
+	void retryBudget() {
+		RetryBudget budget = new RetryBudget(0.5, 2);
+		assertThat(budget.tryWithdraw()).isTrue();
+		assertThat(budget.tryWithdraw()).isTrue();
+		assertThat(budget.tryWithdraw()).isFalse();
+
+		budget.deposit();
+		assertThat(budget.tryWithdraw()).isFalse();
+		budget.deposit();
+		assertThat(budget.tokens()).isEqualTo(1);
+		assertThat(budget.tryWithdraw()).isTrue();
+
+		for (int i = 0; i < 10; i++) {
+			budget.deposit();
+		}
+		assertThat(budget.tokens()).isEqualTo(2);
+	}
+
+	@Test
+	void limitIsRequired() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> HttpClient.create().concurrencyLimit(spec -> {}));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> HttpClient.create().retryBudget(2, 10));
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.FileRegion;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpConstants;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpRequestEncoder;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.multipart.Attribute;
+import io.netty.handler.codec.http.multipart.DefaultHttpDataFactory;
+import io.netty.handler.codec.http.multipart.FileUpload;
+import io.netty.handler.codec.http.multipart.HttpData;
+import io.netty.handler.codec.http.multipart.HttpPostRequestDecoder;
+import io.netty.handler.codec.http.multipart.HttpPostRequestEncoder;
+import io.netty.handler.stream.ChunkedWriteHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Mono;
+import reactor.netty.BaseHttpTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpClientFormFileWriterTests extends BaseHttpTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void writeFileRegion() throws Exception {
+		byte[] content = new byte[64 * 1024];
+		Arrays.fill(content, (byte) 'a');
+		Path file = Files.write(tempDir.resolve("file.txt"), content);
+
+		HttpRequest request = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/");
+		HttpClientFormEncoder encoder = new HttpClientFormEncoder(new DefaultHttpDataFactory(DefaultHttpDataFactory.MINSIZE),
+				request, true, HttpConstants.DEFAULT_CHARSET, HttpPostRequestEncoder.EncoderMode.RFC1738);
+		encoder.attr("attr", "value")
+		       .file("file", file.toFile(), "text/plain");
+		HttpRequest finalized = encoder.finalizeRequest();
+
+		EmbeddedChannel channel = new EmbeddedChannel(new HttpRequestEncoder(), new ChunkedWriteHandler());
+		HttpClientFormFileWriter writer = HttpClientFormFileWriter.create(channel, HttpVersion.HTTP_1_1, encoder, finalized);
+		assertThat(writer).isNotNull();
+		List<Long> progress = new CopyOnWriteArrayList<>();
+		writer.progressSink.asFlux().subscribe(progress::add);
+		assertThat(writer.write(finalized, false).isSuccess()).isTrue();
+		// The progress is reported for every written part
+		assertThat(progress).isSorted().hasSizeGreaterThan(2).last().isEqualTo(writer.length);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		WritableByteChannel target = Channels.newChannel(out);
+		boolean hasFileRegion = false;
+		Object message;
+		while ((message = channel.readOutbound()) != null) {
+			if (message instanceof FileRegion) {
+				FileRegion region = (FileRegion) message;
+				while (region.transferred() < region.count()) {
+					region.transferTo(target, region.transferred());
+				}
+				region.release();
+				hasFileRegion = true;
+			}
+			else {
+				ByteBuf buf = (ByteBuf) message;
+				buf.readBytes(out, buf.readableBytes());
+				buf.release();
+			}
+		}
+		assertThat(hasFileRegion).isTrue();
+
+		String written = new String(out.toByteArray(), StandardCharsets.ISO_8859_1);
+		int bodyStart = written.indexOf("\r\n\r\n") + 4;
+		String head = written.substring(0, bodyStart);
+		byte[] body = Arrays.copyOfRange(out.toByteArray(), bodyStart, out.size());
+		assertThat(head).containsIgnoringCase("content-length: " + body.length + "\r\n");
+		assertThat(writer.length).isEqualTo(body.length);
+
+		FullHttpRequest decoded = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/", Unpooled.wrappedBuffer(body));
+		decoded.headers().set(HttpHeaderNames.CONTENT_TYPE, finalized.headers().get(HttpHeaderNames.CONTENT_TYPE));
+		HttpPostRequestDecoder decoder = new HttpPostRequestDecoder(new DefaultHttpDataFactory(false), decoded);
+		try {
+			assertThat(((Attribute) decoder.getBodyHttpData("attr")).getValue()).isEqualTo("value");
+			FileUpload fileUpload = (FileUpload) decoder.getBodyHttpData("file");
+			assertThat(fileUpload.getFilename()).isEqualTo("file.txt");
+			assertThat(fileUpload.getContentType()).isEqualTo("text/plain");
+			assertThat(fileUpload.get()).isEqualTo(content);
+		}
+		finally {
+			decoder.destroy();
+			decoded.release();
+			encoder.cleanFiles();
+			channel.finishAndReleaseAll();
+		}
+	}
+
+	@Test
+	void boundary() {
+		assertThat(HttpClientFormFileWriter.boundary("multipart/form-data; boundary=abc")).isEqualTo("abc");
+		assertThat(HttpClientFormFileWriter.boundary("multipart/form-data; boundary=\"a b:c\"; charset=UTF-8")).isEqualTo("a b:c");
+		assertThat(HttpClientFormFileWriter.boundary("multipart/form-data; boundary=\"\"")).isNull();
+		assertThat(HttpClientFormFileWriter.boundary("multipart/form-data")).isNull();
+	}
+
+	@Test
+	void roundTrip() throws Exception {
+		byte[] content1 = new byte[1024 * 1024];
+		Arrays.fill(content1, (byte) 'a');
+		Path file1 = Files.write(tempDir.resolve("file1.txt"), content1);
+		byte[] content2 = "file2".getBytes(StandardCharsets.UTF_8);
+		Path file2 = Files.write(tempDir.resolve("file2.txt"), content2);
+
+		disposableServer =
+				createServer()
+				        .handle((req, res) ->
+				                res.sendString(req.receiveForm()
+				                                  .concatMap(data -> Mono.fromCallable(() -> receivedData(data)), 0)))
+				        .bindNow();
+
+		List<Long> progress = new CopyOnWriteArrayList<>();
+		String response =
+				createClient(disposableServer.port())
+				        .post()
+				        .uri("/")
+				        .sendForm((req, form) -> form.multipart(true)
+				                                     .file("file1", "file1.txt", file1.toFile(), "text/plain")
+				                                     .attr("attr", "value")
+				                                     .file("file2", "file2.txt", file2.toFile(), "text/plain"),
+				                progressFlux -> progressFlux.subscribe(progress::add))
+				        .responseSingle((res, bytes) -> bytes.asString())
+				        .block(Duration.ofSeconds(30));
+
+		assertThat(response).isEqualTo(
+				"[file1 file1.txt " + Arrays.hashCode(content1) + "] " +
+				"[attr value] " +
+				"[file2 file2.txt " + Arrays.hashCode(content2) + "] ");
+
+		// The progress is reported as the body is written and ends with the length of the body
+		assertThat(progress).isSorted().hasSizeGreaterThan(2);
+		assertThat(progress.get(progress.size() - 1)).isGreaterThan(content1.length + content2.length);
+	}
+
+	static String receivedData(HttpData data) throws Exception {
+		if (data instanceof FileUpload) {
+			return "[" + data.getName() + " " + ((FileUpload) data).getFilename() + " " + Arrays.hashCode(data.get()) + "] ";
+		}
+		return "[" + data.getName() + " " + ((Attribute) data).getValue() + "] ";
+	}
+}
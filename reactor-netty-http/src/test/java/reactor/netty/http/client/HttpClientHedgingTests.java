@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.HttpMethod;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.Connection;
+import reactor.netty.BaseHttpTest;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
+
+class HttpClientHedgingTests extends BaseHttpTest {
+
+	@Test
+	void hedgedRequestWins() {
+		AtomicInteger requests = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> {
+				            int request = requests.incrementAndGet();
+				            // The first request is slow
+				            Mono<String> body = request == 1 ?
+				                    Mono.delay(Duration.ofSeconds(10)).thenReturn("slow") :
+				                    Mono.just("fast");
+				            return res.sendString(body);
+				        })
+				        .bindNow();
+
+		createClient(disposableServer.port())
+		        .hedging(spec -> spec.delay(Duration.ofMillis(100)))
+		        .get()
+		        .uri("/")
+		        .responseSingle((res, bytes) -> bytes.asString())
+		        .as(StepVerifier::create)
+		        .expectNext("fast")
+		        .expectComplete()
+		        .verify(Duration.ofSeconds(5));
+
+		assertThat(requests.get()).isEqualTo(2);
+	}
+
+	@Test
+	void losingAttemptConnectionIsClosed() throws Exception {
+		AtomicInteger requests = new AtomicInteger();
+		AtomicReference<Channel> slowChannel = new AtomicReference<>();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> {
+				            if (requests.incrementAndGet() == 1) {
+				                res.withConnection(conn -> slowChannel.set(conn.channel()));
+				                return res.sendString(Mono.never());
+				            }
+				            return res.sendString(Mono.just("fast"));
+				        })
+				        .bindNow();
+
+		createClient(disposableServer.port())
+		        .hedging(spec -> spec.delay(Duration.ofMillis(100)))
+		        .get()
+		        .uri("/")
+		        .responseSingle((res, bytes) -> bytes.asString())
+		        .as(StepVerifier::create)
+		        .expectNext("fast")
+		        .expectComplete()
+		        .verify(Duration.ofSeconds(5));
+
+		// The HTTP/1.1 connection of the cancelled attempt cannot be reused while its response is in progress
+		Channel channel = slowChannel.get();
+		assertThat(channel).isNotNull();
+		assertThat(channel.closeFuture().await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void latencyRecordedFromFirstAttempt() {
+		HttpClientHedging.Spec spec = new HttpClientHedging.Spec();
+		spec.delay(Duration.ofMillis(100)).percentile(0.9);
+		HttpClientHedging hedging = new HttpClientHedging(spec);
+		HttpClientHedging.LatencyHistory history = hedging.history;
+		assertThat(history).isNotNull();
+
+		EmbeddedChannel channel = new EmbeddedChannel();
+		AtomicInteger attempts = new AtomicInteger();
+		// The first attempt never receives a response, the hedged one receives it immediately
+		Mono<Connection> attempt =
+				Mono.defer(() -> attempts.incrementAndGet() == 1 ? Mono.never() : Mono.just(Connection.from(channel)));
+
+		StepVerifier.create(hedging.hedge(HttpMethod.GET, attempt))
+		            .expectNextCount(1)
+		            .expectComplete()
+		            .verify(Duration.ofSeconds(5));
+
+		// The sample is a lower bound of the latency of the first attempt, not the latency of the hedged attempt
+		assertThat(history.count.get()).isEqualTo(1);
+		assertThat(history.samples.get(0)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+		channel.finishAndReleaseAll();
+	}
+
+	@Test
+	void simultaneousLoserConnectionIsDisposed() {
+		HttpClientHedging.Spec spec = new HttpClientHedging.Spec();
+		spec.delay(Duration.ofMillis(10));
+		HttpClientHedging hedging = new HttpClientHedging(spec);
+
+		EmbeddedChannel firstChannel = new EmbeddedChannel();
+		EmbeddedChannel secondChannel = new EmbeddedChannel();
+		AtomicInteger attempts = new AtomicInteger();
+		Sinks.Empty<Void> answer = Sinks.empty();
+		// Both attempts receive the response headers when the answer is emitted
+		Mono<Connection> attempt =
+				Mono.defer(() -> {
+				    Channel channel = attempts.incrementAndGet() == 1 ? firstChannel : secondChannel;
+				    return answer.asMono().then(Mono.fromCallable(() -> Connection.from(channel)));
+				});
+
+		StepVerifier.create(hedging.hedge(HttpMethod.GET, attempt))
+		            .expectSubscription()
+		            .then(() -> await().atMost(5, TimeUnit.SECONDS).until(() -> attempts.get() == 2))
+		            .then(answer::tryEmitEmpty)
+		            .assertNext(connection -> assertThat(connection.channel()).isSameAs(firstChannel))
+		            .expectComplete()
+		            .verify(Duration.ofSeconds(5));
+
+		assertThat(firstChannel.isOpen()).isTrue();
+		assertThat(secondChannel.isOpen()).isFalse();
+		firstChannel.finishAndReleaseAll();
+		secondChannel.finishAndReleaseAll();
+	}
+
+	@Test
+	void retryBudgetDepositedOncePerHedgedRequest() {
+		AtomicInteger requests = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> {
+				            // The first request is slow
+				            Mono<String> body = requests.incrementAndGet() == 1 ?
+				                    Mono.delay(Duration.ofSeconds(10)).thenReturn("slow") :
+				                    Mono.just("fast");
+				            return res.sendString(body);
+				        })
+				        .bindNow();
+
+		HttpClient client =
+				createClient(disposableServer.port())
+				        .retryBudget(0.5, 1)
+				        .hedging(spec -> spec.delay(Duration.ofMillis(100)));
+		RetryBudget retryBudget = client.configuration().retryBudget;
+		assertThat(retryBudget).isNotNull();
+		assertThat(retryBudget.tryWithdraw()).isTrue();
+
+		client.get()
+		      .uri("/")
+		      .responseSingle((res, bytes) -> bytes.asString())
+		      .as(StepVerifier::create)
+		      .expectNext("fast")
+		      .expectComplete()
+		      .verify(Duration.ofSeconds(5));
+
+		// Two attempts were sent, but the request deposited only once
+		assertThat(requests.get()).isEqualTo(2);
+		assertThat(retryBudget.tokens.get()).isEqualTo(RetryBudget.SCALE / 2);
+	}
+
+	@Test
+	void nonIdempotentRequestIsNotHedged() {
+		AtomicInteger requests = new AtomicInteger();
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> {
+				            requests.incrementAndGet();
+				            return res.sendString(Mono.delay(Duration.ofMillis(300)).thenReturn("slow"));
+				        })
+				        .bindNow();
+
+		createClient(disposableServer.port())
+		        .hedging(spec -> spec.delay(Duration.ofMillis(100)))
+		        .post()
+		        .uri("/")
+		        .responseSingle((res, bytes) -> bytes.asString())
+		        .as(StepVerifier::create)
+		        .expectNext("slow")
+		        .expectComplete()
+		        .verify(Duration.ofSeconds(5));
+
+		assertThat(requests.get()).isEqualTo(1);
+	}
+
+	@Test
+	void budgetLimitsHedgedRequests() {
+		HttpClientHedging.Spec spec = new HttpClientHedging.Spec();
+		spec.delay(Duration.ofMillis(10)).budget(0, 1);
+		HttpClientHedging hedging = new HttpClientHedging(spec);
+
+		AtomicInteger attempts = new AtomicInteger();
+		Mono<Connection> attempt =
+				Mono.defer(() -> {
+				    attempts.incrementAndGet();
+				    return Mono.never();
+				});
+
+		// The budget holds one hedged request
+		StepVerifier.create(hedging.hedge(HttpMethod.GET, attempt))
+		            .expectSubscription()
+		            .expectNoEvent(Duration.ofMillis(100))
+		            .thenCancel()
+		            .verify(Duration.ofSeconds(5));
+		assertThat(attempts.get()).isEqualTo(2);
+
+		StepVerifier.create(hedging.hedge(HttpMethod.GET, attempt))
+		            .expectSubscription()
+		            .expectNoEvent(Duration.ofMillis(100))
+		            .thenCancel()
+		            .verify(Duration.ofSeconds(5));
+		assertThat(attempts.get()).isEqualTo(3);
+	}
+
+	@Test
+	void percentileDelay() {
+		HttpClientHedging.Spec spec = new HttpClientHedging.Spec();
+		spec.delay(Duration.ofSeconds(1)).percentile(0.9);
+		HttpClientHedging hedging = new HttpClientHedging(spec);
+		HttpClientHedging.LatencyHistory history = hedging.history;
+		assertThat(history).isNotNull();
+
+		assertThat(hedging.delayNanos()).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+		for (int i = 1; i <= HttpClientHedging.LatencyHistory.SIZE; i++) {
+			history.record(TimeUnit.MILLISECONDS.toNanos(i));
+		}
+		// ceil(0.9 * 1024) = 922
+		assertThat(hedging.delayNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(922));
+	}
+
+	@Test
+	void delayIsRequired() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> HttpClient.create().hedging(spec -> spec.percentile(0.99)));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> HttpClient.create().hedging(spec -> spec.percentile(1)));
+	}
+}
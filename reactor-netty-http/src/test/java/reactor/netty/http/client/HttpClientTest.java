@@ -72,6 +72,7 @@ import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.handler.codec.TooLongFrameException;
 import io.netty.handler.codec.compression.Brotli;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.DefaultHttpContent;
@@ -115,6 +116,7 @@ import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
 import reactor.netty.BaseHttpTest;
+import reactor.netty.ByteBufEncoder;
 import reactor.netty.ByteBufFlux;
 import reactor.netty.ByteBufMono;
 import reactor.netty.CancelReceiverHandlerTest;
@@ -3787,6 +3789,57 @@ class HttpClientTest extends BaseHttpTest {
 		}
 	}
 
+	@ParameterizedTest
+	@ValueSource(booleans = {true, false})
+	void testMaxAggregatedContentLength(boolean contentLength) {
+		String body = String.join("", Collections.nCopies(1024, "a"));
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> contentLength ?
+				                res.header(HttpHeaderNames.CONTENT_LENGTH, "1024").sendString(Mono.just(body)) :
+				                res.sendString(Flux.just(body.substring(0, 512), body.substring(512))))
+				        .bindNow();
+
+		createClient(disposableServer.port())
+		        .httpResponseDecoder(spec -> spec.maxAggregatedContentLength(100))
+		        .get()
+		        .uri("/")
+		        .responseSingle((res, bytes) -> bytes.asString())
+		        .as(StepVerifier::create)
+		        .expectError(TooLongFrameException.class)
+		        .verify(Duration.ofSeconds(5));
+
+		createClient(disposableServer.port())
+		        .httpResponseDecoder(spec -> spec.maxAggregatedContentLength(1024))
+		        .get()
+		        .uri("/")
+		        .responseSingle((res, bytes) -> bytes.asString())
+		        .as(StepVerifier::create)
+		        .expectNext(body)
+		        .expectComplete()
+		        .verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void testSendEncodedReceiveDelimited() {
+		ByteBufEncoder<String> encoder = (message, out) -> out.writeCharSequence(message, StandardCharsets.UTF_8);
+		disposableServer =
+				createServer()
+				        .handle((req, res) -> res.sendEncoded(Flux.just("{\"a\":1}", "{\"b\":2}", "{\"c\":3}"),
+				                encoder.delimitedBy((byte) '\n')))
+				        .bindNow();
+
+		createClient(disposableServer.port())
+		        .get()
+		        .uri("/")
+		        .responseContent()
+		        .decodeDelimited((byte) '\n', 1024, bb -> bb.toString(StandardCharsets.UTF_8))
+		        .as(StepVerifier::create)
+		        .expectNext("{\"a\":1}", "{\"b\":2}", "{\"c\":3}")
+		        .expectComplete()
+		        .verify(Duration.ofSeconds(5));
+	}
+
 	private static final class EchoAction implements Publisher<HttpContent>, Consumer<HttpContent> {
 		private final Publisher<HttpContent> sender;
 		private volatile FluxSink<HttpContent> emitter;
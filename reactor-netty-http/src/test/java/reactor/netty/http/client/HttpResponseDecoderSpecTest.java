@@ -19,6 +19,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static reactor.netty.http.HttpDecoderSpecTest.checkDefaultAllowDuplicateContentLengths;
 import static reactor.netty.http.HttpDecoderSpecTest.checkDefaultInitialBufferSize;
 import static reactor.netty.http.HttpDecoderSpecTest.checkDefaultMaxChunkSize;
@@ -76,6 +77,32 @@ class HttpResponseDecoderSpecTest {
 		checkDefaultParseHttpAfterConnectRequest(conf);
 	}
 
+	@Test
+	void maxAggregatedContentLength() {
+		checkDefaultMaxAggregatedContentLength(conf);
+
+		conf.maxAggregatedContentLength(1024);
+
+		assertThat(conf.maxAggregatedContentLength).as("max aggregated content length").isEqualTo(1024);
+
+		checkDefaultMaxInitialLineLength(conf);
+		checkDefaultMaxHeaderSize(conf);
+		checkDefaultMaxChunkSize(conf);
+		checkDefaultValidateHeaders(conf);
+		checkDefaultInitialBufferSize(conf);
+		checkDefaultAllowDuplicateContentLengths(conf);
+		checkDefaultFailOnMissingResponse(conf);
+		checkDefaultH2cMaxContentLength(conf);
+		checkDefaultParseHttpAfterConnectRequest(conf);
+	}
+
+	@Test
+	void maxAggregatedContentLengthBadValues() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> conf.maxAggregatedContentLength(-2))
+				.withMessage("maxAggregatedContentLength must be -1 or positive, was: -2");
+	}
+
 	@Test
 	void parseHttpAfterConnectRequest() {
 		checkDefaultParseHttpAfterConnectRequest(conf);
@@ -106,6 +133,12 @@ class HttpResponseDecoderSpecTest {
 				.isEqualTo(65536);
 	}
 
+	private static void checkDefaultMaxAggregatedContentLength(HttpResponseDecoderSpec conf) {
+		assertThat(conf.maxAggregatedContentLength).as("default max aggregated content length")
+				.isEqualTo(HttpResponseDecoderSpec.DEFAULT_MAX_AGGREGATED_CONTENT_LENGTH)
+				.isEqualTo(-1);
+	}
+
 	private static void checkDefaultParseHttpAfterConnectRequest(HttpResponseDecoderSpec conf) {
 		assertThat(conf.parseHttpAfterConnectRequest).as("default parse http after connect request")
 				.isEqualTo(HttpResponseDecoderSpec.DEFAULT_PARSE_HTTP_AFTER_CONNECT_REQUEST)
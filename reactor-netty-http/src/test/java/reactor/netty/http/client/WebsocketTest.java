@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2011-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ import java.nio.charset.Charset;
 import java.security.cert.CertificateException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -1245,4 +1246,32 @@ class WebsocketTest extends BaseHttpTest {
 		assertThat(connection.get()).isNotNull();
 		assertThat(connection.get().channel().isActive()).isFalse();
 	}
+
+	void doTestReceiveMessages(HttpServer server, HttpClient client) {
+		disposableServer =
+				server.handle((req, res) -> res.sendWebsocket((in, out) ->
+				              out.sendString(in.receiveMessages()
+				                               .concatMap(message -> message.fragments()
+				                                                            .map(f -> f.content().readableBytes() + ":" + f.isFinalFragment())
+				                                                            .collectList()
+				                                                            .map(fragments -> (message.isText() ? "text" : "binary") + fragments))
+				                               .take(2))))
+				      .bindNow();
+
+		byte[] content = "Content".getBytes(CharsetUtil.UTF_8);
+		client.websocket()
+		      .handle((in, out) ->
+		          out.sendObject(Flux.just(
+		                     new BinaryWebSocketFrame(false, 0, Unpooled.wrappedBuffer(content)),
+		                     new ContinuationWebSocketFrame(false, 0, Unpooled.wrappedBuffer(content)),
+		                     new ContinuationWebSocketFrame(true, 0, Unpooled.wrappedBuffer(content)),
+		                     new TextWebSocketFrame("text")))
+		             .then()
+		             .thenMany(in.receive().asString()))
+		      .collectList()
+		      .as(StepVerifier::create)
+		      .expectNext(Arrays.asList("binary[7:false, 7:false, 7:true]", "text[4:true]"))
+		      .expectComplete()
+		      .verify(Duration.ofSeconds(5));
+	}
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ConcurrencyLimitsTests {
+
+	@Test
+	void fixedLimit() {
+		ConcurrencyLimit limit = ConcurrencyLimits.fixed(10).get();
+		limit.onSample(0, TimeUnit.SECONDS.toNanos(10), 10, true);
+		assertThat(limit.limit()).isEqualTo(10);
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> ConcurrencyLimits.fixed(0));
+	}
+
+	@Test
+	void aimdLimit() {
+		ConcurrencyLimit limit = ConcurrencyLimits.aimd(10, 11, Duration.ofMillis(100)).get();
+
+		// The limit is not used, it does not increase
+		limit.onSample(0, TimeUnit.MILLISECONDS.toNanos(10), 1, false);
+		assertThat(limit.limit()).isEqualTo(10);
+
+		limit.onSample(0, TimeUnit.MILLISECONDS.toNanos(10), 10, false);
+		assertThat(limit.limit()).isEqualTo(11);
+		limit.onSample(0, TimeUnit.MILLISECONDS.toNanos(10), 11, false);
+		assertThat(limit.limit()).isEqualTo(11);
+
+		limit.onSample(0, TimeUnit.MILLISECONDS.toNanos(200), 11, false);
+		assertThat(limit.limit()).isEqualTo(9);
+
+		// The requests started before the last decrease do not decrease the limit again
+		limit.onSample(TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.MILLISECONDS.toNanos(150), 9, false);
+		assertThat(limit.limit()).isEqualTo(9);
+		limit.onSample(TimeUnit.MILLISECONDS.toNanos(150), TimeUnit.MILLISECONDS.toNanos(10), 9, true);
+		assertThat(limit.limit()).isEqualTo(9);
+
+		limit.onSample(TimeUnit.MILLISECONDS.toNanos(300), TimeUnit.MILLISECONDS.toNanos(10), 9, true);
+		assertThat(limit.limit()).isEqualTo(8);
+	}
+
+	@Test
+	void aimdLimitsAdaptIndependently() {
+		Supplier<ConcurrencyLimit> factory = ConcurrencyLimits.aimd(10, 20, Duration.ofMillis(100));
+		ConcurrencyLimit first = factory.get();
+		ConcurrencyLimit second = factory.get();
+
+		first.onSample(0, TimeUnit.MILLISECONDS.toNanos(200), 10, false);
+		assertThat(first.limit()).isEqualTo(9);
+		assertThat(second.limit()).isEqualTo(10);
+	}
+
+	@Test
+	void checkLimits() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> ConcurrencyLimits.checkLimits(0, 10));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> ConcurrencyLimits.checkLimits(10, 5));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> ConcurrencyLimits.aimd(10, 5, Duration.ofMillis(100)));
+	}
+
+	@Test
+	void tryAcquire() {
+		AtomicInteger inFlight = new AtomicInteger();
+		assertThat(ConcurrencyLimits.tryAcquire(inFlight, 2)).isTrue();
+		assertThat(ConcurrencyLimits.tryAcquire(inFlight, 2)).isTrue();
+		assertThat(ConcurrencyLimits.tryAcquire(inFlight, 2)).isFalse();
+		assertThat(inFlight.get()).isEqualTo(2);
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018-2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2018-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@ package reactor.netty.http.server;
 
 import java.net.InetSocketAddress;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.security.cert.CertificateException;
 import java.time.Duration;
 import java.util.concurrent.ArrayBlockingQueue;
@@ -647,6 +648,62 @@ class ConnectionInfoTests extends BaseHttpTest {
 		assertThat(resultQueue.poll(5, TimeUnit.SECONDS)).isEqualTo(remoteAddress);
 	}
 
+	@Test
+	void proxyProtocolV2Tlvs() throws InterruptedException {
+		ArrayBlockingQueue<String> resultQueue = new ArrayBlockingQueue<>(2);
+
+		this.disposableServer =
+				createServer()
+				          .proxyProtocol(ProxyProtocolSupportType.ON)
+				          .handle((req, res) -> {
+				              ProxyProtocolTlvs tlvs = req.proxyProtocolTlvs();
+				              resultQueue.add(req.remoteAddress().getHostString() + " " +
+				                      (tlvs != null ? tlvs.authority() + " " + tlvs.uniqueId() : "none"));
+				              return res.sendString(Mono.just("OK"));
+				          })
+				          .bindNow();
+
+		Connection clientConn =
+				TcpClient.create()
+				         .port(this.disposableServer.port())
+				         .connectNow();
+
+		byte[] authority = "a.example.com".getBytes(StandardCharsets.UTF_8);
+		byte[] uniqueId = "id-1".getBytes(StandardCharsets.UTF_8);
+		ByteBuf proxyProtocolMsg = clientConn.channel()
+		                                     .alloc()
+		                                     .buffer();
+		proxyProtocolMsg.writeBytes(new byte[] {0x0D, 0x0A, 0x0D, 0x0A, 0x00, 0x0D, 0x0A, 0x51, 0x55, 0x49, 0x54, 0x0A})
+		                .writeByte(0x21)
+		                .writeByte(0x11)
+		                .writeShort(12 + 3 + authority.length + 3 + uniqueId.length)
+		                .writeBytes(new byte[] {(byte) 202, 112, (byte) 144, (byte) 236})
+		                .writeBytes(new byte[] {10, (byte) 210, 12, 10})
+		                .writeShort(5678)
+		                .writeShort(80)
+		                .writeByte(ProxyProtocolTlvs.PP2_TYPE_AUTHORITY)
+		                .writeShort(authority.length)
+		                .writeBytes(authority)
+		                .writeByte(ProxyProtocolTlvs.PP2_TYPE_UNIQUE_ID)
+		                .writeShort(uniqueId.length)
+		                .writeBytes(uniqueId);
+		proxyProtocolMsg.writeCharSequence("GET /test HTTP/1.1\r\nHost: a.example.com\r\n\r\n" +
+				"GET /test HTTP/1.1\r\nHost: a.example.com\r\n\r\n", StandardCharsets.US_ASCII);
+		clientConn.channel()
+		          .writeAndFlush(proxyProtocolMsg)
+		          .addListener(f -> {
+		              if (!f.isSuccess()) {
+		                  fail("Writing proxyProtocolMsg was not successful");
+		              }
+		          });
+
+		// The TLVs are received once per connection and are available for every request on that connection
+		assertThat(resultQueue.poll(5, TimeUnit.SECONDS)).isEqualTo("202.112.144.236 a.example.com id-1");
+		assertThat(resultQueue.poll(5, TimeUnit.SECONDS)).isEqualTo("202.112.144.236 a.example.com id-1");
+
+		clientConn.disposeNow();
+	}
+
 	@Test
 	void proxyProtocolAuto() throws InterruptedException {
 		String remoteAddress = "202.112.144.236";
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpVersion;
+import org.junit.jupiter.api.Test;
+import reactor.netty.transport.AddressUtils;
+
+import java.net.InetSocketAddress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class DefaultHttpForwardedHeaderHandlerTests {
+
+	static final InetSocketAddress LOCAL_ADDRESS = AddressUtils.createUnresolved("localhost", 8080);
+	static final InetSocketAddress REMOTE_ADDRESS = AddressUtils.createUnresolved("127.0.0.1", 50000);
+
+	@Test
+	void forwarded() {
+		HttpRequest request = request();
+		request.headers().set("Forwarded", "for=\"192.168.0.1:4711\";Proto=https; host = a.example.com , for=192.168.0.2");
+
+		ConnectionInfo info = DefaultHttpForwardedHeaderHandler.INSTANCE.apply(connectionInfo(request), request);
+
+		assertThat(info.getScheme()).isEqualTo("https");
+		assertThat(info.getHostName()).isEqualTo("a.example.com");
+		assertThat(info.getHostPort()).isEqualTo(443);
+		assertThat(info.getRemoteAddress()).isNotNull();
+		assertThat(info.getRemoteAddress().getHostString()).isEqualTo("192.168.0.1");
+		assertThat(info.getRemoteAddress().getPort()).isEqualTo(4711);
+	}
+
+	@Test
+	void forwardedOnlyFirstElement() {
+		HttpRequest request = request();
+		request.headers().set("Forwarded", "for=192.168.0.1;secret, proto=https");
+
+		ConnectionInfo info = DefaultHttpForwardedHeaderHandler.INSTANCE.apply(connectionInfo(request), request);
+
+		assertThat(info.getScheme()).isEqualTo("http");
+		assertThat(info.getRemoteAddress()).isNotNull();
+		assertThat(info.getRemoteAddress().getHostString()).isEqualTo("192.168.0.1");
+		assertThat(info.getRemoteAddress().getPort()).isEqualTo(REMOTE_ADDRESS.getPort());
+	}
+
+	@Test
+	void forwardedNoKnownParameters() {
+		HttpRequest request = request();
+		request.headers().set("Forwarded", "by=10.0.0.1;proto=");
+
+		ConnectionInfo connectionInfo = connectionInfo(request);
+
+		assertThat(DefaultHttpForwardedHeaderHandler.INSTANCE.apply(connectionInfo, request)).isSameAs(connectionInfo);
+	}
+
+	@Test
+	void xForwarded() {
+		HttpRequest request = request();
+		request.headers()
+		       .set("X-Forwarded-For", " 192.168.0.1 , 10.0.0.1")
+		       .set("X-Forwarded-Proto", "https,http")
+		       .set("X-Forwarded-Host", "a.example.com")
+		       .set("X-Forwarded-Port", "8443, 443")
+		       .set("X-Forwarded-Prefix", "/prefix/");
+
+		ConnectionInfo info = DefaultHttpForwardedHeaderHandler.INSTANCE.apply(connectionInfo(request), request);
+
+		assertThat(info.getScheme()).isEqualTo("https");
+		assertThat(info.getHostName()).isEqualTo("a.example.com");
+		assertThat(info.getHostPort()).isEqualTo(8443);
+		assertThat(info.getHostAddress()).isNotNull();
+		assertThat(info.getHostAddress().getHostString()).isEqualTo("a.example.com");
+		assertThat(info.getHostAddress().getPort()).isEqualTo(8443);
+		assertThat(info.getRemoteAddress()).isNotNull();
+		assertThat(info.getRemoteAddress().getHostString()).isEqualTo("192.168.0.1");
+		assertThat(info.getForwardedPrefix()).isEqualTo("/prefix");
+	}
+
+	@Test
+	void xForwardedInvalidPort() {
+		HttpRequest request = request();
+		request.headers().set("X-Forwarded-Port", "80a");
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> DefaultHttpForwardedHeaderHandler.INSTANCE.apply(connectionInfo(request), request))
+				.withMessage("Failed to parse a port from 80a");
+	}
+
+	@Test
+	void firstValue() {
+		String header = "192.168.0.1";
+		assertThat(DefaultHttpForwardedHeaderHandler.firstValue(header)).isSameAs(header);
+		assertThat(DefaultHttpForwardedHeaderHandler.firstValue(" 192.168.0.1\t,10.0.0.1")).isEqualTo("192.168.0.1");
+		assertThat(DefaultHttpForwardedHeaderHandler.firstValue(" , 10.0.0.1")).isEmpty();
+	}
+
+	@Test
+	void connectionCache() {
+		DefaultHttpForwardedHeaderHandler.ConnectionCache cache = new DefaultHttpForwardedHeaderHandler.ConnectionCache();
+
+		HttpRequest request1 = request();
+		request1.headers().set("X-Forwarded-For", "192.168.0.1");
+		ConnectionInfo info1 = cache.apply(connectionInfo(request1), request1);
+
+		HttpRequest request2 = request();
+		request2.headers().set("X-Forwarded-For", "192.168.0.1");
+		ConnectionInfo info2 = cache.apply(connectionInfo(request2), request2);
+		assertThat(info2).isSameAs(info1);
+
+		HttpRequest request3 = request();
+		request3.headers().set("X-Forwarded-For", "192.168.0.2");
+		ConnectionInfo info3 = cache.apply(connectionInfo(request3), request3);
+		assertThat(info3).isNotSameAs(info1);
+		assertThat(info3.getRemoteAddress()).isNotNull();
+		assertThat(info3.getRemoteAddress().getHostString()).isEqualTo("192.168.0.2");
+
+		HttpRequest request4 = request();
+		request4.headers().set("Host", "b.example.com").set("X-Forwarded-For", "192.168.0.2");
+		ConnectionInfo info4 = cache.apply(connectionInfo(request4), request4);
+		assertThat(info4).isNotSameAs(info3);
+		assertThat(info4.getHostName()).isEqualTo("b.example.com");
+
+		HttpRequest request5 = request();
+		request5.headers().set("Host", "b.example.com").set("Forwarded", "for=192.168.0.2");
+		ConnectionInfo info5 = cache.apply(connectionInfo(request5), request5);
+		assertThat(info5).isNotSameAs(info4);
+
+		HttpRequest request6 = request();
+		request6.headers().set("Host", "b.example.com").set("Forwarded", "for=192.168.0.2");
+		assertThat(cache.apply(connectionInfo(request6), request6)).isSameAs(info5);
+	}
+
+	static ConnectionInfo connectionInfo(HttpRequest request) {
+		return ConnectionInfo.from(request, false, LOCAL_ADDRESS, REMOTE_ADDRESS, null);
+	}
+
+	static HttpRequest request() {
+		return new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/");
+	}
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.publisher.Sinks;
+import reactor.netty.BaseHttpTest;
+import reactor.netty.Connection;
+import reactor.netty.DisposableServer;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static reactor.netty.Metrics.REGISTRY;
+import static reactor.netty.http.server.AdmissionControlMeters.AdmissionControlMetersTags.ID;
+import static reactor.netty.http.server.AdmissionControlMeters.IN_FLIGHT;
+import static reactor.netty.http.server.AdmissionControlMeters.LIMIT;
+import static reactor.netty.http.server.AdmissionControlMeters.REJECTED;
+
+class HttpServerAdmissionControlTests extends BaseHttpTest {
+
+	@Test
+	void rejectWhenLimitReached() {
+		Sinks.Empty<Void> blocked = Sinks.empty();
+		disposableServer =
+				createServer()
+				        .admissionControl(spec -> spec.maxConcurrentRequests(1))
+				        .route(r -> r.get("/slow", (req, res) -> res.sendString(blocked.asMono().then(Mono.just("slow"))))
+				                     .get("/fast", (req, res) -> res.sendString(Mono.just("fast"))))
+				        .bindNow();
+
+		Mono<String> slow =
+				createClient(disposableServer.port())
+				        .get()
+				        .uri("/slow")
+				        .responseSingle((res, bytes) -> bytes.asString())
+				        .cache();
+		slow.subscribe();
+
+		repeatUntil(() -> createClient(disposableServer.port())
+		        .get()
+		        .uri("/fast")
+		        .responseSingle((res, bytes) -> Mono.just(res.status())), HttpResponseStatus.SERVICE_UNAVAILABLE);
+
+		blocked.tryEmitEmpty();
+		StepVerifier.create(slow)
+		            .expectNext("slow")
+		            .expectComplete()
+		            .verify(Duration.ofSeconds(5));
+
+		createClient(disposableServer.port())
+		        .get()
+		        .uri("/fast")
+		        .responseSingle((res, bytes) -> bytes.asString())
+		        .as(StepVerifier::create)
+		        .expectNext("fast")
+		        .expectComplete()
+		        .verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void limitPerBoundServer() {
+		Sinks.Empty<Void> blocked = Sinks.empty();
+		HttpServer server =
+				createServer()
+				        .admissionControl(spec -> spec.maxConcurrentRequests(1))
+				        .route(r -> r.get("/slow", (req, res) -> res.sendString(blocked.asMono().then(Mono.just("slow"))))
+				                     .get("/fast", (req, res) -> res.sendString(Mono.just("fast"))));
+		disposableServer = server.bindNow();
+		DisposableServer secondServer = server.bindNow();
+
+		try {
+			Mono<String> slow =
+					createClient(disposableServer.port())
+					        .get()
+					        .uri("/slow")
+					        .responseSingle((res, bytes) -> bytes.asString())
+					        .cache();
+			slow.subscribe();
+
+			// Wait until the slow request holds the only permit of the first server
+			repeatUntil(() -> createClient(disposableServer.port())
+			        .get()
+			        .uri("/fast")
+			        .responseSingle((res, bytes) -> Mono.just(res.status())), HttpResponseStatus.SERVICE_UNAVAILABLE);
+
+			// The second server has its own limit
+			createClient(secondServer.port())
+			        .get()
+			        .uri("/fast")
+			        .responseSingle((res, bytes) -> bytes.asString())
+			        .as(StepVerifier::create)
+			        .expectNext("fast")
+			        .expectComplete()
+			        .verify(Duration.ofSeconds(5));
+
+			blocked.tryEmitEmpty();
+			StepVerifier.create(slow)
+			            .expectNext("slow")
+			            .expectComplete()
+			            .verify(Duration.ofSeconds(5));
+		}
+		finally {
+			secondServer.disposeNow();
+		}
+	}
+
+	@Test
+	void admissionControlPerServerChannel() {
+		HttpServerAdmissionControl.Spec spec = new HttpServerAdmissionControl.Spec();
+		spec.maxConcurrentRequests(1);
+
+		// Stand for the server channels, the channels have no parent
+		EmbeddedChannel firstServer = new EmbeddedChannel();
+		EmbeddedChannel secondServer = new EmbeddedChannel();
+		try {
+			HttpServerAdmissionControl first = HttpServerAdmissionControl.of(spec, firstServer);
+			assertThat(HttpServerAdmissionControl.of(spec, firstServer)).isSameAs(first);
+			assertThat(HttpServerAdmissionControl.of(spec, secondServer)).isNotSameAs(first);
+		}
+		finally {
+			firstServer.finishAndReleaseAll();
+			secondServer.finishAndReleaseAll();
+		}
+	}
+
+	@Test
+	void permitAcquiredOnSubscribe() {
+		HttpServerAdmissionControl.Spec spec = new HttpServerAdmissionControl.Spec();
+		spec.maxConcurrentRequests(1);
+		HttpServerAdmissionControl admissionControl = new HttpServerAdmissionControl(spec);
+		EmbeddedChannel channel = new EmbeddedChannel();
+		try {
+			Sinks.Empty<Void> handle = Sinks.empty();
+			Mono<Void> admitted = admissionControl.apply(handle.asMono(), Connection.from(channel));
+			assertThat(admissionControl.inFlight()).isEqualTo(0);
+
+			Disposable subscription = admitted.subscribe();
+			assertThat(admissionControl.inFlight()).isEqualTo(1);
+
+			subscription.dispose();
+			assertThat(admissionControl.inFlight()).isEqualTo(0);
+		}
+		finally {
+			channel.finishAndReleaseAll();
+		}
+	}
+
+	@Test
+	void metricsRemovedWhenServerDisposed() {
+		HttpServerAdmissionControl.Spec spec = new HttpServerAdmissionControl.Spec();
+		spec.maxConcurrentRequests(10).metrics(true);
+
+		EmbeddedChannel server = new EmbeddedChannel();
+		String id = server.id().asShortText();
+		HttpServerAdmissionControl admissionControl = HttpServerAdmissionControl.of(spec, server);
+		assertThat(admissionControl.tryAcquire(HttpServerAdmissionControl.MAX_PRIORITY)).isTrue();
+		admissionControl.rejected.increment();
+
+		Gauge limit = REGISTRY.find(LIMIT.getName()).tag(ID.asString(), id).gauge();
+		assertThat(limit).isNotNull();
+		assertThat(limit.value()).isEqualTo(10);
+		Gauge inFlight = REGISTRY.find(IN_FLIGHT.getName()).tag(ID.asString(), id).gauge();
+		assertThat(inFlight).isNotNull();
+		assertThat(inFlight.value()).isEqualTo(1);
+		FunctionCounter rejected = REGISTRY.find(REJECTED.getName()).tag(ID.asString(), id).functionCounter();
+		assertThat(rejected).isNotNull();
+		assertThat(rejected.count()).isEqualTo(1);
+
+		server.finishAndReleaseAll();
+		assertThat(REGISTRY.find(LIMIT.getName()).tag(ID.asString(), id).gauge()).isNull();
+		assertThat(REGISTRY.find(IN_FLIGHT.getName()).tag(ID.asString(), id).gauge()).isNull();
+		assertThat(REGISTRY.find(REJECTED.getName()).tag(ID.asString(), id).functionCounter()).isNull();
+	}
+
+	@Test
+	void priority() {
+		HttpServerAdmissionControl.Spec spec = new HttpServerAdmissionControl.Spec();
+		spec.maxConcurrentRequests(10);
+		HttpServerAdmissionControl admissionControl = new HttpServerAdmissionControl(spec);
+
+		for (int i = 0; i < 5; i++) {
+			assertThat(admissionControl.tryAcquire(50)).isTrue();
+		}
+		assertThat(admissionControl.tryAcquire(50)).isFalse();
+		assertThat(admissionControl.tryAcquire(100)).isTrue();
+		assertThat(admissionControl.inFlight()).isEqualTo(6);
+
+		admissionControl.release(0, 1, SignalType.ON_COMPLETE);
+		assertThat(admissionControl.inFlight()).isEqualTo(5);
+		assertThat(admissionControl.limit()).isEqualTo(10);
+	}
+
+	@Test
+	void gradientLimit() {
+		HttpServerAdmissionControl.GradientLimit limit = new HttpServerAdmissionControl.GradientLimit(20, 100);
+		for (int i = 0; i < 100; i++) {
+			limit.onSample(0, TimeUnit.MILLISECONDS.toNanos(10), limit.limit(), false);
+		}
+		int grown = limit.limit();
+		assertThat(grown).isGreaterThan(20);
+
+		for (int i = 0; i < 20; i++) {
+			limit.onSample(0, TimeUnit.MILLISECONDS.toNanos(100), limit.limit(), false);
+		}
+		assertThat(limit.limit()).isLessThan(grown);
+	}
+
+	@Test
+	void limitIsRequired() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> createServer().admissionControl(spec -> spec.metrics(true)));
+	}
+}
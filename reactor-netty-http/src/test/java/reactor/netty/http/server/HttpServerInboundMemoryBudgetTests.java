@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.BaseHttpTest;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.DisposableServer;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static reactor.netty.Metrics.REGISTRY;
+
+/**
+ * This test class verifies {@link HttpServer#inboundMemoryBudget(long, long)}.
+ *
+ * @author Violeta Georgieva
+ */
+class HttpServerInboundMemoryBudgetTests extends BaseHttpTest {
+
+	static final String ID = "id";
+	static final String PAUSED_CONNECTIONS = "reactor.netty.server.inbound.memory.paused.connections";
+	static final String PAUSES = "reactor.netty.server.inbound.memory.pauses";
+	static final String USED_BYTES = "reactor.netty.server.inbound.memory.used";
+
+	static final int CHUNK_SIZE = 8 * 1024;
+	static final int CHUNKS = 128;
+
+	@Test
+	void readsArePausedAndResumed() {
+		Sinks.Empty<Void> consume = Sinks.empty();
+		disposableServer =
+				createServer()
+				        .inboundMemoryBudget(64, 1024 * 1024)
+				        .metrics(true, Function.identity())
+				        .handle((req, res) ->
+				                res.sendString(req.receive()
+				                                  // Takes one chunk at a time and holds the first one until signalled,
+				                                  // so that the next chunks wait in the receive queue
+				                                  .flatMap(buf -> {
+				                                      long size = buf.readableBytes();
+				                                      return consume.asMono().thenReturn(size);
+				                                  }, 1)
+				                                  .reduce(0L, Long::sum)
+				                                  .map(String::valueOf)))
+				        .bindNow();
+
+		String id = disposableServer.channel().id().asShortText();
+
+		char[] chars = new char[CHUNK_SIZE];
+		Arrays.fill(chars, 'a');
+		String chunk = new String(chars);
+
+		Mono<String> response =
+				createClient(disposableServer.port())
+				        .post()
+				        .uri("/")
+				        .send(ByteBufFlux.fromString(Flux.range(0, CHUNKS).map(i -> chunk)))
+				        .responseSingle((res, bytes) -> bytes.asString())
+				        .cache();
+		response.subscribe();
+
+		// The connection exceeds its budget while the handler holds the first chunk
+		await().atMost(30, TimeUnit.SECONDS)
+		       .until(() -> {
+		           Gauge paused = REGISTRY.find(PAUSED_CONNECTIONS).tag(ID, id).gauge();
+		           return paused != null && paused.value() == 1;
+		       });
+		Gauge usedBytes = REGISTRY.find(USED_BYTES).tag(ID, id).gauge();
+		assertThat(usedBytes).isNotNull();
+		assertThat(usedBytes.value()).isGreaterThan(64).isLessThan(CHUNK_SIZE * CHUNKS);
+
+		consume.tryEmitEmpty();
+
+		// The reads are resumed once the queued chunks are consumed, so the whole body is received
+		assertThat(response.block(Duration.ofSeconds(30))).isEqualTo(String.valueOf(CHUNK_SIZE * CHUNKS));
+
+		FunctionCounter pauses = REGISTRY.find(PAUSES).tag(ID, id).functionCounter();
+		assertThat(pauses).isNotNull();
+		assertThat(pauses.count()).isGreaterThanOrEqualTo(1);
+		await().atMost(5, TimeUnit.SECONDS)
+		       .untilAsserted(() -> {
+		           assertThat(REGISTRY.find(PAUSED_CONNECTIONS).tag(ID, id).gauge()).isNotNull()
+		                   .extracting(Gauge::value).isEqualTo(0.0d);
+		           assertThat(REGISTRY.find(USED_BYTES).tag(ID, id).gauge()).isNotNull()
+		                   .extracting(Gauge::value).isEqualTo(0.0d);
+		       });
+	}
+
+	@Test
+	void budgetAndMetricsPerBoundServer() {
+		HttpServer server =
+				createServer()
+				        .inboundMemoryBudget(64, 1024)
+				        .metrics(true, Function.identity())
+				        .handle((req, res) -> res.sendString(req.receive().aggregate().asString()));
+
+		DisposableServer first = server.bindNow();
+		DisposableServer second = server.bindNow();
+		String firstId = first.channel().id().asShortText();
+		String secondId = second.channel().id().asShortText();
+		try {
+			// The budget and its meters are created with the first connection of each bound server
+			assertThat(post(first, "first")).isEqualTo("first");
+			assertThat(post(second, "second")).isEqualTo("second");
+			assertThat(REGISTRY.find(USED_BYTES).tag(ID, firstId).gauge()).isNotNull();
+			assertThat(REGISTRY.find(USED_BYTES).tag(ID, secondId).gauge()).isNotNull();
+		}
+		finally {
+			first.disposeNow();
+		}
+
+		await().atMost(5, TimeUnit.SECONDS)
+		       .until(() -> REGISTRY.find(USED_BYTES).tag(ID, firstId).gauge() == null &&
+		                    REGISTRY.find(PAUSED_CONNECTIONS).tag(ID, firstId).gauge() == null &&
+		                    REGISTRY.find(PAUSES).tag(ID, firstId).functionCounter() == null);
+		assertThat(REGISTRY.find(USED_BYTES).tag(ID, secondId).gauge()).isNotNull();
+
+		second.disposeNow();
+		await().atMost(5, TimeUnit.SECONDS)
+		       .until(() -> REGISTRY.find(USED_BYTES).tag(ID, secondId).gauge() == null);
+	}
+
+	@Test
+	void noMetricsWhenMetricsDisabled() {
+		disposableServer =
+				createServer()
+				        .inboundMemoryBudget(64, 1024)
+				        .handle((req, res) -> res.sendString(req.receive().aggregate().asString()))
+				        .bindNow();
+
+		assertThat(post(disposableServer, "test")).isEqualTo("test");
+		assertThat(REGISTRY.find(USED_BYTES).tag(ID, disposableServer.channel().id().asShortText()).gauge()).isNull();
+	}
+
+	String post(DisposableServer server, String body) {
+		return createClient(server.port())
+		        .post()
+		        .uri("/")
+		        .send(ByteBufFlux.fromString(Mono.just(body)))
+		        .responseSingle((res, bytes) -> bytes.asString())
+		        .block(Duration.ofSeconds(5));
+	}
+}
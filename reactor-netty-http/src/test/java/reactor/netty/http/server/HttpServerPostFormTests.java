@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021-2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2021-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import io.netty.handler.codec.http.multipart.HttpData;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import io.netty.handler.ssl.util.SelfSignedCertificate;
 import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import reactor.core.publisher.Flux;
@@ -263,6 +264,56 @@ class HttpServerPostFormTests extends BaseHttpTest {
 				"[test1 DiskAttribute true] [attr1 DiskAttribute true] [test2 DiskAttribute true] ");
 	}
 
+	@ParameterizedPostFormTest
+	void testReceiveParts(HttpServer server, HttpClient client, @TempDir Path tempDir) throws Exception {
+		disposableServer =
+				server.handle((req, res) ->
+				          res.sendString(req.receiveParts()
+				                            .concatMap(part -> {
+				                                if (part.filename() == null) {
+				                                    return part.content()
+				                                               .aggregate()
+				                                               .asString()
+				                                               .map(s -> '[' + part.name() + ' ' + s + "] ");
+				                                }
+				                                Path target = tempDir.resolve(req.path() + '-' + part.name());
+				                                return part.transferTo(target)
+				                                           .then(Mono.fromCallable(() ->
+				                                                   '[' + part.name() + ' ' + part.filename() + ' ' + Files.size(target) + "] "));
+				                            }, 0)
+				                            .onErrorResume(t -> Mono.just(t.getMessage()))))
+				      .bindNow();
+
+		Path file = Paths.get(getClass().getResource("/largeFile1.txt").toURI());
+		long size = Files.size(file);
+		List<Tuple2<Integer, String>> responses =
+				Flux.range(0, 2)
+				    .flatMap(i ->
+				            client.port(disposableServer.port())
+				                  .post()
+				                  .uri("/" + i)
+				                  .sendForm((req, form) -> form.multipart(true)
+				                                               .file("test1", "largeFile1.txt", file.toFile(), null)
+				                                               .attr("attr1", "attr2")
+				                                               .file("test2", "largeFile1.txt", file.toFile(), null))
+				                  .responseSingle((r, buf) -> buf.asString().map(s -> Tuples.of(r.status().code(), s))))
+				    .collectList()
+				    .block(Duration.ofSeconds(30));
+
+		assertThat(responses).as("response").isNotNull().hasSize(2);
+		for (Tuple2<Integer, String> response : responses) {
+			assertThat(response.getT1()).as("status code").isEqualTo(200);
+			assertThat(response.getT2()).as("response body reflecting request")
+					.isEqualTo("[test1 largeFile1.txt " + size + "] [attr1 attr2] [test2 largeFile1.txt " + size + "] ");
+		}
+
+		byte[] fileBytes = Files.readAllBytes(file);
+		for (int i = 0; i < 2; i++) {
+			assertThat(Files.readAllBytes(tempDir.resolve(i + "-test1"))).isEqualTo(fileBytes);
+			assertThat(Files.readAllBytes(tempDir.resolve(i + "-test2"))).isEqualTo(fileBytes);
+		}
+	}
+
 	private void doTestPostForm(HttpServer server, HttpClient client,
 			Consumer<HttpServerFormDecoderProvider.Builder> provider, boolean configOnServer,
 			boolean multipart, boolean streaming, @Nullable String expectedResponse) throws Exception {
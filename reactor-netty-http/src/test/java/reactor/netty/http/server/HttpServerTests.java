@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2025 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2011-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -165,6 +165,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.fail;
 import static org.assertj.core.api.Assumptions.assumeThat;
+import static reactor.netty.Metrics.DATA_RECEIVED_TIME;
+import static reactor.netty.Metrics.HTTP_SERVER_PREFIX;
+import static reactor.netty.Metrics.REGISTRY;
+import static reactor.netty.Metrics.URI;
 import static reactor.netty.http.server.HttpServerFormDecoderProvider.DEFAULT_FORM_DECODER_SPEC;
 import static reactor.netty.http.server.ConnectionInfo.DEFAULT_HOST_NAME;
 import static reactor.netty.http.server.ConnectionInfo.DEFAULT_HTTP_PORT;
@@ -2321,6 +2325,27 @@ class HttpServerTests extends BaseHttpTest {
 				client -> client.protocol(clientProtocols).metrics(true, Function.identity()));
 	}
 
+	@Test
+	void routeMetersAreBoundOnlyForRoutesHandler() {
+		HttpServer server =
+				createServer()
+				        .metrics(true, Function.identity())
+				        .metricsRouteTemplateUriTag(true);
+
+		HttpServer routesServer = server.route(r -> r.get("/routes/{id}", (req, res) -> res.sendString(Mono.just("test"))));
+		assertThat(routesServer.configuration().routes).isNotNull();
+		routesServer.bindNow().disposeNow();
+		assertThat(REGISTRY.find(HTTP_SERVER_PREFIX + DATA_RECEIVED_TIME).tag(URI, "/routes/{id}").timer()).isNotNull();
+
+		// The plain handler replaces the routes, their meters must not be bound
+		HttpServer handleServer =
+				server.route(r -> r.get("/handle/{id}", (req, res) -> res.sendString(Mono.just("test"))))
+				      .handle((req, res) -> res.sendString(Mono.just("test")));
+		assertThat(handleServer.configuration().routes).isNull();
+		handleServer.bindNow().disposeNow();
+		assertThat(REGISTRY.find(HTTP_SERVER_PREFIX + DATA_RECEIVED_TIME).tag(URI, "/handle/{id}").timer()).isNull();
+	}
+
 	@SuppressWarnings("deprecation")
 	private void doTestSniSupport(Function<HttpServer, HttpServer> serverCustomizer,
 			Function<HttpClient, HttpClient> clientCustomizer) throws Exception {
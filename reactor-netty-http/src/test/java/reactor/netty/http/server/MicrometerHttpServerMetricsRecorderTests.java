@@ -15,7 +15,9 @@
  */
 package reactor.netty.http.server;
 
+import io.netty.handler.codec.http.HttpMethod;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
 import reactor.netty.transport.AddressUtils;
 
 import java.net.InetSocketAddress;
@@ -44,4 +46,34 @@ class MicrometerHttpServerMetricsRecorderTests {
 
 		assertThat(longAdder1).isNotSameAs(longAdder2);
 	}
+
+	@Test
+	void testGetRouteMeters() {
+		DefaultHttpServerRoutes.HttpRouteHandler route =
+				new DefaultHttpServerRoutes.HttpRouteHandler(req -> true, (req, res) -> Mono.empty(), null, "/users/{id}", HttpMethod.GET);
+
+		MicrometerHttpServerMetricsRecorder.RouteMeters routeMeters1 =
+				MicrometerHttpServerMetricsRecorder.INSTANCE.getRouteMeters(route, "/users/{id}", "GET");
+
+		assertThat(route.meters).isSameAs(routeMeters1);
+		assertThat(MicrometerHttpServerMetricsRecorder.INSTANCE.getRouteMeters(route, "/users/{id}", "GET")).isSameAs(routeMeters1);
+		assertThat(routeMeters1.statusMeters("200")).isSameAs(routeMeters1.statusMeters("200"));
+		assertThat(routeMeters1.statusMeters("200")).isNotSameAs(routeMeters1.statusMeters("404"));
+		assertThat(routeMeters1.statusMeters("999")).isSameAs(routeMeters1.statusMeters("999"));
+
+		MicrometerHttpServerMetricsRecorder.RouteMeters routeMeters2 =
+				MicrometerHttpServerMetricsRecorder.INSTANCE.getRouteMeters(route, "/users/{id}", "POST");
+
+		assertThat(routeMeters2).isNotSameAs(routeMeters1);
+		assertThat(route.meters).isSameAs(routeMeters2);
+		assertThat(MicrometerHttpServerMetricsRecorder.INSTANCE.getRouteMeters(route, "/users/{id}", "GET")).isSameAs(routeMeters1);
+	}
+
+	@Test
+	void testStatusCode() {
+		assertThat(MicrometerHttpServerMetricsRecorder.RouteMeters.statusCode("200")).isEqualTo(200);
+		assertThat(MicrometerHttpServerMetricsRecorder.RouteMeters.statusCode("599")).isEqualTo(599);
+		assertThat(MicrometerHttpServerMetricsRecorder.RouteMeters.statusCode("2000")).isEqualTo(-1);
+		assertThat(MicrometerHttpServerMetricsRecorder.RouteMeters.statusCode("2a0")).isEqualTo(-1);
+	}
 }
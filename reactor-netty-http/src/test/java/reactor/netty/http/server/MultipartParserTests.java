@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.multipart.HttpPostRequestDecoder.ErrorDataDecoderException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class MultipartParserTests {
+
+	static final String BODY =
+			"preamble\r\n" +
+			"--boundary\r\n" +
+			"Content-Disposition: form-data; name=\"field\"\r\n" +
+			"\r\n" +
+			"value\r\n" +
+			"--boundary  \r\n" +
+			"Content-Disposition: form-data; name=\"file\"; filename=\"a;b.txt\"\r\n" +
+			"Content-Type: text/plain\r\n" +
+			"\r\n" +
+			"line1\r\n--bound\r\nline2\r\n" +
+			"--boundary\r\n" +
+			"\r\n" +
+			"\r\n" +
+			"--boundary--\r\n" +
+			"epilogue";
+
+	@Test
+	void parseInChunksOfAnySize() {
+		byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+		for (int chunkSize = 1; chunkSize <= body.length; chunkSize++) {
+			MultipartParser parser = new MultipartParser("boundary", ByteBufAllocator.DEFAULT);
+			List<HttpHeaders> headers = new ArrayList<>();
+			List<StringBuilder> contents = new ArrayList<>();
+			for (int i = 0; i < body.length; i += chunkSize) {
+				ByteBuf chunk = Unpooled.wrappedBuffer(body, i, Math.min(chunkSize, body.length - i));
+				for (Object token : parser.parse(chunk)) {
+					if (token instanceof HttpHeaders) {
+						headers.add((HttpHeaders) token);
+						contents.add(new StringBuilder());
+					}
+					else {
+						ByteBuf buf = (ByteBuf) token;
+						contents.get(contents.size() - 1).append(buf.toString(StandardCharsets.UTF_8));
+						buf.release();
+					}
+				}
+				assertThat(chunk.release()).isTrue();
+			}
+			parser.complete();
+			parser.release();
+
+			assertThat(headers).hasSize(3);
+			assertThat(headers.get(0).get(HttpHeaderNames.CONTENT_DISPOSITION)).isEqualTo("form-data; name=\"field\"");
+			assertThat(headers.get(1).get(HttpHeaderNames.CONTENT_TYPE)).isEqualTo("text/plain");
+			assertThat(headers.get(2).isEmpty()).isTrue();
+			assertThat(contents).extracting(StringBuilder::toString)
+					.containsExactly("value", "line1\r\n--bound\r\nline2", "");
+		}
+	}
+
+	@Test
+	void incompleteBody() {
+		MultipartParser parser = new MultipartParser("boundary", ByteBufAllocator.DEFAULT);
+		ByteBuf chunk = Unpooled.copiedBuffer("--boundary\r\nContent-Disposition: form-data; name=\"a\"\r\n\r\nval",
+				StandardCharsets.UTF_8);
+		List<Object> tokens = parser.parse(chunk);
+		assertThat(tokens).hasSize(1);
+		chunk.release();
+
+		assertThatExceptionOfType(ErrorDataDecoderException.class)
+				.isThrownBy(parser::complete);
+		parser.release();
+	}
+
+	@Test
+	void parameter() {
+		String contentDisposition = "form-data; name=\"file\"; filename=\"a;\\\"b\\\".txt\"";
+		assertThat(MultipartParser.parameter(contentDisposition, "name")).isEqualTo("file");
+		assertThat(MultipartParser.parameter(contentDisposition, "filename")).isEqualTo("a;\"b\".txt");
+		assertThat(MultipartParser.parameter(contentDisposition, "size")).isNull();
+
+		assertThat(MultipartParser.boundary("multipart/form-data; charset=UTF-8; BOUNDARY=abc")).isEqualTo("abc");
+		assertThat(MultipartParser.boundary("multipart/form-data; boundary=\"a b\"")).isEqualTo("a b");
+		assertThat(MultipartParser.boundary("multipart/form-data")).isNull();
+	}
+}
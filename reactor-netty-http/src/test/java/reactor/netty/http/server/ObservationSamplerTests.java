@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.netty.channel.Channel;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaders;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.BaseHttpTest;
+import reactor.netty.Metrics;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static reactor.netty.Metrics.OBSERVATION_KEY;
+import static reactor.netty.ReactorNetty.getChannelContext;
+import static reactor.netty.ReactorNetty.setChannelContext;
+
+class ObservationSamplerTests extends BaseHttpTest {
+
+	@Test
+	void testTraceparent() {
+		assertThat(decision("traceparent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01")).isTrue();
+		assertThat(decision("traceparent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-00")).isFalse();
+		assertThat(decision("traceparent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-03")).isTrue();
+		assertThat(decision("traceparent", "invalid")).isNull();
+	}
+
+	@Test
+	void testB3Single() {
+		assertThat(decision("b3", "0")).isFalse();
+		assertThat(decision("b3", "1")).isTrue();
+		assertThat(decision("b3", "d")).isTrue();
+		assertThat(decision("b3", "80f198ee56343ba864fe8b2a57d3eff7-e457b5a2e4d86bd1-1")).isTrue();
+		assertThat(decision("b3", "80f198ee56343ba864fe8b2a57d3eff7-e457b5a2e4d86bd1-0-05e3ac9a4f6e3b90")).isFalse();
+		assertThat(decision("b3", "80f198ee56343ba864fe8b2a57d3eff7-e457b5a2e4d86bd1")).isNull();
+	}
+
+	@Test
+	void testB3Multi() {
+		assertThat(decision("X-B3-Sampled", "1")).isTrue();
+		assertThat(decision("X-B3-Sampled", "true")).isTrue();
+		assertThat(decision("X-B3-Sampled", "0")).isFalse();
+		assertThat(decision("X-B3-Flags", "1")).isTrue();
+		assertThat(decision("X-B3-TraceId", "80f198ee56343ba864fe8b2a57d3eff7")).isNull();
+	}
+
+	@Test
+	void testNoDecision() {
+		HttpHeaders headers = new DefaultHttpHeaders();
+		assertThat(ObservationSampler.decision(headers)).isNull();
+		// Default probability is 1.0
+		assertThat(ObservationSampler.sampled(headers)).isTrue();
+	}
+
+	@Test
+	void testUnsampledRequestPropagatesContext() {
+		// The sampling is enabled for the tests with reactor.netty.http.server.observationSampling
+		assertThat(ObservationSampler.ENABLED).isTrue();
+
+		List<Observation.Context> started = new CopyOnWriteArrayList<>();
+		ObservationRegistry registry = ObservationRegistry.create();
+		registry.observationConfig().observationHandler(new ObservationHandler<Observation.Context>() {
+			@Override
+			public void onStart(Observation.Context context) {
+				started.add(context);
+			}
+
+			@Override
+			public boolean supportsContext(Observation.Context context) {
+				return true;
+			}
+		});
+		ObservationRegistry previous = Metrics.observationRegistry(registry);
+		try {
+			AtomicReference<Channel> channel = new AtomicReference<>();
+			AtomicReference<ContextView> handlerContext = new AtomicReference<>();
+			disposableServer =
+					createServer()
+					        .metrics(true, Function.identity())
+					        .doOnChannelInit((observer, ch, address) -> setChannelContext(ch, Context.of("parent", "test")))
+					        .handle((req, res) -> {
+					            res.withConnection(conn -> {
+					                channel.set(conn.channel());
+					                handlerContext.set(getChannelContext(conn.channel()));
+					            });
+					            return res.sendString(Mono.just("test"));
+					        })
+					        .bindNow();
+
+			String response =
+					createClient(disposableServer.port())
+					        .headers(h -> h.set(ObservationSampler.X_B3_SAMPLED, "0"))
+					        .get()
+					        .uri("/")
+					        .responseContent()
+					        .aggregate()
+					        .asString()
+					        .block(Duration.ofSeconds(5));
+			assertThat(response).isEqualTo("test");
+
+			// The handler sees the parent context and the Observation of the request, which is not started
+			ContextView contextView = handlerContext.get();
+			assertThat(contextView).isNotNull();
+			assertThat(contextView.getOrDefault("parent", null)).isEqualTo("test");
+			assertThat(contextView.getOrDefault(OBSERVATION_KEY, null)).isInstanceOf(Observation.class);
+			assertThat(started).isEmpty();
+
+			// The parent context is restored once the response is sent
+			await().atMost(5, TimeUnit.SECONDS)
+			       .untilAsserted(() -> {
+			           ContextView restored = getChannelContext(channel.get());
+			           assertThat(restored).isNotNull();
+			           assertThat(restored.getOrDefault("parent", null)).isEqualTo("test");
+			           assertThat(restored.hasKey(OBSERVATION_KEY)).isFalse();
+			       });
+		}
+		finally {
+			Metrics.observationRegistry(previous);
+		}
+	}
+
+	static Boolean decision(String name, String value) {
+		return ObservationSampler.decision(new DefaultHttpHeaders().set(name, value));
+	}
+}
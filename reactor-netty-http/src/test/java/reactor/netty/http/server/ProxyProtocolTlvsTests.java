@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.haproxy.HAProxyCommand;
+import io.netty.handler.codec.haproxy.HAProxyMessage;
+import io.netty.handler.codec.haproxy.HAProxyProtocolVersion;
+import io.netty.handler.codec.haproxy.HAProxyProxiedProtocol;
+import io.netty.handler.codec.haproxy.HAProxySSLTLV;
+import io.netty.handler.codec.haproxy.HAProxyTLV;
+import org.junit.jupiter.api.Test;
+import reactor.netty.NettyPipeline;
+
+import java.io.ByteArrayOutputStream;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProxyProtocolTlvsTests {
+
+	static final byte[] SIGNATURE = {0x0D, 0x0A, 0x0D, 0x0A, 0x00, 0x0D, 0x0A, 0x51, 0x55, 0x49, 0x54, 0x0A};
+
+	@Test
+	void readV2() {
+		ByteArrayOutputStream tlvs = new ByteArrayOutputStream();
+		tlv(tlvs, ProxyProtocolTlvs.PP2_TYPE_AUTHORITY, "example.com".getBytes(StandardCharsets.UTF_8));
+		tlv(tlvs, ProxyProtocolTlvs.PP2_TYPE_UNIQUE_ID, "id-1".getBytes(StandardCharsets.UTF_8));
+		tlv(tlvs, ProxyProtocolTlvs.PP2_TYPE_AWS, concat(new byte[] {0x01}, "vpce-08d2bf15fac5001c9".getBytes(StandardCharsets.US_ASCII)));
+		ByteArrayOutputStream ssl = new ByteArrayOutputStream();
+		ssl.write(0x01);
+		ssl.write(new byte[4], 0, 4);
+		tlv(ssl, ProxyProtocolTlvs.PP2_SUBTYPE_SSL_VERSION, "TLSv1.3".getBytes(StandardCharsets.US_ASCII));
+		tlv(ssl, ProxyProtocolTlvs.PP2_SUBTYPE_SSL_CN, "client".getBytes(StandardCharsets.UTF_8));
+		tlv(tlvs, ProxyProtocolTlvs.PP2_TYPE_SSL, ssl.toByteArray());
+
+		EmbeddedChannel channel = new EmbeddedChannel();
+		channel.pipeline().addFirst(NettyPipeline.ProxyProtocolDecoder, new HAProxyMessageDetector());
+
+		ByteBuf header = Unpooled.buffer()
+				.writeBytes(SIGNATURE)
+				.writeByte(0x21)
+				.writeByte(0x11)
+				.writeShort(12 + tlvs.size())
+				.writeBytes(new byte[] {(byte) 192, (byte) 168, 0, 1})
+				.writeBytes(new byte[] {10, 0, 0, 1})
+				.writeShort(50000)
+				.writeShort(443)
+				.writeBytes(tlvs.toByteArray())
+				.writeBytes("GET / HTTP/1.1\r\n".getBytes(StandardCharsets.US_ASCII));
+		channel.writeInbound(header);
+
+		assertThat(channel.pipeline().get(NettyPipeline.ProxyProtocolDecoder)).isNull();
+
+		SocketAddress remoteAddress = HAProxyMessageReader.resolveRemoteAddressFromProxyProtocol(channel);
+		assertThat(remoteAddress).isInstanceOf(InetSocketAddress.class);
+		assertThat(((InetSocketAddress) remoteAddress).getHostString()).isEqualTo("192.168.0.1");
+		assertThat(((InetSocketAddress) remoteAddress).getPort()).isEqualTo(50000);
+		// Same as PROXY protocol v1, the address is not resolved
+		assertThat(((InetSocketAddress) remoteAddress).isUnresolved()).isTrue();
+
+		ProxyProtocolTlvs proxyProtocolTlvs = HAProxyMessageReader.resolveTlvsFromProxyProtocol(channel);
+		assertThat(proxyProtocolTlvs).isNotNull();
+		assertThat(proxyProtocolTlvs.authority()).isEqualTo("example.com");
+		assertThat(proxyProtocolTlvs.uniqueId()).isEqualTo("id-1");
+		assertThat(proxyProtocolTlvs.awsVpcEndpointId()).isEqualTo("vpce-08d2bf15fac5001c9");
+		assertThat(proxyProtocolTlvs.isSsl()).isTrue();
+		assertThat(proxyProtocolTlvs.sslVersion()).isEqualTo("TLSv1.3");
+		assertThat(proxyProtocolTlvs.sslCommonName()).isEqualTo("client");
+		assertThat(proxyProtocolTlvs.sslCipher()).isNull();
+		assertThat(proxyProtocolTlvs.get(ProxyProtocolTlvs.PP2_TYPE_ALPN)).isNull();
+		// The TLVs are kept for all requests on the connection
+		assertThat(HAProxyMessageReader.resolveTlvsFromProxyProtocol(channel)).isSameAs(proxyProtocolTlvs);
+
+		ByteBuf remaining = channel.readInbound();
+		assertThat(remaining.toString(StandardCharsets.US_ASCII)).isEqualTo("GET / HTTP/1.1\r\n");
+		remaining.release();
+
+		assertThat(channel.finishAndReleaseAll()).isFalse();
+	}
+
+	@Test
+	void readV2NeedsMoreData() {
+		EmbeddedChannel channel = new EmbeddedChannel();
+		channel.pipeline().addFirst(NettyPipeline.ProxyProtocolDecoder, new HAProxyMessageDetector());
+
+		channel.writeInbound(Unpooled.buffer().writeBytes(SIGNATURE).writeByte(0x21).writeByte(0x11).writeShort(12));
+		assertThat(channel.pipeline().get(NettyPipeline.ProxyProtocolDecoder)).isNotNull();
+
+		channel.writeInbound(Unpooled.buffer().writeBytes(new byte[] {127, 0, 0, 1, 127, 0, 0, 1}).writeShort(40000).writeShort(80));
+		assertThat(channel.pipeline().get(NettyPipeline.ProxyProtocolDecoder)).isNull();
+		assertThat(HAProxyMessageReader.resolveTlvsFromProxyProtocol(channel)).isNull();
+
+		SocketAddress remoteAddress = HAProxyMessageReader.resolveRemoteAddressFromProxyProtocol(channel);
+		assertThat(remoteAddress).isInstanceOf(InetSocketAddress.class);
+		assertThat(((InetSocketAddress) remoteAddress).getPort()).isEqualTo(40000);
+
+		assertThat(channel.finishAndReleaseAll()).isFalse();
+	}
+
+	@Test
+	void tlvsFromDecodedMessage() {
+		HAProxyTLV version = new HAProxyTLV(HAProxyTLV.Type.PP2_TYPE_SSL_VERSION, (byte) ProxyProtocolTlvs.PP2_SUBTYPE_SSL_VERSION,
+				Unpooled.copiedBuffer("TLSv1.3", StandardCharsets.US_ASCII));
+		ByteArrayOutputStream ssl = new ByteArrayOutputStream();
+		ssl.write(0x01);
+		ssl.write(new byte[4], 0, 4);
+		tlv(ssl, ProxyProtocolTlvs.PP2_SUBTYPE_SSL_VERSION, "TLSv1.3".getBytes(StandardCharsets.US_ASCII));
+		HAProxySSLTLV sslTlv = new HAProxySSLTLV(0, (byte) 0x01, Collections.singletonList(version),
+				Unpooled.wrappedBuffer(ssl.toByteArray()));
+		HAProxyTLV authority = new HAProxyTLV(HAProxyTLV.Type.PP2_TYPE_AUTHORITY, (byte) ProxyProtocolTlvs.PP2_TYPE_AUTHORITY,
+				Unpooled.copiedBuffer("example.com", StandardCharsets.UTF_8));
+		// HAProxyMessageDecoder lists the SSL sub-TLVs also at the top level
+		HAProxyMessage message = new HAProxyMessage(HAProxyProtocolVersion.V2, HAProxyCommand.PROXY,
+				HAProxyProxiedProtocol.TCP4, "192.168.0.1", "10.0.0.1", 50000, 443, Arrays.asList(authority, sslTlv, version));
+
+		EmbeddedChannel channel = new EmbeddedChannel(new HAProxyMessageReader());
+		channel.writeInbound(message);
+
+		SocketAddress remoteAddress = HAProxyMessageReader.resolveRemoteAddressFromProxyProtocol(channel);
+		assertThat(remoteAddress).isInstanceOf(InetSocketAddress.class);
+		assertThat(((InetSocketAddress) remoteAddress).isUnresolved()).isTrue();
+
+		ProxyProtocolTlvs proxyProtocolTlvs = HAProxyMessageReader.resolveTlvsFromProxyProtocol(channel);
+		assertThat(proxyProtocolTlvs).isNotNull();
+		assertThat(proxyProtocolTlvs.authority()).isEqualTo("example.com");
+		assertThat(proxyProtocolTlvs.isSsl()).isTrue();
+		assertThat(proxyProtocolTlvs.sslVersion()).isEqualTo("TLSv1.3");
+		assertThat(proxyProtocolTlvs.get(ProxyProtocolTlvs.PP2_SUBTYPE_SSL_VERSION)).isNull();
+
+		assertThat(channel.finishAndReleaseAll()).isFalse();
+	}
+
+	@Test
+	void malformedTlvs() {
+		ProxyProtocolTlvs proxyProtocolTlvs = new ProxyProtocolTlvs(new byte[] {0x02, 0x00, 0x10, 'a'});
+		assertThat(proxyProtocolTlvs.authority()).isNull();
+		assertThat(proxyProtocolTlvs.isSsl()).isFalse();
+	}
+
+	static void tlv(ByteArrayOutputStream out, int type, byte[] value) {
+		out.write(type);
+		out.write(value.length >> 8);
+		out.write(value.length);
+		out.write(value, 0, value.length);
+	}
+
+	static byte[] concat(byte[] first, byte[] second) {
+		byte[] result = new byte[first.length + second.length];
+		System.arraycopy(first, 0, result, 0, first.length);
+		System.arraycopy(second, 0, result, first.length, second.length);
+		return result;
+	}
+}
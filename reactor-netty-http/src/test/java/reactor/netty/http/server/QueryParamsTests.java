@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.netty.handler.codec.http.QueryStringDecoder;
+import io.netty.util.AsciiString;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import reactor.netty.http.HttpOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryParamsTests {
+
+	@Test
+	void get() {
+		QueryParams queryParams = new QueryParams("/test?a=1&b=hello+world&a=2&c&%64=%2F&e=x=y#fragment");
+
+		assertThat(queryParams.path()).isEqualTo("/test");
+		assertThat(queryParams.get("a")).isEqualTo("1");
+		assertThat(queryParams.get(AsciiString.of("b"))).isEqualTo("hello world");
+		assertThat(queryParams.get("c")).isEmpty();
+		assertThat(queryParams.get("d")).isEqualTo("/");
+		assertThat(queryParams.get("e")).isEqualTo("x=y");
+		assertThat(queryParams.get("fragment")).isNull();
+		assertThat(queryParams.get("missing")).isNull();
+		// Only the offsets are indexed
+		assertThat(queryParams.params).isNull();
+	}
+
+	@Test
+	void noQuery() {
+		QueryParams queryParams = new QueryParams("/test#a=1");
+
+		assertThat(queryParams.path()).isEqualTo("/test");
+		assertThat(queryParams.get("a")).isNull();
+		assertThat(queryParams.all()).isEmpty();
+
+		String uri = "/test";
+		assertThat(new QueryParams(uri).path()).isSameAs(uri);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"/test?a?b", "/test#a?b", "/test/a%20b?q=1#f", "/"})
+	void pathSameAsResolvePath(String uri) {
+		// fullPath() splits at the first '?' and removes the fragment, as before
+		assertThat(HttpOperations.resolvePath(new QueryParams(uri).path())).isEqualTo(HttpOperations.resolvePath(uri));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"/test?a=1&b=2&a=3",
+			"/test?a=1;b=2",
+			"/test?=1&&a&b=&==c",
+			"/test?%E2%82%AC=%E2%82%AC&+a+=b+",
+			"http://localhost:8080/test?a=1",
+			"/test?"})
+	void allSameAsQueryStringDecoder(String uri) {
+		assertThat(new QueryParams(uri).all()).isEqualTo(new QueryStringDecoder(uri).parameters());
+	}
+}
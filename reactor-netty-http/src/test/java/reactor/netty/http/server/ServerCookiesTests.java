@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.cookie.Cookie;
+import io.netty.handler.codec.http.cookie.ServerCookieDecoder;
+import io.netty.util.AsciiString;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerCookiesTests {
+
+	@Test
+	void getCookieWithoutDecodingAll() {
+		HttpHeaders headers = new DefaultHttpHeaders()
+				.add(HttpHeaderNames.COOKIE, "a=1; session=abc; b=2")
+				.add(HttpHeaderNames.COOKIE, "session=def;c=\"3\"");
+		ServerCookies cookies = ServerCookies.newServerRequestHolder(headers, ServerCookieDecoder.STRICT);
+
+		Cookie session = cookies.getCookie("session");
+		assertThat(session).isNotNull();
+		assertThat(session.value()).isEqualTo("abc");
+
+		Cookie c = cookies.getCookie(AsciiString.of("c"));
+		assertThat(c).isNotNull();
+		assertThat(c.value()).isEqualTo("3");
+		assertThat(c.wrap()).isTrue();
+
+		assertThat(cookies.getCookie("sess")).isNull();
+		assertThat(cookies.getCookie("missing")).isNull();
+
+		// Nothing is decoded and cached so far
+		assertThat(cookies.allCachedCookies).isEmpty();
+
+		assertThat(cookies.getAllCachedCookies().get("session")).hasSize(2);
+		Cookie cached = cookies.getCookie("session");
+		assertThat(cached).isNotNull();
+		assertThat(cached.value()).isEqualTo("abc");
+	}
+
+	@Test
+	void getCookieInvalidValue() {
+		HttpHeaders headers = new DefaultHttpHeaders().add(HttpHeaderNames.COOKIE, "a=1; b=in valid");
+		ServerCookies cookies = ServerCookies.newServerRequestHolder(headers, ServerCookieDecoder.STRICT);
+
+		assertThat(cookies.getCookie("b")).isNull();
+		assertThat(cookies.getCookie("a")).isNotNull();
+	}
+}
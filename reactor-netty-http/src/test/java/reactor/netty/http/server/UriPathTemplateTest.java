@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017-2021 VMware, Inc. or its affiliates, All Rights Reserved.
+ * Copyright (c) 2017-2026 VMware, Inc. or its affiliates, All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -103,4 +103,24 @@ class UriPathTemplateTest {
         assertThat(template.match("/tags/v1.0.0").entrySet()).isEmpty();
     }
 
+    @Test
+    void routePathShouldRemoveHostAndLastQuery() {
+        assertThat(UriPathTemplate.routePath("/test/1")).isEqualTo("/test/1");
+        assertThat(UriPathTemplate.routePath("http://localhost:8080/test/1?q=reactor")).isEqualTo("/test/1");
+        assertThat(UriPathTemplate.routePath("http://localhost:8080")).isEqualTo("/");
+        // The routes are matched against the part before the last '?', the fragment is not removed
+        assertThat(UriPathTemplate.routePath("/test/1?a?b")).isEqualTo("/test/1?a");
+        assertThat(UriPathTemplate.routePath("/test/1#fragment")).isEqualTo("/test/1#fragment");
+        // The route path is not decoded
+        assertThat(UriPathTemplate.routePath("/test/a%20b?q=1")).isEqualTo("/test/a%20b");
+    }
+
+    @Test
+    void routePathShouldBeMatchedAsUri() {
+        UriPathTemplate template = new UriPathTemplate("/test/{order}");
+        for (String uri : new String[] {"/test/3?q=reactor", "/test/3?a?b", "/test/3#fragment", "http://localhost/test/3"}) {
+            assertThat(template.matchesRoutePath(UriPathTemplate.routePath(uri))).isEqualTo(template.matches(uri));
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.BaseHttpTest;
+import reactor.netty.ByteBufFlux;
+import reactor.test.StepVerifier;
+import reactor.util.function.Tuple2;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
+
+class VirtualThreadHandlerTests extends BaseHttpTest {
+
+	@Test
+	@EnabledForJreRange(min = JRE.JAVA_21)
+	void echoOnVirtualThread() {
+		disposableServer =
+				createServer()
+				        .route(r -> r.routeBlocking(HttpPredicate.post("/echo"), exchange -> {
+				            byte[] buf = new byte[1024];
+				            try (InputStream in = exchange.requestBody()) {
+				                exchange.response().header("thread", Thread.currentThread().toString());
+				                OutputStream out = exchange.responseBody();
+				                int read;
+				                while ((read = in.read(buf)) != -1) {
+				                    out.write(buf, 0, read);
+				                }
+				            }
+				        }))
+				        .bindNow();
+
+		String content = String.join("", Collections.nCopies(10_000, "virtual "));
+		createClient(disposableServer.port())
+		        .post()
+		        .uri("/echo")
+		        .send(ByteBufFlux.fromString(Flux.just(content.substring(0, 40_000), content.substring(40_000))))
+		        .responseSingle((res, bytes) -> bytes.asString().zipWith(Mono.just(res.responseHeaders().get("thread"))))
+		        .as(StepVerifier::create)
+		        .assertNext(tuple -> {
+		            assertThat(tuple.getT1()).isEqualTo(content);
+		            assertThat(tuple.getT2()).contains("VirtualThread");
+		        })
+		        .expectComplete()
+		        .verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	@EnabledForJreRange(min = JRE.JAVA_21)
+	void handlerErrorOnVirtualThread() {
+		disposableServer =
+				createServer()
+				        .handleBlocking(exchange -> {
+				            throw new IllegalStateException("blocking handler error");
+				        })
+				        .bindNow();
+
+		createClient(disposableServer.port())
+		        .get()
+		        .uri("/")
+		        .responseSingle((res, bytes) -> Mono.just(res.status()))
+		        .as(StepVerifier::create)
+		        .expectNext(HttpResponseStatus.INTERNAL_SERVER_ERROR)
+		        .expectComplete()
+		        .verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	@EnabledForJreRange(min = JRE.JAVA_21)
+	void emptyResponseOnVirtualThread() {
+		disposableServer =
+				createServer()
+				        .handleBlocking(exchange -> exchange.response().status(HttpResponseStatus.ACCEPTED))
+				        .bindNow();
+
+		createClient(disposableServer.port())
+		        .get()
+		        .uri("/")
+		        .responseSingle((res, bytes) -> bytes.asString().defaultIfEmpty("").zipWith(Mono.just(res.status())))
+		        .map(Tuple2::getT2)
+		        .as(StepVerifier::create)
+		        .expectNext(HttpResponseStatus.ACCEPTED)
+		        .expectComplete()
+		        .verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void slowConsumerBlocksWriter() throws Exception {
+		BlockingOutputStream out = new BlockingOutputStream(ByteBufAllocator.DEFAULT);
+		List<ByteBuf> received = new CopyOnWriteArrayList<>();
+		BaseSubscriber<ByteBuf> consumer = new BaseSubscriber<ByteBuf>() {
+			@Override
+			protected void hookOnSubscribe(Subscription subscription) {
+				// No demand until requested by the test
+			}
+
+			@Override
+			protected void hookOnNext(ByteBuf value) {
+				received.add(value);
+			}
+		};
+		out.content().subscribe(consumer);
+
+		AtomicInteger written = new AtomicInteger();
+		CountDownLatch done = new CountDownLatch(1);
+		Thread writer = new Thread(() -> {
+			byte[] chunk = new byte[BlockingOutputStream.CHUNK_SIZE];
+			try (OutputStream os = out) {
+				for (int i = 0; i < 8; i++) {
+					os.write(chunk);
+					written.incrementAndGet();
+				}
+			}
+			catch (IOException e) {
+				// ignore
+			}
+			done.countDown();
+		});
+		writer.start();
+
+		try {
+			// The first chunk is buffered, the writer blocks on the second one until there is demand
+			await().pollDelay(Duration.ofMillis(200)).atMost(Duration.ofSeconds(5)).until(() -> written.get() == 1);
+			assertThat(received).isEmpty();
+
+			consumer.request(1);
+			await().atMost(Duration.ofSeconds(5)).until(() -> written.get() == 2);
+			assertThat(received).hasSize(1);
+			assertThat(done.getCount()).isEqualTo(1);
+
+			consumer.request(Long.MAX_VALUE);
+			assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(written.get()).isEqualTo(8);
+			assertThat(received).hasSize(8);
+		}
+		finally {
+			consumer.dispose();
+			writer.join(5000);
+			received.forEach(ByteBuf::release);
+		}
+	}
+
+	@Test
+	void closeReleasesReceivedBuffers() throws Exception {
+		Sinks.Many<ByteBuf> content = Sinks.many().unicast().onBackpressureBuffer();
+		BlockingInputStream in = new BlockingInputStream(ByteBufFlux.fromInbound(content.asFlux()));
+
+		ByteBuf first = Unpooled.copiedBuffer("first", StandardCharsets.UTF_8);
+		ByteBuf second = Unpooled.copiedBuffer("second", StandardCharsets.UTF_8);
+		content.tryEmitNext(first);
+		assertThat(in.read()).isEqualTo('f');
+
+		// The next buffer is requested and received, but the stream is closed before reading it
+		in.subscriber.request(1);
+		content.tryEmitNext(second);
+		assertThat(second.refCnt()).isEqualTo(2);
+		in.close();
+
+		assertThat(first.refCnt()).isEqualTo(1);
+		assertThat(second.refCnt()).isEqualTo(1);
+		first.release();
+		second.release();
+	}
+
+	@Test
+	@DisabledForJreRange(min = JRE.JAVA_21)
+	void virtualThreadsNotAvailable() {
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> createServer().handleBlocking(exchange -> {}))
+				.withMessage("Virtual threads require Java 21 or newer");
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocket13FrameDecoder;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.BaseHttpTest;
+import reactor.netty.http.client.HttpClient;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Inflater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class WebsocketBroadcastGroupTests extends BaseHttpTest {
+
+	@ParameterizedTest
+	@ValueSource(ints = {0, 125, 126, 65535, 65536})
+	void encode(int length) {
+		byte[] bytes = new byte[length];
+		Arrays.fill(bytes, (byte) 'a');
+		ByteBuf frame = WebsocketBroadcastGroup.encode(ByteBufAllocator.DEFAULT, WebsocketBroadcastGroup.OPCODE_TEXT,
+				false, Unpooled.wrappedBuffer(bytes));
+
+		// The server frame is decoded by a frame decoder that does not expect masking
+		EmbeddedChannel channel = new EmbeddedChannel(new WebSocket13FrameDecoder(false, false, 128 * 1024));
+		channel.writeInbound(frame);
+		WebSocketFrame decoded = channel.readInbound();
+		assertThat(decoded).isInstanceOf(TextWebSocketFrame.class);
+		assertThat(decoded.isFinalFragment()).isTrue();
+		assertThat(ByteBufUtil.getBytes(decoded.content())).isEqualTo(bytes);
+		decoded.release();
+		assertThat(channel.finishAndReleaseAll()).isFalse();
+	}
+
+	@Test
+	void encodeDeflated() throws Exception {
+		String text = String.join("", Collections.nCopies(100, "hello broadcast "));
+		ByteBuf frame = WebsocketBroadcastGroup.create(true).encodeDeflated(WebsocketBroadcastGroup.OPCODE_TEXT,
+				Unpooled.copiedBuffer(text, StandardCharsets.UTF_8));
+		try {
+			// FIN, RSV1 and text opcode
+			assertThat(frame.getUnsignedByte(0)).isEqualTo((short) 0xC1);
+			int length = frame.getUnsignedByte(1);
+			int headerLength = 2;
+			if (length == 126) {
+				length = frame.getUnsignedShort(2);
+				headerLength = 4;
+			}
+			assertThat(frame.readableBytes()).isEqualTo(headerLength + length);
+
+			byte[] compressed = new byte[length + 4];
+			frame.getBytes(headerLength, compressed, 0, length);
+			compressed[length + 2] = (byte) 0xff;
+			compressed[length + 3] = (byte) 0xff;
+			Inflater inflater = new Inflater(true);
+			inflater.setInput(compressed);
+			byte[] out = new byte[text.length() * 2];
+			int inflated = inflater.inflate(out);
+			inflater.end();
+			assertThat(new String(out, 0, inflated, StandardCharsets.UTF_8)).isEqualTo(text);
+		}
+		finally {
+			frame.release();
+		}
+	}
+
+	@Test
+	void isServerNoContextTakeover() {
+		// The extensions are taken from the handshake response, i.e. as negotiated by the server
+		assertThat(WebsocketBroadcastGroup.isServerNoContextTakeover(
+				"permessage-deflate; server_no_context_takeover; client_max_window_bits=15")).isTrue();
+		assertThat(WebsocketBroadcastGroup.isServerNoContextTakeover("permessage-deflate; client_max_window_bits=15")).isFalse();
+		assertThat(WebsocketBroadcastGroup.isServerNoContextTakeover(
+				"permessage-deflate; server_no_context_takeover; server_max_window_bits=10")).isFalse();
+		assertThat(WebsocketBroadcastGroup.isServerNoContextTakeover(
+				"permessage-deflate; server_no_context_takeover; server_max_window_bits=15")).isTrue();
+		assertThat(WebsocketBroadcastGroup.isServerNoContextTakeover("deflate-frame")).isFalse();
+		assertThat(WebsocketBroadcastGroup.isServerNoContextTakeover(null)).isFalse();
+	}
+
+	@Test
+	void broadcastWhileMemberCloses() throws Exception {
+		WebsocketBroadcastGroup group = WebsocketBroadcastGroup.create();
+		disposableServer =
+				createServer()
+				        .route(routes -> routes.ws("/ws", (in, out) -> {
+				            group.add(out);
+				            return in.receive().then();
+				        }))
+				        .bindNow();
+
+		int messages = 10;
+		HttpClient client = createClient(disposableServer.port());
+		CountDownLatch closed = new CountDownLatch(1);
+		List<Mono<List<String>>> receivers = new ArrayList<>();
+		for (int i = 0; i < 2; i++) {
+			Sinks.One<List<String>> received = Sinks.one();
+			client.websocket()
+			      .uri("/ws")
+			      .handle((in, out) -> in.receive()
+			                             .asString()
+			                             .take(messages)
+			                             .collectList()
+			                             .doOnNext(received::tryEmitValue)
+			                             // Stay in the group until the end of the test
+			                             .then(Mono.<Void>never()))
+			      .subscribe();
+			receivers.add(received.asMono());
+		}
+		// This client closes the connection after the first message, while the broadcast continues
+		client.websocket()
+		      .uri("/ws")
+		      .handle((in, out) -> in.receive()
+		                             .take(1)
+		                             .then(out.sendClose())
+		                             .doFinally(sig -> closed.countDown()))
+		      .subscribe();
+
+		await().atMost(Duration.ofSeconds(5)).until(() -> group.size() == 3);
+
+		assertThat(group.broadcastText("0")).isEqualTo(3);
+		assertThat(closed.await(5, TimeUnit.SECONDS)).isTrue();
+		for (int i = 1; i < messages; i++) {
+			assertThat(group.broadcastText(String.valueOf(i))).isBetween(2, 3);
+		}
+
+		List<String> expected = new ArrayList<>();
+		for (int i = 0; i < messages; i++) {
+			expected.add(String.valueOf(i));
+		}
+		for (Mono<List<String>> receiver : receivers) {
+			assertThat(receiver.block(Duration.ofSeconds(5))).isEqualTo(expected);
+		}
+
+		// The closed member is removed, the messages are not written after the close frame
+		await().atMost(Duration.ofSeconds(5)).until(() -> group.size() == 2);
+		assertThat(group.broadcastText(String.valueOf(messages))).isEqualTo(2);
+	}
+}
@@ -20,9 +20,14 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
+import io.micrometer.core.instrument.Metrics;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.ssl.JdkSslContext;
 import io.netty.handler.ssl.OpenSsl;
 import io.netty.handler.ssl.OpenSslClientContext;
@@ -33,6 +38,7 @@ import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import io.netty.handler.ssl.util.SelfSignedCertificate;
+import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GlobalEventExecutor;
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.BeforeAll;
@@ -44,6 +50,7 @@ import reactor.netty.http.Http11SslContextSpec;
 import reactor.netty.http.Http2SslContextSpec;
 import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
 import reactor.test.StepVerifier;
 
 import javax.net.ssl.SNIHostName;
@@ -370,6 +377,154 @@ class SslProviderTests extends BaseHttpTest {
 						.setSniAsyncMappings(null));
 	}
 
+	@Test
+	void testSniMappingsLoader() throws Exception {
+		AtomicInteger loads = new AtomicInteger();
+		SslContext defaultSslContext = serverSslContextBuilder.sslContext();
+		SslProvider localhostProvider = SslProvider.builder().sslContext(localhostSslContext).build();
+		SslProvider anotherProvider = SslProvider.builder().sslContext(anotherSslContext).build();
+		SslProvider.Builder builder =
+				SslProvider.builder()
+				           .sslContext(defaultSslContext)
+				           .setSniMappingsLoader(
+				                   domainName -> {
+				                       loads.incrementAndGet();
+				                       if ("localhost".equals(domainName)) {
+				                           return Mono.just(localhostProvider);
+				                       }
+				                       else if ("another".equals(domainName)) {
+				                           return Mono.just(anotherProvider);
+				                       }
+				                       return Mono.empty();
+				                   },
+				                   spec -> spec.maxSize(1));
+
+		SniProvider provider = builder.build().sniProvider;
+		assertThat(provider).isNotNull();
+		assertThat(provider.mappings.map("localhost", GlobalEventExecutor.INSTANCE.newPromise()).get().sslContext)
+				.isSameAs(localhostSslContext);
+		assertThat(provider.mappings.map("localhost", GlobalEventExecutor.INSTANCE.newPromise()).get().sslContext)
+				.isSameAs(localhostSslContext);
+		assertThat(loads.get()).isEqualTo(1);
+
+		// The cache is bounded to a single entry, "localhost" is evicted
+		assertThat(provider.mappings.map("another", GlobalEventExecutor.INSTANCE.newPromise()).get().sslContext)
+				.isSameAs(anotherSslContext);
+		assertThat(provider.mappings.map("localhost", GlobalEventExecutor.INSTANCE.newPromise()).get().sslContext)
+				.isSameAs(localhostSslContext);
+		assertThat(loads.get()).isEqualTo(3);
+
+		// Unknown domain names and no SNI fall back to the default SslProvider
+		assertThat(provider.mappings.map("unknown", GlobalEventExecutor.INSTANCE.newPromise()).get().sslContext)
+				.isSameAs(defaultSslContext);
+		assertThat(provider.mappings.map(null, GlobalEventExecutor.INSTANCE.newPromise()).get().sslContext)
+				.isSameAs(defaultSslContext);
+	}
+
+	@Test
+	void testSniMappingsLoaderRefresh() throws Exception {
+		AtomicInteger loads = new AtomicInteger();
+		SslProvider localhostProvider = SslProvider.builder().sslContext(localhostSslContext).build();
+		SslProvider anotherProvider = SslProvider.builder().sslContext(anotherSslContext).build();
+		SslProvider.Builder builder =
+				SslProvider.builder()
+				           .sslContext(serverSslContextBuilder.sslContext())
+				           .setSniMappingsLoader(
+				                   domainName -> Mono.just(loads.incrementAndGet() == 1 ? localhostProvider : anotherProvider),
+				                   spec -> spec.refreshAfter(Duration.ofMillis(1)));
+
+		SniProvider provider = builder.build().sniProvider;
+		assertThat(provider).isNotNull();
+		assertThat(provider.mappings.map("localhost", GlobalEventExecutor.INSTANCE.newPromise()).get().sslContext)
+				.isSameAs(localhostSslContext);
+
+		Thread.sleep(10);
+
+		// The stale entry is served while it is refreshed
+		assertThat(provider.mappings.map("localhost", GlobalEventExecutor.INSTANCE.newPromise()).get().sslContext)
+				.isSameAs(localhostSslContext);
+		assertThat(provider.mappings.map("localhost", GlobalEventExecutor.INSTANCE.newPromise()).get().sslContext)
+				.isSameAs(anotherSslContext);
+	}
+
+	@Test
+	void testSniMappingsLoaderTimeout() throws Exception {
+		AtomicInteger loads = new AtomicInteger();
+		SslProvider localhostProvider = SslProvider.builder().sslContext(localhostSslContext).build();
+		SslProvider.Builder builder =
+				SslProvider.builder()
+				           .sslContext(serverSslContextBuilder.sslContext())
+				           .setSniMappingsLoader(
+				                   domainName -> loads.incrementAndGet() == 1 ? Mono.never() : Mono.just(localhostProvider),
+				                   spec -> spec.loadTimeout(Duration.ofMillis(100)));
+
+		SniProvider provider = builder.build().sniProvider;
+		assertThat(provider).isNotNull();
+		SniProvider.CachingAsyncMapping mappings = (SniProvider.CachingAsyncMapping) provider.mappings;
+
+		// The hanging load fails and is not kept in progress
+		Future<SslProvider> future = mappings.map("localhost", GlobalEventExecutor.INSTANCE.newPromise()).await();
+		assertThat(future.cause()).isInstanceOf(TimeoutException.class);
+		assertThat(mappings.inProgress).isEmpty();
+
+		// The next handshake for the same domain name starts a new load
+		assertThat(mappings.map("localhost", GlobalEventExecutor.INSTANCE.newPromise()).get().sslContext)
+				.isSameAs(localhostSslContext);
+		assertThat(loads.get()).isEqualTo(2);
+	}
+
+	@Test
+	void testSniMappingsLoaderMetricsRemovedWhenServerDisposed() throws Exception {
+		SslProvider provider =
+				SslProvider.builder()
+				           .sslContext(serverSslContextBuilder.sslContext())
+				           .setSniMappingsLoader(domainName -> Mono.empty(), spec -> spec.metrics(true))
+				           .build();
+		SniProvider sniProvider = provider.sniProvider;
+		assertThat(sniProvider).isNotNull();
+		String id = ((SniProvider.CachingAsyncMapping) sniProvider.mappings).id;
+
+		// Stands for the server channels, the connections have no parent and are tracked themselves
+		EmbeddedChannel server1 = new EmbeddedChannel();
+		EmbeddedChannel server2 = new EmbeddedChannel();
+		provider.addSslHandler(server1, null, false);
+		provider.addSslHandler(server2, null, false);
+
+		assertThat(Metrics.globalRegistry.find("reactor.netty.tcp.server.sni.cache.size").tag("id", id).gauge()).isNotNull();
+
+		server1.finishAndReleaseAll();
+		assertThat(Metrics.globalRegistry.find("reactor.netty.tcp.server.sni.cache.size").tag("id", id).gauge()).isNotNull();
+
+		server2.finishAndReleaseAll();
+		assertThat(Metrics.globalRegistry.find("reactor.netty.tcp.server.sni.cache.size").tag("id", id).gauge()).isNull();
+		assertThat(Metrics.globalRegistry.find("reactor.netty.tcp.server.sni.cache.hits").tag("id", id).counter()).isNull();
+	}
+
+	@Test
+	@SuppressWarnings({"deprecation", "NullAway"})
+	void testSniMappingsLoaderBadValues() {
+		// Deliberately suppress "NullAway" for testing purposes
+		assertThatExceptionOfType(NullPointerException.class)
+				.isThrownBy(() -> SslProvider.builder()
+						.sslContext(serverSslContextBuilder)
+						.setSniMappingsLoader(null, spec -> {}));
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> SslProvider.builder()
+						.sslContext(serverSslContextBuilder)
+						.setSniMappingsLoader(domainName -> Mono.empty(), spec -> spec.maxSize(0)));
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> SslProvider.builder()
+						.sslContext(serverSslContextBuilder)
+						.setSniMappingsLoader(domainName -> Mono.empty(), spec -> spec.refreshAfter(Duration.ZERO)));
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> SslProvider.builder()
+						.sslContext(serverSslContextBuilder)
+						.setSniMappingsLoader(domainName -> Mono.empty(), spec -> spec.loadTimeout(Duration.ZERO)));
+	}
+
 	@Test
 	void testServerNames() throws Exception {
 		SslContext defaultSslContext = clientSslContextBuilder.sslContext();
@@ -455,4 +610,95 @@ class SslProviderTests extends BaseHttpTest {
 		assertThat(sessionContext.getSessionCacheSize()).isEqualTo(20480);
 	}
 
+	@Test
+	@SuppressWarnings("deprecation")
+	void testSessionCacheConfiguration() {
+		SslProvider provider =
+				SslProvider.builder()
+				           .sslContext(clientSslContextBuilder)
+				           .sessionCacheSize(128)
+				           .sessionTimeout(Duration.ofMinutes(10))
+				           .build();
+
+		assertThat(provider.getSslContext().sessionContext().getSessionCacheSize()).isEqualTo(128);
+		assertThat(provider.getSslContext().sessionContext().getSessionTimeout()).isEqualTo(600);
+	}
+
+	@Test
+	void testSessionCacheConfigurationProvidedSslContextNotModified() throws Exception {
+		SslContext sslContext = clientSslContextBuilder.sslContext();
+		int sessionCacheSize = sslContext.sessionContext().getSessionCacheSize();
+		int sessionTimeout = sslContext.sessionContext().getSessionTimeout();
+
+		SslProvider provider =
+				SslProvider.builder()
+				           .sslContext(sslContext)
+				           .sessionCacheSize(sessionCacheSize + 1)
+				           .sessionTimeout(Duration.ofSeconds(sessionTimeout + 1L))
+				           .build();
+
+		assertThat(provider.getSslContext()).isSameAs(sslContext);
+		assertThat(sslContext.sessionContext().getSessionCacheSize()).isEqualTo(sessionCacheSize);
+		assertThat(sslContext.sessionContext().getSessionTimeout()).isEqualTo(sessionTimeout);
+	}
+
+	@Test
+	@SuppressWarnings({"deprecation", "NullAway"})
+	void testSessionCacheConfigurationBadValues() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> SslProvider.builder()
+						.sslContext(serverSslContextBuilder)
+						.sessionCacheSize(-1));
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> SslProvider.builder()
+						.sslContext(serverSslContextBuilder)
+						.sessionTimeout(Duration.ofSeconds(-1)));
+
+		// Deliberately suppress "NullAway" for testing purposes
+		assertThatExceptionOfType(NullPointerException.class)
+				.isThrownBy(() -> SslProvider.builder()
+						.sslContext(serverSslContextBuilder)
+						.sessionTimeout(null));
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	void testSessionResumptionSharedCache() {
+		disposableServer =
+				server.secure(spec -> spec.sslContext(serverSslContextBuilder).sessionTickets(true))
+				      .handle((req, res) -> res.sendString(Mono.just("testSessionResumptionSharedCache")))
+				      .bindNow();
+
+		SslProvider clientSslProvider =
+				SslProvider.builder()
+				           .sslContext(clientSslContextBuilder)
+				           .sessionCacheSize(16)
+				           .build();
+
+		List<String> sessionIds = new ArrayList<>();
+		for (int i = 0; i < 2; i++) {
+			// A new connection pool per request, the session cache is shared via the SslProvider
+			createClient(ConnectionProvider.newConnection(), disposableServer.port())
+			        .secure(clientSslProvider)
+			        .doOnConnected(conn -> {
+			            SslHandler sslHandler = conn.channel().pipeline().get(SslHandler.class);
+			            // A resumed handshake negotiates the session of the previous handshake, a full handshake a new one
+			            sessionIds.add(ByteBufUtil.hexDump(sslHandler.engine().getSession().getId()));
+			        })
+			        .get()
+			        .uri("/")
+			        .responseContent()
+			        .aggregate()
+			        .asString()
+			        .as(StepVerifier::create)
+			        .expectNext("testSessionResumptionSharedCache")
+			        .expectComplete()
+			        .verify(Duration.ofSeconds(5));
+		}
+
+		assertThat(sessionIds).hasSize(2);
+		assertThat(sessionIds.get(0)).isNotEmpty();
+		assertThat(sessionIds.get(1)).isEqualTo(sessionIds.get(0));
+	}
 }
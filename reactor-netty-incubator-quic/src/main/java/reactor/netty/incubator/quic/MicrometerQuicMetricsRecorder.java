@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.incubator.quic;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import org.jspecify.annotations.Nullable;
+import reactor.netty.channel.MeterKey;
+import reactor.netty.channel.MicrometerChannelMetricsRecorder;
+import reactor.netty.internal.util.MapUtils;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static reactor.netty.Metrics.REGISTRY;
+import static reactor.netty.Metrics.REMOTE_ADDRESS;
+import static reactor.netty.Metrics.STATUS;
+import static reactor.netty.Metrics.formatSocketAddress;
+
+/**
+ * A {@link QuicMetricsRecorder} implementation for integration with Micrometer.
+ *
+ * @author Violeta Georgieva
+ * @since 0.3.0
+ */
+class MicrometerQuicMetricsRecorder extends MicrometerChannelMetricsRecorder implements QuicMetricsRecorder {
+
+	final ConcurrentMap<MeterKey, DistributionSummary> activeStreamsCache = new ConcurrentHashMap<>();
+
+	final ConcurrentMap<MeterKey, DistributionSummary> congestionWindowCache = new ConcurrentHashMap<>();
+
+	final ConcurrentMap<MeterKey, Timer> handshakeTimeCache = new ConcurrentHashMap<>();
+
+	final ConcurrentMap<MeterKey, Counter> lostPacketsCache = new ConcurrentHashMap<>();
+
+	final ConcurrentMap<MeterKey, Counter> retransmittedPacketsCache = new ConcurrentHashMap<>();
+
+	final ConcurrentMap<MeterKey, Timer> rttCache = new ConcurrentHashMap<>();
+
+	final ConcurrentMap<MeterKey, DistributionSummary> streamDataReceivedCache = new ConcurrentHashMap<>();
+
+	final ConcurrentMap<MeterKey, DistributionSummary> streamDataSentCache = new ConcurrentHashMap<>();
+
+	MicrometerQuicMetricsRecorder(String name, String protocol) {
+		super(name, protocol);
+	}
+
+	@Override
+	public void incrementLostPackets(SocketAddress remoteAddress, long count) {
+		String address = formatSocketAddress(remoteAddress);
+		Counter counter = MapUtils.computeIfAbsent(lostPacketsCache, new MeterKey(null, address, null, null, null),
+				key -> filter(Counter.builder(String.format(QuicMeters.PACKETS_LOST.getName(), name()))
+				                     .tags(REMOTE_ADDRESS, address)
+				                     .register(REGISTRY)));
+		if (counter != null) {
+			counter.increment(count);
+		}
+	}
+
+	@Override
+	public void incrementRetransmittedPackets(SocketAddress remoteAddress, long count) {
+		String address = formatSocketAddress(remoteAddress);
+		Counter counter = MapUtils.computeIfAbsent(retransmittedPacketsCache, new MeterKey(null, address, null, null, null),
+				key -> filter(Counter.builder(String.format(QuicMeters.PACKETS_RETRANSMITTED.getName(), name()))
+				                     .tags(REMOTE_ADDRESS, address)
+				                     .register(REGISTRY)));
+		if (counter != null) {
+			counter.increment(count);
+		}
+	}
+
+	@Override
+	public void recordActiveStreams(SocketAddress remoteAddress, int activeStreams) {
+		DistributionSummary ds = getDistributionSummary(activeStreamsCache, QuicMeters.STREAMS_ACTIVE, remoteAddress);
+		if (ds != null) {
+			ds.record(activeStreams);
+		}
+	}
+
+	@Override
+	public void recordCongestionWindow(SocketAddress remoteAddress, long bytes) {
+		DistributionSummary ds = getDistributionSummary(congestionWindowCache, QuicMeters.CONGESTION_WINDOW, remoteAddress);
+		if (ds != null) {
+			ds.record(bytes);
+		}
+	}
+
+	@Override
+	public void recordHandshakeTime(SocketAddress remoteAddress, Duration time, String status) {
+		String address = formatSocketAddress(remoteAddress);
+		MeterKey meterKey = new MeterKey(null, address, null, null, status);
+		Timer timer = MapUtils.computeIfAbsent(handshakeTimeCache, meterKey,
+				key -> filter(Timer.builder(String.format(QuicMeters.HANDSHAKE_TIME.getName(), name()))
+				                   .tags(REMOTE_ADDRESS, address, STATUS, status)
+				                   .register(REGISTRY)));
+		if (timer != null) {
+			timer.record(time);
+		}
+	}
+
+	@Override
+	public void recordRoundTripTime(SocketAddress remoteAddress, Duration rtt) {
+		String address = formatSocketAddress(remoteAddress);
+		Timer timer = MapUtils.computeIfAbsent(rttCache, new MeterKey(null, address, null, null, null),
+				key -> filter(Timer.builder(String.format(QuicMeters.ROUND_TRIP_TIME.getName(), name()))
+				                   .tags(REMOTE_ADDRESS, address)
+				                   .register(REGISTRY)));
+		if (timer != null) {
+			timer.record(rtt);
+		}
+	}
+
+	@Override
+	public void recordStreamDataReceived(SocketAddress remoteAddress, long bytes) {
+		DistributionSummary ds = getDistributionSummary(streamDataReceivedCache, QuicMeters.STREAM_DATA_RECEIVED, remoteAddress);
+		if (ds != null) {
+			ds.record(bytes);
+		}
+	}
+
+	@Override
+	public void recordStreamDataSent(SocketAddress remoteAddress, long bytes) {
+		DistributionSummary ds = getDistributionSummary(streamDataSentCache, QuicMeters.STREAM_DATA_SENT, remoteAddress);
+		if (ds != null) {
+			ds.record(bytes);
+		}
+	}
+
+	@Nullable DistributionSummary getDistributionSummary(ConcurrentMap<MeterKey, DistributionSummary> cache,
+			QuicMeters meter, SocketAddress remoteAddress) {
+		String address = formatSocketAddress(remoteAddress);
+		return MapUtils.computeIfAbsent(cache, new MeterKey(null, address, null, null, null), key -> {
+			DistributionSummary.Builder builder =
+					DistributionSummary.builder(String.format(meter.getName(), name()))
+					                   .tags(REMOTE_ADDRESS, address);
+			if (meter.getBaseUnit() != null) {
+				builder.baseUnit(meter.getBaseUnit());
+			}
+			return filter(builder.register(REGISTRY));
+		});
+	}
+}
@@ -30,7 +30,6 @@ import org.jspecify.annotations.Nullable;
 import reactor.netty.Connection;
 import reactor.netty.ConnectionObserver;
 import reactor.netty.channel.ChannelMetricsRecorder;
-import reactor.netty.channel.MicrometerChannelMetricsRecorder;
 import reactor.netty.transport.logging.AdvancedByteBufFormat;
 
 import java.net.SocketAddress;
@@ -130,7 +129,6 @@ public final class QuicClientConfig extends QuicTransportConfig<QuicClientConfig
 
 	@Override
 	protected ChannelMetricsRecorder defaultMetricsRecorder() {
-		// TODO where we want metrics on QUIC channel or on QUIC stream
 		return MicrometerQuicClientMetricsRecorder.INSTANCE;
 	}
 
@@ -143,7 +141,7 @@ public final class QuicClientConfig extends QuicTransportConfig<QuicClientConfig
 			AdvancedByteBufFormat.HEX_DUMP
 					.toLoggingHandler(QuicClient.class.getName(), LogLevel.DEBUG, Charset.defaultCharset());
 
-	static final class MicrometerQuicClientMetricsRecorder extends MicrometerChannelMetricsRecorder {
+	static final class MicrometerQuicClientMetricsRecorder extends MicrometerQuicMetricsRecorder {
 
 		static final MicrometerQuicClientMetricsRecorder INSTANCE = new MicrometerQuicClientMetricsRecorder();
 
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.incubator.quic;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.docs.MeterDocumentation;
+
+/**
+ * QUIC connection and stream meters.
+ *
+ * @author Violeta Georgieva
+ * @since 0.3.0
+ */
+enum QuicMeters implements MeterDocumentation {
+
+	/**
+	 * The size of the congestion window, in bytes.
+	 */
+	CONGESTION_WINDOW {
+		@Override
+		public String getBaseUnit() {
+			return "bytes";
+		}
+
+		@Override
+		public String getName() {
+			return "%s.congestion.window";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return QuicMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.DISTRIBUTION_SUMMARY;
+		}
+	},
+
+	/**
+	 * Time spent for QUIC handshake.
+	 */
+	HANDSHAKE_TIME {
+		@Override
+		public String getName() {
+			return "%s.handshake.time";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return HandshakeTimeMeterTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.TIMER;
+		}
+	},
+
+	/**
+	 * Number of the lost packets.
+	 */
+	PACKETS_LOST {
+		@Override
+		public String getName() {
+			return "%s.packets.lost";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return QuicMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.COUNTER;
+		}
+	},
+
+	/**
+	 * Number of the retransmitted packets.
+	 */
+	PACKETS_RETRANSMITTED {
+		@Override
+		public String getName() {
+			return "%s.packets.retransmitted";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return QuicMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.COUNTER;
+		}
+	},
+
+	/**
+	 * The estimated round-trip time of the connection.
+	 */
+	ROUND_TRIP_TIME {
+		@Override
+		public String getName() {
+			return "%s.rtt";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return QuicMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.TIMER;
+		}
+	},
+
+	/**
+	 * The number of the active streams on a connection, recorded when a new stream is opened.
+	 */
+	STREAMS_ACTIVE {
+		@Override
+		public String getName() {
+			return "%s.streams.active";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return QuicMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.DISTRIBUTION_SUMMARY;
+		}
+	},
+
+	/**
+	 * Amount of the data received on a stream, in bytes.
+	 */
+	STREAM_DATA_RECEIVED {
+		@Override
+		public String getBaseUnit() {
+			return "bytes";
+		}
+
+		@Override
+		public String getName() {
+			return "%s.stream.data.received";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return QuicMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.DISTRIBUTION_SUMMARY;
+		}
+	},
+
+	/**
+	 * Amount of the data sent on a stream, in bytes.
+	 */
+	STREAM_DATA_SENT {
+		@Override
+		public String getBaseUnit() {
+			return "bytes";
+		}
+
+		@Override
+		public String getName() {
+			return "%s.stream.data.sent";
+		}
+
+		@Override
+		public KeyName[] getKeyNames() {
+			return QuicMetersTags.values();
+		}
+
+		@Override
+		public Meter.Type getType() {
+			return Meter.Type.DISTRIBUTION_SUMMARY;
+		}
+	};
+
+	enum HandshakeTimeMeterTags implements KeyName {
+
+		/**
+		 * Remote address.
+		 */
+		REMOTE_ADDRESS {
+			@Override
+			public String asString() {
+				return "remote.address";
+			}
+		},
+
+		/**
+		 * STATUS.
+		 */
+		STATUS {
+			@Override
+			public String asString() {
+				return "status";
+			}
+		}
+	}
+
+	enum QuicMetersTags implements KeyName {
+
+		/**
+		 * Remote address.
+		 */
+		REMOTE_ADDRESS {
+			@Override
+			public String asString() {
+				return "remote.address";
+			}
+		}
+	}
+}
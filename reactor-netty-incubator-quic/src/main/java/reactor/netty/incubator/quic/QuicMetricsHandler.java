@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.incubator.quic;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufHolder;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.incubator.codec.quic.QuicChannel;
+import io.netty.incubator.codec.quic.QuicConnectionPathStats;
+import io.netty.incubator.codec.quic.QuicConnectionStats;
+import org.jspecify.annotations.Nullable;
+import reactor.netty.NettyPipeline;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+
+import static reactor.netty.Metrics.ERROR;
+import static reactor.netty.Metrics.SUCCESS;
+import static reactor.netty.ReactorNetty.format;
+
+/**
+ * {@link ChannelInboundHandlerAdapter} that collects QUIC connection and stream metrics
+ * and provides them to a {@link QuicMetricsRecorder}.
+ * <p>The QUIC stream channels run on the event loop of their parent {@link QuicChannel},
+ * thus the state below is accessed only from that event loop.
+ *
+ * @author Violeta Georgieva
+ * @since 0.3.0
+ */
+final class QuicMetricsHandler extends ChannelInboundHandlerAdapter {
+
+	static final String NAME = NettyPipeline.LEFT + "quicMetricsHandler";
+
+	final QuicMetricsRecorder recorder;
+
+	int activeStreams;
+	long handshakeStartTime;
+	boolean handshakeRecorded;
+	long lostPackets;
+	@Nullable SocketAddress remoteAddress;
+	long retransmittedPackets;
+
+	QuicMetricsHandler(QuicMetricsRecorder recorder) {
+		this.recorder = recorder;
+	}
+
+	@Override
+	public void handlerAdded(ChannelHandlerContext ctx) {
+		handshakeStartTime = System.nanoTime();
+	}
+
+	@Override
+	public void channelActive(ChannelHandlerContext ctx) {
+		recordHandshakeTime(ctx, SUCCESS);
+		ctx.fireChannelActive();
+	}
+
+	@Override
+	public void channelInactive(ChannelHandlerContext ctx) {
+		if (!handshakeRecorded) {
+			recordHandshakeTime(ctx, ERROR);
+		}
+		else {
+			sample((QuicChannel) ctx.channel());
+		}
+		ctx.fireChannelInactive();
+	}
+
+	void recordHandshakeTime(ChannelHandlerContext ctx, String status) {
+		handshakeRecorded = true;
+		try {
+			recorder.recordHandshakeTime(remoteAddress((QuicChannel) ctx.channel()),
+					Duration.ofNanos(System.nanoTime() - handshakeStartTime), status);
+		}
+		catch (RuntimeException e) {
+			if (log.isWarnEnabled()) {
+				log.warn(format(ctx.channel(), "Exception caught while recording metrics."), e);
+			}
+			// Allow request-response exchange to continue, unaffected by metrics problem
+		}
+	}
+
+	SocketAddress remoteAddress(QuicChannel channel) {
+		SocketAddress address = remoteAddress;
+		if (address == null) {
+			address = channel.remoteSocketAddress();
+			if (address == null) {
+				address = channel.remoteAddress();
+			}
+			remoteAddress = address;
+		}
+		return address;
+	}
+
+	/**
+	 * Samples the connection statistics. The lost and retransmitted packets are reported
+	 * as a difference with the previous sample as the connection statistics are cumulative.
+	 */
+	@SuppressWarnings("FutureReturnValueIgnored")
+	void sample(QuicChannel channel) {
+		SocketAddress address = remoteAddress(channel);
+		//"FutureReturnValueIgnored" this is deliberate
+		channel.collectStats().addListener(f -> {
+			if (f.isSuccess()) {
+				QuicConnectionStats stats = (QuicConnectionStats) f.getNow();
+				try {
+					long lost = stats.lost();
+					if (lost > lostPackets) {
+						recorder.incrementLostPackets(address, lost - lostPackets);
+						lostPackets = lost;
+					}
+					long retransmitted = stats.retrans();
+					if (retransmitted > retransmittedPackets) {
+						recorder.incrementRetransmittedPackets(address, retransmitted - retransmittedPackets);
+						retransmittedPackets = retransmitted;
+					}
+				}
+				catch (RuntimeException e) {
+					if (log.isWarnEnabled()) {
+						log.warn(format(channel, "Exception caught while recording metrics."), e);
+					}
+				}
+			}
+		});
+		//"FutureReturnValueIgnored" this is deliberate
+		channel.collectPathStats(0).addListener(f -> {
+			// The path statistics are not available once the connection is closed
+			if (f.isSuccess()) {
+				QuicConnectionPathStats stats = (QuicConnectionPathStats) f.getNow();
+				try {
+					recorder.recordRoundTripTime(address, Duration.ofNanos(stats.rtt()));
+					recorder.recordCongestionWindow(address, stats.cwnd());
+				}
+				catch (RuntimeException e) {
+					if (log.isWarnEnabled()) {
+						log.warn(format(channel, "Exception caught while recording metrics."), e);
+					}
+				}
+			}
+		});
+	}
+
+	void streamOpened(QuicChannel channel) {
+		activeStreams++;
+		try {
+			recorder.recordActiveStreams(remoteAddress(channel), activeStreams);
+		}
+		catch (RuntimeException e) {
+			if (log.isWarnEnabled()) {
+				log.warn(format(channel, "Exception caught while recording metrics."), e);
+			}
+		}
+	}
+
+	void streamClosed(QuicChannel channel, long dataReceived, long dataSent) {
+		activeStreams--;
+		try {
+			SocketAddress address = remoteAddress(channel);
+			recorder.recordStreamDataReceived(address, dataReceived);
+			recorder.recordStreamDataSent(address, dataSent);
+		}
+		catch (RuntimeException e) {
+			if (log.isWarnEnabled()) {
+				log.warn(format(channel, "Exception caught while recording metrics."), e);
+			}
+		}
+		if (channel.isActive()) {
+			sample(channel);
+		}
+	}
+
+	static final Logger log = Loggers.getLogger(QuicMetricsHandler.class);
+
+	/**
+	 * Counts the bytes received and sent on a QUIC stream and reports them to the
+	 * connection's {@link QuicMetricsHandler} when the stream is closed.
+	 */
+	static final class QuicStreamMetricsHandler extends ChannelDuplexHandler {
+
+		final QuicMetricsHandler connectionHandler;
+
+		long dataReceived;
+		long dataSent;
+		boolean opened;
+
+		QuicStreamMetricsHandler(QuicMetricsHandler connectionHandler) {
+			this.connectionHandler = connectionHandler;
+		}
+
+		@Override
+		public void handlerAdded(ChannelHandlerContext ctx) {
+			opened = true;
+			connectionHandler.streamOpened((QuicChannel) ctx.channel().parent());
+		}
+
+		@Override
+		public void channelInactive(ChannelHandlerContext ctx) {
+			streamClosed(ctx);
+			ctx.fireChannelInactive();
+		}
+
+		@Override
+		public void channelRead(ChannelHandlerContext ctx, Object msg) {
+			dataReceived += bytes(msg);
+			ctx.fireChannelRead(msg);
+		}
+
+		@Override
+		public void handlerRemoved(ChannelHandlerContext ctx) {
+			streamClosed(ctx);
+		}
+
+		@Override
+		public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+			dataSent += bytes(msg);
+			ctx.write(msg, promise);
+		}
+
+		void streamClosed(ChannelHandlerContext ctx) {
+			if (opened) {
+				opened = false;
+				connectionHandler.streamClosed((QuicChannel) ctx.channel().parent(), dataReceived, dataSent);
+			}
+		}
+
+		static long bytes(Object msg) {
+			if (msg instanceof ByteBuf) {
+				return ((ByteBuf) msg).readableBytes();
+			}
+			else if (msg instanceof ByteBufHolder) {
+				return ((ByteBufHolder) msg).content().readableBytes();
+			}
+			return 0;
+		}
+	}
+}
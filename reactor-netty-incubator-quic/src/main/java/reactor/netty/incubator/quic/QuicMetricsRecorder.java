@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.incubator.quic;
+
+import reactor.netty.channel.ChannelMetricsRecorder;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+
+/**
+ * An interface for collecting QUIC connection and stream metrics on QUIC server and QUIC client.
+ * <p>Connection level statistics are sampled from {@link io.netty.incubator.codec.quic.QuicChannel#collectStats()}
+ * and {@link io.netty.incubator.codec.quic.QuicChannel#collectPathStats(int)} each time a stream is closed
+ * and when the connection is closed.
+ *
+ * @author Violeta Georgieva
+ * @since 0.3.0
+ */
+public interface QuicMetricsRecorder extends ChannelMetricsRecorder {
+
+	/**
+	 * Records the time that is spent for the QUIC handshake.
+	 *
+	 * @param remoteAddress the remote peer address
+	 * @param time the time in nanoseconds that is spent for the QUIC handshake
+	 * @param status the status of the operation
+	 */
+	void recordHandshakeTime(SocketAddress remoteAddress, Duration time, String status);
+
+	/**
+	 * Records the estimated round-trip time of the QUIC connection.
+	 *
+	 * @param remoteAddress the remote peer address
+	 * @param rtt the estimated round-trip time
+	 */
+	void recordRoundTripTime(SocketAddress remoteAddress, Duration rtt);
+
+	/**
+	 * Records the size of the congestion window of the QUIC connection.
+	 *
+	 * @param remoteAddress the remote peer address
+	 * @param bytes the size of the congestion window in bytes
+	 */
+	void recordCongestionWindow(SocketAddress remoteAddress, long bytes);
+
+	/**
+	 * Increments the number of the lost packets.
+	 *
+	 * @param remoteAddress the remote peer address
+	 * @param count the number of the newly lost packets
+	 */
+	void incrementLostPackets(SocketAddress remoteAddress, long count);
+
+	/**
+	 * Increments the number of the retransmitted packets.
+	 *
+	 * @param remoteAddress the remote peer address
+	 * @param count the number of the newly retransmitted packets
+	 */
+	void incrementRetransmittedPackets(SocketAddress remoteAddress, long count);
+
+	/**
+	 * Records the number of the active streams on the QUIC connection.
+	 * Invoked each time a new stream is opened.
+	 *
+	 * @param remoteAddress the remote peer address
+	 * @param activeStreams the number of the active streams
+	 */
+	void recordActiveStreams(SocketAddress remoteAddress, int activeStreams);
+
+	/**
+	 * Records the amount of the data received on a QUIC stream, in bytes.
+	 * Invoked when the stream is closed.
+	 *
+	 * @param remoteAddress the remote peer address
+	 * @param bytes the number of bytes received on the stream
+	 */
+	void recordStreamDataReceived(SocketAddress remoteAddress, long bytes);
+
+	/**
+	 * Records the amount of the data sent on a QUIC stream, in bytes.
+	 * Invoked when the stream is closed.
+	 *
+	 * @param remoteAddress the remote peer address
+	 * @param bytes the number of bytes sent on the stream
+	 */
+	void recordStreamDataSent(SocketAddress remoteAddress, long bytes);
+}
@@ -158,6 +158,34 @@ public abstract class QuicServer extends QuicTransport<QuicServer, QuicServerCon
 		return bindAddress(() -> AddressUtils.updatePort(configuration().bindAddress(), port));
 	}
 
+	/**
+	 * Bind the specified number of {@code SO_REUSEPORT} UDP sockets on the same address.
+	 * Every socket is registered on a different event loop, so that the QUIC packets
+	 * processing scales with the number of the event loops instead of running on a single thread.
+	 * The index of the socket is encoded in the first two bytes of the connection ids issued by the server,
+	 * so that packets received by one socket are dispatched to the socket (event loop) that owns the connection.
+	 * In this mode the connection ids are generated by the dispatcher and
+	 * {@link #connectionIdAddressGenerator(QuicConnectionIdGenerator)} is not used.
+	 * This mode requires a native transport that supports {@code SO_REUSEPORT} (epoll, kqueue or io_uring)
+	 * and {@link #localConnectionIdLength(int)} to be at least 2.
+	 * Default to {@code 1}, a single UDP socket.
+	 *
+	 * @param sockets the number of the {@code SO_REUSEPORT} UDP sockets to bind
+	 * @return a {@link QuicServer} reference
+	 * @since 0.3.0
+	 */
+	public final QuicServer reusePort(int sockets) {
+		if (sockets < 1) {
+			throw new IllegalArgumentException("sockets must be positive, was: " + sockets);
+		}
+		if (sockets == configuration().reusePortSockets) {
+			return this;
+		}
+		QuicServer dup = duplicate();
+		dup.configuration().reusePortSockets = sockets;
+		return dup;
+	}
+
 	/**
 	 * Configure the {@link QuicTokenHandler} that is used to generate and validate tokens.
 	 *
@@ -16,11 +16,13 @@
 package reactor.netty.incubator.quic;
 
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.util.NetUtil;
 import org.reactivestreams.Subscription;
 import reactor.core.CoreSubscriber;
 import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.MonoSink;
 import reactor.core.publisher.Operators;
@@ -80,8 +82,12 @@ final class QuicServerBind extends QuicServer {
 			}
 
 			DisposableBind disposableBind = new DisposableBind(local, sink);
-			TransportConnector.bind(config, config.parentChannelInitializer(), local, false)
-			                  .subscribe(disposableBind);
+			ChannelInitializer<Channel> parentChannelInitializer = config.parentChannelInitializer();
+			Mono<Channel> bind = TransportConnector.bind(config, parentChannelInitializer, local, false);
+			if (config.reusePortSockets > 1) {
+				bind = bind.flatMap(channel -> bindReusePort(config, parentChannelInitializer, channel));
+			}
+			bind.subscribe(disposableBind);
 		});
 
 		Consumer<? super QuicServerConfig> doOnBind = config.doOnBind();
@@ -102,10 +108,46 @@ final class QuicServerBind extends QuicServer {
 		return new QuicServerBind(new QuicServerConfig(config));
 	}
 
+	/**
+	 * Binds the remaining {@code SO_REUSEPORT} sockets on the address of the first bound socket.
+	 * The first socket represents the server, when it is closed, all other sockets are closed.
+	 */
+	@SuppressWarnings("FutureReturnValueIgnored")
+	static Mono<Channel> bindReusePort(QuicServerConfig config, ChannelInitializer<Channel> parentChannelInitializer,
+			Channel channel) {
+		// The option is enabled when the channel is initialized, i.e. before the socket is bound,
+		// an error thrown from the ChannelInitializer would be logged and swallowed, so it is verified here
+		if (!QuicServerConfig.isReusePortEnabled(channel)) {
+			//"FutureReturnValueIgnored" this is deliberate
+			channel.close();
+			return Mono.error(new IllegalStateException("SO_REUSEPORT is not supported by " +
+					channel.getClass().getName() + ", a native transport (epoll, kqueue or io_uring) is required " +
+					"in order to bind more than one socket"));
+		}
+		SocketAddress local = channel.localAddress();
+		return Flux.range(1, config.reusePortSockets - 1)
+		           .concatMap(i -> TransportConnector.bind(config, parentChannelInitializer, local, false))
+		           .collectList()
+		           .map(channels -> {
+		               //"FutureReturnValueIgnored" this is deliberate
+		               channel.closeFuture().addListener(f -> channels.forEach(Channel::close));
+		               if (log.isDebugEnabled()) {
+		                   log.debug(format(channel, "Bound {} SO_REUSEPORT channels"), config.reusePortSockets);
+		               }
+		               return channel;
+		           })
+		           .doOnError(t -> channel.close())
+		           .doOnCancel(channel::close);
+	}
+
 	static void validate(QuicServerConfig config) {
 		Objects.requireNonNull(config.bindAddress(), "bindAddress");
 		Objects.requireNonNull(config.sslEngineProvider, "sslEngineProvider");
 		Objects.requireNonNull(config.tokenHandler, "tokenHandler");
+		if (config.reusePortSockets > 1 && config.localConnectionIdLength < 2) {
+			throw new IllegalArgumentException("localConnectionIdLength must be at least 2 when more than one " +
+					"SO_REUSEPORT socket is bound, was: " + config.localConnectionIdLength);
+		}
 	}
 
 	static final class DisposableBind implements CoreSubscriber<Channel>, Disposable {
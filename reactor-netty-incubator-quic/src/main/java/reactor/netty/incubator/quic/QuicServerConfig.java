@@ -23,6 +23,7 @@ import io.netty.channel.group.ChannelGroup;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
 import io.netty.incubator.codec.quic.QuicChannel;
+import io.netty.incubator.codec.quic.QuicCodecDispatcher;
 import io.netty.incubator.codec.quic.QuicCongestionControlAlgorithm;
 import io.netty.incubator.codec.quic.QuicConnectionIdGenerator;
 import io.netty.incubator.codec.quic.QuicServerCodecBuilder;
@@ -33,12 +34,14 @@ import org.jspecify.annotations.Nullable;
 import reactor.netty.Connection;
 import reactor.netty.ConnectionObserver;
 import reactor.netty.channel.ChannelMetricsRecorder;
-import reactor.netty.channel.MicrometerChannelMetricsRecorder;
 import reactor.netty.transport.logging.AdvancedByteBufFormat;
 
 import java.net.SocketAddress;
 import java.nio.charset.Charset;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
@@ -63,8 +66,11 @@ public final class QuicServerConfig extends QuicTransportConfig<QuicServerConfig
 	static final QuicConnectionIdGenerator DEFAULT_CONNECTION_ID_ADDRESS_GENERATOR =
 			QuicConnectionIdGenerator.randomGenerator();
 
+	static final int DEFAULT_REUSE_PORT_SOCKETS = 1;
+
 	QuicConnectionIdGenerator                  connectionIdAddressGenerator;
 	@Nullable Consumer<? super QuicConnection> doOnConnection;
+	int                                        reusePortSockets;
 	@Nullable QuicTokenHandler                 tokenHandler;
 
 	QuicServerConfig(
@@ -73,12 +79,14 @@ public final class QuicServerConfig extends QuicTransportConfig<QuicServerConfig
 			Supplier<? extends SocketAddress> bindAddress) {
 		super(options, streamOptions, bindAddress);
 		this.connectionIdAddressGenerator = DEFAULT_CONNECTION_ID_ADDRESS_GENERATOR;
+		this.reusePortSockets = DEFAULT_REUSE_PORT_SOCKETS;
 	}
 
 	QuicServerConfig(QuicServerConfig parent) {
 		super(parent);
 		this.connectionIdAddressGenerator = parent.connectionIdAddressGenerator;
 		this.doOnConnection = parent.doOnConnection;
+		this.reusePortSockets = parent.reusePortSockets;
 		this.tokenHandler = parent.tokenHandler;
 	}
 
@@ -100,6 +108,16 @@ public final class QuicServerConfig extends QuicTransportConfig<QuicServerConfig
 		return doOnConnection;
 	}
 
+	/**
+	 * Return the number of the {@code SO_REUSEPORT} UDP sockets that are bound.
+	 *
+	 * @return the number of the {@code SO_REUSEPORT} UDP sockets that are bound
+	 * @since 0.3.0
+	 */
+	public int reusePortSockets() {
+		return reusePortSockets;
+	}
+
 	/**
 	 * Return the configured {@link QuicTokenHandler} or null.
 	 *
@@ -125,7 +143,6 @@ public final class QuicServerConfig extends QuicTransportConfig<QuicServerConfig
 
 	@Override
 	protected ChannelMetricsRecorder defaultMetricsRecorder() {
-		// TODO where we want metrics on QUIC channel or on QUIC stream
 		return MicrometerQuicServerMetricsRecorder.INSTANCE;
 	}
 
@@ -138,7 +155,7 @@ public final class QuicServerConfig extends QuicTransportConfig<QuicServerConfig
 			AdvancedByteBufFormat.HEX_DUMP
 					.toLoggingHandler(QuicServer.class.getName(), LogLevel.DEBUG, Charset.defaultCharset());
 
-	static final class MicrometerQuicServerMetricsRecorder extends MicrometerChannelMetricsRecorder {
+	static final class MicrometerQuicServerMetricsRecorder extends MicrometerQuicMetricsRecorder {
 
 		static final MicrometerQuicServerMetricsRecorder INSTANCE = new MicrometerQuicServerMetricsRecorder();
 
@@ -168,6 +185,7 @@ public final class QuicServerConfig extends QuicTransportConfig<QuicServerConfig
 		final int                            recvQueueLen;
 		final int                            sendQueueLen;
 		final Map<AttributeKey<?>, ?>        streamAttrs;
+		final @Nullable QuicCodecDispatcher  reusePortDispatcher;
 		final ConnectionObserver             streamObserver;
 		final Map<ChannelOption<?>, ?>       streamOptions;
 		final @Nullable Function<QuicChannel, ? extends QuicSslEngine>
@@ -194,6 +212,7 @@ public final class QuicServerConfig extends QuicTransportConfig<QuicServerConfig
 					.then(config.connectionObserver());
 			this.quicChannelInitializer = config.channelInitializer(observer, null, true);
 			this.recvQueueLen = config.recvQueueLen;
+			this.reusePortDispatcher = config.reusePortSockets > 1 ? new ReusePortDispatcher(this) : null;
 			this.sendQueueLen = config.sendQueueLen;
 			this.streamAttrs = config.streamAttrs;
 			this.streamObserver = config.streamObserver.then(new QuicStreamChannelObserver(config.streamHandler));
@@ -204,6 +223,22 @@ public final class QuicServerConfig extends QuicTransportConfig<QuicServerConfig
 
 		@Override
 		protected void initChannel(Channel channel) {
+			if (loggingHandler != null) {
+				channel.pipeline().addLast(loggingHandler);
+			}
+			if (reusePortDispatcher != null) {
+				// When the option is not supported, the bind fails, see QuicServerBind#bindReusePort
+				enableReusePort(channel);
+				// The QUIC codec is added by the dispatcher with a connection id generator
+				// that encodes the index of this channel
+				channel.pipeline().addLast(reusePortDispatcher);
+			}
+			else {
+				channel.pipeline().addLast(quicServerCodec(localConnectionIdLength, connectionIdAddressGenerator));
+			}
+		}
+
+		ChannelHandler quicServerCodec(int localConnectionIdLength, QuicConnectionIdGenerator connectionIdAddressGenerator) {
 			QuicServerCodecBuilder quicServerCodecBuilder = new QuicServerCodecBuilder();
 			quicServerCodecBuilder.ackDelayExponent(ackDelayExponent)
 					.activeMigration(activeMigration)
@@ -244,10 +279,16 @@ public final class QuicServerConfig extends QuicTransportConfig<QuicServerConfig
 					.handler(quicChannelInitializer)
 					.streamHandler(streamChannelInitializer(loggingHandler, streamObserver, true));
 
-			if (loggingHandler != null) {
-				channel.pipeline().addLast(loggingHandler);
+			return quicServerCodecBuilder.build();
+		}
+
+		@SuppressWarnings("unchecked")
+		static void enableReusePort(Channel channel) {
+			for (ChannelOption<?> option : REUSE_PORT_OPTIONS) {
+				if (channel.config().setOption((ChannelOption<Boolean>) option, true)) {
+					return;
+				}
 			}
-			channel.pipeline().addLast(quicServerCodecBuilder.build());
 		}
 
 		@SuppressWarnings("unchecked")
@@ -279,6 +320,55 @@ public final class QuicServerConfig extends QuicTransportConfig<QuicServerConfig
 		}
 	}
 
+	/**
+	 * The native transports {@code SO_REUSEPORT} options, resolved reflectively as the native transports are optional.
+	 */
+	static final List<ChannelOption<?>> REUSE_PORT_OPTIONS;
+	static {
+		List<ChannelOption<?>> options = new ArrayList<>(3);
+		for (String className : new String[]{"io.netty.channel.epoll.EpollChannelOption",
+				"io.netty.channel.kqueue.KQueueChannelOption",
+				"io.netty.incubator.channel.uring.IOUringChannelOption"}) {
+			try {
+				options.add((ChannelOption<?>) Class.forName(className).getField("SO_REUSEPORT").get(null));
+			}
+			catch (Throwable t) {
+				if (log.isDebugEnabled()) {
+					log.debug("SO_REUSEPORT option is not available in {}", className);
+				}
+			}
+		}
+		REUSE_PORT_OPTIONS = Collections.unmodifiableList(options);
+	}
+
+	static boolean isReusePortEnabled(Channel channel) {
+		for (ChannelOption<?> option : REUSE_PORT_OPTIONS) {
+			if (Boolean.TRUE.equals(channel.config().getOption(option))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Dispatches the QUIC packets to the channel that owns the connection, based on the index
+	 * encoded in the connection id. The same instance is shared by all {@code SO_REUSEPORT} channels.
+	 */
+	static final class ReusePortDispatcher extends QuicCodecDispatcher {
+
+		final ParentChannelInitializer parentChannelInitializer;
+
+		ReusePortDispatcher(ParentChannelInitializer parentChannelInitializer) {
+			super(parentChannelInitializer.localConnectionIdLength);
+			this.parentChannelInitializer = parentChannelInitializer;
+		}
+
+		@Override
+		protected void initChannel(Channel channel, int localConnectionIdLength, QuicConnectionIdGenerator idGenerator) {
+			channel.pipeline().addLast(parentChannelInitializer.quicServerCodec(localConnectionIdLength, idGenerator));
+		}
+	}
+
 	static final class QuicServerDoOnConnection implements ConnectionObserver {
 
 		final @Nullable ChannelGroup                     channelGroup;
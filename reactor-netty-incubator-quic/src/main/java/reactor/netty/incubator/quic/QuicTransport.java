@@ -29,6 +29,7 @@ import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 import reactor.netty.Connection;
 import reactor.netty.ConnectionObserver;
+import reactor.netty.channel.ChannelMetricsRecorder;
 import reactor.netty.transport.Transport;
 import reactor.util.Logger;
 import reactor.util.Loggers;
@@ -38,6 +39,7 @@ import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * A generic QUIC {@link Transport}.
@@ -370,6 +372,39 @@ abstract class QuicTransport<T extends Transport<T, CONF>, CONF extends QuicTran
 		return dup;
 	}
 
+	/**
+	 * Whether to enable metrics to be collected and registered in Micrometer's
+	 * {@link io.micrometer.core.instrument.Metrics#globalRegistry globalRegistry}.
+	 * In addition to the {@link reactor.netty.channel.ChannelMetricsRecorder} metrics,
+	 * QUIC handshake time, round-trip time, congestion window, lost and retransmitted packets,
+	 * active streams per connection and bytes received/sent per stream are collected.
+	 *
+	 * @param enable true enables metrics collection; false disables it
+	 * @return a {@link QuicTransport} reference
+	 * @see QuicMetricsRecorder
+	 */
+	@Override
+	public final T metrics(boolean enable) {
+		return super.metrics(enable);
+	}
+
+	/**
+	 * Specifies whether the metrics are enabled on the {@link QuicTransport}.
+	 * All generated metrics are provided to the specified recorder
+	 * which is only instantiated if metrics are being enabled (the instantiation is not lazy,
+	 * but happens immediately, while configuring the {@link QuicTransport}).
+	 * QUIC connection and stream metrics are collected only when the recorder
+	 * is a {@link QuicMetricsRecorder}.
+	 *
+	 * @param enable if true enables the metrics on the {@link QuicTransport}.
+	 * @param recorder a supplier for the {@link ChannelMetricsRecorder}
+	 * @return a {@link QuicTransport} reference
+	 */
+	@Override
+	public final T metrics(boolean enable, Supplier<? extends ChannelMetricsRecorder> recorder) {
+		return super.metrics(enable, recorder);
+	}
+
 	/**
 	 * The {@link QuicSslContext} that will be used to create {@link QuicSslEngine}s for {@link QuicChannel}s.
 	 *
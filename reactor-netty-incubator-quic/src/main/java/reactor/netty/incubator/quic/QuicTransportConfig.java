@@ -36,6 +36,7 @@ import reactor.netty.ChannelPipelineConfigurer;
 import reactor.netty.Connection;
 import reactor.netty.ConnectionObserver;
 import reactor.netty.NettyPipeline;
+import reactor.netty.channel.ChannelMetricsRecorder;
 import reactor.netty.channel.ChannelOperations;
 import reactor.netty.resources.LoopResources;
 import reactor.netty.transport.TransportConfig;
@@ -421,13 +422,16 @@ abstract class QuicTransportConfig<CONF extends TransportConfig> extends Transpo
 
 	static final class QuicChannelInitializer implements ChannelPipelineConfigurer {
 
-		final @Nullable ChannelHandler loggingHandler;
-		final Map<AttributeKey<?>, ?>  streamAttrs;
-		final ConnectionObserver       streamObserver;
-		final Map<ChannelOption<?>, ?> streamOptions;
+		final @Nullable ChannelHandler      loggingHandler;
+		final @Nullable QuicMetricsRecorder metricsRecorder;
+		final Map<AttributeKey<?>, ?>       streamAttrs;
+		final ConnectionObserver            streamObserver;
+		final Map<ChannelOption<?>, ?>      streamOptions;
 
 		QuicChannelInitializer(QuicTransportConfig<?> config) {
 			this.loggingHandler = config.loggingHandler();
+			ChannelMetricsRecorder recorder = config.metricsRecorderInternal();
+			this.metricsRecorder = recorder instanceof QuicMetricsRecorder ? (QuicMetricsRecorder) recorder : null;
 			this.streamAttrs = config.streamAttrs;
 			this.streamObserver = config.streamObserver;
 			this.streamOptions = config.streamOptions;
@@ -440,6 +444,9 @@ abstract class QuicTransportConfig<CONF extends TransportConfig> extends Transpo
 			}
 
 			channel.pipeline().remove(NettyPipeline.ReactiveBridge);
+			if (metricsRecorder != null) {
+				channel.pipeline().addLast(QuicMetricsHandler.NAME, new QuicMetricsHandler(metricsRecorder));
+			}
 			channel.pipeline().addLast(NettyPipeline.ReactiveBridge,
 					new QuicChannelInboundHandler(observer, loggingHandler, streamAttrs, streamObserver, streamOptions));
 		}
@@ -466,6 +473,11 @@ abstract class QuicTransportConfig<CONF extends TransportConfig> extends Transpo
 				log.debug(format(ch, "Created a new QUIC stream."));
 			}
 
+			QuicMetricsHandler metricsHandler = (QuicMetricsHandler) ch.parent().pipeline().get(QuicMetricsHandler.NAME);
+			if (metricsHandler != null) {
+				ch.pipeline().addLast(NettyPipeline.ChannelMetricsHandler,
+						new QuicMetricsHandler.QuicStreamMetricsHandler(metricsHandler));
+			}
 			if (loggingHandler != null) {
 				ch.pipeline().addLast(loggingHandler);
 			}
@@ -33,19 +33,25 @@ import reactor.core.publisher.Mono;
 import reactor.netty.CancelReceiverHandlerTest;
 import reactor.netty.LogTracker;
 import reactor.netty.NettyPipeline;
+import reactor.netty.resources.LoopResources;
 
+import java.net.SocketAddress;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assumptions.assumeThat;
 
 /**
  * This test class verifies {@link QuicServer}.
@@ -274,6 +280,81 @@ class QuicServerTests extends BaseQuicTests {
 						          .bindNow());
 	}
 
+	@Test
+	void testReusePortBadValues() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> createServer().reusePort(0))
+				.withMessage("sockets must be positive, was: 0");
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() ->
+						createServer()
+						        .localConnectionIdLength(1)
+						        .reusePort(2)
+						        .bindNow())
+				.withMessage("localConnectionIdLength must be at least 2 when more than one SO_REUSEPORT socket is bound, was: 1");
+	}
+
+	@Test
+	void testReusePort() throws Exception {
+		assumeThat(LoopResources.hasNativeSupport()).as("SO_REUSEPORT requires a native transport").isTrue();
+
+		List<SocketAddress> serverAddresses = new CopyOnWriteArrayList<>();
+		server =
+				createServer()
+				        .reusePort(4)
+				        .doOnConnection(quicConn -> serverAddresses.add(quicConn.channel().parent().localAddress()))
+				        .handleStream((in, out) -> out.send(in.receive().retain()))
+				        .bindNow();
+
+		for (int i = 0; i < 8; i++) {
+			QuicConnection connection = createClient(server::address).connectNow();
+			try {
+				String message = "Hello World " + i;
+				CountDownLatch latch = new CountDownLatch(1);
+				AtomicReference<String> response = new AtomicReference<>();
+				connection.createStream((in, out) -> {
+				              in.receive()
+				                .asString()
+				                .doOnNext(s -> {
+				                    response.set(s);
+				                    latch.countDown();
+				                })
+				                .subscribe();
+				              return out.sendString(Mono.just(message));
+				          })
+				          .block(Duration.ofSeconds(5));
+
+				assertThat(latch.await(5, TimeUnit.SECONDS)).as("latch wait").isTrue();
+				assertThat(response.get()).isEqualTo(message);
+			}
+			finally {
+				connection.disposeNow();
+			}
+		}
+
+		// All connections are accepted on the same address, whichever socket receives them
+		assertThat(serverAddresses).hasSize(8).allMatch(address -> address.equals(server.address()));
+	}
+
+	@Test
+	void testReusePortNotSupported() {
+		LoopResources loop = LoopResources.create("testReusePortNotSupported", 1, true);
+		try {
+			assertThatExceptionOfType(IllegalStateException.class)
+					.isThrownBy(() ->
+							createServer()
+							        .runOn(loop, false)
+							        .reusePort(2)
+							        .bindNow())
+					.withMessageContaining("SO_REUSEPORT is not supported");
+		}
+		finally {
+			loop.disposeLater()
+			    .block(Duration.ofSeconds(5));
+		}
+	}
+
 	@Test
 	void testSniSupportDefault() throws Exception {
 		testSniSupport(quicChannel -> clientCtx.newEngine(quicChannel.alloc(), "test.com", 8080), "http/0.9", "test.com");
@@ -500,5 +581,104 @@ class QuicServerTests extends BaseQuicTests {
 			assertThat(serverMessages.size()).isEqualTo(0);
 		}
 	}
-}
 
+	@Test
+	void testMetrics() throws Exception {
+		RecordingQuicMetricsRecorder recorder = new RecordingQuicMetricsRecorder();
+		server =
+				createServer()
+				        .metrics(true, () -> recorder)
+				        .handleStream((in, out) -> out.send(in.receive().retain()))
+				        .bindNow();
+
+		client = createClient(server::address).connectNow();
+
+		client.createStream(QuicStreamType.BIDIRECTIONAL, (in, out) ->
+		              out.sendString(Mono.just("Hello World!"))
+		                 .then(in.receive().asString().then()))
+		      .block(Duration.ofSeconds(5));
+
+		assertThat(recorder.latch.await(5, TimeUnit.SECONDS)).as("latch wait").isTrue();
+
+		assertThat(recorder.handshakeStatus.get()).isEqualTo("SUCCESS");
+		assertThat(recorder.activeStreams.get()).isEqualTo(1);
+		assertThat(recorder.streamDataReceived.get()).isEqualTo("Hello World!".length());
+		assertThat(recorder.streamDataSent.get()).isEqualTo("Hello World!".length());
+		assertThat(recorder.roundTripTime.get()).isNotNull();
+		assertThat(recorder.congestionWindow.get()).isGreaterThan(0);
+	}
+
+	static final class RecordingQuicMetricsRecorder implements QuicMetricsRecorder {
+
+		final AtomicInteger activeStreams = new AtomicInteger();
+		final AtomicLong congestionWindow = new AtomicLong();
+		final AtomicReference<String> handshakeStatus = new AtomicReference<>();
+		final CountDownLatch latch = new CountDownLatch(1);
+		final AtomicReference<Duration> roundTripTime = new AtomicReference<>();
+		final AtomicLong streamDataReceived = new AtomicLong();
+		final AtomicLong streamDataSent = new AtomicLong();
+
+		@Override
+		public void recordHandshakeTime(SocketAddress remoteAddress, Duration time, String status) {
+			handshakeStatus.set(status);
+		}
+
+		@Override
+		public void recordRoundTripTime(SocketAddress remoteAddress, Duration rtt) {
+			roundTripTime.set(rtt);
+		}
+
+		@Override
+		public void recordCongestionWindow(SocketAddress remoteAddress, long bytes) {
+			congestionWindow.set(bytes);
+			latch.countDown();
+		}
+
+		@Override
+		public void incrementLostPackets(SocketAddress remoteAddress, long count) {
+		}
+
+		@Override
+		public void incrementRetransmittedPackets(SocketAddress remoteAddress, long count) {
+		}
+
+		@Override
+		public void recordActiveStreams(SocketAddress remoteAddress, int activeStreams) {
+			this.activeStreams.set(activeStreams);
+		}
+
+		@Override
+		public void recordStreamDataReceived(SocketAddress remoteAddress, long bytes) {
+			streamDataReceived.addAndGet(bytes);
+		}
+
+		@Override
+		public void recordStreamDataSent(SocketAddress remoteAddress, long bytes) {
+			streamDataSent.addAndGet(bytes);
+		}
+
+		@Override
+		public void recordDataReceived(SocketAddress remoteAddress, long bytes) {
+		}
+
+		@Override
+		public void recordDataSent(SocketAddress remoteAddress, long bytes) {
+		}
+
+		@Override
+		public void incrementErrorsCount(SocketAddress remoteAddress) {
+		}
+
+		@Override
+		public void recordTlsHandshakeTime(SocketAddress remoteAddress, Duration time, String status) {
+		}
+
+		@Override
+		public void recordConnectTime(SocketAddress remoteAddress, Duration time, String status) {
+		}
+
+		@Override
+		public void recordResolveAddressTime(SocketAddress remoteAddress, Duration time, String status) {
+		}
+	}
+}